@@ -34,6 +34,7 @@ import static schemacrawler.utility.NamedObjectSort.alphabetical;
 
 import java.util.Objects;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 
@@ -57,6 +58,7 @@ abstract class AbstractNamedObject implements NamedObject {
    */
   AbstractNamedObject(final String name) {
     this.name = name;
+    CrawlMetrics.recordObjectCreated();
   }
 
   /** {@inheritDoc} */
@@ -29,10 +29,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Optional;
@@ -46,6 +47,8 @@ import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
@@ -106,6 +109,49 @@ abstract class AbstractRetriever {
     return belongsToCatalog && belongsToSchema;
   }
 
+  /**
+   * Wraps a metadata result-set, so that strings read from it are interned in the crawl-scoped
+   * string pool. Query results are shared through the query results cache, if there is one.
+   */
+  final MetadataResultSet createMetadataResultSet(
+      final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
+      throws SQLException {
+    return new MetadataResultSet(
+        executeAgainstSchema(
+            query, statement, schemaInclusionRule, retrieverConnection.getQueryResultsCache()),
+        query.getName(),
+        retrieverConnection.getStringPool());
+  }
+
+  /**
+   * Wraps a metadata result-set, so that strings read from it are interned in the crawl-scoped
+   * string pool. Query results are shared through the query results cache, if there is one. Results
+   * of pipelined queries are used if they were retrieved with the same limit options.
+   */
+  final MetadataResultSet createMetadataResultSet(
+      final Query query, final Statement statement, final LimitOptions limitOptions)
+      throws SQLException {
+    ResultSet results = null;
+    if (limitOptions == options.getLimitOptions()) {
+      results = retrieverConnection.takePipelinedResults(query);
+    }
+    if (results == null) {
+      results =
+          executeAgainstSchema(
+              query, statement, limitOptions, retrieverConnection.getQueryResultsCache());
+    }
+    return new MetadataResultSet(results, query.getName(), retrieverConnection.getStringPool());
+  }
+
+  /**
+   * Wraps a metadata result-set, so that strings read from it are interned in the crawl-scoped
+   * string pool.
+   */
+  final MetadataResultSet createMetadataResultSet(
+      final ResultSet resultSet, final String description) throws SQLException {
+    return new MetadataResultSet(resultSet, description, retrieverConnection.getStringPool());
+  }
+
   final Statement createStatement() throws SQLException {
     return retrieverConnection.getConnection().createStatement();
   }
@@ -122,8 +168,8 @@ abstract class AbstractRetriever {
     return retrieverConnection;
   }
 
-  final InclusionRule getSchemaInclusionRule() {
-    return options.getLimitOptions().get(ruleForSchemaInclusion);
+  final LimitOptions getLimitOptions() {
+    return options.getLimitOptions();
   }
 
   final void logPossiblyUnsupportedSQLFeature(
@@ -0,0 +1,227 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compact map of attributes for a named object. Most catalog objects have only a handful of
+ * attributes, so keys and values are held in two exactly sized arrays, with keys in sorted order
+ * for lookup by binary search. This avoids the table and per-entry nodes of a hash map, which
+ * dominate the retained size of large catalogs. Objects without attributes share empty arrays.
+ */
+final class AttributeMap extends AbstractMap<String, Object> implements Serializable {
+
+  private static final long serialVersionUID = 2542361232386415633L;
+
+  private static final String[] NO_KEYS = new String[0];
+  private static final Object[] NO_VALUES = new Object[0];
+
+  private String[] keys;
+  private Object[] values;
+
+  AttributeMap() {
+    keys = NO_KEYS;
+    values = NO_VALUES;
+  }
+
+  @Override
+  public void clear() {
+    keys = NO_KEYS;
+    values = NO_VALUES;
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new EntrySet();
+  }
+
+  @Override
+  public Object get(final Object key) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    return values[index];
+  }
+
+  @Override
+  public Object getOrDefault(final Object key, final Object defaultValue) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return defaultValue;
+    }
+    return values[index];
+  }
+
+  @Override
+  public Object put(final String key, final Object value) {
+    if (key == null) {
+      throw new NullPointerException("No attribute name provided");
+    }
+    final int index = indexOf(key);
+    if (index >= 0) {
+      final Object oldValue = values[index];
+      values[index] = value;
+      return oldValue;
+    }
+
+    final int insertionPoint = -(index + 1);
+    final int size = keys.length;
+    final String[] newKeys = new String[size + 1];
+    final Object[] newValues = new Object[size + 1];
+    System.arraycopy(keys, 0, newKeys, 0, insertionPoint);
+    System.arraycopy(values, 0, newValues, 0, insertionPoint);
+    newKeys[insertionPoint] = key;
+    newValues[insertionPoint] = value;
+    System.arraycopy(keys, insertionPoint, newKeys, insertionPoint + 1, size - insertionPoint);
+    System.arraycopy(values, insertionPoint, newValues, insertionPoint + 1, size - insertionPoint);
+    keys = newKeys;
+    values = newValues;
+    return null;
+  }
+
+  /**
+   * Merges all attributes in a single pass, rather than growing the arrays for each attribute.
+   * Attributes without a name are ignored.
+   */
+  @Override
+  public void putAll(final Map<? extends String, ? extends Object> map) {
+    if (map == null || map.isEmpty()) {
+      return;
+    }
+    final TreeMap<String, Object> merged = new TreeMap<>(this);
+    for (final Entry<? extends String, ? extends Object> entry : map.entrySet()) {
+      final String key = entry.getKey();
+      if (key != null) {
+        merged.put(key, entry.getValue());
+      }
+    }
+    if (merged.isEmpty()) {
+      return;
+    }
+
+    final String[] newKeys = new String[merged.size()];
+    final Object[] newValues = new Object[merged.size()];
+    int i = 0;
+    for (final Entry<String, Object> entry : merged.entrySet()) {
+      newKeys[i] = entry.getKey();
+      newValues[i] = entry.getValue();
+      i++;
+    }
+    keys = newKeys;
+    values = newValues;
+  }
+
+  @Override
+  public Object remove(final Object key) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    final Object oldValue = values[index];
+    removeAt(index);
+    return oldValue;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  private int indexOf(final Object key) {
+    if (!(key instanceof String)) {
+      // Not found, and would be inserted at the start
+      return -1;
+    }
+    return Arrays.binarySearch(keys, key);
+  }
+
+  private void removeAt(final int index) {
+    final int size = keys.length;
+    if (size == 1) {
+      clear();
+      return;
+    }
+    final String[] newKeys = new String[size - 1];
+    final Object[] newValues = new Object[size - 1];
+    System.arraycopy(keys, 0, newKeys, 0, index);
+    System.arraycopy(values, 0, newValues, 0, index);
+    System.arraycopy(keys, index + 1, newKeys, index, size - index - 1);
+    System.arraycopy(values, index + 1, newValues, index, size - index - 1);
+    keys = newKeys;
+    values = newValues;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new Iterator<Entry<String, Object>>() {
+
+        private final String[] iteratedKeys = keys;
+        private final Object[] iteratedValues = values;
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < iteratedKeys.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          final Entry<String, Object> entry =
+              new SimpleImmutableEntry<>(iteratedKeys[index], iteratedValues[index]);
+          index++;
+          return entry;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return AttributeMap.this.size();
+    }
+  }
+}
@@ -239,7 +239,7 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(databaseUsersSql, statement, new IncludeAll())) {
+            createMetadataResultSet(databaseUsersSql, statement, new IncludeAll())) {
       while (results.next()) {
         final String username = results.getString("USERNAME");
         if (isBlank(username)) {
@@ -273,7 +273,7 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(serverInfoSql, statement, new IncludeAll())) {
+            createMetadataResultSet(serverInfoSql, statement, new IncludeAll())) {
       while (results.next()) {
         final String propertyName = results.getString("NAME");
         if (isBlank(propertyName)) {
@@ -41,6 +41,7 @@ import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
@@ -181,7 +182,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     final Query fkSql = informationSchemaViews.getQuery(FOREIGN_KEYS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(fkSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(fkSql, statement, getLimitOptions())) {
       createForeignKeys(results, foreignKeys);
     } catch (final SQLException e) {
       throw new WrappedSQLException(
@@ -197,11 +198,12 @@ final class ForeignKeyRetriever extends AbstractRetriever {
         continue;
       }
 
+      final long start = System.nanoTime();
       final DatabaseMetaData metaData = getMetaData();
 
       // Get imported foreign keys
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               metaData.getImportedKeys(
                   table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
               "DatabaseMetaData::getImportedKeys")) {
@@ -215,7 +217,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       // table is selected, we have not retrieved it's keys that are
       // imported by other tables.
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               metaData.getExportedKeys(
                   table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
               "DatabaseMetaData::getExportedKeys")) {
@@ -225,6 +227,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
         // throwing an error
         LOGGER.log(Level.WARNING, "Could not retrieve exported foreign keys for table " + table, e);
       }
+      CrawlMetrics.recordTableLatency(System.nanoTime() - start);
     }
   }
 }
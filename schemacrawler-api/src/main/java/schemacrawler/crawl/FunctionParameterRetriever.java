@@ -201,7 +201,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
     final Query functionColumnsSql = informationSchemaViews.getQuery(FUNCTION_COLUMNS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(functionColumnsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(functionColumnsSql, statement, getLimitOptions())) {
       while (results.next()) {
         createFunctionParameter(results, allRoutines, parameterFilter);
       }
@@ -219,7 +219,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
 
       LOGGER.log(Level.FINE, "Retrieving function parameters for " + function);
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getFunctionColumns(
                       function.getSchema().getCatalogName(),
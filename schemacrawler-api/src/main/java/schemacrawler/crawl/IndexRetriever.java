@@ -39,6 +39,7 @@ import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
@@ -171,7 +172,7 @@ final class IndexRetriever extends AbstractRetriever {
     final Query indexesSql = informationSchemaViews.getQuery(INDEXES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(indexesSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(indexesSql, statement, getLimitOptions())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
@@ -179,7 +180,7 @@ final class IndexRetriever extends AbstractRetriever {
 
         final Optional<MutableTable> optionalTable =
             lookupTable(catalogName, schemaName, tableName);
-        if (!optionalTable.isPresent()) {
+        if (!optionalTable.isPresent() || !allTables.contains(optionalTable.get())) {
           continue;
         }
         final MutableTable table = optionalTable.get();
@@ -194,8 +195,10 @@ final class IndexRetriever extends AbstractRetriever {
   private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
     for (final MutableTable table : allTables) {
+      final long start = System.nanoTime();
       retrieveTableIndexesFromMetadata(table, false);
       retrieveTableIndexesFromMetadata(table, true);
+      CrawlMetrics.recordTableLatency(System.nanoTime() - start);
     }
   }
 
@@ -204,7 +207,7 @@ final class IndexRetriever extends AbstractRetriever {
 
     final Schema tableSchema = table.getSchema();
     try (final MetadataResultSet results =
-        new MetadataResultSet(
+        createMetadataResultSet(
             getMetaData()
                 .getIndexInfo(
                     tableSchema.getCatalogName(),
@@ -0,0 +1,286 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveIndexInformation;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveIndexes;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTableColumnPrivileges;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTableColumns;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTableConstraintDefinitions;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTableConstraintInformation;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTableConstraints;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTableDefinitionsInformation;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTablePrivileges;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTriggerInformation;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewInformation;
+
+import java.sql.Connection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.crawl.metrics.CrawlMetrics;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Retrieves expensive table details on first access, rather than during the crawl. Details that are
+ * retrieved from the data dictionary with a single query are loaded for all tables at once. Indexes
+ * retrieved from database metadata, which needs one call per table, are loaded in batches of
+ * neighbouring tables from the same schema. Retrieved details are cached on the tables themselves,
+ * so every detail is retrieved at most once for any table.
+ *
+ * <p>If a data source is provided, every load borrows a connection from it, and returns it when the
+ * details have been retrieved, so the catalog can outlive the connection that it was crawled with.
+ * Otherwise, lazily loaded catalogs need the connection that they were crawled with to remain open
+ * until all table details have been accessed, or until the catalog is serialized. If a detail
+ * cannot be retrieved, an exception is thrown, and the detail is retrieved again on the next
+ * access.
+ */
+final class LazyTableDetailsLoader {
+
+  enum TableDetail {
+    indexes,
+    tableConstraints,
+    triggers,
+    privileges,
+    definitions;
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(LazyTableDetailsLoader.class.getName());
+
+  private static final int BATCH_SIZE = 50;
+
+  private final RetrieverConnection retrieverConnection;
+  private final Supplier<Connection> dataSource;
+  private final MutableCatalog catalog;
+  private final SchemaCrawlerOptions options;
+  private final RetrievalStopWatch stopWatch;
+  private final Map<TableDetail, Set<MutableTable>> loadedTables;
+
+  LazyTableDetailsLoader(
+      final RetrieverConnection retrieverConnection,
+      final Supplier<Connection> dataSource,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options,
+      final CrawlMetrics crawlMetrics) {
+    this.retrieverConnection = requireNonNull(retrieverConnection, "No connection provided");
+    this.dataSource = dataSource;
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+    stopWatch = new RetrievalStopWatch(options.getLoadOptions().getSchemaInfoLevel(), crawlMetrics);
+
+    loadedTables = new EnumMap<>(TableDetail.class);
+    for (final TableDetail tableDetail : TableDetail.values()) {
+      loadedTables.put(tableDetail, new HashSet<>());
+    }
+  }
+
+  /**
+   * Loads the requested detail for a table, along with the same detail for a batch of other tables
+   * that have not been loaded yet. Details are marked as loaded before they are retrieved, so
+   * retrievers that look up details on the tables that they are populating do not recursively
+   * trigger another load.
+   *
+   * @param table Table that is being accessed
+   * @param tableDetail Detail that is being accessed
+   * @throws ExecutionRuntimeException If the detail could not be retrieved, for example if the
+   *     connection has been closed
+   */
+  synchronized void load(final MutableTable table, final TableDetail tableDetail) {
+    final Set<MutableTable> loaded = loadedTables.get(tableDetail);
+    if (table == null || loaded.contains(table)) {
+      return;
+    }
+
+    final NamedObjectList<MutableTable> batch = batch(table, tableDetail);
+    for (final MutableTable batchTable : batch) {
+      loaded.add(batchTable);
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Lazily loading %s for %d table(s)", tableDetail, batch.size()));
+    try {
+      if (dataSource == null) {
+        load(retrieverConnection, batch, tableDetail);
+      } else {
+        try (final Connection connection = dataSource.get()) {
+          load(
+              new RetrieverConnection(connection, retrieverConnection.getSchemaRetrievalOptions()),
+              batch,
+              tableDetail);
+        }
+      }
+    } catch (final Exception e) {
+      // Do not leave the details silently incomplete, but allow them to be
+      // retrieved again
+      for (final MutableTable batchTable : batch) {
+        loaded.remove(batchTable);
+      }
+      throw new ExecutionRuntimeException(
+          String.format("Could not lazily load %s for <%s>", tableDetail, table), e);
+    } finally {
+      stopWatch.stopAndLogTime();
+    }
+  }
+
+  /** Loads all details for all tables. */
+  synchronized void loadAll() {
+    for (final TableDetail tableDetail : TableDetail.values()) {
+      for (final MutableTable table : catalog.getAllTables()) {
+        load(table, tableDetail);
+      }
+    }
+  }
+
+  private NamedObjectList<MutableTable> batch(
+      final MutableTable table, final TableDetail tableDetail) {
+    final Set<MutableTable> loaded = loadedTables.get(tableDetail);
+    final boolean isBatchedBySchema =
+        tableDetail == TableDetail.indexes
+            && retrieverConnection.get(indexesRetrievalStrategy)
+                != MetadataRetrievalStrategy.data_dictionary_all;
+
+    final NamedObjectList<MutableTable> batch = new NamedObjectList<>();
+    batch.add(table);
+    final Schema schema = table.getSchema();
+    for (final MutableTable neighbour : catalog.getAllTables()) {
+      if (isBatchedBySchema && batch.size() >= BATCH_SIZE) {
+        break;
+      }
+      if (loaded.contains(neighbour)) {
+        continue;
+      }
+      if (isBatchedBySchema && !schema.equals(neighbour.getSchema())) {
+        continue;
+      }
+      batch.add(neighbour);
+    }
+    return batch;
+  }
+
+  private void load(
+      final RetrieverConnection retrieverConnection,
+      final NamedObjectList<MutableTable> batch,
+      final TableDetail tableDetail)
+      throws Exception {
+    switch (tableDetail) {
+      case indexes:
+        loadIndexes(retrieverConnection, batch);
+        break;
+      case tableConstraints:
+        loadTableConstraints(retrieverConnection, batch);
+        break;
+      case triggers:
+        loadTriggers(retrieverConnection);
+        break;
+      case privileges:
+        loadPrivileges(retrieverConnection);
+        break;
+      case definitions:
+        loadDefinitions(retrieverConnection);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void loadDefinitions(final RetrieverConnection retrieverConnection) throws Exception {
+    final TableExtRetriever retrieverExtra =
+        new TableExtRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(retrieveViewInformation, retrieverExtra::retrieveViewInformation);
+    stopWatch.time(retrieveTableDefinitionsInformation, retrieverExtra::retrieveTableDefinitions);
+  }
+
+  private void loadIndexes(
+      final RetrieverConnection retrieverConnection, final NamedObjectList<MutableTable> batch)
+      throws Exception {
+    final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
+    final TableExtRetriever retrieverExtra =
+        new TableExtRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(
+        retrieveIndexes, () -> indexRetriever.retrieveIndexes(batch), retrieveTableColumns);
+    stopWatch.time(
+        retrieveIndexInformation,
+        () -> retrieverExtra.retrieveIndexInformation(batch),
+        retrieveIndexes);
+  }
+
+  private void loadPrivileges(final RetrieverConnection retrieverConnection) throws Exception {
+    final TableExtRetriever retrieverExtra =
+        new TableExtRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(retrieveTablePrivileges, retrieverExtra::retrieveTablePrivileges);
+    stopWatch.time(
+        retrieveTableColumnPrivileges,
+        retrieverExtra::retrieveTableColumnPrivileges,
+        retrieveTableColumns);
+  }
+
+  private void loadTableConstraints(
+      final RetrieverConnection retrieverConnection, final NamedObjectList<MutableTable> batch)
+      throws Exception {
+    final TableConstraintRetriever constraintRetriever =
+        new TableConstraintRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(retrieveTableConstraints, constraintRetriever::retrieveTableConstraints);
+    stopWatch.time(
+        retrieveTableConstraintInformation,
+        constraintRetriever::retrieveTableConstraintInformation,
+        retrieveTableConstraints);
+    // Required step: Match all constraints such as primary keys and foreign keys
+    stopWatch.time(
+        "matchTableConstraints",
+        () -> constraintRetriever.matchTableConstraints(batch),
+        retrieveTableColumns);
+    stopWatch.time(
+        retrieveTableConstraintDefinitions,
+        constraintRetriever::retrieveTableConstraintDefinitions,
+        retrieveTableConstraints);
+  }
+
+  private void loadTriggers(final RetrieverConnection retrieverConnection) throws Exception {
+    final TableExtRetriever retrieverExtra =
+        new TableExtRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(retrieveTriggerInformation, retrieverExtra::retrieveTriggerInformation);
+  }
+}
@@ -60,10 +60,14 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.sql.RowSet;
+
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.IdentifiedEnum;
 import schemacrawler.schema.ResultsColumn;
 import schemacrawler.schema.ResultsColumns;
+import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.utility.BinaryData;
 import us.fatehi.utility.string.StringFormat;
@@ -82,6 +86,7 @@ public final class MetadataResultSet implements AutoCloseable {
   private final ResultsColumns resultsColumns;
   private final ResultSet results;
   private final String description;
+  private final StringPool stringPool;
   private Set<ResultsColumn> readColumns;
   private int rowCount;
   private boolean showLobs;
@@ -89,22 +94,66 @@ public final class MetadataResultSet implements AutoCloseable {
   public MetadataResultSet(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule), query.getName());
+    this(query, statement, schemaInclusionRule, null);
+  }
+
+  public MetadataResultSet(
+      final Query query, final Statement statement, final LimitOptions limitOptions)
+      throws SQLException {
+    this(query, statement, limitOptions, null);
   }
 
   public MetadataResultSet(final ResultSet resultSet, final String description)
       throws SQLException {
+    this(resultSet, description, null);
+  }
+
+  MetadataResultSet(
+      final Query query,
+      final Statement statement,
+      final InclusionRule schemaInclusionRule,
+      final StringPool stringPool)
+      throws SQLException {
+    this(executeAgainstSchema(query, statement, schemaInclusionRule), query.getName(), stringPool);
+  }
+
+  MetadataResultSet(
+      final Query query,
+      final Statement statement,
+      final LimitOptions limitOptions,
+      final StringPool stringPool)
+      throws SQLException {
+    this(executeAgainstSchema(query, statement, limitOptions), query.getName(), stringPool);
+  }
+
+  /**
+   * Wraps a result-set, interning strings that are read from it into the provided pool.
+   *
+   * @param resultSet Result-set to wrap
+   * @param description Description of the result-set, used for logging
+   * @param stringPool Crawl-scoped string pool, or null if strings should not be pooled
+   */
+  MetadataResultSet(
+      final ResultSet resultSet, final String description, final StringPool stringPool)
+      throws SQLException {
     results = requireNonNull(resultSet, "Cannot use null results");
-    try {
-      results.setFetchSize(FETCHSIZE);
-    } catch (final NullPointerException | SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    // Cached and pipelined results are disconnected row sets, which are
+    // already read, and which cannot be closed once a fetch size is set
+    if (!(results instanceof RowSet)) {
+      try {
+        results.setFetchSize(FETCHSIZE);
+      } catch (final NullPointerException | SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
     }
     this.description = requireNotBlank(description, "No result-set description provided");
+    this.stringPool = stringPool;
 
     resultsColumns = new ResultsCrawler(results).crawl();
     readColumns = new HashSet<>();
     showLobs = true;
+
+    CrawlMetrics.recordQuery();
   }
 
   /**
@@ -117,6 +166,7 @@ public final class MetadataResultSet implements AutoCloseable {
   public void close() throws SQLException {
     results.close();
     LOGGER.log(Level.FINE, new StringFormat("Processed %d rows for <%s>", rowCount, description));
+    CrawlMetrics.recordRowsRead(rowCount);
   }
 
   /**
@@ -130,8 +180,8 @@ public final class MetadataResultSet implements AutoCloseable {
     for (final ResultsColumn resultsColumn : resultsColumns) {
       if (!readColumns.contains(resultsColumn)) {
         try {
-          final String key = resultsColumn.getLabel().toUpperCase();
-          final Object value = getColumnData(resultsColumn);
+          final String key = intern(resultsColumn.getLabel().toUpperCase());
+          final Object value = internValue(getColumnData(resultsColumn));
           attributes.put(key, value);
         } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
           /*
@@ -360,7 +410,7 @@ public final class MetadataResultSet implements AutoCloseable {
         }
 
         if (value != null) {
-          value = value.trim();
+          value = intern(value.trim());
         }
       } catch (final SQLException e) {
         LOGGER.log(
@@ -444,6 +494,20 @@ public final class MetadataResultSet implements AutoCloseable {
     return columnData;
   }
 
+  private String intern(final String value) {
+    if (stringPool == null) {
+      return value;
+    }
+    return stringPool.intern(value);
+  }
+
+  private Object internValue(final Object value) {
+    if (stringPool == null) {
+      return value;
+    }
+    return stringPool.internValue(value);
+  }
+
   private Object readCharacterData(final Reader reader) {
     try {
       if (reader != null && showLobs) {
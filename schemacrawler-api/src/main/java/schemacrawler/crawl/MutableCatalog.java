@@ -31,6 +31,8 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
@@ -87,6 +89,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<ImmutableDatabaseUser> databaseUsers = new NamedObjectList<>();
   private final MutableCrawlInfo crawlInfo;
+  private transient LazyTableDetailsLoader lazyTableDetailsLoader;
 
   MutableCatalog(final String name, final ConnectionInfo connectionInfo) {
     super(name);
@@ -390,4 +393,22 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   Optional<MutableTable> lookupTable(final NamedObjectKey tableLookupKey) {
     return tables.lookup(tableLookupKey);
   }
+
+  void setLazyTableDetailsLoader(final LazyTableDetailsLoader lazyTableDetailsLoader) {
+    this.lazyTableDetailsLoader = lazyTableDetailsLoader;
+    for (final MutableTable table : tables) {
+      table.setLazyTableDetailsLoader(lazyTableDetailsLoader);
+    }
+  }
+
+  /**
+   * Lazily loaded table details are retrieved before the catalog is serialized, since the
+   * connection used to retrieve them is not available once the catalog is deserialized.
+   */
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    if (lazyTableDetailsLoader != null) {
+      lazyTableDetailsLoader.loadAll();
+    }
+    out.defaultWriteObject();
+  }
 }
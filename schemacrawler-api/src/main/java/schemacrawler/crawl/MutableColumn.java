@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
 
+import schemacrawler.crawl.LazyTableDetailsLoader.TableDetail;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Privilege;
 import schemacrawler.schema.Table;
@@ -68,6 +69,7 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public Collection<Privilege<Column>> getPrivileges() {
+    loadTableDetails(TableDetail.privileges);
     return new ArrayList<>(privileges.values());
   }
 
@@ -104,6 +106,7 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public boolean isPartOfIndex() {
+    loadTableDetails(TableDetail.indexes);
     return isPartOfIndex;
   }
 
@@ -116,12 +119,14 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public boolean isPartOfUniqueIndex() {
+    loadTableDetails(TableDetail.indexes);
     return isPartOfUniqueIndex;
   }
 
   /** {@inheritDoc} */
   @Override
   public Optional<MutablePrivilege<Column>> lookupPrivilege(final String name) {
+    loadTableDetails(TableDetail.privileges);
     return privileges.lookup(this, name);
   }
 
@@ -160,4 +165,11 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   void setReferencedColumn(final Column referencedColumn) {
     this.referencedColumn = referencedColumn;
   }
+
+  private void loadTableDetails(final TableDetail tableDetail) {
+    final Table parent = getParent();
+    if (parent instanceof MutableTable) {
+      ((MutableTable) parent).loadDetails(tableDetail);
+    }
+  }
 }
@@ -35,6 +35,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.IndexColumn;
 import schemacrawler.schema.IndexType;
@@ -172,6 +173,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
   final void appendDefinition(final String definition) {
     if (definition != null) {
       this.definition.append(definition);
+      CrawlMetrics.recordDefinition(definition);
     }
   }
 
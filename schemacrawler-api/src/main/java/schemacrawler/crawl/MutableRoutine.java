@@ -32,6 +32,7 @@ import static us.fatehi.utility.Utility.isBlank;
 
 import java.util.List;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Routine;
@@ -135,6 +136,7 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
   final void appendDefinition(final String definition) {
     if (definition != null) {
       this.definition.append(definition);
+      CrawlMetrics.recordDefinition(definition);
     }
   }
 
@@ -42,6 +42,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import schemacrawler.crawl.LazyTableDetailsLoader.TableDetail;
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ForeignKey;
@@ -81,6 +83,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   private MutablePrimaryKey primaryKey;
   private int sortIndex;
   private TableType tableType = TableType.UNKNOWN; // Default value
+  private transient LazyTableDetailsLoader lazyTableDetailsLoader;
 
   MutableTable(final Schema schema, final String name) {
     super(schema, name);
@@ -121,6 +124,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public String getDefinition() {
+    loadDetails(TableDetail.definitions);
     return definition.toString();
   }
 
@@ -150,6 +154,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<Index> getIndexes() {
+    loadDetails(TableDetail.indexes);
     return new ArrayList<>(indexes.values());
   }
 
@@ -162,6 +167,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<Privilege<Table>> getPrivileges() {
+    loadDetails(TableDetail.privileges);
     return new ArrayList<>(privileges.values());
   }
 
@@ -201,6 +207,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<TableConstraint> getTableConstraints() {
+    loadDetails(TableDetail.tableConstraints);
     return new ArrayList<>(constraints.values());
   }
 
@@ -213,6 +220,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<Trigger> getTriggers() {
+    loadDetails(TableDetail.triggers);
     return new ArrayList<>(triggers.values());
   }
 
@@ -230,6 +238,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
   @Override
   public boolean hasDefinition() {
+    loadDetails(TableDetail.definitions);
     return definition.length() > 0;
   }
 
@@ -270,18 +279,21 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Optional<MutableIndex> lookupIndex(final String name) {
+    loadDetails(TableDetail.indexes);
     return indexes.lookup(this, name);
   }
 
   /** {@inheritDoc} */
   @Override
   public Optional<MutablePrivilege<Table>> lookupPrivilege(final String name) {
+    loadDetails(TableDetail.privileges);
     return privileges.lookup(this, name);
   }
 
   /** {@inheritDoc} */
   @Override
   public Optional<TableConstraint> lookupTableConstraint(final String name) {
+    loadDetails(TableDetail.tableConstraints);
     return constraints.lookup(this, name);
   }
 
@@ -293,6 +305,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
    */
   @Override
   public Optional<MutableTrigger> lookupTrigger(final String triggerName) {
+    loadDetails(TableDetail.triggers);
     return triggers.lookup(this, triggerName);
   }
 
@@ -335,6 +348,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   final void appendDefinition(final String definition) {
     if (definition != null) {
       this.definition.append(definition);
+      CrawlMetrics.recordDefinition(definition);
     }
   }
 
@@ -342,10 +356,25 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     return columns;
   }
 
+  /**
+   * Retrieves a lazily loaded table detail, if it has not been retrieved already.
+   *
+   * @param tableDetail Table detail to load
+   */
+  final void loadDetails(final TableDetail tableDetail) {
+    if (lazyTableDetailsLoader != null) {
+      lazyTableDetailsLoader.load(this, tableDetail);
+    }
+  }
+
   void removeTableConstraint(final TableConstraint tableConstraint) {
     constraints.remove(tableConstraint);
   }
 
+  final void setLazyTableDetailsLoader(final LazyTableDetailsLoader lazyTableDetailsLoader) {
+    this.lazyTableDetailsLoader = lazyTableDetailsLoader;
+  }
+
   final void setPrimaryKey(final MutablePrimaryKey primaryKey) {
     if (primaryKey == null) {
       return;
@@ -31,6 +31,7 @@ package schemacrawler.crawl;
 import java.util.ArrayList;
 import java.util.List;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableConstraint;
 import schemacrawler.schema.TableConstraintColumn;
@@ -102,6 +103,7 @@ class MutableTableConstraint extends AbstractDependantObject<Table> implements T
   void appendDefinition(final String definition) {
     if (definition != null) {
       this.definition.append(definition);
+      CrawlMetrics.recordDefinition(definition);
     }
   }
 
@@ -28,6 +28,7 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.ActionOrientationType;
 import schemacrawler.schema.ConditionTimingType;
 import schemacrawler.schema.EventManipulationType;
@@ -104,6 +105,7 @@ class MutableTrigger extends AbstractDependantObject<Table> implements Trigger {
   void appendActionStatement(final String actionStatement) {
     if (actionStatement != null) {
       this.actionStatement.append(actionStatement);
+      CrawlMetrics.recordDefinition(actionStatement);
     }
   }
 
@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
 
+import schemacrawler.crawl.LazyTableDetailsLoader.TableDetail;
 import schemacrawler.schema.CheckOptionType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
@@ -56,6 +57,7 @@ class MutableView extends MutableTable implements View {
   /** {@inheritDoc} */
   @Override
   public CheckOptionType getCheckOption() {
+    loadDetails(TableDetail.definitions);
     return checkOption;
   }
 
@@ -68,6 +70,7 @@ class MutableView extends MutableTable implements View {
   /** {@inheritDoc} */
   @Override
   public boolean isUpdatable() {
+    loadDetails(TableDetail.definitions);
     return updatable;
   }
 
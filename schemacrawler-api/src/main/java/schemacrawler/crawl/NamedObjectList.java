@@ -33,13 +33,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.AttributedObject;
@@ -53,10 +49,21 @@ import us.fatehi.utility.ObjectToString;
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>Objects are held in an open-addressing hash table, with linear probing. This allows a
+ * dependent object to be looked up by the key of its parent and its name, without creating a lookup
+ * key for every row of metadata. Since most lists (for example, of indexes or triggers on a table)
+ * are small or empty, the hash table is only allocated when the first object is added, and grows
+ * from a small capacity.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
-  private static final long serialVersionUID = 3257847666804142128L;
+  private static final long serialVersionUID = 3257847666804142129L;
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private static final NamedObjectKey[] EMPTY_KEYS = {};
+  private static final Object[] EMPTY_OBJECTS = {};
 
   private static NamedObjectKey makeLookupKey(final NamedObject namedObject) {
     final NamedObjectKey key;
@@ -68,15 +75,14 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     return key;
   }
 
-  private static NamedObjectKey makeLookupKey(final NamedObject namedObject, final String name) {
-    NamedObjectKey key = makeLookupKey(namedObject);
-    if (key != null) {
-      key = key.with(name);
-    }
-    return key;
+  /** Spreads higher bits of the hash code to the lower bits, which are used for the table index. */
+  private static int spread(final int hashCode) {
+    return hashCode ^ hashCode >>> 16;
   }
 
-  private final Map<NamedObjectKey, N> objects = new HashMap<>();
+  private NamedObjectKey[] keys = EMPTY_KEYS;
+  private Object[] objects = EMPTY_OBJECTS;
+  private int size;
 
   @Override
   public void filter(final Predicate<? super N> predicate) {
@@ -84,19 +90,22 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
       return;
     }
 
-    final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
-    for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet.iterator();
-        iterator.hasNext(); ) {
-      final Entry<NamedObjectKey, N> entry = iterator.next();
-      final N namedObject = entry.getValue();
-      if (!predicate.test(namedObject)) {
-        iterator.remove();
-        if (namedObject instanceof AttributedObject) {
-          final AttributedObject attributedObject = (AttributedObject) namedObject;
-          attributedObject.setAttribute("schemacrawler.filtered_out", true);
+    final List<N> filteredOut = new ArrayList<>();
+    for (final Object object : objects) {
+      if (object != null) {
+        final N namedObject = cast(object);
+        if (!predicate.test(namedObject)) {
+          filteredOut.add(namedObject);
         }
       }
     }
+    for (final N namedObject : filteredOut) {
+      remove(namedObject);
+      if (namedObject instanceof AttributedObject) {
+        final AttributedObject attributedObject = (AttributedObject) namedObject;
+        attributedObject.setAttribute("schemacrawler.filtered_out", true);
+      }
+    }
   }
 
   /** {@inheritDoc} */
@@ -142,21 +151,55 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   boolean add(final N namedObject) {
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final NamedObjectKey key = makeLookupKey(namedObject);
-    objects.put(key, namedObject);
+    final int index = indexOf(key);
+    if (index >= 0) {
+      objects[index] = namedObject;
+      return true;
+    }
+
+    if (2 * (size + 1) > keys.length) {
+      resize(Math.max(INITIAL_CAPACITY, 2 * keys.length));
+    }
+    final int insertionIndex = insertionIndexOf(key);
+    keys[insertionIndex] = key;
+    objects[insertionIndex] = namedObject;
+    size++;
     return true;
   }
 
   boolean contains(final NamedObject namedObject) {
-    return objects.containsKey(makeLookupKey(namedObject));
+    return indexOf(makeLookupKey(namedObject)) >= 0;
   }
 
   boolean isEmpty() {
-    return objects.isEmpty();
+    return size == 0;
   }
 
   Optional<N> lookup(final NamedObject namedObject, final String name) {
-    final NamedObjectKey key = makeLookupKey(namedObject, name);
-    return internalGet(key);
+    return lookup(makeLookupKey(namedObject), name);
+  }
+
+  /**
+   * Looks up a dependent object by the lookup key of its parent, and its name. No lookup key is
+   * created for the dependent object.
+   *
+   * @param parentKey Lookup key of the parent object
+   * @param name Name of the dependent object
+   * @return Named object
+   */
+  Optional<N> lookup(final NamedObjectKey parentKey, final String name) {
+    if (parentKey == null || size == 0) {
+      return Optional.empty();
+    }
+    final int mask = keys.length - 1;
+    for (int index = spread(parentKey.hashCodeWith(name)) & mask;
+        keys[index] != null;
+        index = index + 1 & mask) {
+      if (keys[index].isKeyFor(parentKey, name)) {
+        return Optional.of(cast(objects[index]));
+      }
+    }
+    return Optional.empty();
   }
 
   /**
@@ -166,11 +209,21 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    * @return Named object
    */
   Optional<N> lookup(final NamedObjectKey lookupKey) {
-    return internalGet(lookupKey);
+    final int index = indexOf(lookupKey);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(cast(objects[index]));
   }
 
   N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+    final int index = indexOf(makeLookupKey(namedObject));
+    if (index < 0) {
+      return null;
+    }
+    final N removed = cast(objects[index]);
+    removeAt(index);
+    return removed;
   }
 
   /**
@@ -179,7 +232,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    * @return Number of elements in this list.
    */
   int size() {
-    return objects.size();
+    return size;
   }
 
   /**
@@ -188,12 +241,77 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
+    final List<N> all = new ArrayList<>(size);
+    for (final Object object : objects) {
+      if (object != null) {
+        all.add(cast(object));
+      }
+    }
     all.sort(naturalOrder());
     return all;
   }
 
-  private Optional<N> internalGet(final NamedObjectKey key) {
-    return Optional.ofNullable(objects.get(key));
+  @SuppressWarnings("unchecked")
+  private N cast(final Object object) {
+    return (N) object;
+  }
+
+  private int indexOf(final NamedObjectKey key) {
+    if (key == null || size == 0) {
+      return -1;
+    }
+    final int mask = keys.length - 1;
+    for (int index = spread(key.hashCode()) & mask; keys[index] != null; index = index + 1 & mask) {
+      if (keys[index].equals(key)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private int insertionIndexOf(final NamedObjectKey key) {
+    final int mask = keys.length - 1;
+    int index = spread(key.hashCode()) & mask;
+    while (keys[index] != null) {
+      index = index + 1 & mask;
+    }
+    return index;
+  }
+
+  /**
+   * Removes the entry at the index, and moves later entries in the same probe sequence back, so
+   * that there are no gaps in any probe sequence.
+   */
+  private void removeAt(final int index) {
+    final int mask = keys.length - 1;
+    int gap = index;
+    int next = index + 1 & mask;
+    while (keys[next] != null) {
+      final int home = spread(keys[next].hashCode()) & mask;
+      // Move the entry into the gap if its home slot is not cyclically between the gap and itself
+      if ((next - home & mask) >= (next - gap & mask)) {
+        keys[gap] = keys[next];
+        objects[gap] = objects[next];
+        gap = next;
+      }
+      next = next + 1 & mask;
+    }
+    keys[gap] = null;
+    objects[gap] = null;
+    size--;
+  }
+
+  private void resize(final int capacity) {
+    final NamedObjectKey[] oldKeys = keys;
+    final Object[] oldObjects = objects;
+    keys = new NamedObjectKey[capacity];
+    objects = new Object[capacity];
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != null) {
+        final int index = insertionIndexOf(oldKeys[i]);
+        keys[index] = oldKeys[i];
+        objects[index] = oldObjects[i];
+      }
+    }
   }
 }
@@ -0,0 +1,159 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PRIMARY_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * A retriever that sends independent data dictionary queries to the database in a single round
+ * trip, and holds the results in the retriever connection until the retrievers that use fast data
+ * dictionary retrieval ask for them.
+ */
+final class PipelinedQueriesRetriever extends AbstractRetriever {
+
+  private static final Logger LOGGER = Logger.getLogger(PipelinedQueriesRetriever.class.getName());
+
+  private static final Map<InformationSchemaKey, SchemaInfoMetadataRetrievalStrategy>
+      retrievalStrategies;
+
+  static {
+    retrievalStrategies = new EnumMap<>(InformationSchemaKey.class);
+    retrievalStrategies.put(TABLES, tablesRetrievalStrategy);
+    retrievalStrategies.put(TABLE_COLUMNS, tableColumnsRetrievalStrategy);
+    retrievalStrategies.put(PRIMARY_KEYS, primaryKeysRetrievalStrategy);
+    retrievalStrategies.put(FOREIGN_KEYS, foreignKeysRetrievalStrategy);
+    retrievalStrategies.put(INDEXES, indexesRetrievalStrategy);
+  }
+
+  PipelinedQueriesRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options) {
+    super(retrieverConnection, catalog, options);
+  }
+
+  /**
+   * Runs the data dictionary queries for the requested keys in a single round trip, if pipelined
+   * queries are requested, and the JDBC driver supports multiple result sets. Only queries for
+   * objects that are retrieved using fast data dictionary retrieval are pipelined. If the pipelined
+   * execution fails, the retrievers will run their queries one by one.
+   *
+   * @param keys Keys for data dictionary queries that will be run in this crawl
+   */
+  void retrievePipelinedQueries(final Collection<InformationSchemaKey> keys) {
+    final RetrieverConnection retrieverConnection = getRetrieverConnection();
+    if (!retrieverConnection.isPipelinedDataDictionaryQueries()) {
+      LOGGER.log(
+          Level.INFO, "Not pipelining data dictionary queries, since this was not requested");
+      return;
+    }
+    if (!supportsMultipleResultSets()) {
+      LOGGER.log(
+          Level.INFO,
+          "Not pipelining data dictionary queries, since multiple result sets are not supported");
+      return;
+    }
+
+    final InformationSchemaViews informationSchemaViews =
+        retrieverConnection.getInformationSchemaViews();
+    final List<Query> queries = new ArrayList<>();
+    for (final InformationSchemaKey key : keys) {
+      final SchemaInfoMetadataRetrievalStrategy retrievalStrategy = retrievalStrategies.get(key);
+      if (retrievalStrategy != null
+          && retrieverConnection.get(retrievalStrategy)
+              == MetadataRetrievalStrategy.data_dictionary_all
+          && informationSchemaViews.hasQuery(key)) {
+        queries.add(informationSchemaViews.getQuery(key));
+      }
+    }
+    if (queries.size() < 2) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Not pipelining data dictionary queries, since there are only %d queries to run",
+              queries.size()));
+      return;
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Retrieving %d pipelined data dictionary queries", queries.size()));
+    try (final Statement statement = createStatement()) {
+      final List<ResultSet> results = executeAgainstSchema(queries, statement, getLimitOptions());
+      for (int i = 0; i < queries.size(); i++) {
+        retrieverConnection.addPipelinedResults(queries.get(i), results.get(i));
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat(
+              "Could not pipeline data dictionary queries, so running %d queries one by one",
+              queries.size()));
+    }
+  }
+
+  private boolean supportsMultipleResultSets() {
+    try {
+      return getMetaData().supportsMultipleResultSets();
+    } catch (final SQLException e) {
+      logSQLFeatureNotSupported(() -> "Could not check for multiple result sets support", e);
+      return false;
+    }
+  }
+}
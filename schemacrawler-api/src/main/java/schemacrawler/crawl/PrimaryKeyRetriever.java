@@ -38,6 +38,7 @@ import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -122,7 +123,7 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     final Query pkSql = informationSchemaViews.getQuery(PRIMARY_KEYS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(pkSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(pkSql, statement, getLimitOptions())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
@@ -148,9 +149,10 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
       if (table instanceof View) {
         continue;
       }
+      final long start = System.nanoTime();
       final Schema tableSchema = table.getSchema();
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getPrimaryKeys(
                       tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
@@ -162,6 +164,7 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
         throw new WrappedSQLException(
             String.format("Could not retrieve primary keys for table <%s>", table), e);
       }
+      CrawlMetrics.recordTableLatency(System.nanoTime() - start);
     }
   }
 }
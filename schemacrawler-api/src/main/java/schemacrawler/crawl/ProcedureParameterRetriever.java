@@ -205,7 +205,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
     final Query procedureColumnsSql = informationSchemaViews.getQuery(PROCEDURE_COLUMNS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(procedureColumnsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(procedureColumnsSql, statement, getLimitOptions())) {
       while (results.next()) {
         createProcedureParameter(results, allRoutines, parameterFilter);
       }
@@ -224,7 +224,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
       final MutableProcedure procedure = (MutableProcedure) routine;
       LOGGER.log(Level.FINE, "Retrieving procedure parameters for " + procedure);
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getProcedureColumns(
                       procedure.getSchema().getCatalogName(),
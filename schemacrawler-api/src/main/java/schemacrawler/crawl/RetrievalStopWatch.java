@@ -33,6 +33,7 @@ import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaInfoRetrieval;
 import us.fatehi.utility.StopWatch;
@@ -44,12 +45,22 @@ public final class RetrievalStopWatch {
 
   private StopWatch stopWatch;
   private final SchemaInfoLevel infoLevel;
+  private final CrawlMetrics crawlMetrics;
 
   public RetrievalStopWatch(final SchemaInfoLevel infoLevel) {
+    this(infoLevel, new CrawlMetrics(requireNonNull(infoLevel, "No info-level provided").getTag()));
+  }
+
+  public RetrievalStopWatch(final SchemaInfoLevel infoLevel, final CrawlMetrics crawlMetrics) {
     this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
+    this.crawlMetrics = requireNonNull(crawlMetrics, "No crawl metrics provided");
     newStopWatch(infoLevel);
   }
 
+  public CrawlMetrics getCrawlMetrics() {
+    return crawlMetrics;
+  }
+
   /**
    * Allows for a deferred conversion to a string. Useful in logging.
    *
@@ -102,7 +113,12 @@ public final class RetrievalStopWatch {
         () -> {
           if (run) {
             LOGGER.log(Level.INFO, "Running " + retrievalName);
-            function.call();
+            crawlMetrics.startRetrieval(retrievalName);
+            try {
+              function.call();
+            } finally {
+              LOGGER.log(Level.FINE, crawlMetrics.endRetrieval().toString());
+            }
           } else {
             LOGGER.log(Level.INFO, retrievalName + " not requested");
           }
@@ -33,7 +33,10 @@ import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,10 +45,12 @@ import schemacrawler.schema.ConnectionInfo;
 import schemacrawler.schema.TableTypes;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.utility.JavaSqlTypes;
 import schemacrawler.utility.TypeMap;
+import us.fatehi.utility.database.QueryResultsCache;
 import us.fatehi.utility.string.StringFormat;
 
 /**
@@ -63,6 +68,8 @@ final class RetrieverConnection {
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final TableTypes tableTypes;
   private final ConnectionInfo connectionInfo;
+  private final StringPool stringPool;
+  private final Map<String, ResultSet> pipelinedResults;
 
   RetrieverConnection(
       final Connection connection, final SchemaRetrievalOptions schemaRetrievalOptions)
@@ -78,6 +85,20 @@ final class RetrieverConnection {
     LOGGER.log(Level.CONFIG, new StringFormat("Supported table types are <%s>", tableTypes));
 
     javaSqlTypes = new JavaSqlTypes();
+    stringPool = new StringPool();
+    pipelinedResults = new HashMap<>();
+  }
+
+  /**
+   * Holds the results of a pipelined data dictionary query, until a retriever takes them.
+   *
+   * @param query Data dictionary query
+   * @param results Results of the query, read into memory
+   */
+  void addPipelinedResults(final Query query, final ResultSet results) {
+    requireNonNull(query, "No query provided");
+    requireNonNull(results, "No results provided");
+    pipelinedResults.put(query.getName(), results);
   }
 
   public MetadataRetrievalStrategy get(
@@ -114,6 +135,18 @@ final class RetrieverConnection {
     return metaData;
   }
 
+  QueryResultsCache getQueryResultsCache() {
+    return schemaRetrievalOptions.getQueryResultsCache();
+  }
+
+  SchemaRetrievalOptions getSchemaRetrievalOptions() {
+    return schemaRetrievalOptions;
+  }
+
+  StringPool getStringPool() {
+    return stringPool;
+  }
+
   TableTypes getTableTypes() {
     return tableTypes;
   }
@@ -122,6 +155,10 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getTypeMap();
   }
 
+  boolean isPipelinedDataDictionaryQueries() {
+    return schemaRetrievalOptions.isPipelinedDataDictionaryQueries();
+  }
+
   boolean isSupportsCatalogs() {
     return schemaRetrievalOptions.isSupportsCatalogs();
   }
@@ -129,4 +166,16 @@ final class RetrieverConnection {
   boolean isSupportsSchemas() {
     return schemaRetrievalOptions.isSupportsSchemas();
   }
+
+  /**
+   * Takes the results of a pipelined data dictionary query, if there are any. Results can only be
+   * taken once, so the query is executed again if it is run again.
+   *
+   * @param query Data dictionary query
+   * @return Results of the query, or null if the query was not pipelined
+   */
+  ResultSet takePipelinedResults(final Query query) {
+    requireNonNull(query, "No query provided");
+    return pipelinedResults.remove(query.getName());
+  }
 }
@@ -201,7 +201,7 @@ final class RoutineRetriever extends AbstractRetriever {
     final Query functionsSql = informationSchemaViews.getQuery(FUNCTIONS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(functionsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(functionsSql, statement, getLimitOptions())) {
       int numFunctions = 0;
       while (results.next()) {
         numFunctions = numFunctions + 1;
@@ -221,7 +221,7 @@ final class RoutineRetriever extends AbstractRetriever {
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData().getFunctions(catalogName, schemaName, null),
               "DatabaseMetaData::getFunctions")) {
         int numFunctions = 0;
@@ -277,7 +277,7 @@ final class RoutineRetriever extends AbstractRetriever {
     final Query proceduresSql = informationSchemaViews.getQuery(PROCEDURES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(proceduresSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(proceduresSql, statement, getLimitOptions())) {
       int numProcedures = 0;
       while (results.next()) {
         numProcedures = numProcedures + 1;
@@ -298,7 +298,7 @@ final class RoutineRetriever extends AbstractRetriever {
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData().getProcedures(catalogName, schemaName, null),
               "DatabaseMetaData::getProcedures")) {
         int numProcedures = 0;
@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.filter.FilterFactory.tableFilter;
 import static schemacrawler.filter.ReducerFactory.getRoutineReducer;
 import static schemacrawler.filter.ReducerFactory.getSchemaReducer;
 import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
@@ -41,6 +42,12 @@ import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleFor
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSequenceInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSynonymInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PRIMARY_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnAttributes;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnMetadata;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalDatabaseInfo;
@@ -75,9 +82,13 @@ import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveViewTableU
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.function.Supplier;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
@@ -85,7 +96,12 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
 import schemacrawler.schemacrawler.SchemaReference;
@@ -103,7 +119,9 @@ public final class SchemaCrawler {
   private final RetrieverConnection retrieverConnection;
   private final SchemaInfoLevel infoLevel;
   private final RetrievalStopWatch stopWatch;
+  private final CrawlMetrics crawlMetrics;
   private MutableCatalog catalog;
+  private Supplier<Connection> dataSource;
 
   /**
    * Constructs a SchemaCrawler object, from a connection.
@@ -121,7 +139,8 @@ public final class SchemaCrawler {
       retrieverConnection = new RetrieverConnection(connection, schemaRetrievalOptions);
       this.options = requireNonNull(options, "No SchemaCrawler options provided");
       infoLevel = options.getLoadOptions().getSchemaInfoLevel();
-      stopWatch = new RetrievalStopWatch(infoLevel);
+      crawlMetrics = new CrawlMetrics(infoLevel.getTag());
+      stopWatch = new RetrievalStopWatch(infoLevel, crawlMetrics);
     } catch (final SQLException e) {
       throw new DatabaseAccessException(e);
     }
@@ -153,9 +172,31 @@ public final class SchemaCrawler {
       throw new ExecutionRuntimeException(e);
     } finally {
       stopWatch.stopAndLogTime();
+      crawlMetrics.crawlCompleted();
     }
   }
 
+  /**
+   * Progress and throughput metrics for the crawl. Add listeners before crawling, to be notified as
+   * each retrieval step completes.
+   *
+   * @return Crawl metrics
+   */
+  public CrawlMetrics getCrawlMetrics() {
+    return crawlMetrics;
+  }
+
+  /**
+   * Source of connections for lazily loaded table details. If it is set, table details are
+   * retrieved with a connection borrowed from the data source, so the catalog can be used after the
+   * connection that it was crawled with is closed. Otherwise the crawl connection is used.
+   *
+   * @param dataSource Source of database connections, or null to use the crawl connection
+   */
+  public void setDataSource(final Supplier<Connection> dataSource) {
+    this.dataSource = dataSource;
+  }
+
   private void crawlAdditionalTableColumnInformation(final TableExtRetriever retrieverExtra)
       throws Exception {
     LOGGER.log(Level.INFO, "Retrieving additional table column information");
@@ -357,6 +398,12 @@ public final class SchemaCrawler {
     final TableExtRetriever retrieverExtra =
         new TableExtRetriever(retrieverConnection, catalog, options);
     final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
+    final PipelinedQueriesRetriever pipelinedQueriesRetriever =
+        new PipelinedQueriesRetriever(retrieverConnection, catalog, options);
+
+    stopWatch.time(
+        "retrievePipelinedQueries",
+        () -> pipelinedQueriesRetriever.retrievePipelinedQueries(getTableQueryKeys()));
 
     stopWatch.time(
         retrieveTables,
@@ -383,15 +430,48 @@ public final class SchemaCrawler {
           }
         });
 
-    stopWatch.time(
-        retrievePrimaryKeys,
-        () -> pkRetriever.retrievePrimaryKeys(allTables),
-        retrieveTableColumns);
-
-    stopWatch.time(
-        retrieveForeignKeys,
-        () -> fkRetriever.retrieveForeignKeys(allTables),
-        retrieveTableColumns);
+    if (isGrepTables()) {
+      // Keys are only retrieved for tables that match the grep criteria,
+      // and tables related to them, since all other tables will be
+      // filtered out
+      final NamedObjectList<MutableTable> keyTables = new NamedObjectList<>();
+      stopWatch.time(
+          "filterGreppedTables",
+          () -> {
+            final Predicate<Table> tableFilter = tableFilter(options);
+            for (final MutableTable table : allTables) {
+              if (tableFilter.test(table)) {
+                keyTables.add(table);
+              }
+            }
+            LOGGER.log(
+                Level.INFO,
+                new StringFormat(
+                    "Retrieving keys for %d of %d tables that match the grep criteria",
+                    keyTables.size(), allTables.size()));
+          },
+          retrieveTableColumns);
+
+      stopWatch.time(
+          retrieveForeignKeys,
+          () -> retrieveRelatedTablesForeignKeys(fkRetriever, allTables, keyTables),
+          retrieveTableColumns);
+
+      stopWatch.time(
+          retrievePrimaryKeys,
+          () -> pkRetriever.retrievePrimaryKeys(keyTables),
+          retrieveTableColumns);
+    } else {
+      stopWatch.time(
+          retrievePrimaryKeys,
+          () -> pkRetriever.retrievePrimaryKeys(allTables),
+          retrieveTableColumns);
+
+      stopWatch.time(
+          retrieveForeignKeys,
+          () -> fkRetriever.retrieveForeignKeys(allTables),
+          retrieveTableColumns);
+    }
 
     stopWatch.time(
         "filterAndSortTables",
@@ -405,6 +485,28 @@ public final class SchemaCrawler {
           tablesGraph.setTablesSortIndexes();
         });
 
+    if (options.getLoadOptions().isLazyLoadTableDetails()) {
+      stopWatch.time(retrieveViewTableUsage, retrieverExtra::retrieveViewTableUsage);
+      stopWatch.time(
+          retrieveAdditionalTableAttributes,
+          () -> retrieverExtra.retrieveAdditionalTableAttributes());
+      LOGGER.log(Level.INFO, "Retrieving additional table column information");
+      stopWatch.time(
+          retrieveAdditionalColumnAttributes,
+          retrieverExtra::retrieveAdditionalColumnAttributes,
+          retrieveTableColumns);
+      stopWatch.time(
+          retrieveAdditionalColumnMetadata,
+          retrieverExtra::retrieveAdditionalColumnMetadata,
+          retrieveTableColumns);
+
+      LOGGER.log(Level.INFO, "Table details will be retrieved when they are first accessed");
+      catalog.setLazyTableDetailsLoader(
+          new LazyTableDetailsLoader(
+              retrieverConnection, dataSource, catalog, options, crawlMetrics));
+      return;
+    }
+
     stopWatch.time(
         retrieveIndexes, () -> indexRetriever.retrieveIndexes(allTables), retrieveTableColumns);
 
@@ -425,4 +527,86 @@ public final class SchemaCrawler {
     crawlAdditionalTableInformation(constraintRetriever, retrieverExtra);
     crawlAdditionalTableColumnInformation(retrieverExtra);
   }
+
+  /**
+   * Gets the keys for the independent data dictionary queries that will be run to retrieve tables,
+   * and their details, in this crawl.
+   */
+  private Collection<InformationSchemaKey> getTableQueryKeys() {
+    final EnumSet<InformationSchemaKey> keys = EnumSet.of(TABLES);
+    if (infoLevel.is(retrieveTableColumns)) {
+      if (!options.getLimitOptions().isExcludeAll(ruleForColumnInclusion)) {
+        keys.add(TABLE_COLUMNS);
+      }
+      if (infoLevel.is(retrievePrimaryKeys)) {
+        keys.add(PRIMARY_KEYS);
+      }
+      if (infoLevel.is(retrieveForeignKeys)) {
+        keys.add(FOREIGN_KEYS);
+      }
+      if (infoLevel.is(retrieveIndexes) && !options.getLoadOptions().isLazyLoadTableDetails()) {
+        keys.add(INDEXES);
+      }
+    }
+    return keys;
+  }
+
+  private boolean isGrepTables() {
+    final GrepOptions grepOptions = options.getGrepOptions();
+    return grepOptions.isGrepTables()
+        || grepOptions.isGrepColumns()
+        || grepOptions.isGrepDefinitions();
+  }
+
+  /**
+   * Retrieves foreign keys for the tables, and then for the tables related to them, up to the
+   * parent and child table filter depths. The related tables are added to the list of tables, so
+   * that all tables that can survive filtering have their keys retrieved.
+   */
+  private void retrieveRelatedTablesForeignKeys(
+      final ForeignKeyRetriever fkRetriever,
+      final NamedObjectList<MutableTable> allTables,
+      final NamedObjectList<MutableTable> keyTables)
+      throws SQLException {
+    final FilterOptions filterOptions = options.getFilterOptions();
+    final int depth =
+        Math.max(
+            filterOptions.getChildTableFilterDepth(), filterOptions.getParentTableFilterDepth());
+    // Foreign keys from the data dictionary are retrieved for all tables
+    // at once, so there is no point in retrieving them table by table
+    final boolean isRetrievedByTable =
+        retrieverConnection.get(foreignKeysRetrievalStrategy) == MetadataRetrievalStrategy.metadata;
+    if (!isRetrievedByTable) {
+      fkRetriever.retrieveForeignKeys(allTables);
+    }
+
+    NamedObjectList<MutableTable> levelTables = new NamedObjectList<>();
+    for (final MutableTable table : keyTables) {
+      levelTables.add(table);
+    }
+    for (int level = 0; level <= depth && !levelTables.isEmpty(); level++) {
+      if (isRetrievedByTable) {
+        fkRetriever.retrieveForeignKeys(levelTables);
+      }
+      if (level == depth) {
+        break;
+      }
+
+      final NamedObjectList<MutableTable> relatedTables = new NamedObjectList<>();
+      for (final MutableTable table : levelTables) {
+        for (final TableRelationshipType tableRelationshipType :
+            EnumSet.of(TableRelationshipType.parent, TableRelationshipType.child)) {
+          for (final Table relatedTable : table.getRelatedTables(tableRelationshipType)) {
+            if (relatedTable instanceof MutableTable
+                && allTables.contains(relatedTable)
+                && !keyTables.contains(relatedTable)) {
+              keyTables.add((MutableTable) relatedTable);
+              relatedTables.add((MutableTable) relatedTable);
+            }
+          }
+        }
+      }
+      levelTables = relatedTables;
+    }
+  }
 }
@@ -149,7 +149,7 @@ final class SchemaRetriever extends AbstractRetriever {
     if (supportsSchemas) {
       int numSchemas = 0;
       try (final MetadataResultSet results =
-          new MetadataResultSet(getMetaData().getSchemas(), "DatabaseMetaData::getSchemas")) {
+          createMetadataResultSet(getMetaData().getSchemas(), "DatabaseMetaData::getSchemas")) {
         while (results.next()) {
           numSchemas = numSchemas + 1;
           final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -194,7 +194,7 @@ final class SchemaRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(schemataSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(schemataSql, statement, getLimitOptions())) {
       int numSchemas = 0;
       while (results.next()) {
         numSchemas = numSchemas + 1;
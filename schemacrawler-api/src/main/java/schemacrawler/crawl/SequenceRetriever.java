@@ -93,7 +93,7 @@ final class SequenceRetriever extends AbstractRetriever {
     final Query sequencesDefinitionSql = informationSchemaViews.getQuery(SEQUENCES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(sequencesDefinitionSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(sequencesDefinitionSql, statement, getLimitOptions())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SEQUENCE_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SEQUENCE_SCHEMA"));
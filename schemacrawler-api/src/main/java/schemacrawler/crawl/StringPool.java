@@ -0,0 +1,86 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Crawl-scoped pool of strings read from database metadata. Catalog names, schema names, data type
+ * names and attribute names are repeated on every row of metadata, and the JDBC driver returns a
+ * new string for each. Interning them in the pool retains a single instance for the lifetime of the
+ * catalog, without the unbounded growth of {@link String#intern()}.
+ *
+ * <p>Long strings, such as definitions and remarks, are unlikely to repeat, and are not pooled.
+ */
+final class StringPool {
+
+  private static final int MAX_POOLED_LENGTH = 128;
+
+  private final Map<String, String> pool;
+
+  StringPool() {
+    pool = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the pooled instance of the string, adding the string to the pool if it is not already
+   * present.
+   *
+   * @param value String to intern
+   * @return Pooled string, or the string itself if it is not poolable
+   */
+  String intern(final String value) {
+    if (value == null || value.length() > MAX_POOLED_LENGTH) {
+      return value;
+    }
+    final String pooled = pool.putIfAbsent(value, value);
+    if (pooled == null) {
+      return value;
+    }
+    return pooled;
+  }
+
+  /**
+   * Interns string values, and returns all other values as is.
+   *
+   * @param value Value to intern
+   * @return Pooled value
+   */
+  Object internValue(final Object value) {
+    if (value instanceof String) {
+      return intern((String) value);
+    }
+    return value;
+  }
+
+  int size() {
+    return pool.size();
+  }
+}
@@ -103,7 +103,7 @@ final class SynonymRetriever extends AbstractRetriever {
     final Query synonymsDefinitionSql = informationSchemaViews.getQuery(EXT_SYNONYMS);
     try (final Statement statement = createStatement();
         MetadataResultSet results =
-            new MetadataResultSet(synonymsDefinitionSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(synonymsDefinitionSql, statement, getLimitOptions())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SYNONYM_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SYNONYM_SCHEMA"));
@@ -44,6 +44,7 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import schemacrawler.crawl.metrics.CrawlMetrics;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Column;
@@ -211,7 +212,7 @@ final class TableColumnRetriever extends AbstractRetriever {
     final Query hiddenColumnsSql = informationSchemaViews.getQuery(EXT_HIDDEN_TABLE_COLUMNS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(hiddenColumnsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(hiddenColumnsSql, statement, getLimitOptions())) {
       while (results.next()) {
         // NOTE: The column names in the extension table are different
         // than the database metadata column names
@@ -248,7 +249,7 @@ final class TableColumnRetriever extends AbstractRetriever {
     final Query tableColumnsSql = informationSchemaViews.getQuery(TABLE_COLUMNS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableColumnsSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(tableColumnsSql, statement, getLimitOptions())) {
       while (results.next()) {
         createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
       }
@@ -262,8 +263,9 @@ final class TableColumnRetriever extends AbstractRetriever {
       throws WrappedSQLException {
     for (final MutableTable table : allTables) {
       LOGGER.log(Level.FINE, "Retrieving table columns for " + table);
+      final long start = System.nanoTime();
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getColumns(
                       table.getSchema().getCatalogName(),
@@ -280,6 +282,7 @@ final class TableColumnRetriever extends AbstractRetriever {
                 "Could not retrieve table columns for %s <%s>", table.getTableType(), table),
             e);
       }
+      CrawlMetrics.recordTableLatency(System.nanoTime() - start);
     }
   }
 }
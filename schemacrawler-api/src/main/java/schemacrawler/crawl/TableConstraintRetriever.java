@@ -107,8 +107,8 @@ final class TableConstraintRetriever extends AbstractRetriever {
     // Get check constraint definitions
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(
-                extTableConstraintInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(
+                extTableConstraintInformationSql, statement, getLimitOptions())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -160,8 +160,8 @@ final class TableConstraintRetriever extends AbstractRetriever {
         informationSchemaViews.getQuery(EXT_TABLE_CONSTRAINTS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(
-                extTableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(
+                extTableConstraintsInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -274,8 +274,8 @@ final class TableConstraintRetriever extends AbstractRetriever {
     final Query tableConstraintsInformationSql = informationSchemaViews.getQuery(TABLE_CONSTRAINTS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(
-                tableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(
+                tableConstraintsInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -355,8 +355,8 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(
-                tableConstraintsColumnsInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(
+                tableConstraintsColumnsInformationSql, statement, getLimitOptions())) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
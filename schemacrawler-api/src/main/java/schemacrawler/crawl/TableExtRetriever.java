@@ -90,7 +90,7 @@ final class TableExtRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(columnAttributesSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(columnAttributesSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -180,7 +180,7 @@ final class TableExtRetriever extends AbstractRetriever {
 
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableAttributesSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(tableAttributesSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -211,6 +211,17 @@ final class TableExtRetriever extends AbstractRetriever {
    * @throws SQLException On a SQL exception
    */
   void retrieveIndexInformation() throws SQLException {
+    retrieveIndexInformation(catalog.getAllTables());
+  }
+
+  /**
+   * Retrieves index information from the database, in the INFORMATION_SCHEMA format, for the given
+   * tables only.
+   *
+   * @param tables Tables to retrieve index information for
+   * @throws SQLException On a SQL exception
+   */
+  void retrieveIndexInformation(final NamedObjectList<MutableTable> tables) throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
 
@@ -226,7 +237,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query extIndexesInformationSql = informationSchemaViews.getQuery(EXT_INDEXES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(extIndexesInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(extIndexesInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("INDEX_CATALOG"));
@@ -242,6 +253,9 @@ final class TableExtRetriever extends AbstractRetriever {
               new StringFormat("Cannot find table <%s.%s.%s>", catalogName, schemaName, indexName));
           continue;
         }
+        if (!tables.contains(tableOptional.get())) {
+          continue;
+        }
 
         LOGGER.log(Level.FINER, new StringFormat("Retrieving index information <%s>", indexName));
         final MutableTable table = tableOptional.get();
@@ -272,7 +286,7 @@ final class TableExtRetriever extends AbstractRetriever {
 
   void retrieveTableColumnPrivileges() throws SQLException {
     try (final MetadataResultSet results =
-        new MetadataResultSet(
+        createMetadataResultSet(
             getMetaData().getColumnPrivileges(null, null, null, null),
             "DatabaseMetaData::getColumnPrivileges")) {
       createPrivileges(results, true);
@@ -301,8 +315,8 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query tableDefinitionsInformationSql = informationSchemaViews.getQuery(EXT_TABLES);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(
-                tableDefinitionsInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(
+                tableDefinitionsInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -334,7 +348,7 @@ final class TableExtRetriever extends AbstractRetriever {
 
   void retrieveTablePrivileges() throws SQLException {
     try (final MetadataResultSet results =
-        new MetadataResultSet(
+        createMetadataResultSet(
             getMetaData().getTablePrivileges(null, null, null),
             "DatabaseMetaData::getTablePrivileges")) {
       createPrivileges(results, false);
@@ -362,7 +376,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query triggerInformationSql = informationSchemaViews.getQuery(TRIGGERS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(triggerInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(triggerInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TRIGGER_CATALOG"));
@@ -437,7 +451,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query viewInformationSql = informationSchemaViews.getQuery(VIEWS);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewInformationSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(viewInformationSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -491,7 +505,7 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query viewTableUsageSql = informationSchemaViews.getQuery(VIEW_TABLE_USAGE);
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewTableUsageSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(viewTableUsageSql, statement, getLimitOptions())) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("VIEW_CATALOG"));
@@ -166,7 +166,7 @@ final class TableRetriever extends AbstractRetriever {
     }
     try (final Statement statement = createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablesSql, statement, getSchemaInclusionRule())) {
+            createMetadataResultSet(tablesSql, statement, getLimitOptions())) {
       int numTables = 0;
       while (results.next()) {
         numTables = numTables + 1;
@@ -193,7 +193,7 @@ final class TableRetriever extends AbstractRetriever {
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results =
-          new MetadataResultSet(
+          createMetadataResultSet(
               getMetaData()
                   .getTables(
                       catalogName, schemaName, tableNamePattern, filteredTableTypes.toArray()),
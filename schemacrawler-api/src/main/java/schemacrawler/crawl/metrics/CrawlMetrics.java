@@ -0,0 +1,316 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Collects progress and throughput metrics for a crawl, for each retrieval step. Metrics are
+ * recorded by the retrievers while a retrieval step is running on the current thread, and are
+ * reported to listeners as each retrieval step completes. Running totals can be read from any
+ * thread while the crawl is in progress.
+ */
+public final class CrawlMetrics {
+
+  private static final Logger LOGGER = Logger.getLogger(CrawlMetrics.class.getName());
+
+  private static final ThreadLocal<CrawlMetrics> currentCrawlMetrics = new ThreadLocal<>();
+
+  /**
+   * Records the creation of a schema object, for the retrieval running on the current thread. Does
+   * nothing if no retrieval is running.
+   */
+  public static void recordObjectCreated() {
+    final CrawlMetrics crawlMetrics = currentCrawlMetrics.get();
+    if (crawlMetrics != null) {
+      crawlMetrics.objectsCreated.increment();
+    }
+  }
+
+  /**
+   * Records a definition that was retrieved, for the retrieval running on the current thread. Does
+   * nothing if no retrieval is running. The size of the definition is counted in bytes, as encoded
+   * in UTF-8.
+   *
+   * @param definition Definition text
+   */
+  public static void recordDefinition(final String definition) {
+    final CrawlMetrics crawlMetrics = currentCrawlMetrics.get();
+    if (crawlMetrics != null && definition != null) {
+      crawlMetrics.definitionBytes.add(utf8Length(definition));
+    }
+  }
+
+  /**
+   * Records a data dictionary query or a database metadata call, for the retrieval running on the
+   * current thread. Does nothing if no retrieval is running.
+   */
+  public static void recordQuery() {
+    final CrawlMetrics crawlMetrics = currentCrawlMetrics.get();
+    if (crawlMetrics != null) {
+      crawlMetrics.queriesExecuted.increment();
+    }
+  }
+
+  /**
+   * Records result-set rows that were read, for the retrieval running on the current thread. Does
+   * nothing if no retrieval is running.
+   *
+   * @param rowCount Number of rows read
+   */
+  public static void recordRowsRead(final long rowCount) {
+    final CrawlMetrics crawlMetrics = currentCrawlMetrics.get();
+    if (crawlMetrics != null) {
+      crawlMetrics.rowsRead.add(rowCount);
+    }
+  }
+
+  /**
+   * Records the time taken to retrieve metadata for a single table, for the retrieval running on
+   * the current thread. Does nothing if no retrieval is running.
+   *
+   * @param elapsedNanos Elapsed time in nanoseconds
+   */
+  public static void recordTableLatency(final long elapsedNanos) {
+    final CrawlMetrics crawlMetrics = currentCrawlMetrics.get();
+    if (crawlMetrics != null) {
+      crawlMetrics.tableLatencies.record(elapsedNanos);
+    }
+  }
+
+  /** Counts UTF-8 encoded bytes, without encoding the text. */
+  private static long utf8Length(final String text) {
+    long length = 0;
+    final int textLength = text.length();
+    for (int i = 0; i < textLength; i++) {
+      final char ch = text.charAt(i);
+      if (ch < 0x80) {
+        length = length + 1;
+      } else if (ch < 0x800) {
+        length = length + 2;
+      } else if (Character.isHighSurrogate(ch)
+          && i + 1 < textLength
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        length = length + 4;
+        i++;
+      } else {
+        // Unpaired surrogates are encoded as a replacement character
+        length = length + 3;
+      }
+    }
+    return length;
+  }
+
+  private final String id;
+  private final List<CrawlMetricsListener> listeners;
+  private final List<RetrievalMetrics> completedRetrievals;
+  // Counters for the retrieval in progress
+  private final LongAdder queriesExecuted;
+  private final LongAdder rowsRead;
+  private final LongAdder objectsCreated;
+  private final LongAdder definitionBytes;
+  private volatile LatencyHistogram tableLatencies;
+  private volatile String currentRetrievalName;
+  private long currentRetrievalStart;
+
+  public CrawlMetrics(final String id) {
+    this.id = requireNonNull(id, "No id provided");
+    listeners = new CopyOnWriteArrayList<>();
+    completedRetrievals = new CopyOnWriteArrayList<>();
+    queriesExecuted = new LongAdder();
+    rowsRead = new LongAdder();
+    objectsCreated = new LongAdder();
+    definitionBytes = new LongAdder();
+    tableLatencies = new LatencyHistogram();
+  }
+
+  public void addListener(final CrawlMetricsListener listener) {
+    if (listener != null) {
+      listeners.add(listener);
+    }
+  }
+
+  /** Notifies listeners that all retrievals for the crawl have completed. */
+  public void crawlCompleted() {
+    for (final CrawlMetricsListener listener : listeners) {
+      try {
+        listener.crawlCompleted(this);
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, e, new StringFormat("Crawl metrics listener failed <%s>", id));
+      }
+    }
+  }
+
+  /**
+   * Completes the retrieval running on the current thread, and notifies listeners.
+   *
+   * @return Metrics for the completed retrieval
+   */
+  public RetrievalMetrics endRetrieval() {
+    currentCrawlMetrics.remove();
+
+    final String retrievalName = currentRetrievalName;
+    if (retrievalName == null) {
+      throw new IllegalStateException(
+          String.format("Cannot end retrieval for <%s>, since none is running", id));
+    }
+    final RetrievalMetrics retrievalMetrics =
+        new RetrievalMetrics(
+            retrievalName,
+            Duration.ofNanos(System.nanoTime() - currentRetrievalStart),
+            queriesExecuted.sumThenReset(),
+            rowsRead.sumThenReset(),
+            objectsCreated.sumThenReset(),
+            definitionBytes.sumThenReset(),
+            tableLatencies);
+    completedRetrievals.add(retrievalMetrics);
+    tableLatencies = new LatencyHistogram();
+    currentRetrievalName = null;
+
+    for (final CrawlMetricsListener listener : listeners) {
+      try {
+        listener.retrievalCompleted(retrievalMetrics);
+      } catch (final Exception e) {
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Crawl metrics listener failed for <%s>", retrievalName));
+      }
+    }
+
+    return retrievalMetrics;
+  }
+
+  /**
+   * Gets the name of the retrieval that is in progress.
+   *
+   * @return Retrieval name, or null if no retrieval is in progress
+   */
+  public String getCurrentRetrievalName() {
+    return currentRetrievalName;
+  }
+
+  public long getDefinitionBytes() {
+    long total = definitionBytes.sum();
+    for (final RetrievalMetrics retrievalMetrics : completedRetrievals) {
+      total = total + retrievalMetrics.getDefinitionBytes();
+    }
+    return total;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public long getObjectsCreated() {
+    long total = objectsCreated.sum();
+    for (final RetrievalMetrics retrievalMetrics : completedRetrievals) {
+      total = total + retrievalMetrics.getObjectsCreated();
+    }
+    return total;
+  }
+
+  public long getQueriesExecuted() {
+    long total = queriesExecuted.sum();
+    for (final RetrievalMetrics retrievalMetrics : completedRetrievals) {
+      total = total + retrievalMetrics.getQueriesExecuted();
+    }
+    return total;
+  }
+
+  /**
+   * Metrics for all completed retrievals, in the order that they completed.
+   *
+   * @return Completed retrieval metrics
+   */
+  public List<RetrievalMetrics> getRetrievalMetrics() {
+    return new ArrayList<>(completedRetrievals);
+  }
+
+  public long getRowsRead() {
+    long total = rowsRead.sum();
+    for (final RetrievalMetrics retrievalMetrics : completedRetrievals) {
+      total = total + retrievalMetrics.getRowsRead();
+    }
+    return total;
+  }
+
+  public void removeListener(final CrawlMetricsListener listener) {
+    if (listener != null) {
+      listeners.remove(listener);
+    }
+  }
+
+  /**
+   * Starts a retrieval on the current thread, and notifies listeners. Metrics recorded on the
+   * current thread are attributed to this retrieval until it ends.
+   *
+   * @param retrievalName Name of the retrieval
+   */
+  public void startRetrieval(final String retrievalName) {
+    requireNonNull(retrievalName, "No retrieval name provided");
+
+    currentRetrievalName = retrievalName;
+    currentRetrievalStart = System.nanoTime();
+    currentCrawlMetrics.set(this);
+
+    for (final CrawlMetricsListener listener : listeners) {
+      try {
+        listener.retrievalStarted(retrievalName);
+      } catch (final Exception e) {
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Crawl metrics listener failed for <%s>", retrievalName));
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: retrievals=%d, queries=%d, rows=%d, objects=%d, definition bytes=%d",
+        id,
+        completedRetrievals.size(),
+        getQueriesExecuted(),
+        getRowsRead(),
+        getObjectsCreated(),
+        getDefinitionBytes());
+  }
+}
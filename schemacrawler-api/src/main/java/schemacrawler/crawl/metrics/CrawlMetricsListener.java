@@ -0,0 +1,63 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl.metrics;
+
+/**
+ * Receives crawl metrics as the crawl progresses. Listeners are called on the crawling thread, so
+ * they should return quickly. Exceptions thrown by listeners are logged, and do not stop the crawl.
+ */
+public interface CrawlMetricsListener {
+
+  /**
+   * Called when all retrievals for a crawl have completed. Lazily loaded table details may still be
+   * retrieved after this, and are reported as further completed retrievals.
+   *
+   * @param crawlMetrics Metrics for the crawl
+   */
+  default void crawlCompleted(final CrawlMetrics crawlMetrics) {
+    // Default implementation - NO-OP
+  }
+
+  /**
+   * Called after a retrieval step has completed.
+   *
+   * @param retrievalMetrics Metrics for the completed retrieval
+   */
+  void retrievalCompleted(RetrievalMetrics retrievalMetrics);
+
+  /**
+   * Called before a retrieval step starts.
+   *
+   * @param retrievalName Name of the retrieval, usually a {@link
+   *     schemacrawler.schemacrawler.SchemaInfoRetrieval}
+   */
+  default void retrievalStarted(final String retrievalName) {
+    // Default implementation - NO-OP
+  }
+}
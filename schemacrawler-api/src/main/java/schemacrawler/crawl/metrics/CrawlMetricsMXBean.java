@@ -0,0 +1,58 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl.metrics;
+
+/** Management interface for crawl metrics, exposed over JMX. */
+public interface CrawlMetricsMXBean {
+
+  /** Name of the retrieval that is in progress, or null if none is. */
+  String getCurrentRetrieval();
+
+  /** Number of bytes of definitions that were retrieved, as encoded in UTF-8. */
+  long getDefinitionBytes();
+
+  /** Name of the most recently completed retrieval, or null if none has completed. */
+  String getLastRetrieval();
+
+  /** Duration of the most recently completed retrieval, in milliseconds. */
+  long getLastRetrievalMillis();
+
+  long getObjectsCreated();
+
+  long getQueriesExecuted();
+
+  long getRetrievalsCompleted();
+
+  long getRowsRead();
+
+  /** Number of retrievals that were made one table at a time. */
+  long getTablesRetrieved();
+
+  boolean isCrawlCompleted();
+}
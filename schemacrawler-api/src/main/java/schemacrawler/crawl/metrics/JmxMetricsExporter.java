@@ -0,0 +1,180 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Exposes crawl metrics as an MXBean on the platform MBean server, under the object name <code>
+ * schemacrawler:type=CrawlMetrics,name=&lt;name&gt;</code>. Attributes are updated as each
+ * retrieval completes. Close the exporter to unregister the MXBean.
+ */
+public final class JmxMetricsExporter
+    implements CrawlMetricsListener, CrawlMetricsMXBean, AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(JmxMetricsExporter.class.getName());
+
+  private final ObjectName objectName;
+  private final MBeanServer mBeanServer;
+  private final AtomicLong queriesExecuted;
+  private final AtomicLong rowsRead;
+  private final AtomicLong objectsCreated;
+  private final AtomicLong definitionBytes;
+  private final AtomicLong tablesRetrieved;
+  private final AtomicLong retrievalsCompleted;
+  private volatile String currentRetrieval;
+  private volatile String lastRetrieval;
+  private volatile long lastRetrievalMillis;
+  private volatile boolean crawlCompleted;
+
+  public JmxMetricsExporter(final String name) {
+    requireNonNull(name, "No name provided");
+
+    queriesExecuted = new AtomicLong();
+    rowsRead = new AtomicLong();
+    objectsCreated = new AtomicLong();
+    definitionBytes = new AtomicLong();
+    tablesRetrieved = new AtomicLong();
+    retrievalsCompleted = new AtomicLong();
+
+    mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      objectName =
+          new ObjectName(
+              String.format("schemacrawler:type=CrawlMetrics,name=%s", ObjectName.quote(name)));
+      mBeanServer.registerMBean(this, objectName);
+    } catch (final JMException e) {
+      throw new ExecutionRuntimeException(
+          String.format("Could not register crawl metrics MXBean <%s>", name), e);
+    }
+    LOGGER.log(Level.CONFIG, new StringFormat("Registered crawl metrics MXBean <%s>", objectName));
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (mBeanServer.isRegistered(objectName)) {
+        mBeanServer.unregisterMBean(objectName);
+      }
+    } catch (final JMException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not unregister MXBean <%s>", objectName));
+    }
+  }
+
+  @Override
+  public void crawlCompleted(final CrawlMetrics crawlMetrics) {
+    crawlCompleted = true;
+  }
+
+  @Override
+  public String getCurrentRetrieval() {
+    return currentRetrieval;
+  }
+
+  @Override
+  public long getDefinitionBytes() {
+    return definitionBytes.get();
+  }
+
+  @Override
+  public String getLastRetrieval() {
+    return lastRetrieval;
+  }
+
+  @Override
+  public long getLastRetrievalMillis() {
+    return lastRetrievalMillis;
+  }
+
+  public ObjectName getObjectName() {
+    return objectName;
+  }
+
+  @Override
+  public long getObjectsCreated() {
+    return objectsCreated.get();
+  }
+
+  @Override
+  public long getQueriesExecuted() {
+    return queriesExecuted.get();
+  }
+
+  @Override
+  public long getRetrievalsCompleted() {
+    return retrievalsCompleted.get();
+  }
+
+  @Override
+  public long getRowsRead() {
+    return rowsRead.get();
+  }
+
+  @Override
+  public long getTablesRetrieved() {
+    return tablesRetrieved.get();
+  }
+
+  @Override
+  public boolean isCrawlCompleted() {
+    return crawlCompleted;
+  }
+
+  @Override
+  public void retrievalCompleted(final RetrievalMetrics retrievalMetrics) {
+    queriesExecuted.addAndGet(retrievalMetrics.getQueriesExecuted());
+    rowsRead.addAndGet(retrievalMetrics.getRowsRead());
+    objectsCreated.addAndGet(retrievalMetrics.getObjectsCreated());
+    definitionBytes.addAndGet(retrievalMetrics.getDefinitionBytes());
+    tablesRetrieved.addAndGet(retrievalMetrics.getTableLatencies().getCount());
+    retrievalsCompleted.incrementAndGet();
+
+    lastRetrieval = retrievalMetrics.getRetrievalName();
+    lastRetrievalMillis = retrievalMetrics.getDuration().toMillis();
+    currentRetrieval = null;
+  }
+
+  @Override
+  public void retrievalStarted(final String retrievalName) {
+    currentRetrieval = retrievalName;
+  }
+}
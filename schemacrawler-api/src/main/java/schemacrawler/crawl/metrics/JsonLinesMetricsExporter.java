@@ -0,0 +1,156 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Writes crawl metrics as JSON lines, with one JSON object per completed retrieval, followed by a
+ * summary object when the crawl completes. The writer is flushed after every line, so progress can
+ * be followed while the crawl is running, for example with <code>tail -f</code>.
+ */
+public final class JsonLinesMetricsExporter implements CrawlMetricsListener {
+
+  private static String quote(final String text) {
+    final StringBuilder buffer = new StringBuilder(text.length() + 2);
+    buffer.append('"');
+    for (final char ch : text.toCharArray()) {
+      switch (ch) {
+        case '"':
+          buffer.append("\\\"");
+          break;
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        case '\r':
+          buffer.append("\\r");
+          break;
+        case '\t':
+          buffer.append("\\t");
+          break;
+        default:
+          if (ch < 0x20) {
+            buffer.append(String.format("\\u%04x", (int) ch));
+          } else {
+            buffer.append(ch);
+          }
+      }
+    }
+    buffer.append('"');
+    return buffer.toString();
+  }
+
+  private final Writer writer;
+
+  public JsonLinesMetricsExporter(final Writer writer) {
+    this.writer = requireNonNull(writer, "No writer provided");
+  }
+
+  @Override
+  public void crawlCompleted(final CrawlMetrics crawlMetrics) {
+    final StringBuilder buffer = new StringBuilder(256);
+    buffer
+        .append("{\"event\":\"crawlCompleted\"")
+        .append(",\"id\":")
+        .append(quote(crawlMetrics.getId()))
+        .append(",\"retrievals\":")
+        .append(crawlMetrics.getRetrievalMetrics().size())
+        .append(",\"queriesExecuted\":")
+        .append(crawlMetrics.getQueriesExecuted())
+        .append(",\"rowsRead\":")
+        .append(crawlMetrics.getRowsRead())
+        .append(",\"objectsCreated\":")
+        .append(crawlMetrics.getObjectsCreated())
+        .append(",\"definitionBytes\":")
+        .append(crawlMetrics.getDefinitionBytes())
+        .append('}');
+    writeLine(buffer);
+  }
+
+  @Override
+  public void retrievalCompleted(final RetrievalMetrics retrievalMetrics) {
+    final LatencyHistogram tableLatencies = retrievalMetrics.getTableLatencies();
+
+    final StringBuilder buffer = new StringBuilder(512);
+    buffer
+        .append("{\"event\":\"retrievalCompleted\"")
+        .append(",\"retrieval\":")
+        .append(quote(retrievalMetrics.getRetrievalName()))
+        .append(",\"durationMillis\":")
+        .append(retrievalMetrics.getDuration().toMillis())
+        .append(",\"queriesExecuted\":")
+        .append(retrievalMetrics.getQueriesExecuted())
+        .append(",\"rowsRead\":")
+        .append(retrievalMetrics.getRowsRead())
+        .append(",\"objectsCreated\":")
+        .append(retrievalMetrics.getObjectsCreated())
+        .append(",\"definitionBytes\":")
+        .append(retrievalMetrics.getDefinitionBytes())
+        .append(",\"tableLatencies\":{\"count\":")
+        .append(tableLatencies.getCount())
+        .append(",\"meanMillis\":")
+        // JSON numbers always use a decimal point, whatever the default locale
+        .append(String.format(Locale.ROOT, "%.3f", tableLatencies.getMeanMillis()))
+        .append(",\"maxMillis\":")
+        .append(tableLatencies.getMaxMillis())
+        .append(",\"buckets\":{");
+
+    final long[] upperBounds = tableLatencies.getBucketUpperBoundsMillis();
+    final long[] bucketCounts = tableLatencies.getBucketCounts();
+    for (int i = 0; i < bucketCounts.length; i++) {
+      if (i > 0) {
+        buffer.append(',');
+      }
+      final String bucketName = i < upperBounds.length ? "lt" + upperBounds[i] : "overflow";
+      buffer.append(quote(bucketName)).append(':').append(bucketCounts[i]);
+    }
+    buffer.append("}}}");
+
+    writeLine(buffer);
+  }
+
+  private void writeLine(final CharSequence line) {
+    try {
+      synchronized (writer) {
+        writer.append(line).append(System.lineSeparator());
+        writer.flush();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not write crawl metrics", e);
+    }
+  }
+}
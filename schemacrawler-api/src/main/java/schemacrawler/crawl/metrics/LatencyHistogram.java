@@ -0,0 +1,120 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies, with fixed bucket upper bounds in milliseconds. The last bucket counts
+ * all latencies that are larger than the largest upper bound.
+ */
+public final class LatencyHistogram {
+
+  private static final long[] BUCKET_UPPER_BOUNDS_MILLIS = {
+    1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000
+  };
+
+  private final AtomicLongArray counts;
+  private final AtomicLong count;
+  private final AtomicLong totalNanos;
+  private final AtomicLong maxNanos;
+
+  public LatencyHistogram() {
+    counts = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.length + 1);
+    count = new AtomicLong();
+    totalNanos = new AtomicLong();
+    maxNanos = new AtomicLong();
+  }
+
+  /**
+   * Upper bounds of the histogram buckets in milliseconds. There is one more bucket count than
+   * there are upper bounds, for latencies that exceed the largest bound.
+   *
+   * @return Bucket upper bounds
+   */
+  public long[] getBucketUpperBoundsMillis() {
+    return Arrays.copyOf(BUCKET_UPPER_BOUNDS_MILLIS, BUCKET_UPPER_BOUNDS_MILLIS.length);
+  }
+
+  public long[] getBucketCounts() {
+    final long[] bucketCounts = new long[counts.length()];
+    for (int i = 0; i < bucketCounts.length; i++) {
+      bucketCounts[i] = counts.get(i);
+    }
+    return bucketCounts;
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getMaxMillis() {
+    return NANOSECONDS.toMillis(maxNanos.get());
+  }
+
+  public double getMeanMillis() {
+    final long currentCount = count.get();
+    if (currentCount == 0) {
+      return 0;
+    }
+    return totalNanos.get() / (double) currentCount / 1_000_000D;
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param elapsedNanos Elapsed time in nanoseconds
+   */
+  public void record(final long elapsedNanos) {
+    if (elapsedNanos < 0) {
+      return;
+    }
+
+    final long elapsedMillis = NANOSECONDS.toMillis(elapsedNanos);
+    int bucket = 0;
+    while (bucket < BUCKET_UPPER_BOUNDS_MILLIS.length
+        && elapsedMillis >= BUCKET_UPPER_BOUNDS_MILLIS[bucket]) {
+      bucket++;
+    }
+    counts.incrementAndGet(bucket);
+    count.incrementAndGet();
+    totalNanos.addAndGet(elapsedNanos);
+    maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "count=%d, mean=%.3f ms, max=%d ms", getCount(), getMeanMillis(), getMaxMillis());
+  }
+}
@@ -0,0 +1,114 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/** Metrics for a single completed retrieval step of a crawl. */
+public final class RetrievalMetrics {
+
+  private final String retrievalName;
+  private final Duration duration;
+  private final long queriesExecuted;
+  private final long rowsRead;
+  private final long objectsCreated;
+  private final long definitionBytes;
+  private final LatencyHistogram tableLatencies;
+
+  RetrievalMetrics(
+      final String retrievalName,
+      final Duration duration,
+      final long queriesExecuted,
+      final long rowsRead,
+      final long objectsCreated,
+      final long definitionBytes,
+      final LatencyHistogram tableLatencies) {
+    this.retrievalName = requireNonNull(retrievalName, "No retrieval name provided");
+    this.duration = requireNonNull(duration, "No duration provided");
+    this.queriesExecuted = queriesExecuted;
+    this.rowsRead = rowsRead;
+    this.objectsCreated = objectsCreated;
+    this.definitionBytes = definitionBytes;
+    this.tableLatencies = requireNonNull(tableLatencies, "No table latencies provided");
+  }
+
+  /**
+   * Number of bytes of definitions, such as view, trigger and routine source, that were retrieved,
+   * as encoded in UTF-8.
+   */
+  public long getDefinitionBytes() {
+    return definitionBytes;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /** Number of schema objects, such as tables, columns and indexes, that were created. */
+  public long getObjectsCreated() {
+    return objectsCreated;
+  }
+
+  /** Number of data dictionary queries and database metadata calls that were made. */
+  public long getQueriesExecuted() {
+    return queriesExecuted;
+  }
+
+  public String getRetrievalName() {
+    return retrievalName;
+  }
+
+  /** Number of result-set rows that were read. */
+  public long getRowsRead() {
+    return rowsRead;
+  }
+
+  /**
+   * Latencies of retrievals that are made one table at a time, such as database metadata calls for
+   * columns, primary keys, foreign keys and indexes.
+   */
+  public LatencyHistogram getTableLatencies() {
+    return tableLatencies;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: duration=%d ms, queries=%d, rows=%d, objects=%d, definition bytes=%d, tables=[%s]",
+        retrievalName,
+        duration.toMillis(),
+        queriesExecuted,
+        rowsRead,
+        objectsCreated,
+        definitionBytes,
+        tableLatencies);
+  }
+}
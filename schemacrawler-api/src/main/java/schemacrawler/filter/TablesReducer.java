@@ -29,11 +29,18 @@ package schemacrawler.filter;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.PartialDatabaseObject;
 import schemacrawler.schema.Reducer;
 import schemacrawler.schema.ReducibleCollection;
@@ -69,14 +76,25 @@ final class TablesReducer implements Reducer<Table> {
       }
     }
 
-    // Add in referenced tables
     final FilterOptions filterOptions = options.getFilterOptions();
     final int childTableFilterDepth = filterOptions.getChildTableFilterDepth();
-    final Collection<Table> childTables =
-        includeRelatedTables(TableRelationshipType.child, childTableFilterDepth, reducedTables);
     final int parentTableFilterDepth = filterOptions.getParentTableFilterDepth();
+    if (childTableFilterDepth <= 0 && parentTableFilterDepth <= 0) {
+      allTables.filter(reducedTables::contains);
+      return;
+    }
+
+    // Add in referenced tables
+    final TableRelationships tableRelationships = new TableRelationships();
+    final Collection<Table> childTables =
+        includeRelatedTables(
+            TableRelationshipType.child, childTableFilterDepth, reducedTables, tableRelationships);
     final Collection<Table> parentTables =
-        includeRelatedTables(TableRelationshipType.parent, parentTableFilterDepth, reducedTables);
+        includeRelatedTables(
+            TableRelationshipType.parent,
+            parentTableFilterDepth,
+            reducedTables,
+            tableRelationships);
 
     final Set<Table> keepTables = new HashSet<>();
     keepTables.addAll(reducedTables);
@@ -86,27 +104,85 @@ final class TablesReducer implements Reducer<Table> {
     allTables.filter(keepTables::contains);
   }
 
+  /**
+   * Breadth-first traversal from the grepped tables, expanding only the tables newly reached at
+   * each depth, and stopping early when no new tables are found.
+   */
   private Collection<Table> includeRelatedTables(
       final TableRelationshipType tableRelationshipType,
       final int depth,
-      final Set<Table> greppedTables) {
-    final Set<Table> includedTables = new HashSet<>();
-    includedTables.addAll(greppedTables);
-
-    for (int i = 0; i < depth; i++) {
-      for (final Table table : new HashSet<>(includedTables)) {
-        for (final Table relatedTable : table.getRelatedTables(tableRelationshipType)) {
-          if (!isTablePartial(relatedTable)) {
-            includedTables.add(relatedTable);
+      final Set<Table> greppedTables,
+      final TableRelationships tableRelationships) {
+    final Set<Table> includedTables = new HashSet<>(greppedTables);
+
+    Collection<Table> frontier = greppedTables;
+    for (int i = 0; i < depth && !frontier.isEmpty(); i++) {
+      final List<Table> nextFrontier = new ArrayList<>();
+      for (final Table table : frontier) {
+        for (final Table relatedTable :
+            tableRelationships.getRelatedTables(table, tableRelationshipType)) {
+          if (includedTables.add(relatedTable)) {
+            nextFrontier.add(relatedTable);
           }
         }
       }
+      frontier = nextFrontier;
     }
 
     return includedTables;
   }
 
-  private boolean isTablePartial(final Table table) {
+  /**
+   * Index of parent and child tables, built from foreign keys. The foreign keys of each table are
+   * read at most once, the first time the table is visited. Partial tables are not indexed.
+   */
+  private static final class TableRelationships {
+
+    private final Map<Table, Set<Table>> childTables = new HashMap<>();
+    private final Set<Table> indexedTables = new HashSet<>();
+    private final Map<Table, Set<Table>> parentTables = new HashMap<>();
+
+    Collection<Table> getRelatedTables(
+        final Table table, final TableRelationshipType tableRelationshipType) {
+      index(table);
+
+      final Set<Table> relatedTables;
+      switch (tableRelationshipType) {
+        case parent:
+          relatedTables = parentTables.get(table);
+          break;
+        case child:
+          relatedTables = childTables.get(table);
+          break;
+        default:
+          relatedTables = null;
+          break;
+      }
+      if (relatedTables == null) {
+        return Collections.emptySet();
+      }
+      return relatedTables;
+    }
+
+    private void index(final Table table) {
+      if (!indexedTables.add(table)) {
+        return;
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        for (final ColumnReference columnReference : foreignKey) {
+          final Table parentTable = columnReference.getPrimaryKeyColumn().getParent();
+          final Table childTable = columnReference.getForeignKeyColumn().getParent();
+          if (isTablePartial(parentTable) || isTablePartial(childTable)) {
+            continue;
+          }
+          parentTables.computeIfAbsent(childTable, key -> new HashSet<>()).add(parentTable);
+          childTables.computeIfAbsent(parentTable, key -> new HashSet<>()).add(childTable);
+        }
+      }
+    }
+  }
+
+  private static boolean isTablePartial(final Table table) {
     return table instanceof PartialDatabaseObject;
   }
 }
@@ -0,0 +1,279 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.inclusionrule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Matches text against a regular expression, with the same results as {@link
+ * java.util.regex.Matcher#matches()}. Common shapes of patterns for object names - exact names,
+ * alternations of names, and names with leading or trailing wildcards - are evaluated with string
+ * operations, and everything else falls back to the regular expression.
+ */
+abstract class PatternMatcher {
+
+  private static final class ContainsMatcher extends PatternMatcher {
+
+    private final String literal;
+
+    ContainsMatcher(final String literal) {
+      this.literal = literal;
+    }
+
+    @Override
+    boolean matches(final String text) {
+      return text.contains(literal) && hasNoLineTerminators(text);
+    }
+  }
+
+  private static final class LiteralMatcher extends PatternMatcher {
+
+    private final String literal;
+
+    LiteralMatcher(final String literal) {
+      this.literal = literal;
+    }
+
+    @Override
+    boolean matches(final String text) {
+      return literal.equals(text);
+    }
+  }
+
+  private static final class LiteralsMatcher extends PatternMatcher {
+
+    private final Set<String> literals;
+
+    LiteralsMatcher(final Set<String> literals) {
+      this.literals = literals;
+    }
+
+    @Override
+    boolean matches(final String text) {
+      return literals.contains(text);
+    }
+  }
+
+  private static final class MatchAllMatcher extends PatternMatcher {
+
+    @Override
+    boolean matches(final String text) {
+      return hasNoLineTerminators(text);
+    }
+  }
+
+  private static final class PrefixMatcher extends PatternMatcher {
+
+    private final String prefix;
+
+    PrefixMatcher(final String prefix) {
+      this.prefix = prefix;
+    }
+
+    @Override
+    boolean matches(final String text) {
+      return text.startsWith(prefix) && hasNoLineTerminators(text);
+    }
+  }
+
+  private static final class RegularExpressionMatcher extends PatternMatcher {
+
+    private final Pattern pattern;
+
+    RegularExpressionMatcher(final Pattern pattern) {
+      this.pattern = pattern;
+    }
+
+    @Override
+    boolean matches(final String text) {
+      return pattern.matcher(text).matches();
+    }
+  }
+
+  private static final class SuffixMatcher extends PatternMatcher {
+
+    private final String suffix;
+
+    SuffixMatcher(final String suffix) {
+      this.suffix = suffix;
+    }
+
+    @Override
+    boolean matches(final String text) {
+      return text.endsWith(suffix) && hasNoLineTerminators(text);
+    }
+  }
+
+  private static final String WILDCARD = ".*";
+  private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+  /**
+   * Compiles a matcher for the pattern, using string operations where the pattern has a simple
+   * shape.
+   *
+   * @param pattern Regular expression
+   * @return Matcher with the same results as the regular expression
+   */
+  static PatternMatcher compile(final Pattern pattern) {
+    requireNonNull(pattern, "No pattern provided");
+
+    // Flags change the meaning of literals and wildcards
+    if (pattern.flags() != 0) {
+      return new RegularExpressionMatcher(pattern);
+    }
+
+    final String regex = pattern.pattern();
+    if (WILDCARD.equals(regex)) {
+      return new MatchAllMatcher();
+    }
+
+    final String literal = toLiteral(regex);
+    if (literal != null) {
+      return new LiteralMatcher(literal);
+    }
+
+    final Set<String> literals = toLiterals(regex);
+    if (literals != null) {
+      return new LiteralsMatcher(literals);
+    }
+
+    if (regex.length() > 2 * WILDCARD.length()
+        && regex.startsWith(WILDCARD)
+        && regex.endsWith(WILDCARD)) {
+      final String contains =
+          toLiteral(regex.substring(WILDCARD.length(), regex.length() - WILDCARD.length()));
+      if (contains != null) {
+        return new ContainsMatcher(contains);
+      }
+    }
+
+    if (regex.endsWith(WILDCARD)) {
+      final String prefix = toLiteral(regex.substring(0, regex.length() - WILDCARD.length()));
+      if (prefix != null) {
+        return new PrefixMatcher(prefix);
+      }
+    }
+
+    if (regex.startsWith(WILDCARD)) {
+      final String suffix = toLiteral(regex.substring(WILDCARD.length()));
+      if (suffix != null) {
+        return new SuffixMatcher(suffix);
+      }
+    }
+
+    return new RegularExpressionMatcher(pattern);
+  }
+
+  /**
+   * Any character except a line terminator matches the wildcard, so text with line terminators
+   * never matches a pattern with a wildcard.
+   */
+  private static boolean hasNoLineTerminators(final String text) {
+    for (int i = 0; i < text.length(); i++) {
+      if (isLineTerminator(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLineTerminator(final char ch) {
+    return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+  }
+
+  /**
+   * Converts a regular expression to the literal string it matches, if it only consists of literal
+   * characters and escaped punctuation.
+   *
+   * @return Literal, or null if the regular expression is not a literal
+   */
+  private static String toLiteral(final String regex) {
+    final StringBuilder buffer = new StringBuilder(regex.length());
+    for (int i = 0; i < regex.length(); i++) {
+      final char ch = regex.charAt(i);
+      if (ch == '\\') {
+        if (i + 1 >= regex.length()) {
+          return null;
+        }
+        final char escaped = regex.charAt(++i);
+        if (Character.isLetterOrDigit(escaped) || Character.isWhitespace(escaped)) {
+          return null;
+        }
+        buffer.append(escaped);
+      } else if (META_CHARACTERS.indexOf(ch) >= 0
+          || Character.isSurrogate(ch)
+          || isLineTerminator(ch)) {
+        return null;
+      } else {
+        buffer.append(ch);
+      }
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Converts a regular expression that is an alternation of literals, optionally in a group, to the
+   * set of literal strings it matches.
+   *
+   * @return Literals, or null if the regular expression is not an alternation of literals
+   */
+  private static Set<String> toLiterals(final String regex) {
+    String alternation = regex;
+    if (alternation.startsWith("(") && alternation.endsWith(")")) {
+      alternation = alternation.substring(1, alternation.length() - 1);
+    }
+    if (alternation.indexOf('|') < 0) {
+      return null;
+    }
+
+    final Set<String> literals = new HashSet<>();
+    // Split on unescaped bars only; escaped bars are part of a literal
+    for (final String part : Arrays.asList(alternation.split("(?<!\\\\)\\|", -1))) {
+      final String literal = toLiteral(part);
+      if (literal == null) {
+        return null;
+      }
+      literals.add(literal);
+    }
+    return literals;
+  }
+
+  /**
+   * Matches text against the pattern.
+   *
+   * @param text Text to match, not null
+   * @return Whether the whole text matches the pattern
+   */
+  abstract boolean matches(String text);
+}
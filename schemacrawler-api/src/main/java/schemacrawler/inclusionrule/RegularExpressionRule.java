@@ -30,7 +30,9 @@ package schemacrawler.inclusionrule;
 
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -46,12 +48,44 @@ import us.fatehi.utility.string.StringFormat;
  */
 public final class RegularExpressionRule implements InclusionRuleWithRegularExpression {
 
+  /**
+   * Matchers compiled from the patterns, with results remembered for each text, since the same
+   * full names are tested repeatedly during a crawl.
+   */
+  private static final class CompiledRule {
+
+    private static final int MAX_CACHED_RESULTS = 50_000;
+
+    private final PatternMatcher includeMatcher;
+    private final PatternMatcher excludeMatcher;
+    private final Map<String, Boolean> results;
+
+    CompiledRule(final Pattern patternInclude, final Pattern patternExclude) {
+      includeMatcher = PatternMatcher.compile(patternInclude);
+      excludeMatcher = PatternMatcher.compile(patternExclude);
+      results = new ConcurrentHashMap<>();
+    }
+
+    boolean test(final String text) {
+      final Boolean cachedResult = results.get(text);
+      if (cachedResult != null) {
+        return cachedResult;
+      }
+      final boolean result = includeMatcher.matches(text) && !excludeMatcher.matches(text);
+      if (results.size() < MAX_CACHED_RESULTS) {
+        results.put(text, result);
+      }
+      return result;
+    }
+  }
+
   private static final long serialVersionUID = 3443758881974362293L;
 
   private static final Logger LOGGER = Logger.getLogger(RegularExpressionRule.class.getName());
 
   private final Pattern patternExclude;
   private final Pattern patternInclude;
+  private transient CompiledRule compiledRule;
 
   /**
    * Set include and exclude patterns.
@@ -117,6 +151,10 @@ public final class RegularExpressionRule implements InclusionRuleWithRegularExpr
   @Override
   public boolean test(final String text) {
 
+    if (!LOGGER.isLoggable(Level.FINE)) {
+      return !isBlank(text) && getCompiledRule().test(text);
+    }
+
     final Supplier<String> actionMessage;
     boolean include = false;
     if (!isBlank(text)) {
@@ -139,9 +177,7 @@ public final class RegularExpressionRule implements InclusionRuleWithRegularExpr
     }
 
     // Log caller
-    if (LOGGER.isLoggable(Level.FINE)) {
-      LOGGER.log(Level.FINE, actionMessage.get());
-    }
+    LOGGER.log(Level.FINE, actionMessage.get());
 
     return include;
   }
@@ -156,4 +192,12 @@ public final class RegularExpressionRule implements InclusionRuleWithRegularExpr
         patternInclude.pattern(),
         patternExclude.pattern());
   }
+
+  private CompiledRule getCompiledRule() {
+    // Compiled lazily, since it is not serialized
+    if (compiledRule == null) {
+      compiledRule = new CompiledRule(patternInclude, patternExclude);
+    }
+    return compiledRule;
+  }
 }
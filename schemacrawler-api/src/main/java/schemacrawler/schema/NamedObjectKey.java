@@ -29,19 +29,40 @@ package schemacrawler.schema;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Objects;
 
+/**
+ * Immutable lookup key for a named object, made up of the names of the object and its parents. The
+ * hash code is computed once, when the key is created. A key for a child object can be probed for
+ * with the key of the parent and the name of the child, without creating the key for the child.
+ */
 public final class NamedObjectKey implements Serializable {
 
-  private static final long serialVersionUID = -5008609072012459037L;
+  private static final long serialVersionUID = -5008609072012459038L;
+
+  private static final String[] EMPTY_KEY = new String[0];
 
   private final String[] key;
+  private final int hash;
 
   public NamedObjectKey(final String... key) {
     if (key == null || key.length == 0) {
-      this.key = new String[0];
+      this.key = EMPTY_KEY;
     } else {
       this.key = Arrays.copyOf(key, key.length);
     }
+    hash = computeHash();
+  }
+
+  /**
+   * Creates a key from an array that is owned by the key, so no copy is made.
+   *
+   * @param key Names, not shared with any other object
+   * @param hash Precomputed hash code of the names
+   */
+  private NamedObjectKey(final String[] key, final int hash) {
+    this.key = key;
+    this.hash = hash;
   }
 
   @Override
@@ -53,12 +74,49 @@ public final class NamedObjectKey implements Serializable {
       return false;
     }
     final NamedObjectKey other = (NamedObjectKey) obj;
-    return Arrays.equals(key, other.key);
+    return hash == other.hash && Arrays.equals(key, other.key);
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(key);
+    return hash;
+  }
+
+  /**
+   * Checks whether this is the key for a child object with the given name, without creating the key
+   * for the child. This allows lookups without allocating a key.
+   *
+   * @param parentKey Key of the parent object
+   * @param childName Name of the child object
+   * @return True if this key is equal to <code>parentKey.with(childName)</code>
+   */
+  public boolean isKeyFor(final NamedObjectKey parentKey, final String childName) {
+    if (parentKey == null) {
+      return false;
+    }
+    final int parentLength = parentKey.key.length;
+    if (key.length != parentLength + 1
+        || hash != parentKey.hashCodeWith(childName)
+        || !Objects.equals(key[parentLength], childName)) {
+      return false;
+    }
+    for (int i = 0; i < parentLength; i++) {
+      if (!Objects.equals(key[i], parentKey.key[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Hash code of the key for a child object with the given name, without creating the key for the
+   * child.
+   *
+   * @param childName Name of the child object
+   * @return Hash code of <code>with(childName)</code>
+   */
+  public int hashCodeWith(final String childName) {
+    return 31 * hash + Objects.hashCode(childName);
   }
 
   @Override
@@ -70,6 +128,10 @@ public final class NamedObjectKey implements Serializable {
     final int currentLength = key.length;
     final String[] newKey = Arrays.copyOf(key, currentLength + 1);
     newKey[currentLength] = name;
-    return new NamedObjectKey(newKey);
+    return new NamedObjectKey(newKey, hashCodeWith(name));
+  }
+
+  private int computeHash() {
+    return Arrays.hashCode(key);
   }
 }
@@ -34,9 +34,11 @@ import us.fatehi.utility.ObjectToString;
 public final class LoadOptions implements Options {
 
   private final SchemaInfoLevel schemaInfoLevel;
+  private final boolean lazyLoadTableDetails;
 
-  LoadOptions(final SchemaInfoLevel schemaInfoLevel) {
+  LoadOptions(final SchemaInfoLevel schemaInfoLevel, final boolean lazyLoadTableDetails) {
     this.schemaInfoLevel = requireNonNull(schemaInfoLevel, "No schema info level provided");
+    this.lazyLoadTableDetails = lazyLoadTableDetails;
   }
 
   /**
@@ -48,6 +50,18 @@ public final class LoadOptions implements Options {
     return schemaInfoLevel;
   }
 
+  /**
+   * Whether expensive table details, such as indexes, triggers, privileges, definitions and table
+   * constraints, are retrieved on first access rather than during the crawl. Lazily loaded details
+   * are retrieved using the connection that the catalog was crawled with, so that connection needs
+   * to remain open for as long as the catalog is in use.
+   *
+   * @return Whether table details are lazily loaded
+   */
+  public boolean isLazyLoadTableDetails() {
+    return lazyLoadTableDetails;
+  }
+
   /** {@inheritDoc} */
   @Override
   public String toString() {
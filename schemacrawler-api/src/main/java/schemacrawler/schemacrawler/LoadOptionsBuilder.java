@@ -39,6 +39,7 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
   }
 
   private SchemaInfoLevel schemaInfoLevel;
+  private boolean lazyLoadTableDetails;
 
   /** Default options. */
   private LoadOptionsBuilder() {
@@ -52,13 +53,28 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     }
 
     schemaInfoLevel = options.getSchemaInfoLevel();
+    lazyLoadTableDetails = options.isLazyLoadTableDetails();
 
     return this;
   }
 
   @Override
   public LoadOptions toOptions() {
-    return new LoadOptions(schemaInfoLevel);
+    return new LoadOptions(schemaInfoLevel, lazyLoadTableDetails);
+  }
+
+  /**
+   * Retrieve expensive table details, such as indexes, triggers, privileges, definitions and table
+   * constraints, on first access instead of during the crawl. Details are retrieved with a
+   * connection from the data source that the catalog was loaded from, if there is one. Otherwise,
+   * the connection needs to stay open until the details are accessed, or the catalog is serialized.
+   *
+   * @param lazyLoadTableDetails Whether to lazily load table details
+   * @return Builder
+   */
+  public LoadOptionsBuilder lazyLoadTableDetails(final boolean lazyLoadTableDetails) {
+    this.lazyLoadTableDetails = lazyLoadTableDetails;
+    return this;
   }
 
   public LoadOptionsBuilder withInfoLevel(final InfoLevel infoLevel) {
@@ -28,16 +28,28 @@ http://www.gnu.org/licenses/
 package schemacrawler.schemacrawler;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForColumnInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForRoutineInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSequenceInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSynonymInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+import static schemacrawler.utility.InclusionRuleSqlUtility.toSqlLikePattern;
+import static schemacrawler.utility.InclusionRuleSqlUtility.toSqlRegularExpression;
 import static us.fatehi.utility.TemplatingUtility.expandTemplate;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.database.DatabaseUtility.executeSql;
 import static us.fatehi.utility.database.DatabaseUtility.executeSqlForLong;
+import static us.fatehi.utility.database.DatabaseUtility.executeSqlForResultSets;
 import static us.fatehi.utility.database.DatabaseUtility.executeSqlForScalar;
+import static us.fatehi.utility.database.QueryResultsCache.NO_QUERY_RESULTS_CACHE;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +64,7 @@ import schemacrawler.schema.Table;
 import schemacrawler.utility.MetaDataUtility;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.UtilityMarker;
+import us.fatehi.utility.database.QueryResultsCache;
 import us.fatehi.utility.string.StringFormat;
 
 @UtilityMarker
@@ -63,10 +76,113 @@ public final class QueryUtility {
   public static ResultSet executeAgainstSchema(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
+    return executeAgainstSchema(query, statement, schemaInclusionRule, NO_QUERY_RESULTS_CACHE);
+  }
+
+  /**
+   * Executes a data dictionary query, or gets the results from the cache if the same query was
+   * executed before. Queries are cached by the SQL after the schema inclusion rule is substituted.
+   *
+   * @param query Data dictionary query
+   * @param statement Statement to execute the query with
+   * @param schemaInclusionRule Schema inclusion rule
+   * @param queryResultsCache Cache of query results
+   * @return Results of the query
+   * @throws SQLException On an exception executing the query
+   */
+  public static ResultSet executeAgainstSchema(
+      final Query query,
+      final Statement statement,
+      final InclusionRule schemaInclusionRule,
+      final QueryResultsCache queryResultsCache)
+      throws SQLException {
     requireNonNull(query, "No query provided");
+    requireNonNull(queryResultsCache, "No query results cache provided");
     final String sql = getQuery(query, schemaInclusionRule);
     LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
-    return executeSql(statement, sql);
+    final long startNanos = System.nanoTime();
+    final ResultSet results = queryResultsCache.executeQuery(statement, sql);
+    logExecutionTime(query.getName(), startNanos);
+    return results;
+  }
+
+  /**
+   * Executes a data dictionary query, with inclusion rules from the limit options pushed down into
+   * the query. In addition to ${schemas}, the inclusion rules for tables, columns, routines,
+   * sequences and synonyms are substituted into ${tables}, ${columns}, ${routines}, ${sequences}
+   * and ${synonyms} as anchored regular expressions that match the full name of the object, and
+   * into ${tables.like}, ${columns.like} and so on as SQL LIKE patterns. Rules that cannot be
+   * translated are substituted with patterns that match everything, and are applied only after the
+   * results are retrieved.
+   *
+   * @param query Data dictionary query
+   * @param statement Statement to execute the query with
+   * @param limitOptions Limit options with inclusion rules
+   * @return Results of the query
+   * @throws SQLException On an exception executing the query
+   */
+  public static ResultSet executeAgainstSchema(
+      final Query query, final Statement statement, final LimitOptions limitOptions)
+      throws SQLException {
+    return executeAgainstSchema(query, statement, limitOptions, NO_QUERY_RESULTS_CACHE);
+  }
+
+  /**
+   * Executes a data dictionary query with inclusion rules from the limit options pushed down into
+   * the query, or gets the results from the cache if the same query was executed before. Queries
+   * are cached by the SQL after the inclusion rules are substituted.
+   *
+   * @param query Data dictionary query
+   * @param statement Statement to execute the query with
+   * @param limitOptions Limit options with inclusion rules
+   * @param queryResultsCache Cache of query results
+   * @return Results of the query
+   * @throws SQLException On an exception executing the query
+   */
+  public static ResultSet executeAgainstSchema(
+      final Query query,
+      final Statement statement,
+      final LimitOptions limitOptions,
+      final QueryResultsCache queryResultsCache)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(limitOptions, "No limit options provided");
+    requireNonNull(queryResultsCache, "No query results cache provided");
+    final String sql = getQuery(query, limitOptions);
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    final long startNanos = System.nanoTime();
+    final ResultSet results = queryResultsCache.executeQuery(statement, sql);
+    logExecutionTime(query.getName(), startNanos);
+    return results;
+  }
+
+  /**
+   * Executes a number of data dictionary queries in a single round trip to the database, with
+   * inclusion rules from the limit options pushed down into each query, for drivers that can return
+   * multiple result sets from one execution. Results are read into memory.
+   *
+   * @param queries Data dictionary queries
+   * @param statement Statement to execute the queries with
+   * @param limitOptions Limit options with inclusion rules
+   * @return Results of the queries, in the same order as the queries
+   * @throws SQLException On an exception executing the queries
+   */
+  public static List<ResultSet> executeAgainstSchema(
+      final List<Query> queries, final Statement statement, final LimitOptions limitOptions)
+      throws SQLException {
+    requireNonNull(queries, "No queries provided");
+    requireNonNull(limitOptions, "No limit options provided");
+    final List<String> sqls = new ArrayList<>();
+    for (final Query query : queries) {
+      requireNonNull(query, "No query provided");
+      final String sql = getQuery(query, limitOptions);
+      LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+      sqls.add(sql);
+    }
+    final long startNanos = System.nanoTime();
+    final List<ResultSet> results = executeSqlForResultSets(statement, sqls);
+    logExecutionTime(String.format("%d pipelined queries", queries.size()), startNanos);
+    return results;
   }
 
   public static ResultSet executeAgainstTable(
@@ -81,7 +197,10 @@ public final class QueryUtility {
 
     final String sql = getQuery(query, table, isAlphabeticalSortForTableColumns, identifiers);
     LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
-    return executeSql(statement, sql);
+    final long startNanos = System.nanoTime();
+    final ResultSet results = executeSql(statement, sql);
+    logExecutionTime(query.getName(), startNanos);
+    return results;
   }
 
   public static long executeForLong(
@@ -128,7 +247,53 @@ public final class QueryUtility {
    */
   private static String getQuery(final Query query, final InclusionRule schemaInclusionRule) {
     final Map<String, String> properties = new HashMap<>();
+    putSchemaInclusionProperties(properties, schemaInclusionRule);
+
+    String sql = query.getQuery();
+    sql = expandTemplate(sql, properties);
+    sql = expandTemplate(sql);
+
+    return sql;
+  }
+
+  /**
+   * Gets the query with inclusion rule parameters substituted.
+   *
+   * @param limitOptions Limit options
+   * @return Ready-to-execute query
+   */
+  private static String getQuery(final Query query, final LimitOptions limitOptions) {
+    final Map<String, String> properties = new HashMap<>();
+    putSchemaInclusionProperties(properties, limitOptions.get(ruleForSchemaInclusion));
+    putInclusionProperties(properties, "tables", limitOptions.get(ruleForTableInclusion));
+    putInclusionProperties(properties, "columns", limitOptions.get(ruleForColumnInclusion));
+    putInclusionProperties(properties, "routines", limitOptions.get(ruleForRoutineInclusion));
+    putInclusionProperties(properties, "sequences", limitOptions.get(ruleForSequenceInclusion));
+    putInclusionProperties(properties, "synonyms", limitOptions.get(ruleForSynonymInclusion));
+
+    String sql = query.getQuery();
+    sql = expandTemplate(sql, properties);
+    sql = expandTemplate(sql);
+
+    return sql;
+  }
+
+  private static void logExecutionTime(final String queryName, final long startNanos) {
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Executed %s in %d ms",
+            queryName, NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+  }
 
+  private static void putInclusionProperties(
+      final Map<String, String> properties, final String name, final InclusionRule inclusionRule) {
+    properties.put(name, toSqlRegularExpression(inclusionRule).orElse(".*"));
+    properties.put(name + ".like", toSqlLikePattern(inclusionRule).orElse("%"));
+  }
+
+  private static void putSchemaInclusionProperties(
+      final Map<String, String> properties, final InclusionRule schemaInclusionRule) {
     properties.put("schemas", ".*");
     if (schemaInclusionRule != null
         && schemaInclusionRule instanceof InclusionRuleWithRegularExpression) {
@@ -140,12 +305,6 @@ public final class QueryUtility {
         properties.put("schemas", schemaInclusionPattern);
       }
     }
-
-    String sql = query.getQuery();
-    sql = expandTemplate(sql, properties);
-    sql = expandTemplate(sql);
-
-    return sql;
   }
 
   private static String getQuery(
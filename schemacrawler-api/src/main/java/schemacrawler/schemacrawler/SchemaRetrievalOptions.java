@@ -36,6 +36,7 @@ import java.util.Map;
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.utility.TypeMap;
 import us.fatehi.utility.ObjectToString;
+import us.fatehi.utility.database.QueryResultsCache;
 
 /**
  * Provides for database specific overrides for SchemaCrawler functionality. This can add or inject
@@ -54,6 +55,8 @@ public final class SchemaRetrievalOptions implements Options {
   private final boolean supportsSchemas;
   private final TypeMap typeMap;
   private final EnumDataTypeHelper enumDataTypeHelper;
+  private final transient QueryResultsCache queryResultsCache;
+  private final boolean pipelinedDataDictionaryQueries;
   EnumMap<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       metadataRetrievalStrategyMap;
 
@@ -68,6 +71,8 @@ public final class SchemaRetrievalOptions implements Options {
     identifiers = bldr.identifiers;
     typeMap = bldr.overridesTypeMap.orElse(new TypeMap());
     enumDataTypeHelper = bldr.enumDataTypeHelper;
+    queryResultsCache = bldr.queryResultsCache;
+    pipelinedDataDictionaryQueries = bldr.pipelinedDataDictionaryQueries;
     metadataRetrievalStrategyMap = new EnumMap<>(bldr.metadataRetrievalStrategyMap);
   }
 
@@ -101,6 +106,10 @@ public final class SchemaRetrievalOptions implements Options {
     return informationSchemaViews;
   }
 
+  public QueryResultsCache getQueryResultsCache() {
+    return queryResultsCache;
+  }
+
   public TypeMap getTypeMap() {
     return typeMap;
   }
@@ -113,6 +122,10 @@ public final class SchemaRetrievalOptions implements Options {
     return typeMap != null;
   }
 
+  public boolean isPipelinedDataDictionaryQueries() {
+    return pipelinedDataDictionaryQueries;
+  }
+
   public boolean isSupportsCatalogs() {
     return supportsCatalogs;
   }
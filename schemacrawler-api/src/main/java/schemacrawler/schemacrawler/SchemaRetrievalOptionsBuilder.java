@@ -31,6 +31,7 @@ import static schemacrawler.plugin.EnumDataTypeHelper.NO_OP_ENUM_DATA_TYPE_HELPE
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
+import static us.fatehi.utility.database.QueryResultsCache.NO_QUERY_RESULTS_CACHE;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -41,6 +42,7 @@ import java.util.Optional;
 
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.utility.TypeMap;
+import us.fatehi.utility.database.QueryResultsCache;
 
 public final class SchemaRetrievalOptionsBuilder
     implements OptionsBuilder<SchemaRetrievalOptionsBuilder, SchemaRetrievalOptions> {
@@ -67,6 +69,8 @@ public final class SchemaRetrievalOptionsBuilder
   boolean supportsCatalogs;
   boolean supportsSchemas;
   EnumDataTypeHelper enumDataTypeHelper;
+  QueryResultsCache queryResultsCache;
+  boolean pipelinedDataDictionaryQueries;
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> metadataRetrievalStrategyMap;
 
   private SchemaRetrievalOptionsBuilder() {
@@ -80,6 +84,8 @@ public final class SchemaRetrievalOptionsBuilder
     identifiers = Identifiers.STANDARD;
     overridesTypeMap = Optional.empty();
     enumDataTypeHelper = NO_OP_ENUM_DATA_TYPE_HELPER;
+    queryResultsCache = NO_QUERY_RESULTS_CACHE;
+    pipelinedDataDictionaryQueries = false;
 
     metadataRetrievalStrategyMap = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
     for (final SchemaInfoMetadataRetrievalStrategy key :
@@ -133,6 +139,8 @@ public final class SchemaRetrievalOptionsBuilder
     identifierQuoteString = options.getIdentifierQuoteString();
     identifiers = options.getIdentifiers();
     overridesTypeMap = Optional.empty();
+    queryResultsCache = options.getQueryResultsCache();
+    pipelinedDataDictionaryQueries = options.isPipelinedDataDictionaryQueries();
     metadataRetrievalStrategyMap = options.getMetadataRetrievalStrategyMap();
 
     return this;
@@ -209,6 +217,39 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sends independent data dictionary queries for tables, columns, primary keys, foreign keys and
+   * indexes to the database in a single round trip, for databases that can return multiple result
+   * sets from one execution. This reduces crawl time on connections with high latency. Queries are
+   * only pipelined if the JDBC driver reports that it supports multiple result sets, and they are
+   * run one by one if the pipelined execution fails.
+   *
+   * @return Builder
+   */
+  public SchemaRetrievalOptionsBuilder withPipelinedDataDictionaryQueries() {
+    pipelinedDataDictionaryQueries = true;
+    return this;
+  }
+
+  /**
+   * Caches the results of data dictionary queries, so that they are shared between retrievers, and
+   * between crawls that use the same options. The cache can be invalidated if the database metadata
+   * changes.
+   *
+   * @param queryResultsCache Query results cache, or null to not cache results
+   * @return Builder
+   */
+  public SchemaRetrievalOptionsBuilder withQueryResultsCache(
+      final QueryResultsCache queryResultsCache) {
+    if (queryResultsCache != null) {
+      this.queryResultsCache = queryResultsCache;
+    } else {
+      this.queryResultsCache = NO_QUERY_RESULTS_CACHE;
+    }
+
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about the identifier quote string.
    *
@@ -236,6 +277,11 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  public SchemaRetrievalOptionsBuilder withoutPipelinedDataDictionaryQueries() {
+    pipelinedDataDictionaryQueries = false;
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withoutSupportsCatalogs() {
     overridesSupportsCatalogs = Optional.empty();
     return this;
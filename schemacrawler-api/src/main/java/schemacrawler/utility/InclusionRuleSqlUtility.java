@@ -0,0 +1,198 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.utility;
+
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Translates inclusion rules into patterns that can be pushed down into data dictionary SQL, so
+ * that rows can be filtered out by the database server. Only the inclusion pattern is translated,
+ * and only if it uses regular expression syntax that means the same thing in SQL dialects (such as
+ * Oracle REGEXP_LIKE, or the PostgreSQL ~ operator) as it does in Java. The translated pattern may
+ * match more names than the inclusion rule, so the inclusion rule still needs to be applied to the
+ * results.
+ *
+ * <p>Inclusion rules are matched against full names, in which reserved words and mixed-case
+ * identifiers are quoted, while the data dictionary SQL matches unquoted names. So patterns that
+ * can match a quote character by position, such as a single dot or a negated character class, are
+ * not translated, since a rule such as <code>X\..{7}</code> can match a quoted name in Java but not
+ * the unquoted name in SQL. Wildcards of the form <code>.*</code> are still translated, since they
+ * match names with or without quotes.
+ */
+@UtilityMarker
+public final class InclusionRuleSqlUtility {
+
+  private static final int MAX_PATTERN_LENGTH = 500;
+
+  /**
+   * Translates the inclusion pattern of the rule into a pattern for the SQL LIKE operator. This is
+   * only possible for patterns that consist of literals and <code>.*</code> wildcards.
+   *
+   * @param inclusionRule Inclusion rule
+   * @return SQL LIKE pattern, or empty if the rule cannot be translated or includes all names
+   */
+  public static Optional<String> toSqlLikePattern(final InclusionRule inclusionRule) {
+    final Optional<String> optionalRegex = getPortableInclusionPattern(inclusionRule);
+    if (!optionalRegex.isPresent()) {
+      return Optional.empty();
+    }
+    final String regex = optionalRegex.get();
+
+    final StringBuilder buffer = new StringBuilder(regex.length());
+    for (int i = 0; i < regex.length(); i++) {
+      final char ch = regex.charAt(i);
+      if (ch == '\\') {
+        // Escaped punctuation, which is already checked to be portable
+        buffer.append(regex.charAt(++i));
+      } else if (ch == '.') {
+        // Single dots are not portable, so this is always a .* wildcard
+        buffer.append('%');
+        i++;
+      } else if ("[](){}|*+?^$".indexOf(ch) >= 0) {
+        return Optional.empty();
+      } else {
+        // SQL LIKE wildcards in literals match more names than needed,
+        // which is acceptable
+        buffer.append(ch);
+      }
+    }
+
+    final String likePattern = buffer.toString();
+    if (likePattern.replace("%", "").isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(likePattern);
+  }
+
+  /**
+   * Translates the inclusion pattern of the rule into an anchored regular expression that can be
+   * used in SQL.
+   *
+   * @param inclusionRule Inclusion rule
+   * @return Regular expression, or empty if the rule cannot be translated or includes all names
+   */
+  public static Optional<String> toSqlRegularExpression(final InclusionRule inclusionRule) {
+    return getPortableInclusionPattern(inclusionRule).map(regex -> "^(" + regex + ")$");
+  }
+
+  private static Optional<String> getPortableInclusionPattern(final InclusionRule inclusionRule) {
+    if (!(inclusionRule instanceof InclusionRuleWithRegularExpression)) {
+      return Optional.empty();
+    }
+
+    final Pattern inclusionPattern =
+        ((InclusionRuleWithRegularExpression) inclusionRule).getInclusionPattern();
+    if (inclusionPattern == null || inclusionPattern.flags() != 0) {
+      return Optional.empty();
+    }
+
+    final String regex = inclusionPattern.pattern();
+    if (isBlank(regex) || ".*".equals(regex) || regex.length() > MAX_PATTERN_LENGTH) {
+      return Optional.empty();
+    }
+    if (!isPortable(regex)) {
+      return Optional.empty();
+    }
+    return Optional.of(regex);
+  }
+
+  /**
+   * Checks for regular expression constructs that are specific to Java, or that would need quoting
+   * in SQL. Escapes are only allowed for punctuation, since escapes such as \d or \w are not
+   * supported in POSIX regular expressions. Backslashes inside character classes are treated as
+   * literals in POSIX regular expressions, so they are not allowed. Single dots and negated
+   * character classes are not allowed, since they can match quotes in quoted full names.
+   */
+  private static boolean isPortable(final String regex) {
+    boolean inCharacterClass = false;
+    for (int i = 0; i < regex.length(); i++) {
+      final char ch = regex.charAt(i);
+      final char next = i + 1 < regex.length() ? regex.charAt(i + 1) : 0;
+
+      if (Character.isISOControl(ch) || ch == '\'' || ch == '"' || ch == '`') {
+        return false;
+      }
+      switch (ch) {
+        case '\\':
+          if (inCharacterClass || next == 0 || Character.isLetterOrDigit(next)) {
+            return false;
+          }
+          i++;
+          break;
+        case '.':
+          if (!inCharacterClass && next != '*') {
+            return false;
+          }
+          break;
+        case '[':
+          if (inCharacterClass || next == '^') {
+            return false;
+          }
+          inCharacterClass = true;
+          break;
+        case ']':
+          inCharacterClass = false;
+          break;
+        case '&':
+          if (inCharacterClass && next == '&') {
+            return false;
+          }
+          break;
+        case '(':
+          if (!inCharacterClass && next == '?') {
+            return false;
+          }
+          break;
+        case '*':
+        case '+':
+        case '?':
+        case '}':
+          // Lazy and possessive quantifiers
+          if (!inCharacterClass && (next == '?' || next == '+')) {
+            return false;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return !inCharacterClass;
+  }
+
+  private InclusionRuleSqlUtility() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,117 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class AttributeMapTest {
+
+  @Test
+  public void empty() {
+    final AttributeMap attributeMap = new AttributeMap();
+
+    assertThat(attributeMap, is(anEmptyMap()));
+    assertThat(attributeMap.get("KEY"), is(nullValue()));
+    assertThat(attributeMap.getOrDefault("KEY", "default"), is("default"));
+    assertThat(attributeMap.containsKey(null), is(false));
+    assertThat(attributeMap.remove("KEY"), is(nullValue()));
+  }
+
+  @Test
+  public void putAndRemove() {
+    final AttributeMap attributeMap = new AttributeMap();
+
+    assertThat(attributeMap.put("C", 3), is(nullValue()));
+    assertThat(attributeMap.put("A", 1), is(nullValue()));
+    assertThat(attributeMap.put("B", null), is(nullValue()));
+    assertThat(attributeMap.put("A", 10), is(1));
+
+    assertThat(attributeMap.size(), is(3));
+    assertThat(attributeMap.keySet(), contains("A", "B", "C"));
+    assertThat(attributeMap, hasEntry("A", 10));
+    assertThat(attributeMap.containsKey("B"), is(true));
+    assertThat(attributeMap.getOrDefault("B", "default"), is(nullValue()));
+
+    assertThat(attributeMap.remove("B"), is(nullValue()));
+    assertThat(attributeMap.remove("C"), is(3));
+    assertThat(attributeMap.keySet(), contains("A"));
+    assertThat(attributeMap.remove("A"), is(10));
+    assertThat(attributeMap, is(anEmptyMap()));
+
+    assertThrows(NullPointerException.class, () -> attributeMap.put(null, 1));
+  }
+
+  @Test
+  public void putAll() {
+    final AttributeMap attributeMap = new AttributeMap();
+    attributeMap.put("B", "b");
+
+    final Map<String, Object> values = new HashMap<>();
+    values.put("D", "d");
+    values.put("A", "a");
+    values.put("B", "b2");
+    values.put(null, "ignored");
+    attributeMap.putAll(values);
+
+    assertThat(attributeMap.keySet(), contains("A", "B", "D"));
+    assertThat(attributeMap, is(new HashMap<>(attributeMap)));
+    assertThat(attributeMap.get("B"), is("b2"));
+  }
+
+  @Test
+  public void serialize() throws Exception {
+    final AttributeMap attributeMap = new AttributeMap();
+    attributeMap.put("REMARKS", "remarks");
+    attributeMap.put("TABLE_CAT", "PUBLIC");
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(attributeMap);
+    }
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final Object deserialized = in.readObject();
+      assertThat(deserialized, is(attributeMap));
+    }
+  }
+}
@@ -112,7 +112,10 @@ public class EqualsTest {
 
   @Test
   public void namedObjectKey() {
-    EqualsVerifier.forClass(NamedObjectKey.class).withNonnullFields("key").verify();
+    EqualsVerifier.forClass(NamedObjectKey.class)
+        .withNonnullFields("key")
+        .withCachedHashCode("hash", "computeHash", new NamedObjectKey("a", "b"))
+        .verify();
   }
 
   @Test
@@ -33,6 +33,7 @@ import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
@@ -45,6 +46,8 @@ import java.sql.Statement;
 import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.DisplayName;
@@ -148,6 +151,48 @@ public class MetadataResultSetTest {
     }
   }
 
+  @Test
+  @DisplayName("Intern repeated values from results")
+  public void internedValues(final Connection connection) throws Exception {
+
+    final StringPool stringPool = new StringPool();
+
+    String firstTypeName = null;
+    Entry<String, Object> firstAttribute = null;
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(
+                DatabaseUtility.executeSql(
+                    statement,
+                    "SELECT 'VARCHAR' AS TYPE_NAME, 'PUBLIC' AS TABLE_SCHEM FROM (VALUES(0), (1))"),
+                "internedValues",
+                stringPool)) {
+      int rows = 0;
+      while (results.next()) {
+        rows++;
+        final String typeName = results.getString("TYPE_NAME");
+        final Map<String, Object> attributes = results.getAttributes();
+        assertThat(typeName, is("VARCHAR"));
+        assertThat(attributes.size(), is(1));
+        final Entry<String, Object> attribute = attributes.entrySet().iterator().next();
+        assertThat(attribute.getKey(), is("TABLE_SCHEM"));
+        assertThat(attribute.getValue(), is("PUBLIC"));
+
+        if (firstTypeName == null) {
+          firstTypeName = typeName;
+          firstAttribute = attribute;
+        } else {
+          assertThat(typeName, is(sameInstance(firstTypeName)));
+          assertThat(attribute.getKey(), is(sameInstance(firstAttribute.getKey())));
+          assertThat(attribute.getValue(), is(sameInstance(firstAttribute.getValue())));
+        }
+      }
+      assertThat(rows, is(2));
+    }
+
+    assertThat(stringPool.size(), is(3));
+  }
+
   @Test
   @DisplayName("Retrieve large object values from results")
   public void largeObjectValues(final Connection connection) throws Exception {
@@ -28,10 +28,20 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableType;
@@ -61,4 +71,96 @@ public class NamedObjectTest {
     }
     assertThat(tables.size(), is(schemaNames.length * tableNames.length));
   }
+
+  @Test
+  public void namedObjectKeys() {
+    final NamedObjectKey schemaKey = new NamedObjectKey("CATALOG", "SCHEMA");
+    final NamedObjectKey tableKey = schemaKey.with("TABLE");
+
+    assertThat(tableKey, is(new NamedObjectKey("CATALOG", "SCHEMA", "TABLE")));
+    assertThat(
+        tableKey.hashCode(), is(Arrays.hashCode(new String[] {"CATALOG", "SCHEMA", "TABLE"})));
+    assertThat(tableKey.hashCode(), is(schemaKey.hashCodeWith("TABLE")));
+    assertThat(tableKey.toString(), is("{\"key\": \"CATALOG/SCHEMA/TABLE\"}"));
+    assertThat(tableKey.isKeyFor(schemaKey, "TABLE"), is(true));
+    assertThat(tableKey.isKeyFor(schemaKey, "OTHER"), is(false));
+    assertThat(tableKey.isKeyFor(tableKey, "TABLE"), is(false));
+    assertThat(tableKey, is(not(new NamedObjectKey("CATALOG", "TABLE"))));
+
+    final NamedObjectKey nullKey = new NamedObjectKey(null, null, "TABLE");
+    assertThat(nullKey, is(new NamedObjectKey(null, null).with("TABLE")));
+    assertThat(nullKey.hashCode(), is(Arrays.hashCode(new String[] {null, null, "TABLE"})));
+
+    final NamedObjectKey emptyKey = new NamedObjectKey();
+    assertThat(emptyKey.hashCode(), is(Arrays.hashCode(new String[0])));
+    assertThat(emptyKey.toString(), is("{\"key\": \"\"}"));
+    assertThat(emptyKey.with("NAME"), is(new NamedObjectKey("NAME")));
+    assertThat(new NamedObjectKey("NAME").isKeyFor(emptyKey, "NAME"), is(true));
+  }
+
+  @Test
+  public void emptyNamedObjectList() {
+    final Schema schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableTable table = new MutableTable(schema, "TABLE");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+
+    assertThat(tables.isEmpty(), is(true));
+    assertThat(tables.contains(table), is(false));
+    assertThat(tables.lookup(table.key()), is(Optional.empty()));
+    assertThat(tables.lookup(schema, "TABLE"), is(Optional.empty()));
+    assertThat(tables.remove(table), is(nullValue()));
+    assertThat(tables.values().isEmpty(), is(true));
+
+    tables.add(table);
+    assertThat(tables.size(), is(1));
+    assertThat(tables.lookup(schema, "TABLE").get(), is(sameInstance(table)));
+  }
+
+  @Test
+  public void namedObjectListLookupAndRemove() {
+    final List<Schema> schemas = new ArrayList<>();
+    final List<MutableTable> allTables = new ArrayList<>();
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    for (int i = 0; i < 10; i++) {
+      final Schema schema = new SchemaReference("CATALOG", "SCHEMA" + i);
+      schemas.add(schema);
+      for (int j = 0; j < 100; j++) {
+        final MutableTable table = new MutableTable(schema, "TABLE" + j);
+        allTables.add(table);
+        tables.add(table);
+      }
+    }
+    assertThat(tables.size(), is(1000));
+
+    for (final MutableTable table : allTables) {
+      assertThat(tables.contains(table), is(true));
+      assertThat(tables.lookup(table.key()).get(), is(sameInstance(table)));
+      assertThat(tables.lookup(table.getSchema(), table.getName()).get(), is(sameInstance(table)));
+      assertThat(
+          tables.lookup(table.getSchema().key(), table.getName()).get(), is(sameInstance(table)));
+    }
+    assertThat(tables.lookup(schemas.get(0), "TABLE100"), is(Optional.empty()));
+
+    // Remove every other table, and check that the rest can still be found
+    for (int i = 0; i < allTables.size(); i = i + 2) {
+      assertThat(tables.remove(allTables.get(i)), is(sameInstance(allTables.get(i))));
+    }
+    assertThat(tables.size(), is(500));
+    for (int i = 0; i < allTables.size(); i++) {
+      final MutableTable table = allTables.get(i);
+      assertThat(tables.contains(table), is(i % 2 == 1));
+      assertThat(tables.lookup(table.getSchema(), table.getName()).isPresent(), is(i % 2 == 1));
+    }
+
+    tables.filter(table -> table.getSchema().equals(schemas.get(1)));
+    assertThat(tables.size(), is(50));
+    assertThat(allTables.get(1).getAttribute("schemacrawler.filtered_out"), is(true));
+    assertThat(tables.values().get(0).getFullName(), is("CATALOG.SCHEMA1.TABLE1"));
+
+    final MutableTable replacement = new MutableTable(schemas.get(1), "TABLE1");
+    tables.add(replacement);
+    assertThat(tables.size(), is(50));
+    assertThat(tables.lookup(schemas.get(1), "TABLE1").get(), is(sameInstance(replacement)));
+    assertThat(tables.values().subList(0, 2), contains(replacement, allTables.get(111)));
+  }
 }
@@ -0,0 +1,302 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class PipelinedQueriesRetrieverTest {
+
+  /**
+   * Wraps a connection, so that statements return one result set for each query in SQL text with
+   * multiple queries, as some drivers do. HSQLDB returns only the last result set.
+   */
+  private static Connection multipleResultSetsConnection(
+      final Connection connection, final List<String> executedSql) {
+    final InvocationHandler connectionHandler =
+        (proxy, method, args) -> {
+          final Object returnValue = invoke(connection, method, args);
+          if (returnValue instanceof Statement) {
+            return multipleResultSetsStatement(connection, (Statement) returnValue, executedSql);
+          }
+          return returnValue;
+        };
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            connectionHandler);
+  }
+
+  private static Statement multipleResultSetsStatement(
+      final Connection connection, final Statement statement, final List<String> executedSql) {
+    final Deque<ResultSet> resultSets = new ArrayDeque<>();
+    final InvocationHandler statementHandler =
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "execute":
+              final String sql = (String) args[0];
+              executedSql.add(sql);
+              if (!sql.contains(";")) {
+                break;
+              }
+              resultSets.clear();
+              for (final String query : sql.split(";" + System.lineSeparator())) {
+                resultSets.add(connection.createStatement().executeQuery(query));
+              }
+              return true;
+            case "executeQuery":
+              executedSql.add((String) args[0]);
+              break;
+            case "getResultSet":
+              if (!resultSets.isEmpty()) {
+                return resultSets.peek();
+              }
+              break;
+            case "getMoreResults":
+              if (!resultSets.isEmpty()) {
+                resultSets.remove();
+                return !resultSets.isEmpty();
+              }
+              break;
+            case "getUpdateCount":
+              if (resultSets.isEmpty()) {
+                break;
+              }
+              return -1;
+            default:
+              break;
+          }
+          return invoke(statement, method, args);
+        };
+    return (Statement)
+        Proxy.newProxyInstance(
+            Statement.class.getClassLoader(), new Class<?>[] {Statement.class}, statementHandler);
+  }
+
+  private static Object invoke(final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static final InformationSchemaViews informationSchemaViews =
+      InformationSchemaViewsBuilder.builder()
+          .withSql(InformationSchemaKey.TABLES, "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_TABLES")
+          .withSql(
+              InformationSchemaKey.PRIMARY_KEYS,
+              "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_PRIMARYKEYS")
+          .toOptions();
+
+  @Test
+  @DisplayName("Crawl with pipelined queries, falling back to running queries one by one")
+  public void crawlWithPipelinedQueries(final Connection connection) throws Exception {
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(tablesRetrievalStrategy, data_dictionary_all)
+            .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+            .withInformationSchemaViews(informationSchemaViews);
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsBuilder.toOptions(), options);
+    final Catalog pipelinedCatalog =
+        getCatalog(
+            connection,
+            schemaRetrievalOptionsBuilder.withPipelinedDataDictionaryQueries().toOptions(),
+            options);
+
+    assertThat(pipelinedCatalog.getTables().size(), is(catalog.getTables().size()));
+    for (final Table table : catalog.getTables()) {
+      final Table pipelinedTable =
+          pipelinedCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(pipelinedTable.hasPrimaryKey(), is(table.hasPrimaryKey()));
+    }
+  }
+
+  @Test
+  @DisplayName("Crawl with pipelined queries, using a driver that returns multiple result sets")
+  public void crawlWithPipelinedResults(final Connection connection) throws Exception {
+    // Column aliases check that pipelined results are read by column label
+    final InformationSchemaViews aliasedInformationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                InformationSchemaKey.TABLES,
+                "SELECT TABLE_CATALOG AS TABLE_CAT, TABLE_SCHEMA AS TABLE_SCHEM, TABLE_NAME, "
+                    + "CASE TABLE_TYPE WHEN 'BASE TABLE' THEN 'TABLE' ELSE TABLE_TYPE END "
+                    + "AS TABLE_TYPE, CAST(NULL AS VARCHAR(10)) AS REMARKS "
+                    + "FROM INFORMATION_SCHEMA.TABLES")
+            .withSql(
+                InformationSchemaKey.PRIMARY_KEYS,
+                "SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, COLUMN_NAME AS COLUMN_NAME, "
+                    + "KEY_SEQ, PK_NAME AS PK_NAME "
+                    + "FROM INFORMATION_SCHEMA.SYSTEM_PRIMARYKEYS")
+            .toOptions();
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(tablesRetrievalStrategy, data_dictionary_all)
+            .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+            .withInformationSchemaViews(aliasedInformationSchemaViews);
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsBuilder.toOptions(), options);
+    assertThat(catalog.getTables().size(), is(greaterThan(0)));
+
+    final List<String> executedSql = new ArrayList<>();
+    final Catalog pipelinedCatalog =
+        getCatalog(
+            multipleResultSetsConnection(connection, executedSql),
+            schemaRetrievalOptionsBuilder.withPipelinedDataDictionaryQueries().toOptions(),
+            options);
+
+    // Queries were sent together, and not run again by the retrievers
+    final String tablesSql =
+        aliasedInformationSchemaViews.getQuery(InformationSchemaKey.TABLES).getQuery();
+    final String primaryKeysSql =
+        aliasedInformationSchemaViews.getQuery(InformationSchemaKey.PRIMARY_KEYS).getQuery();
+    assertThat(
+        executedSql,
+        hasItem(allOf(containsString("INFORMATION_SCHEMA.TABLES"), containsString(";"))));
+    assertThat(executedSql, not(hasItem(tablesSql)));
+    assertThat(executedSql, not(hasItem(primaryKeysSql)));
+
+    assertThat(pipelinedCatalog.getTables().size(), is(catalog.getTables().size()));
+    int primaryKeys = 0;
+    for (final Table table : catalog.getTables()) {
+      final Table pipelinedTable =
+          pipelinedCatalog.lookupTable(table.getSchema(), table.getName()).get();
+      assertThat(pipelinedTable.getTableType(), is(table.getTableType()));
+      assertThat(pipelinedTable.hasPrimaryKey(), is(table.hasPrimaryKey()));
+      if (table.hasPrimaryKey()) {
+        primaryKeys++;
+        assertThat(pipelinedTable.getPrimaryKey().getName(), is(table.getPrimaryKey().getName()));
+      }
+    }
+    assertThat(primaryKeys, is(greaterThan(0)));
+  }
+
+  @Test
+  @DisplayName("Pipelined results are taken only once")
+  public void pipelinedResults(final Connection connection) throws Exception {
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(
+            connection,
+            SchemaRetrievalOptionsBuilder.builder()
+                .withInformationSchemaViews(informationSchemaViews)
+                .withPipelinedDataDictionaryQueries()
+                .toOptions());
+    final Query query = informationSchemaViews.getQuery(InformationSchemaKey.TABLES);
+    final ResultSet results = mock(ResultSet.class);
+
+    assertThat(retrieverConnection.takePipelinedResults(query), is(nullValue()));
+    retrieverConnection.addPipelinedResults(query, results);
+    assertThat(retrieverConnection.takePipelinedResults(query), is(sameInstance(results)));
+    assertThat(retrieverConnection.takePipelinedResults(query), is(nullValue()));
+  }
+
+  @Test
+  @DisplayName("Queries are not pipelined unless requested, and for fast data dictionary retrieval")
+  public void queriesNotPipelined(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    final EnumSet<InformationSchemaKey> keys =
+        EnumSet.of(InformationSchemaKey.TABLES, InformationSchemaKey.PRIMARY_KEYS);
+    final Query query = informationSchemaViews.getQuery(InformationSchemaKey.TABLES);
+
+    final RetrieverConnection retrieverConnection1 =
+        new RetrieverConnection(
+            connection,
+            SchemaRetrievalOptionsBuilder.builder()
+                .with(tablesRetrievalStrategy, data_dictionary_all)
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+                .withInformationSchemaViews(informationSchemaViews)
+                .toOptions());
+    new PipelinedQueriesRetriever(retrieverConnection1, null, options)
+        .retrievePipelinedQueries(keys);
+    assertThat(retrieverConnection1.isPipelinedDataDictionaryQueries(), is(false));
+    assertThat(retrieverConnection1.takePipelinedResults(query), is(nullValue()));
+
+    final RetrieverConnection retrieverConnection2 =
+        new RetrieverConnection(
+            connection,
+            SchemaRetrievalOptionsBuilder.builder()
+                .with(tablesRetrievalStrategy, data_dictionary_all)
+                .withInformationSchemaViews(informationSchemaViews)
+                .withPipelinedDataDictionaryQueries()
+                .toOptions());
+    new PipelinedQueriesRetriever(retrieverConnection2, null, options)
+        .retrievePipelinedQueries(keys);
+    assertThat(retrieverConnection2.isPipelinedDataDictionaryQueries(), is(true));
+    assertThat(retrieverConnection2.takePipelinedResults(query), is(nullValue()));
+  }
+}
@@ -34,6 +34,7 @@ import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import java.sql.Connection;
@@ -43,6 +44,7 @@ import java.util.HashMap;
 import org.junit.jupiter.api.Test;
 import schemacrawler.plugin.EnumDataTypeInfo;
 import schemacrawler.plugin.EnumDataTypeInfo.EnumDataTypeTypes;
+import us.fatehi.utility.database.QueryResultsCache;
 
 public class SchemaRetrievalOptionsBuilderTest {
 
@@ -297,6 +299,39 @@ public class SchemaRetrievalOptionsBuilderTest {
     assertThat(metadataRetrievalStrategy, is(MetadataRetrievalStrategy.data_dictionary_all));
   }
 
+  @Test
+  public void pipelinedDataDictionaryQueries() {
+    final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder();
+
+    assertThat(builder.pipelinedDataDictionaryQueries, is(false));
+
+    builder.withPipelinedDataDictionaryQueries();
+    assertThat(builder.toOptions().isPipelinedDataDictionaryQueries(), is(true));
+    assertThat(
+        SchemaRetrievalOptionsBuilder.builder(builder.toOptions()).pipelinedDataDictionaryQueries,
+        is(true));
+
+    builder.withoutPipelinedDataDictionaryQueries();
+    assertThat(builder.toOptions().isPipelinedDataDictionaryQueries(), is(false));
+  }
+
+  @Test
+  public void queryResultsCache() {
+    final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder();
+
+    assertThat(builder.queryResultsCache, is(QueryResultsCache.NO_QUERY_RESULTS_CACHE));
+
+    final QueryResultsCache queryResultsCache = new QueryResultsCache(100);
+    builder.withQueryResultsCache(queryResultsCache);
+    assertThat(builder.toOptions().getQueryResultsCache(), is(sameInstance(queryResultsCache)));
+    assertThat(
+        SchemaRetrievalOptionsBuilder.builder(builder.toOptions()).queryResultsCache,
+        is(sameInstance(queryResultsCache)));
+
+    builder.withQueryResultsCache(null);
+    assertThat(builder.queryResultsCache, is(QueryResultsCache.NO_QUERY_RESULTS_CACHE));
+  }
+
   @Test
   public void override_catalog_schema() {
     final SchemaRetrievalOptionsBuilder builder = SchemaRetrievalOptionsBuilder.builder();
@@ -0,0 +1,214 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.startsWith;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import javax.management.MBeanServer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.crawl.metrics.CrawlMetrics;
+import schemacrawler.crawl.metrics.CrawlMetricsListener;
+import schemacrawler.crawl.metrics.JmxMetricsExporter;
+import schemacrawler.crawl.metrics.JsonLinesMetricsExporter;
+import schemacrawler.crawl.metrics.LatencyHistogram;
+import schemacrawler.crawl.metrics.RetrievalMetrics;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CrawlMetricsTest {
+
+  private static SchemaCrawler newSchemaCrawler(final Connection connection) {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+                    .toOptions());
+    return new SchemaCrawler(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions);
+  }
+
+  @Test
+  public void crawlMetrics(final Connection connection) throws Exception {
+    final SchemaCrawler schemaCrawler = newSchemaCrawler(connection);
+    final CrawlMetrics crawlMetrics = schemaCrawler.getCrawlMetrics();
+
+    final List<String> started = new ArrayList<>();
+    crawlMetrics.addListener(
+        new CrawlMetricsListener() {
+          @Override
+          public void retrievalCompleted(final RetrievalMetrics retrievalMetrics) {
+            assertThat(retrievalMetrics.getRetrievalName(), is(started.get(started.size() - 1)));
+          }
+
+          @Override
+          public void retrievalStarted(final String retrievalName) {
+            started.add(retrievalName);
+          }
+        });
+
+    schemaCrawler.crawl();
+
+    final List<RetrievalMetrics> retrievalMetrics = crawlMetrics.getRetrievalMetrics();
+    assertThat(retrievalMetrics, hasSize(started.size()));
+    assertThat(crawlMetrics.getCurrentRetrievalName(), is((String) null));
+    assertThat(crawlMetrics.getQueriesExecuted(), is(greaterThan(0L)));
+    assertThat(crawlMetrics.getRowsRead(), is(greaterThan(0L)));
+    assertThat(crawlMetrics.getObjectsCreated(), is(greaterThan(0L)));
+
+    final RetrievalMetrics tableColumnsMetrics =
+        retrievalMetrics.stream()
+            .filter(metrics -> metrics.getRetrievalName().equals("retrieveTableColumns"))
+            .findAny()
+            .get();
+    assertThat(tableColumnsMetrics.getRowsRead(), is(greaterThan(0L)));
+    assertThat(tableColumnsMetrics.getObjectsCreated(), is(greaterThan(0L)));
+  }
+
+  @Test
+  public void definitionBytes() {
+    final CrawlMetrics crawlMetrics = new CrawlMetrics("definitionBytes");
+
+    crawlMetrics.startRetrieval("retrieveDefinitions");
+    // 1 byte, 2 bytes, 3 bytes, and 4 bytes for a surrogate pair, in UTF-8
+    CrawlMetrics.recordDefinition("a\u00e9\u20ac\ud83d\ude00");
+    final RetrievalMetrics retrievalMetrics = crawlMetrics.endRetrieval();
+
+    assertThat(retrievalMetrics.getDefinitionBytes(), is(10L));
+    assertThat(crawlMetrics.getDefinitionBytes(), is(10L));
+  }
+
+  @Test
+  public void jmxExporter(final Connection connection) throws Exception {
+    final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    final SchemaCrawler schemaCrawler = newSchemaCrawler(connection);
+    try (final JmxMetricsExporter exporter = new JmxMetricsExporter("jmxExporterTest")) {
+      schemaCrawler.getCrawlMetrics().addListener(exporter);
+      schemaCrawler.crawl();
+
+      final CrawlMetrics crawlMetrics = schemaCrawler.getCrawlMetrics();
+      assertThat(mBeanServer.isRegistered(exporter.getObjectName()), is(true));
+      assertThat(
+          mBeanServer.getAttribute(exporter.getObjectName(), "RowsRead"),
+          is(crawlMetrics.getRowsRead()));
+      assertThat(
+          mBeanServer.getAttribute(exporter.getObjectName(), "RetrievalsCompleted"),
+          is((long) crawlMetrics.getRetrievalMetrics().size()));
+      assertThat(mBeanServer.getAttribute(exporter.getObjectName(), "CrawlCompleted"), is(true));
+
+      exporter.close();
+      assertThat(mBeanServer.isRegistered(exporter.getObjectName()), is(false));
+    }
+  }
+
+  @Test
+  public void jsonLinesExporter(final Connection connection) throws Exception {
+    final StringWriter writer = new StringWriter();
+
+    final SchemaCrawler schemaCrawler = newSchemaCrawler(connection);
+    schemaCrawler.getCrawlMetrics().addListener(new JsonLinesMetricsExporter(writer));
+    schemaCrawler.crawl();
+
+    final List<String> lines = Arrays.asList(writer.toString().split(System.lineSeparator()));
+    final int retrievals = schemaCrawler.getCrawlMetrics().getRetrievalMetrics().size();
+    assertThat(lines, hasSize(retrievals + 1));
+    for (final String line : lines.subList(0, retrievals)) {
+      assertThat(line, startsWith("{\"event\":\"retrievalCompleted\",\"retrieval\":"));
+    }
+    assertThat(
+        lines.get(retrievals), containsString(String.format("\"retrievals\":%d,", retrievals)));
+    assertThat(writer.toString(), containsString("\"retrieval\":\"retrieveTableColumns\""));
+  }
+
+  @Test
+  public void jsonLinesExporterWithCommaDecimalLocale(final Connection connection)
+      throws Exception {
+    final StringWriter writer = new StringWriter();
+
+    final Locale defaultLocale = Locale.getDefault();
+    try {
+      Locale.setDefault(Locale.GERMANY);
+      final SchemaCrawler schemaCrawler = newSchemaCrawler(connection);
+      schemaCrawler.getCrawlMetrics().addListener(new JsonLinesMetricsExporter(writer));
+      schemaCrawler.crawl();
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+
+    final String[] lines = writer.toString().split(System.lineSeparator());
+    for (final String line : lines) {
+      if (line.contains("\"meanMillis\"")) {
+        assertThat(line, matchesPattern(".*\"meanMillis\":[0-9]+\\.[0-9]{3},.*"));
+      }
+    }
+    assertThat(writer.toString(), containsString("\"meanMillis\""));
+  }
+
+  @Test
+  public void latencyHistogram() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(500_000L); // 0.5 ms
+    histogram.record(3_000_000L); // 3 ms
+    histogram.record(60_000_000_000L); // 1 minute
+
+    assertThat(histogram.getCount(), is(3L));
+    assertThat(histogram.getMaxMillis(), is(60_000L));
+
+    final long[] bucketCounts = histogram.getBucketCounts();
+    assertThat(bucketCounts.length, is(histogram.getBucketUpperBoundsMillis().length + 1));
+    assertThat(bucketCounts[0], is(1L));
+    assertThat(bucketCounts[2], is(1L));
+    assertThat(bucketCounts[bucketCounts.length - 1], is(1L));
+    assertThat(Arrays.stream(bucketCounts).sum(), is(equalTo(3L)));
+  }
+}
@@ -0,0 +1,149 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.utility.InclusionRuleSqlUtility.toSqlLikePattern;
+import static schemacrawler.utility.InclusionRuleSqlUtility.toSqlRegularExpression;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.inclusionrule.ExcludeAll;
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionRule;
+
+public class InclusionRuleSqlUtilityTest {
+
+  @Test
+  public void likePattern() {
+    assertThat(
+        toSqlLikePattern(new RegularExpressionInclusionRule("PUBLIC\\.BOOKS\\..*")),
+        is(Optional.of("PUBLIC.BOOKS.%")));
+    assertThat(
+        toSqlLikePattern(new RegularExpressionInclusionRule(".*\\.AUTHOR.*")),
+        is(Optional.of("%.AUTHOR%")));
+    assertThat(
+        toSqlLikePattern(new RegularExpressionInclusionRule(".*\\.AUTHOR.")), is(Optional.empty()));
+    assertThat(
+        toSqlLikePattern(new RegularExpressionInclusionRule("PUBLIC.BOOKS.AUTHORS")),
+        is(Optional.empty()));
+
+    assertThat(
+        toSqlLikePattern(new RegularExpressionInclusionRule(".*\\.(AUTHORS|BOOKS)")),
+        is(Optional.empty()));
+    assertThat(
+        toSqlLikePattern(new RegularExpressionInclusionRule("PUBLIC\\.BOOKS\\.A[A-Z]+")),
+        is(Optional.empty()));
+    assertThat(toSqlLikePattern(new IncludeAll()), is(Optional.empty()));
+  }
+
+  @Test
+  public void nonPortableRegularExpressions() {
+    for (final String regex :
+        new String[] {
+          "(?i)public\\.books\\..*",
+          "PUBLIC\\.BOOKS\\.\\w+",
+          "PUBLIC\\.BOOKS\\.(?!AUTHORS).*",
+          "PUBLIC\\.BOOKS\\.[^\\.]*",
+          "PUBLIC\\.BOOKS\\.[A-Z&&[^B]]*",
+          "PUBLIC\\.BOOKS\\..*?",
+          "PUBLIC\\.BOOKS\\..*+",
+          "PUBLIC\\.BOOKS\\.\\QAUTHORS\\E",
+          "PUBLIC\\.BOOKS\\.'AUTHORS'",
+          "\"PUBLIC\"\\.\"BOOKS\"\\..*",
+        }) {
+      assertThat(
+          regex,
+          toSqlRegularExpression(new RegularExpressionInclusionRule(regex)),
+          is(Optional.empty()));
+    }
+
+    assertThat(
+        toSqlRegularExpression(
+            new RegularExpressionInclusionRule(
+                Pattern.compile("PUBLIC\\.BOOKS\\..*", Pattern.CASE_INSENSITIVE))),
+        is(Optional.empty()));
+  }
+
+  @Test
+  public void quotedIdentifiers() {
+    // Full names quote identifiers with spaces or mixed case, but SQL matches unquoted names
+    final String quotedFullName = "PUBLIC.\"PUBLISHER SALES\".REGIONS";
+    final String unquotedFullName = "PUBLIC.PUBLISHER SALES.REGIONS";
+
+    for (final String regex :
+        new String[] {
+          "PUBLIC\\..{17}\\.REGIONS", "PUBLIC\\..*SALES.?\\.REGIONS", "PUBLIC\\.[^.]+\\.REGIONS",
+        }) {
+      final RegularExpressionInclusionRule inclusionRule =
+          new RegularExpressionInclusionRule(regex);
+      assertThat(regex, inclusionRule.test(quotedFullName), is(true));
+      assertThat(regex, toSqlRegularExpression(inclusionRule), is(Optional.empty()));
+      assertThat(regex, toSqlLikePattern(inclusionRule), is(Optional.empty()));
+    }
+
+    final RegularExpressionInclusionRule inclusionRule =
+        new RegularExpressionInclusionRule("PUBLIC\\..*SALES.*\\.REGIONS");
+    assertThat(inclusionRule.test(quotedFullName), is(true));
+    final Optional<String> sqlRegularExpression = toSqlRegularExpression(inclusionRule);
+    assertThat(sqlRegularExpression.isPresent(), is(true));
+    assertThat(unquotedFullName.matches(sqlRegularExpression.get()), is(true));
+    assertThat(toSqlLikePattern(inclusionRule), is(Optional.of("PUBLIC.%SALES%.REGIONS")));
+  }
+
+  @Test
+  public void regularExpression() {
+    assertThat(
+        toSqlRegularExpression(new RegularExpressionInclusionRule("PUBLIC\\.BOOKS\\..*")),
+        is(Optional.of("^(PUBLIC\\.BOOKS\\..*)$")));
+    assertThat(
+        toSqlRegularExpression(
+            new RegularExpressionInclusionRule(".*\\.(AUTHORS|BOOKS|[A-Z]{2,}_[0-9]+)")),
+        is(Optional.of("^(.*\\.(AUTHORS|BOOKS|[A-Z]{2,}_[0-9]+))$")));
+    assertThat(
+        toSqlRegularExpression(new RegularExpressionRule(".*\\.AUTHORS", ".*\\.BOOKS")),
+        is(Optional.of("^(.*\\.AUTHORS)$")));
+  }
+
+  @Test
+  public void rulesThatIncludeAll() {
+    assertThat(toSqlRegularExpression(null), is(Optional.empty()));
+    assertThat(toSqlRegularExpression(new IncludeAll()), is(Optional.empty()));
+    assertThat(toSqlRegularExpression(new ExcludeAll()), is(Optional.empty()));
+    assertThat(
+        toSqlRegularExpression(new RegularExpressionExclusionRule(".*\\.BOOKS")),
+        is(Optional.empty()));
+  }
+}
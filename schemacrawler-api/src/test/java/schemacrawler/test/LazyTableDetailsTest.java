@@ -0,0 +1,161 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.test.utility.TestUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class LazyTableDetailsTest {
+
+  private static List<String> describe(final Catalog catalog) {
+    final List<String> description = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      description.add(table.getFullName());
+      description.add("  indexes: " + names(table.getIndexes()));
+      description.add("  triggers: " + names(table.getTriggers()));
+      description.add("  privileges: " + names(table.getPrivileges()));
+      description.add("  constraints: " + names(table.getTableConstraints()));
+      description.add("  definition: " + table.getDefinition());
+      if (table instanceof View) {
+        final View view = (View) table;
+        description.add("  check option: " + view.getCheckOption());
+        description.add("  updatable: " + view.isUpdatable());
+      }
+      for (final Column column : table.getColumns()) {
+        description.add(
+            String.format(
+                "  %s: index=%b, unique=%b, privileges=%s",
+                column.getName(),
+                column.isPartOfIndex(),
+                column.isPartOfUniqueIndex(),
+                names(column.getPrivileges())));
+      }
+    }
+    return description;
+  }
+
+  private static List<String> names(final Collection<? extends NamedObject> namedObjects) {
+    final List<String> names = new ArrayList<>();
+    for (final NamedObject namedObject : namedObjects) {
+      names.add(namedObject.getName());
+    }
+    names.sort(String::compareTo);
+    return names;
+  }
+
+  private static SchemaCrawlerOptions schemaCrawlerOptions(final boolean lazyLoadTableDetails) {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder()
+            .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+            .lazyLoadTableDetails(lazyLoadTableDetails);
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  @Test
+  public void lazyLoadMatchesEagerLoad(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+
+    final Catalog eagerCatalog =
+        getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions(false));
+    final Catalog lazyCatalog =
+        getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions(true));
+
+    final List<String> eagerDescription = describe(eagerCatalog);
+    assertThat(eagerDescription, is(not(empty())));
+    assertThat(describe(lazyCatalog), is(equalTo(eagerDescription)));
+  }
+
+  @Test
+  public void lazyLoadBeforeSerialization(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+
+    final Catalog eagerCatalog =
+        getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions(false));
+    final Catalog lazyCatalog =
+        getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions(true));
+
+    // Table details are retrieved before serialization, so the clone has all of them
+    final Catalog clonedCatalog = SerializationUtils.clone(lazyCatalog);
+    assertThat(describe(clonedCatalog), is(equalTo(describe(eagerCatalog))));
+  }
+
+  @Test
+  public void lazyLoadWithClosedConnection(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+
+    final Catalog lazyCatalog =
+        getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions(true));
+    connection.close();
+
+    final Table table = lazyCatalog.getTables().iterator().next();
+    final ExecutionRuntimeException exception =
+        assertThrows(ExecutionRuntimeException.class, table::getIndexes);
+    assertThat(exception.getMessage(), startsWith("Could not lazily load indexes"));
+
+    // Details are not silently left empty on the next access
+    assertThrows(ExecutionRuntimeException.class, table::getIndexes);
+  }
+}
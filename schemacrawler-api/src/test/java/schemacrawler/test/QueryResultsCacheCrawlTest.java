@@ -0,0 +1,162 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.test.utility.TestUtility;
+import us.fatehi.utility.database.QueryResultsCache;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class QueryResultsCacheCrawlTest {
+
+  private static List<String> describe(final Catalog catalog) {
+    final List<String> lines = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      lines.add(String.format("table %s [%s] %s", table, table.getTableType(), table.getRemarks()));
+      for (final Column column : table.getColumns()) {
+        lines.add(
+            String.format(
+                "  column %s %s %s %s",
+                column, column.getColumnDataType(), column.getDefaultValue(), column.getRemarks()));
+      }
+      lines.add(String.format("  primary key %s", table.getPrimaryKey()));
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        lines.add(
+            String.format("  foreign key %s %s", foreignKey, foreignKey.getColumnReferences()));
+      }
+      for (final Index index : table.getIndexes()) {
+        lines.add(String.format("  index %s %s", index, index.getColumns()));
+      }
+      for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+        lines.add(
+            String.format(
+                "  constraint %s %s %s",
+                tableConstraint,
+                tableConstraint.getConstrainedColumns(),
+                tableConstraint.getDefinition()));
+      }
+      for (final Trigger trigger : table.getTriggers()) {
+        lines.add(String.format("  trigger %s %s", trigger, trigger.getActionStatement()));
+      }
+      if (table instanceof View) {
+        final View view = (View) table;
+        lines.add(String.format("  definition %s", view.getDefinition()));
+        lines.add(String.format("  table usage %s", view.getTableUsage()));
+      }
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      lines.add(String.format("routine %s %s", routine, routine.getDefinition()));
+      for (final RoutineParameter<?> parameter : routine.getParameters()) {
+        lines.add(String.format("  parameter %s %s", parameter, parameter.getColumnDataType()));
+      }
+    }
+    for (final Sequence sequence : catalog.getSequences()) {
+      lines.add(String.format("sequence %s %d", sequence, sequence.getIncrement()));
+    }
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      lines.add(String.format("synonym %s %s", synonym, synonym.getReferencedObject()));
+    }
+    for (final DatabaseUser databaseUser : catalog.getDatabaseUsers()) {
+      lines.add(String.format("user %s", databaseUser));
+    }
+    return lines;
+  }
+
+  @Test
+  public void crawlWithQueryResultsCache(final Connection connection) throws Exception {
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+            .includeAllSynonyms()
+            .includeAllSequences()
+            .includeAllRoutines();
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    final List<String> expected =
+        describe(getCatalog(connection, schemaRetrievalOptions, schemaCrawlerOptions));
+    // Queries with column aliases are used for view table usage and database users
+    assertThat(expected, hasItem("  table usage [PUBLIC.BOOKS.AUTHORS]"));
+    assertThat(expected, hasItem("user SA"));
+
+    final QueryResultsCache queryResultsCache = new QueryResultsCache(100_000);
+    final SchemaRetrievalOptions cachedSchemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(schemaRetrievalOptions)
+            .withQueryResultsCache(queryResultsCache)
+            .toOptions();
+
+    // The first crawl fills the cache, and the second crawl is answered from the cache
+    for (int i = 0; i < 2; i++) {
+      final Catalog catalog =
+          getCatalog(connection, cachedSchemaRetrievalOptions, schemaCrawlerOptions);
+      assertThat(queryResultsCache.size(), is(greaterThan(0)));
+      assertThat(describe(catalog), is(expected));
+    }
+  }
+}
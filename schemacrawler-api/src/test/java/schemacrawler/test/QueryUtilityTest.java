@@ -47,6 +47,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.QueryUtility;
 import schemacrawler.test.utility.TestContext;
@@ -92,6 +94,45 @@ public class QueryUtilityTest {
     assertThat(rows, is(0));
   }
 
+  @Test
+  public void executeAgainstSchemaWithLimitOptions(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Tables for schema",
+            "SELECT * FROM (SELECT TABLE_SCHEMA, "
+                + "TABLE_CATALOG || '.' || TABLE_SCHEMA || '.' || TABLE_NAME AS FULL_NAME "
+                + "FROM INFORMATION_SCHEMA.TABLES) "
+                + "WHERE REGEXP_MATCHES(TABLE_SCHEMA, '${schemas}') "
+                + "AND REGEXP_MATCHES(FULL_NAME, '${tables}') "
+                + "AND FULL_NAME LIKE '${tables.like}'");
+
+    assertThat(
+        countRows(
+            cxn,
+            query,
+            LimitOptionsBuilder.builder()
+                .includeSchemas(new RegularExpressionInclusionRule("BOOKS"))
+                .toOptions()),
+        is(11));
+    assertThat(
+        countRows(
+            cxn,
+            query,
+            LimitOptionsBuilder.builder()
+                .includeSchemas(new RegularExpressionInclusionRule("BOOKS"))
+                .includeTables(new RegularExpressionInclusionRule(".*\\.AUTHORS"))
+                .toOptions()),
+        is(1));
+    assertThat(
+        countRows(
+            cxn,
+            query,
+            LimitOptionsBuilder.builder()
+                .includeTables(new RegularExpressionInclusionRule(".*\\.(AUTHORS|PUBLISHERS)"))
+                .toOptions()),
+        is(2));
+  }
+
   @Test
   public void executeAgainstSchemaNoTemplate(final TestContext testContext, final Connection cxn)
       throws Exception {
@@ -131,6 +172,19 @@ public class QueryUtilityTest {
     assertThat(scalar, nullValue());
   }
 
+  private int countRows(final Connection cxn, final Query query, final LimitOptions limitOptions)
+      throws SQLException {
+    int rows = 0;
+    try (final Statement statement = cxn.createStatement();
+        final ResultSet resultSet =
+            QueryUtility.executeAgainstSchema(query, statement, limitOptions)) {
+      while (resultSet.next()) {
+        rows++;
+      }
+    }
+    return rows;
+  }
+
   private void executeAgainstSchemaTest(
       final TestContext testContext,
       final Connection cxn,
@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.is;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +35,58 @@ public class RegularExpressionRuleTest {
         is(false));
   }
 
+  @Test
+  public void compiledMatchesRegularExpression() {
+    final String[] patterns = {
+      ".*",
+      "",
+      "PUBLIC\\.BOOKS\\.AUTHORS",
+      "PUBLIC.BOOKS.AUTHORS",
+      "PUBLIC\\.BOOKS\\..*",
+      ".*\\.AUTHORS",
+      ".*BOOKS.*",
+      "(AUTHORS|BOOKS|PUBLISHERS)",
+      "AUTHORS|BOOKS",
+      "A\\|B",
+      "A\\.*",
+      "A\\\\.*",
+      "(A)|(B)",
+      "PUBLIC\\.BOOKS\\.[A-Z]+",
+      "(?i)public\\.books\\..*",
+      ".*.*",
+    };
+    final String[] texts = {
+      "PUBLIC.BOOKS.AUTHORS",
+      "PUBLIC.BOOKS.BOOKS",
+      "PUBLICXBOOKSXAUTHORS",
+      "PUBLIC.BOOKS.\nAUTHORS",
+      "PUBLIC.BOOKS.\u2028AUTHORS",
+      "AUTHORS",
+      "BOOKS",
+      "A|B",
+      "A",
+      "A...",
+      "A\\..",
+      "B",
+      "public.books.authors",
+    };
+
+    for (final String pattern : patterns) {
+      final Pattern regex = Pattern.compile(pattern);
+      final RegularExpressionRule includeRule = new RegularExpressionRule(regex, null);
+      final RegularExpressionRule excludeRule = new RegularExpressionRule(null, regex);
+      for (final String text : texts) {
+        final boolean matches = regex.matcher(text).matches();
+        final boolean matchesAll = Pattern.compile(".*").matcher(text).matches();
+        // Test twice, to check remembered results
+        for (int i = 0; i < 2; i++) {
+          assertThat(pattern + " ~ " + text, includeRule.test(text), is(matches));
+          assertThat(pattern + " ~ " + text, excludeRule.test(text), is(matchesAll && !matches));
+        }
+      }
+    }
+  }
+
   @Test
   public void equals() {
     assertThat(
@@ -40,6 +40,9 @@ import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.sql.Connection;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,10 +50,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.PartialDatabaseObject;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineParameter;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
 import schemacrawler.schemacrawler.FilterOptionsBuilder;
 import schemacrawler.schemacrawler.GrepOptionsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
@@ -132,6 +137,95 @@ public class SchemaCrawlerGrepTest {
     assertThat("Table AUTHORS not found", table, notNullValue());
   }
 
+  @Test
+  public void grepColumnsRetainsKeysOfRelatedTables(final Connection connection)
+      throws Exception {
+    final SchemaCrawlerOptions fullOptions = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    final Catalog fullCatalog = getCatalog(connection, fullOptions);
+
+    final GrepOptionsBuilder grepOptionsBuilder =
+        GrepOptionsBuilder.builder()
+            .includeGreppedColumns(new RegularExpressionInclusionRule(".*\\.BOOKAUTHORS\\..*"));
+    final FilterOptionsBuilder filterOptionsBuilder =
+        FilterOptionsBuilder.builder().parentTableFilterDepth(1);
+    final SchemaCrawlerOptions grepOptions =
+        fullOptions
+            .withGrepOptions(grepOptionsBuilder.toOptions())
+            .withFilterOptions(filterOptionsBuilder.toOptions());
+    final Catalog grepCatalog = getCatalog(connection, grepOptions);
+
+    final Schema schema = grepCatalog.lookupSchema("PUBLIC.BOOKS").get();
+    assertThat(grepCatalog.getTables(schema), hasSize(3));
+    for (final Table table : grepCatalog.getTables(schema)) {
+      final Table fullTable = fullCatalog.lookupTable(schema, table.getName()).get();
+      assertThat(
+          "Primary key does not match for " + table,
+          table.hasPrimaryKey(),
+          is(fullTable.hasPrimaryKey()));
+      assertThat(
+          "Foreign keys do not match for " + table,
+          table.getImportedForeignKeys().size(),
+          is(fullTable.getImportedForeignKeys().size()));
+      assertThat(
+          "Exported foreign keys do not match for " + table,
+          table.getExportedForeignKeys().size(),
+          is(fullTable.getExportedForeignKeys().size()));
+    }
+  }
+
+  @Test
+  public void grepColumnsAndIncludeRelatedTablesToDepth(final Connection connection)
+      throws Exception {
+    final SchemaCrawlerOptions fullOptions = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    final Catalog fullCatalog = getCatalog(connection, fullOptions);
+
+    for (int depth = 0; depth <= 3; depth++) {
+      final GrepOptionsBuilder grepOptionsBuilder =
+          GrepOptionsBuilder.builder()
+              .includeGreppedColumns(new RegularExpressionInclusionRule("PUBLIC\\.BOOKS\\.BOOKS\\..*"));
+      final FilterOptionsBuilder filterOptionsBuilder =
+          FilterOptionsBuilder.builder().childTableFilterDepth(depth).parentTableFilterDepth(depth);
+      final SchemaCrawlerOptions grepOptions =
+          fullOptions
+              .withGrepOptions(grepOptionsBuilder.toOptions())
+              .withFilterOptions(filterOptionsBuilder.toOptions());
+      final Catalog grepCatalog = getCatalog(connection, grepOptions);
+
+      final Set<String> expectedTables = new TreeSet<>();
+      for (final TableRelationshipType tableRelationshipType :
+          new TableRelationshipType[] {TableRelationshipType.child, TableRelationshipType.parent}) {
+        Set<Table> level = new HashSet<>();
+        for (final Table table : fullCatalog.getTables()) {
+          if (table.getFullName().equals("PUBLIC.BOOKS.BOOKS")) {
+            level.add(table);
+          }
+        }
+        final Set<Table> included = new HashSet<>(level);
+        for (int i = 0; i < depth; i++) {
+          final Set<Table> nextLevel = new HashSet<>();
+          for (final Table table : level) {
+            for (final Table relatedTable : table.getRelatedTables(tableRelationshipType)) {
+              if (!(relatedTable instanceof PartialDatabaseObject)) {
+                nextLevel.add(relatedTable);
+              }
+            }
+          }
+          included.addAll(nextLevel);
+          level = nextLevel;
+        }
+        for (final Table table : included) {
+          expectedTables.add(table.getFullName());
+        }
+      }
+
+      final Set<String> actualTables = new TreeSet<>();
+      for (final Table table : grepCatalog.getTables()) {
+        actualTables.add(table.getFullName());
+      }
+      assertThat("Tables do not match at depth " + depth, actualTables, is(expectedTables));
+    }
+  }
+
   @Test
   public void grepCombined(final TestContext testContext, final Connection connection)
       throws Exception {
@@ -0,0 +1,111 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+
+/** Embedded databases that synthetic schemas can be generated in. */
+public enum BenchmarkDatabase {
+  hsqldb(true, true) {
+    @Override
+    String connectionUrl(final String name) {
+      return String.format("jdbc:hsqldb:mem:%s", name);
+    }
+  },
+  h2(true, false) {
+    @Override
+    String connectionUrl(final String name) {
+      return String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1", name);
+    }
+  },
+  sqlite(false, false) {
+    @Override
+    String connectionUrl(final String name) {
+      try {
+        final Path databaseFile = Files.createTempFile(name, ".db");
+        databaseFile.toFile().deleteOnExit();
+        return String.format("jdbc:sqlite:%s", databaseFile);
+      } catch (final Exception e) {
+        throw new RuntimeException("Could not create SQLite database file", e);
+      }
+    }
+  };
+
+  private final boolean supportsSchemas;
+  private final boolean supportsRoutines;
+
+  BenchmarkDatabase(final boolean supportsSchemas, final boolean supportsRoutines) {
+    this.supportsSchemas = supportsSchemas;
+    this.supportsRoutines = supportsRoutines;
+  }
+
+  /**
+   * Opens a connection to a new, empty database.
+   *
+   * @return Database connection
+   * @throws SQLException On an exception connecting to the database
+   */
+  public Connection newConnection() throws SQLException {
+    final String name = "benchmark_" + UUID.randomUUID().toString().replace("-", "");
+    return DriverManager.getConnection(connectionUrl(name), "sa", "");
+  }
+
+  /**
+   * Schema retrieval options for crawling the database, based on what the JDBC driver reports,
+   * without the need for a database plugin.
+   *
+   * @param connection Connection to the database
+   * @return Schema retrieval options
+   */
+  public SchemaRetrievalOptions schemaRetrievalOptions(final Connection connection) {
+    return SchemaRetrievalOptionsBuilder.builder().fromConnnection(connection).toOptions();
+  }
+
+  /**
+   * Whether routines can be created with plain SQL, without compiling Java code into the database.
+   */
+  public boolean supportsRoutines() {
+    return supportsRoutines;
+  }
+
+  /** Whether tables can be created in separate schemas. */
+  public boolean supportsSchemas() {
+    return supportsSchemas;
+  }
+
+  abstract String connectionUrl(String name);
+}
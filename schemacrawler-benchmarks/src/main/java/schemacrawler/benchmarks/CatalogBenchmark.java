@@ -0,0 +1,123 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import static schemacrawler.tools.options.OutputOptionsBuilder.newOutputOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.loader.weakassociations.ProposedWeakAssociation;
+import schemacrawler.loader.weakassociations.WeakAssociationsAnalyzer;
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.command.text.diagram.options.DiagramOutputFormat;
+import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputFormat;
+
+/**
+ * Benchmarks operations on a catalog that has already been crawled - analysis, linting, rendering
+ * and serialization.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CatalogBenchmark {
+
+  @Benchmark
+  public long diagramRendering(final CrawledCatalogState state) throws IOException {
+    return execute(state, "schema", DiagramOutputFormat.scdot);
+  }
+
+  @Benchmark
+  public long lint(final CrawledCatalogState state) throws IOException {
+    return execute(state, "lint", TextOutputFormat.text);
+  }
+
+  @Benchmark
+  public Catalog serializationRoundTrip(final CrawledCatalogState state)
+      throws IOException, ClassNotFoundException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(state.getCatalog());
+    }
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (Catalog) in.readObject();
+    }
+  }
+
+  @Benchmark
+  public long textRendering(final CrawledCatalogState state) throws IOException {
+    return execute(state, "schema", TextOutputFormat.text);
+  }
+
+  @Benchmark
+  public Collection<ProposedWeakAssociation> weakAssociations(final CrawledCatalogState state) {
+    final WeakAssociationsAnalyzer weakAssociationsAnalyzer =
+        new WeakAssociationsAnalyzer(new ArrayList<>(state.getCatalog().getTables()));
+    return weakAssociationsAnalyzer.analyzeTables();
+  }
+
+  private long execute(
+      final CrawledCatalogState state, final String command, final OutputFormat outputFormat)
+      throws IOException {
+    final Path outputFile = Files.createTempFile("schemacrawler", ".benchmark");
+    try {
+      final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+      executable.setSchemaRetrievalOptions(
+          state.database.schemaRetrievalOptions(state.getConnection()));
+      executable.setOutputOptions(newOutputOptions(outputFormat, outputFile));
+      executable.setConnection(state.getConnection());
+      executable.setCatalog(state.getCatalog());
+      executable.execute();
+      return Files.size(outputFile);
+    } finally {
+      Files.deleteIfExists(outputFile);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InfoLevel;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+
+/**
+ * Measures the heap retained by a crawled catalog, reported as the "retainedBytes" secondary
+ * result. Run with the serial collector, so that the used heap after a full collection is stable
+ * enough to compare builds. JMH sums event counters over iterations and forks, so there is a
+ * single measured iteration in a single fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 1)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-XX:+UseSerialGC"})
+public class CatalogFootprintBenchmark {
+
+  /** Retained heap for the catalog crawled in the current iteration. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Footprint {
+
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0;
+    }
+  }
+
+  private static long usedHeap() {
+    final Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  @Param({"hsqldb"})
+  public BenchmarkDatabase database;
+
+  @Param({"small", "medium"})
+  public SyntheticSchemaSize size;
+
+  @Param({"standard", "maximum"})
+  public InfoLevel infoLevel;
+
+  private Connection connection;
+  private SchemaCrawlerOptions options;
+
+  @Benchmark
+  public void crawl(final Footprint footprint) throws Exception {
+    Catalog catalog =
+        new SchemaCrawler(connection, database.schemaRetrievalOptions(connection), options).crawl();
+    // Measure with and without the catalog, so that memory held by the database, such as cached
+    // metadata tables, is not counted
+    final long usedHeapWithCatalog = usedHeap();
+    if (catalog.getTables().isEmpty()) {
+      throw new IllegalStateException("No tables crawled");
+    }
+    catalog = null;
+    footprint.retainedBytes = usedHeapWithCatalog - usedHeap();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    connection = database.newConnection();
+    size.generator(database).generate(connection);
+
+    options =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(infoLevel.toSchemaInfoLevel())
+                    .toOptions());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    if (connection != null) {
+      connection.close();
+    }
+  }
+}
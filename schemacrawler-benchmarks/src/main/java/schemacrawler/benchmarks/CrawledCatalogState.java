@@ -0,0 +1,93 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InfoLevel;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+
+/**
+ * Benchmark state with a synthetic schema that has been crawled once, at maximum info-level. The
+ * connection is kept open for commands that need it.
+ */
+@State(Scope.Benchmark)
+public class CrawledCatalogState {
+
+  @Param({"hsqldb"})
+  public BenchmarkDatabase database;
+
+  @Param({"small", "medium"})
+  public SyntheticSchemaSize size;
+
+  private Connection connection;
+  private Catalog catalog;
+
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  public Connection getConnection() {
+    return connection;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    connection = database.newConnection();
+    size.generator(database).generate(connection);
+
+    final SchemaCrawlerOptions options =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(InfoLevel.maximum.toSchemaInfoLevel())
+                    .toOptions());
+    catalog =
+        new SchemaCrawler(connection, database.schemaRetrievalOptions(connection), options).crawl();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    if (connection != null) {
+      connection.close();
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a synthetic schema with a given shape - a number of schemas, each with a number of
+ * tables and a number of columns per table. Tables have foreign keys to earlier tables at a given
+ * density, and columns that look like foreign keys but have no constraints, for weak association
+ * analysis. Each schema also gets indexes, views and, where the database supports it, routines.
+ * Generation is deterministic, so every run produces the same schema.
+ */
+public final class SyntheticSchemaGenerator {
+
+  private static final String[] COLUMN_TYPES = {
+    "INTEGER", "VARCHAR(100)", "DECIMAL(10,2)", "DATE", "TIMESTAMP", "VARCHAR(20)"
+  };
+
+  private final BenchmarkDatabase database;
+  private final int schemas;
+  private final int tablesPerSchema;
+  private final int columnsPerTable;
+  private final double foreignKeyDensity;
+  private final int indexesPerTable;
+  private final int viewsPerSchema;
+  private final int routinesPerSchema;
+
+  public SyntheticSchemaGenerator(
+      final BenchmarkDatabase database,
+      final int schemas,
+      final int tablesPerSchema,
+      final int columnsPerTable,
+      final double foreignKeyDensity,
+      final int indexesPerTable,
+      final int viewsPerSchema,
+      final int routinesPerSchema) {
+    this.database = requireNonNull(database, "No database provided");
+    this.schemas = Math.max(1, schemas);
+    this.tablesPerSchema = Math.max(1, tablesPerSchema);
+    this.columnsPerTable = Math.max(2, columnsPerTable);
+    this.foreignKeyDensity = Math.min(1, Math.max(0, foreignKeyDensity));
+    this.indexesPerTable = Math.max(0, Math.min(indexesPerTable, this.columnsPerTable - 1));
+    this.viewsPerSchema = Math.max(0, Math.min(viewsPerSchema, this.tablesPerSchema));
+    this.routinesPerSchema = Math.max(0, routinesPerSchema);
+  }
+
+  /**
+   * Creates the synthetic schema in the database.
+   *
+   * @param connection Connection to an empty database
+   * @throws SQLException On an exception creating the schema
+   */
+  public void generate(final Connection connection) throws SQLException {
+    requireNonNull(connection, "No connection provided");
+
+    try (final Statement statement = connection.createStatement()) {
+      for (final String sql : generateSql()) {
+        statement.execute(sql);
+      }
+    }
+    if (!connection.getAutoCommit()) {
+      connection.commit();
+    }
+  }
+
+  /**
+   * Generates the DDL statements for the synthetic schema.
+   *
+   * @return DDL statements, in order of execution
+   */
+  public List<String> generateSql() {
+    final Random random = new Random(schemas * 31L + tablesPerSchema * 17L + columnsPerTable);
+    final List<String> sql = new ArrayList<>();
+
+    for (int schema = 1; schema <= schemas; schema++) {
+      if (database.supportsSchemas()) {
+        sql.add(String.format("CREATE SCHEMA S%d", schema));
+      }
+
+      for (int table = 1; table <= tablesPerSchema; table++) {
+        sql.add(createTable(random, schema, table));
+        for (int index = 1; index <= indexesPerTable; index++) {
+          sql.add(
+              String.format(
+                  "CREATE INDEX %s ON %s (C%d)",
+                  objectName(schema, String.format("IDX_T%d_%d", table, index)),
+                  objectName(schema, "T" + table),
+                  index));
+        }
+      }
+
+      for (int view = 1; view <= viewsPerSchema; view++) {
+        sql.add(
+            String.format(
+                "CREATE VIEW %s AS SELECT * FROM %s",
+                objectName(schema, "V" + view), objectName(schema, "T" + view)));
+      }
+
+      if (database.supportsRoutines()) {
+        for (int routine = 1; routine <= routinesPerSchema; routine++) {
+          sql.add(
+              String.format(
+                  "CREATE FUNCTION %s(X INTEGER) RETURNS INTEGER RETURN X + %d",
+                  objectName(schema, "F" + routine), routine));
+        }
+      }
+    }
+
+    return sql;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: %d schemas x %d tables x %d columns",
+        database, schemas, tablesPerSchema, columnsPerTable);
+  }
+
+  private String createTable(final Random random, final int schema, final int table) {
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer
+        .append("CREATE TABLE ")
+        .append(objectName(schema, "T" + table))
+        .append(" (ID INTEGER NOT NULL PRIMARY KEY");
+
+    for (int column = 1; column < columnsPerTable; column++) {
+      buffer
+          .append(", C")
+          .append(column)
+          .append(' ')
+          .append(COLUMN_TYPES[(table + column) % COLUMN_TYPES.length]);
+    }
+
+    if (table > 1) {
+      // Foreign key to an earlier table
+      if (random.nextDouble() < foreignKeyDensity) {
+        final int parentTable = 1 + random.nextInt(table - 1);
+        buffer
+            .append(", PARENT_ID INTEGER REFERENCES ")
+            .append(objectName(schema, "T" + parentTable))
+            .append(" (ID)");
+      }
+      // Column that looks like a foreign key, but has no constraint
+      if (random.nextDouble() < foreignKeyDensity) {
+        final int referencedTable = 1 + random.nextInt(table - 1);
+        buffer.append(", T").append(referencedTable).append("_ID INTEGER");
+      }
+    }
+
+    buffer.append(')');
+    return buffer.toString();
+  }
+
+  private String objectName(final int schema, final String name) {
+    if (database.supportsSchemas()) {
+      return String.format("S%d.%s", schema, name);
+    } else {
+      return String.format("S%d_%s", schema, name);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+/** Preset shapes for synthetic schemas, so that results are comparable between releases. */
+public enum SyntheticSchemaSize {
+  small(2, 25, 8, 0.5, 2, 5, 5),
+  medium(4, 100, 12, 0.5, 3, 10, 10),
+  large(10, 250, 20, 0.5, 4, 25, 25);
+
+  private final int schemas;
+  private final int tablesPerSchema;
+  private final int columnsPerTable;
+  private final double foreignKeyDensity;
+  private final int indexesPerTable;
+  private final int viewsPerSchema;
+  private final int routinesPerSchema;
+
+  SyntheticSchemaSize(
+      final int schemas,
+      final int tablesPerSchema,
+      final int columnsPerTable,
+      final double foreignKeyDensity,
+      final int indexesPerTable,
+      final int viewsPerSchema,
+      final int routinesPerSchema) {
+    this.schemas = schemas;
+    this.tablesPerSchema = tablesPerSchema;
+    this.columnsPerTable = columnsPerTable;
+    this.foreignKeyDensity = foreignKeyDensity;
+    this.indexesPerTable = indexesPerTable;
+    this.viewsPerSchema = viewsPerSchema;
+    this.routinesPerSchema = routinesPerSchema;
+  }
+
+  public SyntheticSchemaGenerator generator(final BenchmarkDatabase database) {
+    return new SyntheticSchemaGenerator(
+        database,
+        schemas,
+        tablesPerSchema,
+        columnsPerTable,
+        foreignKeyDensity,
+        indexesPerTable,
+        viewsPerSchema,
+        routinesPerSchema);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * Benchmarks the operations on {@link NamedObjectList} that a crawl relies on. This is in the same
+ * package as the list, since the list is not public. Run with "-prof gc" to check that lookups by
+ * parent and name do not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NamedObjectListBenchmark {
+
+  @Param({"100", "10000"})
+  public int tableCount;
+
+  private List<MutableTable> tables;
+  private NamedObjectList<MutableTable> namedObjectList;
+
+  @Benchmark
+  public NamedObjectList<MutableTable> add() {
+    final NamedObjectList<MutableTable> list = new NamedObjectList<>();
+    for (final MutableTable table : tables) {
+      list.add(table);
+    }
+    return list;
+  }
+
+  @Benchmark
+  public void iterate(final Blackhole blackhole) {
+    for (final MutableTable table : namedObjectList) {
+      blackhole.consume(table);
+    }
+  }
+
+  @Benchmark
+  public void lookup(final Blackhole blackhole) {
+    for (final MutableTable table : tables) {
+      blackhole.consume(namedObjectList.lookup(table.getSchema(), table.getName()).orElse(null));
+    }
+  }
+
+  @Benchmark
+  public void lookupByKey(final Blackhole blackhole) {
+    for (final MutableTable table : tables) {
+      blackhole.consume(namedObjectList.lookup(table.key()).orElse(null));
+    }
+  }
+
+  /** Builds a new lookup key for every lookup, as retrievers do for every row of metadata. */
+  @Benchmark
+  public void lookupByNewKey(final Blackhole blackhole) {
+    for (final MutableTable table : tables) {
+      final Schema schema = table.getSchema();
+      blackhole.consume(
+          namedObjectList
+              .lookup(
+                  new NamedObjectKey(schema.getCatalogName(), schema.getName(), table.getName()))
+              .orElse(null));
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final int schemaCount = Math.max(1, tableCount / 100);
+    final List<Schema> schemas = new ArrayList<>();
+    for (int i = 1; i <= schemaCount; i++) {
+      schemas.add(new SchemaReference("CATALOG", "SCHEMA" + i));
+    }
+
+    tables = new ArrayList<>(tableCount);
+    namedObjectList = new NamedObjectList<>();
+    for (int i = 0; i < tableCount; i++) {
+      final MutableTable table = new MutableTable(schemas.get(i % schemaCount), "TABLE" + i);
+      tables.add(table);
+      namedObjectList.add(table);
+    }
+  }
+
+  @Benchmark
+  public List<MutableTable> values() {
+    return namedObjectList.values();
+  }
+}
@@ -65,6 +65,7 @@ public final class SchemaCrawlerCommandLine {
       commandLine.parseArgs(args);
 
       executeCommandLine(commandLine);
+      state.disconnect();
     } catch (final Throwable throwable) {
       logSafeArguments(args, state);
       logFatalStackTrace(throwable);
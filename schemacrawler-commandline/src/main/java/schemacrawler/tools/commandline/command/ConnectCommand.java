@@ -50,6 +50,7 @@ import schemacrawler.tools.commandline.state.ShellState;
 import schemacrawler.tools.commandline.utility.SchemaCrawlerOptionsConfig;
 import schemacrawler.tools.commandline.utility.SchemaRetrievalOptionsConfig;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionOptions;
+import schemacrawler.tools.databaseconnector.DatabaseConnectionPool;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionSource;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.UserCredentials;
@@ -144,7 +145,8 @@ public class ConnectCommand extends BaseStateHolder implements Runnable {
         databaseConnector.newDatabaseConnectionSource(connectionOptions);
     databaseConnectionSource.setUserCredentials(userCredentials);
 
-    state.setDataSource(databaseConnectionSource);
+    // Reuse connections across commands, such as load and execute
+    state.setDataSource(new DatabaseConnectionPool(databaseConnectionSource));
   }
 
   private UserCredentials getUserCredentials() {
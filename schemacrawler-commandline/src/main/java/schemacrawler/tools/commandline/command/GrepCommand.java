@@ -47,6 +47,11 @@ import schemacrawler.tools.commandline.state.ShellState;
     header = "** Grep for database object metadata",
     description = {
       "",
+      "Grep narrows the crawl only partially - columns are retrieved for all tables, "
+          + "and so are foreign keys that come from data dictionary queries; "
+          + "primary keys, and foreign keys from database metadata, "
+          + "are retrieved only for tables that match, and their related tables",
+      ""
     },
     headerHeading = "",
     synopsisHeading = "Shell Command:%n",
@@ -30,7 +30,6 @@ package schemacrawler.tools.commandline.command;
 
 import static schemacrawler.tools.commandline.utility.CommandLineUtility.matchedOptionValues;
 
-import java.sql.Connection;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -45,10 +44,8 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.InfoLevel;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.tools.commandline.state.BaseStateHolder;
 import schemacrawler.tools.commandline.state.ShellState;
-import schemacrawler.tools.options.Config;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
 import us.fatehi.utility.string.ObjectToStringFormat;
 import us.fatehi.utility.string.StringFormat;
@@ -82,6 +79,16 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
       })
   private InfoLevel infolevel;
 
+  @Option(
+      names = {"--lazy-load"},
+      description = {
+        "Retrieve indexes, triggers, privileges, definitions and table constraints "
+            + "only when they are first used",
+        "Speeds up loading when only a few tables are looked at",
+        "Optional, defaults to false"
+      })
+  private boolean lazyLoad;
+
   @Spec private Model.CommandSpec spec;
 
   public LoadCommand(final ShellState state) {
@@ -112,25 +119,22 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
       state.setCatalog(catalog);
       LOGGER.log(Level.INFO, "Loaded catalog");
 
+    } catch (final ExecutionException e) {
+      throw e;
     } catch (final Exception e) {
       throw new ExecutionException(spec.commandLine(), "Cannot load catalog", e);
     }
   }
 
   private Catalog loadCatalog() {
-    try (final Connection connection = state.getDataSource().get()) {
-      LOGGER.log(Level.INFO, new StringFormat("infolevel=%s", infolevel));
-
-      final SchemaRetrievalOptions schemaRetrievalOptions = state.getSchemaRetrievalOptions();
-      final SchemaCrawlerOptions schemaCrawlerOptions = state.getSchemaCrawlerOptions();
-      final Config additionalConfig = state.getConfig();
-
-      return SchemaCrawlerUtility.getCatalog(
-          connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
-
-    } catch (final Exception e) {
-      throw new ExecutionException(spec.commandLine(), "Cannot load catalog", e);
-    }
+    LOGGER.log(Level.INFO, new StringFormat("infolevel=%s", infolevel));
+    // Catalog loaders can use the data source for additional connections,
+    // and lazily loaded table details are retrieved with connections from it
+    return SchemaCrawlerUtility.getCatalog(
+        state.getDataSource(),
+        state.getSchemaRetrievalOptions(),
+        state.getSchemaCrawlerOptions(),
+        state.getConfig());
   }
 
   private void saveCommandOptions() {
@@ -142,6 +146,7 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
     if (infolevel != null) {
       loadOptionsBuilder.withSchemaInfoLevel(infolevel.toSchemaInfoLevel());
     }
+    loadOptionsBuilder.lazyLoadTableDetails(lazyLoad);
 
     state.withLoadOptions(loadOptionsBuilder.toOptions());
 
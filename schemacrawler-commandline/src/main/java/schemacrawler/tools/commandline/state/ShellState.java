@@ -29,7 +29,6 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.commandline.state;
 
 import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -63,12 +62,17 @@ public class ShellState {
     if (dataSource == null) {
       return;
     }
-    try (final Connection connection = dataSource.get(); ) {
-      LOGGER.log(Level.INFO, new StringFormat("Closing connection <%s>", connection));
-      dataSource = null;
-    } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, "Cannot close connection");
+    // Close pooled connections, if any - there is no need to open a
+    // new connection just to close it
+    if (dataSource instanceof AutoCloseable) {
+      try {
+        LOGGER.log(Level.INFO, new StringFormat("Closing data-source <%s>", dataSource));
+        ((AutoCloseable) dataSource).close();
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, "Cannot close data-source", e);
+      }
     }
+    dataSource = null;
   }
 
   public Catalog getCatalog() {
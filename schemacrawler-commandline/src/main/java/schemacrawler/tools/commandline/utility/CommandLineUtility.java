@@ -31,6 +31,7 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.IOUtility.readResourceFully;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.sql.Connection;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -102,9 +103,8 @@ public class CommandLineUtility {
             JvmSystemInfo.jvmSystemInfo());
 
     if (state != null && state.isConnected()) {
-      try {
-        final ConnectionInfo connectionInfo =
-            ConnectionInfoBuilder.builder(state.getDataSource().get()).build();
+      try (final Connection connection = state.getDataSource().get()) {
+        final ConnectionInfo connectionInfo = ConnectionInfoBuilder.builder(connection).build();
         final ProductVersion databaseInfo =
             new BaseProductVersion(
                 connectionInfo.getDatabaseProductName(),
@@ -112,8 +112,9 @@ public class CommandLineUtility {
         final ProductVersion jdbcDriverInfo =
             new BaseProductVersion(
                 connectionInfo.getDriverName(), connectionInfo.getDriverVersion());
-        final String connection = String.format("  %s%n  %s%n", databaseInfo, jdbcDriverInfo);
-        environment = environment + connection;
+        final String connectionEnvironment =
+            String.format("  %s%n  %s%n", databaseInfo, jdbcDriverInfo);
+        environment = environment + connectionEnvironment;
       } catch (final Exception e) {
         // Ignore - do not log
       }
@@ -33,6 +33,7 @@ import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.tools.options.Config;
+import us.fatehi.utility.database.QueryResultsCache;
 
 public final class SchemaRetrievalOptionsConfig {
 
@@ -102,6 +103,17 @@ public final class SchemaRetrievalOptionsConfig {
       builder.with(metadataRetrievalStrategy, configValue);
     }
 
+    if (configProperties.getBooleanValue(
+        "schemacrawler.schema.retrieval.data_dictionary.pipelined")) {
+      builder.withPipelinedDataDictionaryQueries();
+    }
+
+    final int queryCacheMaxRows =
+        configProperties.getIntegerValue("schemacrawler.schema.retrieval.query_cache.max_rows", 0);
+    if (queryCacheMaxRows > 0) {
+      builder.withQueryResultsCache(new QueryResultsCache(queryCacheMaxRows));
+    }
+
     return builder;
   }
 }
@@ -32,8 +32,10 @@ public class AvailablePluginsTest {
             "weakassociationsloader",
             "testloader",
             "attributesloader",
+            "columnstatisticsloader",
             "countsloader",
-            "schemacrawlerloader"));
+            "schemacrawlerloader",
+            "identicalschemasloader"));
   }
 
   @Test
@@ -0,0 +1,97 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+import static java.util.Objects.requireNonNull;
+
+import schemacrawler.schema.NamedObject;
+
+/** A single change to a database object, between an old and a new catalog. */
+public final class CatalogChange {
+
+  private final ChangeType changeType;
+  private final String fullName;
+  private final NamedObject newObject;
+  private final Class<? extends NamedObject> objectType;
+  private final NamedObject oldObject;
+
+  CatalogChange(
+      final ChangeType changeType,
+      final Class<? extends NamedObject> objectType,
+      final NamedObject oldObject,
+      final NamedObject newObject) {
+    this.changeType = requireNonNull(changeType, "No change type provided");
+    this.objectType = requireNonNull(objectType, "No object type provided");
+    if (oldObject == null && newObject == null) {
+      throw new IllegalArgumentException("No changed object provided");
+    }
+    this.oldObject = oldObject;
+    this.newObject = newObject;
+    if (newObject != null) {
+      fullName = newObject.getFullName();
+    } else {
+      fullName = oldObject.getFullName();
+    }
+  }
+
+  public ChangeType getChangeType() {
+    return changeType;
+  }
+
+  public String getFullName() {
+    return fullName;
+  }
+
+  /**
+   * Object from the new catalog.
+   *
+   * @return Object from the new catalog, or null if the object was removed
+   */
+  public NamedObject getNewObject() {
+    return newObject;
+  }
+
+  public Class<? extends NamedObject> getObjectType() {
+    return objectType;
+  }
+
+  /**
+   * Object from the old catalog.
+   *
+   * @return Object from the old catalog, or null if the object was added
+   */
+  public NamedObject getOldObject() {
+    return oldObject;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s %s %s", changeType, objectType.getSimpleName(), fullName);
+  }
+}
@@ -0,0 +1,295 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Compares two catalogs by structure. Objects are matched by full name, and compared by their
+ * structural fingerprints. Dependent objects, such as columns, keys and indexes, are compared only
+ * when the fingerprints of their parents differ. Changes are reported to a listener as they are
+ * found.
+ */
+public final class CatalogDiffer {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogDiffer.class.getName());
+
+  private final boolean parallel;
+
+  CatalogDiffer(final boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  /**
+   * Compares two catalogs, and returns a list of changes.
+   *
+   * @param oldCatalog Catalog to compare from
+   * @param newCatalog Catalog to compare to
+   * @return Changes needed to go from the old catalog to the new catalog
+   */
+  public List<CatalogChange> compare(final Catalog oldCatalog, final Catalog newCatalog) {
+    final List<CatalogChange> changes = new ArrayList<>();
+    compare(oldCatalog, newCatalog, changes::add);
+    return changes;
+  }
+
+  /**
+   * Compares two catalogs, and reports changes to a listener as they are found.
+   *
+   * @param oldCatalog Catalog to compare from
+   * @param newCatalog Catalog to compare to
+   * @param listener Listener for changes
+   */
+  public void compare(
+      final Catalog oldCatalog, final Catalog newCatalog, final CatalogChangeListener listener) {
+    requireNonNull(oldCatalog, "No old catalog provided");
+    requireNonNull(newCatalog, "No new catalog provided");
+    requireNonNull(listener, "No change listener provided");
+
+    final Set<String> schemaNames = new LinkedHashSet<>();
+    for (final Schema schema : oldCatalog.getSchemas()) {
+      schemaNames.add(schema.getFullName());
+    }
+    for (final Schema schema : newCatalog.getSchemas()) {
+      schemaNames.add(schema.getFullName());
+    }
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat("Comparing <%d> schemas, parallel=%b", schemaNames.size(), parallel));
+
+    if (parallel) {
+      final CatalogChangeListener synchronizedListener =
+          change -> {
+            synchronized (listener) {
+              listener.onChange(change);
+            }
+          };
+      schemaNames.parallelStream()
+          .forEach(
+              schemaName ->
+                  compareSchema(oldCatalog, newCatalog, schemaName, synchronizedListener));
+    } else {
+      for (final String schemaName : schemaNames) {
+        compareSchema(oldCatalog, newCatalog, schemaName, listener);
+      }
+    }
+  }
+
+  private <N extends NamedObject> void compareNamedObjects(
+      final Class<? extends NamedObject> objectType,
+      final Collection<? extends N> oldObjects,
+      final Collection<? extends N> newObjects,
+      final Function<N, String> keyFunction,
+      final ToLongFunction<N> fingerprintFunction,
+      final BiConsumer<N, N> compareDependents,
+      final CatalogChangeListener listener) {
+
+    final Map<String, N> newObjectsMap = new LinkedHashMap<>();
+    for (final N newObject : newObjects) {
+      newObjectsMap.put(keyFunction.apply(newObject), newObject);
+    }
+
+    for (final N oldObject : oldObjects) {
+      final N newObject = newObjectsMap.remove(keyFunction.apply(oldObject));
+      if (newObject == null) {
+        listener.onChange(new CatalogChange(ChangeType.removed, objectType, oldObject, null));
+      } else if (fingerprintFunction.applyAsLong(oldObject)
+          != fingerprintFunction.applyAsLong(newObject)) {
+        listener.onChange(new CatalogChange(ChangeType.changed, objectType, oldObject, newObject));
+        if (compareDependents != null) {
+          compareDependents.accept(oldObject, newObject);
+        }
+      }
+    }
+
+    for (final N newObject : newObjectsMap.values()) {
+      listener.onChange(new CatalogChange(ChangeType.added, objectType, null, newObject));
+    }
+  }
+
+  private void compareRoutines(
+      final Routine oldRoutine, final Routine newRoutine, final CatalogChangeListener listener) {
+    final List<RoutineParameter<?>> oldParameters = new ArrayList<>(oldRoutine.getParameters());
+    final List<RoutineParameter<?>> newParameters = new ArrayList<>(newRoutine.getParameters());
+    compareNamedObjects(
+        RoutineParameter.class,
+        oldParameters,
+        newParameters,
+        RoutineParameter::getName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+  }
+
+  private void compareSchema(
+      final Catalog oldCatalog,
+      final Catalog newCatalog,
+      final String schemaName,
+      final CatalogChangeListener listener) {
+    final Optional<Schema> oldSchema = oldCatalog.lookupSchema(schemaName);
+    final Optional<Schema> newSchema = newCatalog.lookupSchema(schemaName);
+    if (!oldSchema.isPresent()) {
+      listener.onChange(new CatalogChange(ChangeType.added, Schema.class, null, newSchema.get()));
+    } else if (!newSchema.isPresent()) {
+      listener.onChange(new CatalogChange(ChangeType.removed, Schema.class, oldSchema.get(), null));
+    }
+
+    compareNamedObjects(
+        Table.class,
+        schemaObjects(oldCatalog::getTables, oldSchema),
+        schemaObjects(newCatalog::getTables, newSchema),
+        Table::getFullName,
+        StructuralFingerprints::fingerprint,
+        (oldTable, newTable) -> compareTables(oldTable, newTable, listener),
+        listener);
+    compareNamedObjects(
+        Routine.class,
+        schemaObjects(oldCatalog::getRoutines, oldSchema),
+        schemaObjects(newCatalog::getRoutines, newSchema),
+        routine -> routine.getFullName() + "/" + routine.getSpecificName(),
+        StructuralFingerprints::fingerprint,
+        (oldRoutine, newRoutine) -> compareRoutines(oldRoutine, newRoutine, listener),
+        listener);
+    compareNamedObjects(
+        Sequence.class,
+        schemaObjects(oldCatalog::getSequences, oldSchema),
+        schemaObjects(newCatalog::getSequences, newSchema),
+        Sequence::getFullName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+    compareNamedObjects(
+        Synonym.class,
+        schemaObjects(oldCatalog::getSynonyms, oldSchema),
+        schemaObjects(newCatalog::getSynonyms, newSchema),
+        Synonym::getFullName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+  }
+
+  private void compareTables(
+      final Table oldTable, final Table newTable, final CatalogChangeListener listener) {
+    compareNamedObjects(
+        Column.class,
+        oldTable.getColumns(),
+        newTable.getColumns(),
+        Column::getName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+    compareNamedObjects(
+        PrimaryKey.class,
+        primaryKey(oldTable),
+        primaryKey(newTable),
+        PrimaryKey::getName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+    compareNamedObjects(
+        ForeignKey.class,
+        oldTable.getImportedForeignKeys(),
+        newTable.getImportedForeignKeys(),
+        ForeignKey::getName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+    compareNamedObjects(
+        Index.class,
+        oldTable.getIndexes(),
+        newTable.getIndexes(),
+        Index::getName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+    compareNamedObjects(
+        Trigger.class,
+        oldTable.getTriggers(),
+        newTable.getTriggers(),
+        Trigger::getName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+    compareNamedObjects(
+        TableConstraint.class,
+        StructuralFingerprints.tableConstraints(oldTable),
+        StructuralFingerprints.tableConstraints(newTable),
+        TableConstraint::getName,
+        StructuralFingerprints::fingerprint,
+        null,
+        listener);
+  }
+
+  private Collection<PrimaryKey> primaryKey(final Table table) {
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey == null) {
+      return Collections.emptyList();
+    }
+    return Collections.singletonList(primaryKey);
+  }
+
+  private <N extends NamedObject> Collection<N> schemaObjects(
+      final Function<Schema, Collection<N>> lookup, final Optional<Schema> schema) {
+    if (!schema.isPresent()) {
+      return Collections.emptyList();
+    }
+    return lookup.apply(schema.get());
+  }
+}
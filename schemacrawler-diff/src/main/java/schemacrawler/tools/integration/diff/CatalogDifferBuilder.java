@@ -0,0 +1,58 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+public final class CatalogDifferBuilder {
+
+  public static CatalogDifferBuilder builder() {
+    return new CatalogDifferBuilder();
+  }
+
+  private boolean parallel;
+
+  private CatalogDifferBuilder() {
+    // Default values are set at the field level
+  }
+
+  public CatalogDiffer build() {
+    return new CatalogDiffer(parallel);
+  }
+
+  /**
+   * Compares schemas in parallel. Changes within a schema are reported in order, but changes from
+   * different schemas may be interleaved.
+   *
+   * @param parallel Whether to compare schemas in parallel
+   * @return Builder
+   */
+  public CatalogDifferBuilder parallel(final boolean parallel) {
+    this.parallel = parallel;
+    return this;
+  }
+}
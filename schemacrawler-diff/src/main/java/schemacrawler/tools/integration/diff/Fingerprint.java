@@ -0,0 +1,97 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+/**
+ * Accumulates a 64-bit FNV-1a hash over a sequence of values. Each value is terminated, so that
+ * adjacent values cannot run into each other, and null is distinct from an empty string.
+ */
+final class Fingerprint {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private long hash = FNV_OFFSET_BASIS;
+
+  Fingerprint add(final boolean value) {
+    return add(value ? 1L : 0L);
+  }
+
+  Fingerprint add(final Enum<?> value) {
+    if (value == null) {
+      return addNull();
+    }
+    return add(value.name());
+  }
+
+  Fingerprint add(final long value) {
+    for (int i = 0; i < Long.BYTES; i++) {
+      mix((int) (value >>> (i * 8)) & 0xff);
+    }
+    return terminate();
+  }
+
+  Fingerprint add(final Object value) {
+    if (value == null) {
+      return addNull();
+    }
+    return add(value.toString());
+  }
+
+  Fingerprint add(final String value) {
+    if (value == null) {
+      return addNull();
+    }
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      mix(ch & 0xff);
+      mix(ch >>> 8);
+    }
+    return terminate();
+  }
+
+  long value() {
+    return hash;
+  }
+
+  private Fingerprint addNull() {
+    mix(0xfe);
+    return terminate();
+  }
+
+  private void mix(final int octet) {
+    hash ^= octet;
+    hash *= FNV_PRIME;
+  }
+
+  private Fingerprint terminate() {
+    mix(0xff);
+    return this;
+  }
+}
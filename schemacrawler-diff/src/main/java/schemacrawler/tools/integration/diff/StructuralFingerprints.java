@@ -0,0 +1,245 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.diff;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Structural fingerprints of database objects. Fingerprints of tables and routines are computed
+ * bottom-up, from the fingerprints of their columns, keys, indexes, triggers and parameters, so
+ * that equal fingerprints mean that there is no need to compare the dependent objects. Full names
+ * of the objects themselves are not part of the fingerprint, since objects are matched by name.
+ */
+@UtilityMarker
+final class StructuralFingerprints {
+
+  static long fingerprint(final Column column) {
+    return baseColumn(column)
+        .add(column.getDefaultValue())
+        .add(column.isAutoIncremented())
+        .add(column.isGenerated())
+        .add(column.isHidden())
+        .add(column.getRemarks())
+        .value();
+  }
+
+  static long fingerprint(final ForeignKey foreignKey) {
+    final Fingerprint fingerprint = new Fingerprint();
+    for (final ColumnReference columnReference : foreignKey) {
+      fingerprint
+          .add(columnReference.getKeySequence())
+          .add(columnReference.getForeignKeyColumn().getFullName())
+          .add(columnReference.getPrimaryKeyColumn().getFullName());
+    }
+    return fingerprint
+        .add(foreignKey.getUpdateRule())
+        .add(foreignKey.getDeleteRule())
+        .add(foreignKey.getDeferrability())
+        .add(foreignKey.getRemarks())
+        .value();
+  }
+
+  static long fingerprint(final Index index) {
+    final Fingerprint fingerprint = new Fingerprint();
+    for (final IndexColumn indexColumn : index.getColumns()) {
+      fingerprint.add(indexColumn.getName()).add(indexColumn.getSortSequence());
+    }
+    return fingerprint
+        .add(index.isUnique())
+        .add(index.getIndexType())
+        .add(index.getDefinition())
+        .add(index.getRemarks())
+        .value();
+  }
+
+  static long fingerprint(final PrimaryKey primaryKey) {
+    final Fingerprint fingerprint = new Fingerprint();
+    for (final TableConstraintColumn column : primaryKey.getConstrainedColumns()) {
+      fingerprint.add(column.getName());
+    }
+    return fingerprint.add(primaryKey.getDefinition()).add(primaryKey.getRemarks()).value();
+  }
+
+  static long fingerprint(final Routine routine) {
+    final List<RoutineParameter<?>> parameters = new ArrayList<>(routine.getParameters());
+    return new Fingerprint()
+        .add(routine.getRoutineType())
+        .add(routine.getReturnType())
+        .add(routine.getRoutineBodyType())
+        .add(routine.getDefinition())
+        .add(routine.getRemarks())
+        .add(combine(parameters, RoutineParameter::getName, StructuralFingerprints::fingerprint))
+        .value();
+  }
+
+  static long fingerprint(final RoutineParameter<?> parameter) {
+    return baseColumn(parameter)
+        .add(parameter.getParameterMode())
+        .add(parameter.getPrecision())
+        .add(parameter.getRemarks())
+        .value();
+  }
+
+  static long fingerprint(final Sequence sequence) {
+    return new Fingerprint()
+        .add(sequence.getIncrement())
+        .add(sequence.getMinimumValue())
+        .add(sequence.getMaximumValue())
+        .add(sequence.getStartValue())
+        .add(sequence.isCycle())
+        .add(sequence.getRemarks())
+        .value();
+  }
+
+  static long fingerprint(final Synonym synonym) {
+    final DatabaseObject referencedObject = synonym.getReferencedObject();
+    return new Fingerprint()
+        .add(referencedObject == null ? null : referencedObject.getFullName())
+        .add(synonym.getRemarks())
+        .value();
+  }
+
+  static long fingerprint(final Table table) {
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    return new Fingerprint()
+        .add(table.getTableType())
+        .add(table.getDefinition())
+        .add(table.getRemarks())
+        .add(primaryKey == null ? 0L : fingerprint(primaryKey))
+        .add(combine(table.getColumns(), Column::getName, StructuralFingerprints::fingerprint))
+        .add(
+            combine(
+                table.getImportedForeignKeys(),
+                ForeignKey::getName,
+                StructuralFingerprints::fingerprint))
+        .add(combine(table.getIndexes(), Index::getName, StructuralFingerprints::fingerprint))
+        .add(combine(table.getTriggers(), Trigger::getName, StructuralFingerprints::fingerprint))
+        .add(
+            combine(
+                tableConstraints(table),
+                TableConstraint::getName,
+                StructuralFingerprints::fingerprint))
+        .value();
+  }
+
+  static long fingerprint(final TableConstraint tableConstraint) {
+    final Fingerprint fingerprint = new Fingerprint();
+    for (final TableConstraintColumn column : tableConstraint.getConstrainedColumns()) {
+      fingerprint.add(column.getName());
+    }
+    return fingerprint
+        .add(tableConstraint.getType())
+        .add(tableConstraint.getDefinition())
+        .add(tableConstraint.getRemarks())
+        .value();
+  }
+
+  static long fingerprint(final Trigger trigger) {
+    return new Fingerprint()
+        .add(trigger.getEventManipulationType())
+        .add(trigger.getActionOrder())
+        .add(trigger.getActionCondition())
+        .add(trigger.getActionStatement())
+        .add(trigger.getActionOrientation())
+        .add(trigger.getConditionTiming())
+        .add(trigger.getRemarks())
+        .value();
+  }
+
+  /**
+   * Table constraints other than primary and foreign keys, which are compared on their own.
+   *
+   * @param table Table
+   * @return Check and unique constraints
+   */
+  static Collection<TableConstraint> tableConstraints(final Table table) {
+    final List<TableConstraint> tableConstraints = new ArrayList<>();
+    for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+      if (!(tableConstraint instanceof PrimaryKey || tableConstraint instanceof ForeignKey)) {
+        tableConstraints.add(tableConstraint);
+      }
+    }
+    return tableConstraints;
+  }
+
+  private static Fingerprint baseColumn(final BaseColumn<?> column) {
+    return new Fingerprint()
+        .add(column.getOrdinalPosition())
+        .add(column.getColumnDataType().getName())
+        .add(column.getSize())
+        .add(column.getDecimalDigits())
+        .add(column.isNullable());
+  }
+
+  /**
+   * Combines fingerprints of named dependent objects, independently of the order in which they are
+   * provided.
+   */
+  private static <N extends NamedObject> long combine(
+      final Collection<? extends N> namedObjects,
+      final Function<N, String> keyFunction,
+      final ToLongFunction<N> fingerprintFunction) {
+    long combined = namedObjects.size();
+    for (final N namedObject : namedObjects) {
+      combined +=
+          new Fingerprint()
+              .add(keyFunction.apply(namedObject))
+              .add(fingerprintFunction.applyAsLong(namedObject))
+              .value();
+    }
+    return combined;
+  }
+
+  private StructuralFingerprints() {
+    // Prevent instantiation
+  }
+}
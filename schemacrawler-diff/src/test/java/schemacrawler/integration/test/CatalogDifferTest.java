@@ -0,0 +1,125 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.integration.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.FileHasContent.classpathResource;
+import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
+import static schemacrawler.test.utility.FileHasContent.outputOf;
+import static schemacrawler.test.utility.TestUtility.copyResourceToTempFile;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestContext;
+import schemacrawler.test.utility.TestContextParameterResolver;
+import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.test.utility.TestWriter;
+import schemacrawler.tools.databaseconnector.DatabaseConnectionSource;
+import schemacrawler.tools.integration.diff.CatalogChange;
+import schemacrawler.tools.integration.diff.CatalogDiffer;
+import schemacrawler.tools.integration.diff.CatalogDifferBuilder;
+import schemacrawler.tools.sqlite.EmbeddedSQLiteWrapper;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+@ExtendWith(TestLoggingExtension.class)
+@ExtendWith(TestContextParameterResolver.class)
+public class CatalogDifferTest {
+
+  @Test
+  public void diffCatalog(final TestContext testContext) throws Exception {
+    final Catalog catalog1 = getCatalog("/test1.db");
+    final Catalog catalog2 = getCatalog("/test2.db");
+
+    final CatalogDiffer catalogDiffer = CatalogDifferBuilder.builder().build();
+
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      catalogDiffer.compare(catalog1, catalog2, change -> out.println(change));
+    }
+    assertThat(
+        outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
+  }
+
+  @Test
+  public void diffCatalogParallel() throws Exception {
+    final Catalog catalog1 = getCatalog("/test1.db");
+    final Catalog catalog2 = getCatalog("/test2.db");
+
+    final List<String> changes = new ArrayList<>();
+    for (final CatalogChange change :
+        CatalogDifferBuilder.builder().build().compare(catalog1, catalog2)) {
+      changes.add(change.toString());
+    }
+
+    final List<String> parallelChanges = new ArrayList<>();
+    for (final CatalogChange change :
+        CatalogDifferBuilder.builder().parallel(true).build().compare(catalog1, catalog2)) {
+      parallelChanges.add(change.toString());
+    }
+
+    assertThat(parallelChanges.isEmpty(), is(false));
+    assertThat(parallelChanges, containsInAnyOrder(changes.toArray()));
+  }
+
+  @Test
+  public void diffSameCatalog() throws Exception {
+    final Catalog catalog1 = getCatalog("/test1.db");
+    final Catalog catalog2 = getCatalog("/test1.db");
+
+    final CatalogDiffer catalogDiffer = CatalogDifferBuilder.builder().build();
+    assertThat(catalogDiffer.compare(catalog1, catalog2), is(empty()));
+    assertThat(catalogDiffer.compare(catalog1, catalog1), is(empty()));
+  }
+
+  private Catalog getCatalog(final String database) throws Exception {
+    final Path sqliteDbFile = copyResourceToTempFile(database);
+
+    final EmbeddedSQLiteWrapper sqLiteDatabaseLoader = new EmbeddedSQLiteWrapper();
+    sqLiteDatabaseLoader.loadDatabaseFile(sqliteDbFile);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final DatabaseConnectionSource connectionOptions =
+        sqLiteDatabaseLoader.createDatabaseConnectionSource();
+
+    return SchemaCrawlerUtility.getCatalog(connectionOptions.get(), schemaCrawlerOptions);
+  }
+}
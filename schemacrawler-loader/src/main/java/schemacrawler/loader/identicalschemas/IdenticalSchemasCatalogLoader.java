@@ -0,0 +1,135 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.loader.identicalschemas;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.catalogloader.BaseCatalogLoader;
+import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.executable.commandline.PluginCommand;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.StopWatch;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Finds groups of structurally identical schemas, such as tenant schemas, so that they can be
+ * reported once. Only the grouping is recorded, as schema attributes. The catalog still retains a
+ * full copy of the tables, columns and other objects of every schema, and serialized catalogs are
+ * not affected, so this loader does not reduce the memory used by a catalog.
+ */
+public final class IdenticalSchemasCatalogLoader extends BaseCatalogLoader {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(IdenticalSchemasCatalogLoader.class.getName());
+
+  private static final String OPTION_FIND_IDENTICAL_SCHEMAS = "find-identical-schemas";
+
+  public IdenticalSchemasCatalogLoader() {
+    super(new CommandDescription("identicalschemasloader", "Loader for identical schemas"), 4);
+  }
+
+  /**
+   * Groups schemas by their structural fingerprints, and marks every schema in a group with the
+   * first schema in that group.
+   */
+  public void findIdenticalSchemas() {
+    final Catalog catalog = getCatalog();
+
+    final Map<String, List<Schema>> schemasByFingerprint = new LinkedHashMap<>();
+    for (final Schema schema : catalog.getSchemas()) {
+      final String fingerprint = new SchemaStructureFingerprint(catalog, schema).fingerprint();
+      schemasByFingerprint.computeIfAbsent(fingerprint, key -> new ArrayList<>()).add(schema);
+    }
+
+    for (final List<Schema> identicalSchemas : schemasByFingerprint.values()) {
+      if (identicalSchemas.size() > 1) {
+        final Schema schema = identicalSchemas.get(0);
+        LOGGER.log(
+            Level.INFO,
+            new StringFormat(
+                "Schema <%s> has <%d> identical schemas", schema, identicalSchemas.size() - 1));
+        IdenticalSchemasUtility.addIdenticalSchemas(
+            schema, identicalSchemas.subList(1, identicalSchemas.size()));
+      }
+    }
+  }
+
+  @Override
+  public PluginCommand getCommandLineCommand() {
+    final CommandDescription commandDescription = getCommandDescription();
+    final PluginCommand pluginCommand =
+        PluginCommand.newCatalogLoaderCommand(
+            commandDescription.getName(), commandDescription.getDescription());
+    pluginCommand.addOption(
+        OPTION_FIND_IDENTICAL_SCHEMAS,
+        Boolean.class,
+        "Finds schemas that have an identical structure, such as tenant schemas",
+        "Identical schemas can be collapsed in text output",
+        "Optional, defaults to false");
+    return pluginCommand;
+  }
+
+  @Override
+  public void loadCatalog() {
+    if (!isLoaded()) {
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("loadIdenticalSchemas");
+
+    LOGGER.log(Level.INFO, "Finding identical schemas");
+    try {
+      stopWatch.time(
+          "findIdenticalSchemas",
+          () -> {
+            final Config config = getAdditionalConfiguration();
+            final boolean findIdenticalSchemas =
+                config.getBooleanValue(OPTION_FIND_IDENTICAL_SCHEMAS, false);
+            if (findIdenticalSchemas) {
+              findIdenticalSchemas();
+            } else {
+              LOGGER.log(Level.INFO, "Not finding identical schemas, since this was not requested");
+            }
+            return null;
+          });
+
+      LOGGER.log(Level.INFO, stopWatch.report());
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException("Exception finding identical schemas", e);
+    }
+  }
+}
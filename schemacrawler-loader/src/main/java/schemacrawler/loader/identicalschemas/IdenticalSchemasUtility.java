@@ -0,0 +1,92 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.loader.identicalschemas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import schemacrawler.schema.Schema;
+import us.fatehi.utility.UtilityMarker;
+
+@UtilityMarker
+public final class IdenticalSchemasUtility {
+
+  private static final String IDENTICAL_SCHEMAS_KEY = "schemacrawler.schema.identical_schemas";
+  private static final String IDENTICAL_TO_KEY = "schemacrawler.schema.identical_to";
+
+  /**
+   * Full names of schemas that are structurally identical to this schema, and that follow it in the
+   * catalog.
+   *
+   * @param schema Schema that was found first in a group of identical schemas
+   * @return Full names of the other schemas in the group, or an empty list
+   */
+  public static List<String> getIdenticalSchemas(final Schema schema) {
+    if (schema == null) {
+      return Collections.emptyList();
+    }
+    return schema.getAttribute(IDENTICAL_SCHEMAS_KEY, Collections.emptyList());
+  }
+
+  /**
+   * Full name of the schema that was found first in a group of structurally identical schemas.
+   *
+   * @param schema Schema
+   * @return Full name of the first schema, or null if this schema is not identical to an earlier
+   *     one
+   */
+  public static String getIdenticalTo(final Schema schema) {
+    if (schema == null) {
+      return null;
+    }
+    return schema.getAttribute(IDENTICAL_TO_KEY, null);
+  }
+
+  public static boolean isIdenticalToAnotherSchema(final Schema schema) {
+    return schema != null && schema.hasAttribute(IDENTICAL_TO_KEY);
+  }
+
+  static void addIdenticalSchemas(final Schema schema, final List<Schema> identicalSchemas) {
+    if (schema == null || identicalSchemas == null || identicalSchemas.isEmpty()) {
+      return;
+    }
+
+    final ArrayList<String> identicalSchemaNames = new ArrayList<>();
+    for (final Schema identicalSchema : identicalSchemas) {
+      identicalSchemaNames.add(identicalSchema.getFullName());
+      identicalSchema.setAttribute(IDENTICAL_TO_KEY, schema.getFullName());
+    }
+    schema.setAttribute(IDENTICAL_SCHEMAS_KEY, identicalSchemaNames);
+  }
+
+  private IdenticalSchemasUtility() {
+    // Prevent instantiation
+  }
+}
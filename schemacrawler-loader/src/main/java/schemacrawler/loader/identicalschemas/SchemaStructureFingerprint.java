@@ -0,0 +1,260 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.loader.identicalschemas;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+
+/**
+ * Fingerprint of the structure of a schema, that does not depend on the name of the schema.
+ * References to objects in the same schema use unqualified names, and references to objects in
+ * other schemas use full names, so two schemas have the same fingerprint only if they have the same
+ * tables, view definitions, columns, keys, constraints, indexes, triggers, routines, sequences and
+ * synonyms. Keys, constraints and indexes are compared by their structure, and not by their names.
+ * Definitions are compared with names that qualify objects by the schema name replaced, since
+ * databases often qualify references in stored definitions.
+ */
+final class SchemaStructureFingerprint {
+
+  private static final Comparator<NamedObject> byName = Comparator.comparing(NamedObject::getName);
+
+  private final Catalog catalog;
+  private final MessageDigest digest;
+  private final Schema schema;
+  private final Pattern schemaQualifier;
+
+  SchemaStructureFingerprint(final Catalog catalog, final Schema schema) {
+    this.catalog = catalog;
+    this.schema = schema;
+    // Matches the schema name, quoted or not, followed by a period,
+    // but not as the end of a longer identifier
+    final String schemaName = schema.getName();
+    schemaQualifier =
+        Pattern.compile(
+            String.format(
+                "(?<![\\w$\"])(?:%s|\"%s\")\\.",
+                Pattern.quote(schemaName), Pattern.quote(schemaName)));
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new InternalRuntimeException("Cannot compute schema fingerprints", e);
+    }
+  }
+
+  String fingerprint() {
+    for (final Table table : sorted(catalog.getTables(schema))) {
+      add(table);
+    }
+    for (final Routine routine : catalog.getRoutines(schema)) {
+      add(routine);
+    }
+    for (final Sequence sequence : sorted(catalog.getSequences(schema))) {
+      add("sequence", sequence.getName(), sequence.getIncrement(), sequence.getMinimumValue());
+      add(sequence.getMaximumValue(), sequence.isCycle());
+    }
+    for (final Synonym synonym : sorted(catalog.getSynonyms(schema))) {
+      add("synonym", synonym.getName(), reference(synonym.getReferencedObject()));
+    }
+    return Base64.getEncoder().encodeToString(digest.digest());
+  }
+
+  private void add(final Column column) {
+    add(
+        "column",
+        column.getName(),
+        column.getOrdinalPosition(),
+        column.getColumnDataType().getName(),
+        column.getSize(),
+        column.getDecimalDigits(),
+        column.isNullable());
+    add(
+        column.getDefaultValue(),
+        column.isAutoIncremented(),
+        column.isGenerated(),
+        column.isHidden(),
+        column.getRemarks());
+  }
+
+  private void add(final Object... values) {
+    for (final Object value : values) {
+      digest.update(String.valueOf(value).getBytes(UTF_8));
+      digest.update((byte) 0);
+    }
+  }
+
+  private void add(final Routine routine) {
+    // Specific names are generated by some databases, so they are not
+    // the same for identical routines in different schemas
+    add("routine", routine.getName(), routine.getRoutineType(), routine.getReturnType());
+    add(routine.getRoutineBodyType(), definition(routine.getDefinition()), routine.getRemarks());
+    final List<RoutineParameter<?>> parameters = new ArrayList<>(routine.getParameters());
+    for (final RoutineParameter<?> parameter : parameters) {
+      add("parameter", parameter.getName(), parameter.getParameterMode());
+      add(parameter.getOrdinalPosition(), parameter.getColumnDataType().getName());
+    }
+  }
+
+  private void add(final Table table) {
+    add("table", table.getName(), table.getTableType(), table.getRemarks());
+    add("definition", definition(table.getDefinition()));
+    for (final Column column : table.getColumns()) {
+      add(column);
+    }
+
+    // Names of keys and indexes are not compared, since some databases
+    // generate unique names for them, but their structure is compared
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey != null) {
+      add("primary key");
+      for (final TableConstraintColumn column : primaryKey.getConstrainedColumns()) {
+        add(column.getName());
+      }
+    }
+
+    final List<String> foreignKeys = new ArrayList<>();
+    for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      final StringJoiner foreignKeyStructure =
+          new StringJoiner(", ", "[", "]")
+              .add(String.valueOf(foreignKey.getUpdateRule()))
+              .add(String.valueOf(foreignKey.getDeleteRule()))
+              .add(String.valueOf(foreignKey.getDeferrability()));
+      for (final ColumnReference columnReference : foreignKey) {
+        final Column pkColumn = columnReference.getPrimaryKeyColumn();
+        foreignKeyStructure
+            .add(columnReference.getForeignKeyColumn().getName())
+            .add(reference(pkColumn.getParent()))
+            .add(pkColumn.getName());
+      }
+      foreignKeys.add(foreignKeyStructure.toString());
+    }
+    Collections.sort(foreignKeys);
+    add("foreign keys", foreignKeys);
+
+    // Primary and foreign keys are compared above
+    final List<String> constraints = new ArrayList<>();
+    for (final TableConstraint constraint : table.getTableConstraints()) {
+      final TableConstraintType constraintType = constraint.getType();
+      if (constraintType == TableConstraintType.primary_key
+          || constraintType == TableConstraintType.foreign_key) {
+        continue;
+      }
+      final StringJoiner constraintStructure =
+          new StringJoiner(", ", "[", "]")
+              .add(String.valueOf(constraintType))
+              .add(String.valueOf(constraint.isDeferrable()))
+              .add(String.valueOf(constraint.isInitiallyDeferred()));
+      for (final TableConstraintColumn column : constraint.getConstrainedColumns()) {
+        constraintStructure.add(column.getName());
+      }
+      constraintStructure.add(definition(constraint.getDefinition()));
+      constraints.add(constraintStructure.toString());
+    }
+    Collections.sort(constraints);
+    add("constraints", constraints);
+
+    final List<String> indexes = new ArrayList<>();
+    for (final Index index : table.getIndexes()) {
+      final StringJoiner indexStructure =
+          new StringJoiner(", ", "[", "]")
+              .add(String.valueOf(index.isUnique()))
+              .add(String.valueOf(index.getIndexType()));
+      for (final IndexColumn indexColumn : index.getColumns()) {
+        indexStructure
+            .add(indexColumn.getName())
+            .add(String.valueOf(indexColumn.getSortSequence()));
+      }
+      indexes.add(indexStructure.toString());
+    }
+    Collections.sort(indexes);
+    add("indexes", indexes);
+
+    for (final Trigger trigger : sorted(table.getTriggers())) {
+      add("trigger", trigger.getName(), trigger.getEventManipulationType());
+      add(trigger.getConditionTiming(), trigger.getActionOrientation());
+      add(definition(trigger.getActionCondition()), definition(trigger.getActionStatement()));
+    }
+  }
+
+  /** Definition text, with qualifiers that name this schema replaced by a placeholder. */
+  private String definition(final String definition) {
+    if (definition == null || definition.isEmpty()) {
+      return definition;
+    }
+    return schemaQualifier.matcher(definition).replaceAll(Matcher.quoteReplacement("${schema}."));
+  }
+
+  /** Name of a referenced object, qualified only if it is in a different schema. */
+  private String reference(final DatabaseObject databaseObject) {
+    if (databaseObject == null) {
+      return null;
+    }
+    if (schema.equals(databaseObject.getSchema())) {
+      return databaseObject.getName();
+    }
+    return databaseObject.getFullName();
+  }
+
+  private <N extends NamedObject> List<N> sorted(final Collection<N> namedObjects) {
+    final List<N> sorted = new ArrayList<>(namedObjects);
+    sorted.sort(byName);
+    return sorted;
+  }
+}
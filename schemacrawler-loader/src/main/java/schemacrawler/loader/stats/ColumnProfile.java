@@ -0,0 +1,130 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.JavaSqlTypeGroup;
+
+/**
+ * Streaming profile of the values of a column in a sample of rows. Distinct counts and minimum and
+ * maximum values are only tracked for columns with simple data types, and large objects are never
+ * held in memory.
+ */
+final class ColumnProfile {
+
+  private static final Set<JavaSqlTypeGroup> PROFILED_TYPE_GROUPS =
+      EnumSet.of(
+          JavaSqlTypeGroup.bit,
+          JavaSqlTypeGroup.character,
+          JavaSqlTypeGroup.id,
+          JavaSqlTypeGroup.integer,
+          JavaSqlTypeGroup.real,
+          JavaSqlTypeGroup.temporal);
+
+  private static boolean isProfiled(final Column column) {
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    return columnDataType != null
+        && PROFILED_TYPE_GROUPS.contains(columnDataType.getJavaSqlType().getJavaSqlTypeGroup());
+  }
+
+  private final Column column;
+  private final DistinctCountEstimator distinctCountEstimator;
+  private long rowCount;
+  private long nullCount;
+  private Comparable<Object> minimumValue;
+  private Comparable<Object> maximumValue;
+
+  ColumnProfile(final Column column) {
+    this.column = requireNonNull(column, "No column provided");
+    if (isProfiled(column)) {
+      distinctCountEstimator = new DistinctCountEstimator();
+    } else {
+      distinctCountEstimator = null;
+    }
+  }
+
+  void add(final Object value) {
+    rowCount++;
+    if (value == null) {
+      nullCount++;
+      return;
+    }
+    if (distinctCountEstimator == null) {
+      return;
+    }
+
+    distinctCountEstimator.add(value);
+    if (value instanceof Comparable) {
+      @SuppressWarnings("unchecked")
+      final Comparable<Object> comparableValue = (Comparable<Object>) value;
+      if (minimumValue == null
+          || minimumValue.getClass() == value.getClass()
+              && comparableValue.compareTo(minimumValue) < 0) {
+        minimumValue = comparableValue;
+      }
+      if (maximumValue == null
+          || maximumValue.getClass() == value.getClass()
+              && comparableValue.compareTo(maximumValue) > 0) {
+        maximumValue = comparableValue;
+      }
+    }
+  }
+
+  Column getColumn() {
+    return column;
+  }
+
+  long getDistinctCount() {
+    if (distinctCountEstimator == null) {
+      return -1;
+    }
+    return distinctCountEstimator.estimate();
+  }
+
+  Object getMaximumValue() {
+    return maximumValue;
+  }
+
+  Object getMinimumValue() {
+    return minimumValue;
+  }
+
+  long getNullCount() {
+    return nullCount;
+  }
+
+  long getRowCount() {
+    return rowCount;
+  }
+}
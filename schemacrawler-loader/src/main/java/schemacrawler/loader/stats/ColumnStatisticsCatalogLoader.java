@@ -0,0 +1,147 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+import java.sql.Connection;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.tools.catalogloader.BaseCatalogLoader;
+import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.executable.commandline.PluginCommand;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.StopWatch;
+
+public class ColumnStatisticsCatalogLoader extends BaseCatalogLoader {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(ColumnStatisticsCatalogLoader.class.getName());
+
+  private static final String OPTION_LOAD_COLUMN_STATISTICS = "load-column-statistics";
+  private static final String OPTION_SAMPLE_SIZE = "column-statistics-sample-size";
+  private static final String OPTION_SAMPLE_QUERY = "column-statistics-sample-query";
+  private static final String OPTION_PARALLELISM = "column-statistics-parallelism";
+
+  private static final int DEFAULT_SAMPLE_SIZE = 10_000;
+  private static final int DEFAULT_PARALLELISM = 1;
+
+  public ColumnStatisticsCatalogLoader() {
+    super(new CommandDescription("columnstatisticsloader", "Loader for column statistics"), 5);
+  }
+
+  @Override
+  public PluginCommand getCommandLineCommand() {
+    final CommandDescription commandDescription = getCommandDescription();
+    final PluginCommand pluginCommand =
+        PluginCommand.newCatalogLoaderCommand(
+            commandDescription.getName(), commandDescription.getDescription());
+    pluginCommand
+        .addOption(
+            OPTION_LOAD_COLUMN_STATISTICS,
+            Boolean.class,
+            "Loads null fraction, distinct count estimate, and minimum and maximum values for "
+                + "each column, from a sample of rows",
+            "This can be a time consuming operation",
+            "Optional, defaults to false")
+        .addOption(
+            OPTION_SAMPLE_SIZE,
+            Integer.class,
+            "Maximum number of rows to sample from each table",
+            "Use 0 to read all rows",
+            "Optional, defaults to " + DEFAULT_SAMPLE_SIZE)
+        .addOption(
+            OPTION_SAMPLE_QUERY,
+            String.class,
+            "Query for a sample of rows from each table",
+            "Use a database specific sampling clause, such as TABLESAMPLE or SAMPLE",
+            "Optional, defaults to a sampling clause for PostgreSQL, Oracle, SQL Server and DB2 "
+                + "if table row counts are loaded, otherwise rows from the start of the table")
+        .addOption(
+            OPTION_PARALLELISM,
+            Integer.class,
+            "Maximum number of tables to sample at the same time, each on its own connection",
+            "Tables are sampled one at a time if there is no data source for additional "
+                + "connections",
+            "Optional, defaults to " + DEFAULT_PARALLELISM);
+    return pluginCommand;
+  }
+
+  @Override
+  public void loadCatalog() {
+    if (!isLoaded()) {
+      return;
+    }
+
+    final Config config = getAdditionalConfiguration();
+    final boolean loadColumnStatistics =
+        config.getBooleanValue(OPTION_LOAD_COLUMN_STATISTICS, false);
+    if (!loadColumnStatistics) {
+      LOGGER.log(Level.INFO, "Not retrieving column statistics, since this was not requested");
+      return;
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving column statistics");
+    final StopWatch stopWatch = new StopWatch("loadColumnStatistics");
+    try {
+      final ColumnStatisticsRetriever columnStatisticsRetriever =
+          new ColumnStatisticsRetriever(
+              getCatalog(),
+              config.getStringValue(OPTION_SAMPLE_QUERY, null),
+              config.getIntegerValue(OPTION_SAMPLE_SIZE, DEFAULT_SAMPLE_SIZE));
+      final int parallelism = config.getIntegerValue(OPTION_PARALLELISM, DEFAULT_PARALLELISM);
+      final Supplier<Connection> dataSource = getDataSource();
+      if (parallelism > 1 && dataSource != null) {
+        stopWatch.time(
+            "retrieveColumnStatistics",
+            () -> {
+              columnStatisticsRetriever.retrieveColumnStatistics(dataSource, parallelism);
+              return null;
+            });
+      } else {
+        if (parallelism > 1) {
+          LOGGER.log(
+              Level.INFO,
+              "Retrieving column statistics one table at a time, since no data source is"
+                  + " available");
+        }
+        stopWatch.time(
+            "retrieveColumnStatistics",
+            () -> {
+              columnStatisticsRetriever.retrieveColumnStatistics(getConnection());
+              return null;
+            });
+      }
+
+      LOGGER.log(Level.INFO, stopWatch.report());
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException("Exception retrieving column statistics", e);
+    }
+  }
+}
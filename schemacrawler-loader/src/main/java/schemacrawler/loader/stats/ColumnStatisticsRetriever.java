@@ -0,0 +1,232 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCount;
+import static schemacrawler.loader.stats.ColumnStatisticsUtility.addColumnStatisticsToColumn;
+import static schemacrawler.loader.stats.SampleQueries.ALL_ROWS_QUERY;
+import static schemacrawler.loader.stats.SampleQueries.tableSampleQuery;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
+import static us.fatehi.utility.ConcurrencyUtility.executeConcurrently;
+import static us.fatehi.utility.ConcurrencyUtility.throwOnFailures;
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.database.DatabaseUtility.checkConnection;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.Retriever;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.utility.NamedObjectSort;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Profiles the columns of each table from a sample of rows, which are streamed from the database
+ * one row at a time. The number of rows read for each table is capped at the sample size. Rows are
+ * sampled from across the table with a database specific sampling clause if the database supports
+ * it and the table row count has been loaded. Otherwise, rows are read from the start of the table,
+ * and statistics are labeled as approximate with {@link SampleMethod#row_prefix}. A sample query,
+ * such as <code>SELECT ${columns} FROM ${table} TABLESAMPLE SYSTEM (1)</code>, can also be
+ * provided, and is used for all tables.
+ */
+@Retriever
+public final class ColumnStatisticsRetriever {
+
+  private static final Logger LOGGER = Logger.getLogger(ColumnStatisticsRetriever.class.getName());
+
+  private static final String QUERY_NAME = "schemacrawler.column.statistics";
+
+  private final Catalog catalog;
+  private final String sampleQuery;
+  private final int sampleSize;
+
+  /**
+   * Retriever for column statistics.
+   *
+   * @param catalog Catalog with tables to profile
+   * @param sampleQuery Query for a sample of rows, with ${columns} and ${table} parameters, or null
+   *     to sample rows in a database specific way
+   * @param sampleSize Maximum number of rows to read for each table, or zero to read all rows
+   */
+  public ColumnStatisticsRetriever(
+      final Catalog catalog, final String sampleQuery, final int sampleSize) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    if (isBlank(sampleQuery)) {
+      this.sampleQuery = null;
+    } else {
+      this.sampleQuery = sampleQuery;
+    }
+    this.sampleSize = Math.max(0, sampleSize);
+  }
+
+  /**
+   * Retrieves column statistics for all tables, one table at a time.
+   *
+   * @param connection Live database connection
+   * @throws SQLException On an exception obtaining database identifiers
+   */
+  public void retrieveColumnStatistics(final Connection connection) throws SQLException {
+    checkConnection(connection);
+    retrieveColumnStatistics(connection, new ConcurrentLinkedQueue<>(catalog.getTables()));
+  }
+
+  /**
+   * Retrieves column statistics for all tables, with several tables profiled in parallel. Each
+   * thread uses its own connection from the connection source for all of the tables that it
+   * profiles.
+   *
+   * @param connectionSource Source of database connections, such as a {@link
+   *     schemacrawler.tools.databaseconnector.DatabaseConnectionPool}.
+   * @param parallelism Maximum number of tables to profile at the same time.
+   */
+  public void retrieveColumnStatistics(
+      final Supplier<Connection> connectionSource, final int parallelism) {
+    requireNonNull(connectionSource, "No connection source provided");
+
+    // Each task uses one connection for as many tables as it can take
+    // from the queue
+    final Queue<Table> tablesQueue = new ConcurrentLinkedQueue<>(catalog.getTables());
+    final int taskCount = Math.max(1, Math.min(parallelism, tablesQueue.size()));
+    final List<Callable<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < taskCount; i++) {
+      tasks.add(
+          () -> {
+            try (final Connection connection = connectionSource.get()) {
+              retrieveColumnStatistics(checkConnection(connection), tablesQueue);
+            }
+            return null;
+          });
+    }
+    final List<Throwable> failures =
+        executeConcurrently("column statistics threads", tasks, taskCount);
+    throwOnFailures(
+        "column statistics threads", taskCount, failures, ExecutionRuntimeException::new);
+  }
+
+  private void retrieveColumnStatistics(final Connection connection, final Queue<Table> tables)
+      throws SQLException {
+    final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
+    Table table;
+    while ((table = tables.poll()) != null) {
+      try {
+        retrieveColumnStatistics(connection, identifiers, table);
+      } catch (final SQLException e) {
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Could not get column statistics for table <%s>", table));
+      }
+    }
+  }
+
+  private void retrieveColumnStatistics(
+      final Connection connection, final Identifiers identifiers, final Table table)
+      throws SQLException {
+    // Columns are in the same order as ${columns} in the sample query
+    final List<Column> columns = table.getColumns();
+    columns.sort(NamedObjectSort.natural);
+    final List<ColumnProfile> columnProfiles = new ArrayList<>();
+    for (final Column column : columns) {
+      columnProfiles.add(new ColumnProfile(column));
+    }
+
+    SampleMethod sampleMethod;
+    final Query query;
+    if (sampleQuery != null) {
+      sampleMethod = SampleMethod.sample_query;
+      query = new Query(QUERY_NAME, sampleQuery);
+    } else {
+      final long rowCount = getRowCount(table);
+      final Optional<String> tableSampleQuery =
+          tableSampleQuery(
+              catalog.getDatabaseInfo().getDatabaseProductName(), rowCount, sampleSize);
+      if (tableSampleQuery.isPresent()) {
+        sampleMethod = SampleMethod.table_sample;
+        query = new Query(QUERY_NAME, tableSampleQuery.get());
+      } else {
+        if (sampleSize == 0 || rowCount >= 0 && rowCount <= sampleSize) {
+          sampleMethod = SampleMethod.all_rows;
+        } else {
+          sampleMethod = SampleMethod.row_prefix;
+        }
+        query = new Query(QUERY_NAME, ALL_ROWS_QUERY);
+      }
+    }
+
+    try (final Statement statement = connection.createStatement()) {
+      statement.setMaxRows(sampleSize);
+      try (final ResultSet results =
+          executeAgainstTable(query, statement, table, false, identifiers)) {
+        if (results == null) {
+          return;
+        }
+        final int columnCount = results.getMetaData().getColumnCount();
+        if (columnCount != columnProfiles.size()) {
+          LOGGER.log(
+              Level.WARNING,
+              new StringFormat(
+                  "Sample query for table <%s> returned %d columns, expected %d",
+                  table, columnCount, columnProfiles.size()));
+          return;
+        }
+        int rowsRead = 0;
+        while (results.next()) {
+          for (int i = 0; i < columnCount; i++) {
+            columnProfiles.get(i).add(results.getObject(i + 1));
+          }
+          rowsRead++;
+        }
+        // If the rows ran out before the sample size, the whole table was read
+        if (sampleMethod == SampleMethod.row_prefix && rowsRead < sampleSize) {
+          sampleMethod = SampleMethod.all_rows;
+        }
+      }
+    }
+
+    for (final ColumnProfile columnProfile : columnProfiles) {
+      addColumnStatisticsToColumn(columnProfile, sampleMethod);
+    }
+  }
+}
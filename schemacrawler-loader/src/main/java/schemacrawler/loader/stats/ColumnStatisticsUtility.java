@@ -0,0 +1,128 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+import schemacrawler.schema.Column;
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Column statistics from a sample of rows, which are stored as column attributes. Statistics are
+ * estimates, since they are computed from a sample, and distinct counts are approximate. The sample
+ * method shows how the rows were selected.
+ */
+@UtilityMarker
+public final class ColumnStatisticsUtility {
+
+  private static final String SAMPLE_SIZE_KEY = "schemacrawler.column.statistics.sample_size";
+  private static final String SAMPLE_METHOD_KEY = "schemacrawler.column.statistics.sample_method";
+  private static final String NULL_FRACTION_KEY = "schemacrawler.column.statistics.null_fraction";
+  private static final String DISTINCT_COUNT_KEY = "schemacrawler.column.statistics.distinct_count";
+  private static final String MINIMUM_VALUE_KEY = "schemacrawler.column.statistics.min_value";
+  private static final String MAXIMUM_VALUE_KEY = "schemacrawler.column.statistics.max_value";
+
+  private static final long UNKNOWN = -1;
+
+  public static long getDistinctCount(final Column column) {
+    if (column == null) {
+      return UNKNOWN;
+    }
+    return column.getAttribute(DISTINCT_COUNT_KEY, UNKNOWN);
+  }
+
+  public static String getMaximumValue(final Column column) {
+    if (column == null) {
+      return null;
+    }
+    return column.getAttribute(MAXIMUM_VALUE_KEY);
+  }
+
+  public static String getMinimumValue(final Column column) {
+    if (column == null) {
+      return null;
+    }
+    return column.getAttribute(MINIMUM_VALUE_KEY);
+  }
+
+  public static double getNullFraction(final Column column) {
+    if (column == null) {
+      return UNKNOWN;
+    }
+    return column.getAttribute(NULL_FRACTION_KEY, (double) UNKNOWN);
+  }
+
+  public static SampleMethod getSampleMethod(final Column column) {
+    if (column == null) {
+      return null;
+    }
+    return column.getAttribute(SAMPLE_METHOD_KEY);
+  }
+
+  public static long getSampleSize(final Column column) {
+    if (column == null) {
+      return UNKNOWN;
+    }
+    return column.getAttribute(SAMPLE_SIZE_KEY, UNKNOWN);
+  }
+
+  public static boolean hasColumnStatistics(final Column column) {
+    return column != null && column.hasAttribute(SAMPLE_SIZE_KEY);
+  }
+
+  static void addColumnStatisticsToColumn(
+      final ColumnProfile columnProfile, final SampleMethod sampleMethod) {
+    if (columnProfile == null) {
+      return;
+    }
+
+    final Column column = columnProfile.getColumn();
+    final long rowCount = columnProfile.getRowCount();
+    column.setAttribute(SAMPLE_SIZE_KEY, rowCount);
+    column.setAttribute(SAMPLE_METHOD_KEY, sampleMethod);
+    if (rowCount == 0) {
+      return;
+    }
+
+    column.setAttribute(NULL_FRACTION_KEY, (double) columnProfile.getNullCount() / rowCount);
+    final long distinctCount = columnProfile.getDistinctCount();
+    if (distinctCount >= 0) {
+      column.setAttribute(DISTINCT_COUNT_KEY, distinctCount);
+    }
+    final Object minimumValue = columnProfile.getMinimumValue();
+    if (minimumValue != null) {
+      column.setAttribute(MINIMUM_VALUE_KEY, String.valueOf(minimumValue));
+    }
+    final Object maximumValue = columnProfile.getMaximumValue();
+    if (maximumValue != null) {
+      column.setAttribute(MAXIMUM_VALUE_KEY, String.valueOf(maximumValue));
+    }
+  }
+
+  private ColumnStatisticsUtility() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,115 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog estimator for the number of distinct values in a column, which is updated one value
+ * at a time as rows are streamed from the database, and uses a fixed amount of memory, no matter
+ * how many rows are read. Small counts use linear counting, and are close to exact.
+ */
+final class DistinctCountEstimator {
+
+  private static final int PRECISION = 12;
+  private static final int REGISTER_COUNT = 1 << PRECISION;
+
+  /**
+   * Hashes a value using its string form, so that values that are equal as strings are counted
+   * once.
+   */
+  private static long hash(final Object value) {
+    final byte[] bytes;
+    if (value instanceof byte[]) {
+      bytes = (byte[]) value;
+    } else {
+      bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // FNV-1a, followed by the MurmurHash3 finalizer to spread the bits
+    long hash = 0xcbf29ce484222325L;
+    for (final byte b : bytes) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private final byte[] registers;
+
+  DistinctCountEstimator() {
+    registers = new byte[REGISTER_COUNT];
+  }
+
+  /**
+   * Adds a non-null value to the estimate.
+   *
+   * @param value Value to add
+   */
+  void add(final Object value) {
+    if (value == null) {
+      return;
+    }
+    final long hash = hash(value);
+    final int index = (int) (hash >>> (Long.SIZE - PRECISION));
+    final byte rank =
+        (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+    if (rank > registers[index]) {
+      registers[index] = rank;
+    }
+  }
+
+  /**
+   * Estimated number of distinct values added so far.
+   *
+   * @return Estimated number of distinct values
+   */
+  long estimate() {
+    double sum = 0;
+    int zeroRegisters = 0;
+    for (final byte register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0) {
+        zeroRegisters++;
+      }
+    }
+
+    final double alpha = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    double estimate = alpha * REGISTER_COUNT * REGISTER_COUNT / sum;
+    if (estimate <= 2.5 * REGISTER_COUNT && zeroRegisters > 0) {
+      // Linear counting for small cardinalities
+      estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisters);
+    }
+    return Math.round(estimate);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+/** How the rows that column statistics are computed from were selected from a table. */
+public enum SampleMethod {
+  /** All rows of the table were read. */
+  all_rows,
+  /** Rows were sampled from across the table, with a database specific sampling clause. */
+  table_sample,
+  /**
+   * Rows were read from the start of the table, since the database does not support sampling, or
+   * the number of rows in the table is not known. Statistics are approximate, and may not be
+   * representative of the whole table.
+   */
+  row_prefix,
+  /** Rows were read with a sample query that was provided in the configuration. */
+  sample_query;
+}
@@ -0,0 +1,84 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Database specific sample queries, which read a percentage of rows from across the whole table.
+ * The percentage is computed from the number of rows in the table, so table row counts need to be
+ * loaded for tables to be sampled. Databases sample blocks of rows rather than individual rows, so
+ * the number of rows that are returned is approximate.
+ */
+@UtilityMarker
+final class SampleQueries {
+
+  static final String ALL_ROWS_QUERY = "SELECT ${columns} FROM ${table}";
+
+  /**
+   * Query that samples a percentage of rows from a table, if the database supports sampling.
+   *
+   * @param databaseProductName Database product name, from database metadata
+   * @param rowCount Number of rows in the table
+   * @param sampleSize Number of rows to sample, which is less than the number of rows
+   * @return Sample query, or empty if the database does not support sampling
+   */
+  static Optional<String> tableSampleQuery(
+      final String databaseProductName, final long rowCount, final int sampleSize) {
+    if (databaseProductName == null || rowCount <= 0 || sampleSize <= 0 || sampleSize >= rowCount) {
+      return Optional.empty();
+    }
+
+    final String sampleClause;
+    if (databaseProductName.equals("PostgreSQL") || databaseProductName.startsWith("DB2")) {
+      sampleClause = "TABLESAMPLE SYSTEM (%s)";
+    } else if (databaseProductName.equals("Oracle")) {
+      sampleClause = "SAMPLE BLOCK (%s)";
+    } else if (databaseProductName.equals("Microsoft SQL Server")) {
+      sampleClause = "TABLESAMPLE (%s PERCENT)";
+    } else {
+      return Optional.empty();
+    }
+
+    // Oracle does not allow a sample percentage of less than 0.000001
+    final String percent =
+        BigDecimal.valueOf(100.0 * sampleSize / rowCount)
+            .setScale(6, RoundingMode.UP)
+            .stripTrailingZeros()
+            .toPlainString();
+    return Optional.of(ALL_ROWS_QUERY + " " + String.format(sampleClause, percent));
+  }
+
+  private SampleQueries() {
+    // Prevent instantiation
+  }
+}
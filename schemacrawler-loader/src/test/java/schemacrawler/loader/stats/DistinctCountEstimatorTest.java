@@ -0,0 +1,72 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.junit.jupiter.api.Test;
+
+public class DistinctCountEstimatorTest {
+
+  @Test
+  public void empty() {
+    final DistinctCountEstimator estimator = new DistinctCountEstimator();
+    assertThat(estimator.estimate(), is(0L));
+
+    estimator.add(null);
+    assertThat(estimator.estimate(), is(0L));
+  }
+
+  @Test
+  public void largeCardinality() {
+    final DistinctCountEstimator estimator = new DistinctCountEstimator();
+    for (int i = 0; i < 100_000; i++) {
+      estimator.add("value" + i);
+    }
+    // Standard error is about 1.6% with 4096 registers
+    assertThat(estimator.estimate(), is(allOf(greaterThan(95_000L), lessThan(105_000L))));
+  }
+
+  @Test
+  public void smallCardinality() {
+    final DistinctCountEstimator estimator = new DistinctCountEstimator();
+    for (int i = 0; i < 10; i++) {
+      estimator.add(i % 5);
+      estimator.add(String.valueOf(i % 5));
+    }
+    assertThat(estimator.estimate(), is(5L));
+
+    estimator.add(new byte[] {1, 2, 3});
+    estimator.add(new byte[] {1, 2, 3});
+    assertThat(estimator.estimate(), is(6L));
+  }
+}
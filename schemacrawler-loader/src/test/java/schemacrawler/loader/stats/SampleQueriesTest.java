@@ -0,0 +1,67 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.loader.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.loader.stats.SampleQueries.tableSampleQuery;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class SampleQueriesTest {
+
+  @Test
+  public void noTableSample() {
+    // Unsupported database
+    assertThat(tableSampleQuery("HSQL Database Engine", 1_000, 10), is(Optional.empty()));
+    // Unknown row count
+    assertThat(tableSampleQuery("PostgreSQL", -1, 10), is(Optional.empty()));
+    // Sample is the whole table
+    assertThat(tableSampleQuery("PostgreSQL", 10, 10), is(Optional.empty()));
+    assertThat(tableSampleQuery("PostgreSQL", 10, 0), is(Optional.empty()));
+    assertThat(tableSampleQuery(null, 1_000, 10), is(Optional.empty()));
+  }
+
+  @Test
+  public void tableSample() {
+    assertThat(
+        tableSampleQuery("PostgreSQL", 1_000, 10).get(),
+        is("SELECT ${columns} FROM ${table} TABLESAMPLE SYSTEM (1)"));
+    assertThat(
+        tableSampleQuery("DB2/LINUXX8664", 1_000, 10).get(),
+        is("SELECT ${columns} FROM ${table} TABLESAMPLE SYSTEM (1)"));
+    assertThat(
+        tableSampleQuery("Microsoft SQL Server", 3_000, 1_000).get(),
+        is("SELECT ${columns} FROM ${table} TABLESAMPLE (33.333334 PERCENT)"));
+    assertThat(
+        tableSampleQuery("Oracle", 10_000_000_000L, 1).get(),
+        is("SELECT ${columns} FROM ${table} SAMPLE BLOCK (0.000001)"));
+  }
+}
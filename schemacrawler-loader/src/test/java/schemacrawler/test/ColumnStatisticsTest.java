@@ -0,0 +1,226 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCount;
+import static schemacrawler.loader.stats.ColumnStatisticsUtility.getDistinctCount;
+import static schemacrawler.loader.stats.ColumnStatisticsUtility.getMaximumValue;
+import static schemacrawler.loader.stats.ColumnStatisticsUtility.getMinimumValue;
+import static schemacrawler.loader.stats.ColumnStatisticsUtility.getNullFraction;
+import static schemacrawler.loader.stats.ColumnStatisticsUtility.getSampleMethod;
+import static schemacrawler.loader.stats.ColumnStatisticsUtility.getSampleSize;
+import static schemacrawler.loader.stats.ColumnStatisticsUtility.hasColumnStatistics;
+import static schemacrawler.test.utility.FileHasContent.classpathResource;
+import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
+import static schemacrawler.test.utility.FileHasContent.outputOf;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.loader.stats.SampleMethod;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestContext;
+import schemacrawler.test.utility.TestContextParameterResolver;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.test.utility.TestUtility;
+import schemacrawler.test.utility.TestWriter;
+import schemacrawler.tools.databaseconnector.DatabaseConnectionPool;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+@ExtendWith(TestContextParameterResolver.class)
+public class ColumnStatisticsTest {
+
+  @Test
+  public void columnStatistics(final TestContext testContext, final Connection connection)
+      throws Exception {
+    final Catalog catalog = loadCatalog(connection, true);
+    assertColumnStatistics(catalog, testContext.testMethodFullName());
+  }
+
+  @Test
+  public void columnStatisticsInParallel(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            final Connection connection =
+                DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+            connectionCount.incrementAndGet();
+            return connection;
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException(e);
+          }
+        };
+
+    final Config additionalConfig = newAdditionalConfig(true);
+    additionalConfig.put("column-statistics-parallelism", 2);
+
+    final Catalog catalog;
+    try (final DatabaseConnectionPool dataSource = new DatabaseConnectionPool(connectionSource)) {
+      catalog =
+          SchemaCrawlerUtility.getCatalog(
+              dataSource,
+              TestUtility.newSchemaRetrievalOptions(),
+              newSchemaCrawlerOptions(),
+              additionalConfig);
+    }
+
+    // Tables are sampled on connections other than the one used for the crawl
+    assertThat(connectionCount.get(), is(greaterThan(1)));
+    assertColumnStatistics(catalog, "ColumnStatisticsTest.columnStatistics");
+  }
+
+  @Test
+  public void noColumnStatistics(final Connection connection) throws Exception {
+    final Catalog catalog = loadCatalog(connection, false);
+    for (final Table table : catalog.getTables()) {
+      for (final Column column : table.getColumns()) {
+        assertThat(hasColumnStatistics(column), is(false));
+        assertThat(getSampleSize(column), is(-1L));
+        assertThat(getSampleMethod(column), is(nullValue()));
+        assertThat(getNullFraction(column), is(-1.0));
+        assertThat(getDistinctCount(column), is(-1L));
+      }
+    }
+  }
+
+  @Test
+  public void columnStatisticsWithRowCounts(final Connection connection) throws Exception {
+    final Config additionalConfig = newAdditionalConfig(true);
+    additionalConfig.put("load-row-counts", true);
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection,
+            TestUtility.newSchemaRetrievalOptions(),
+            newSchemaCrawlerOptions(),
+            additionalConfig);
+
+    // HyperSQL does not support sampling, so rows are read from the start
+    // of larger tables
+    for (final Table table : catalog.getTables()) {
+      final SampleMethod expectedSampleMethod;
+      if (getRowCount(table) <= 3) {
+        expectedSampleMethod = SampleMethod.all_rows;
+      } else {
+        expectedSampleMethod = SampleMethod.row_prefix;
+      }
+      for (final Column column : table.getColumns()) {
+        assertThat(getSampleMethod(column), is(expectedSampleMethod));
+        assertThat(getSampleSize(column), is(Math.min(getRowCount(table), 3L)));
+      }
+    }
+  }
+
+  @Test
+  public void columnStatisticsWithSampleQuery(final Connection connection) throws Exception {
+    final Config additionalConfig = newAdditionalConfig(true);
+    additionalConfig.put("column-statistics-sample-query", "SELECT ${columns} FROM ${table}");
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection,
+            TestUtility.newSchemaRetrievalOptions(),
+            newSchemaCrawlerOptions(),
+            additionalConfig);
+
+    for (final Table table : catalog.getTables()) {
+      for (final Column column : table.getColumns()) {
+        assertThat(getSampleMethod(column), is(SampleMethod.sample_query));
+      }
+    }
+  }
+
+  private void assertColumnStatistics(final Catalog catalog, final String referenceFile)
+      throws Exception {
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      for (final Table table : catalog.getTables()) {
+        for (final Column column : table.getColumns()) {
+          assertThat(hasColumnStatistics(column), is(true));
+          out.println(
+              String.format(
+                  "%s [%s %d, nulls %.2f, distinct %d, min %s, max %s]",
+                  column.getFullName(),
+                  getSampleMethod(column),
+                  getSampleSize(column),
+                  getNullFraction(column),
+                  getDistinctCount(column),
+                  getMinimumValue(column),
+                  getMaximumValue(column)));
+        }
+      }
+    }
+    assertThat(outputOf(testout), hasSameContentAs(classpathResource(referenceFile)));
+  }
+
+  private Catalog loadCatalog(final Connection connection, final boolean loadColumnStatistics)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    return SchemaCrawlerUtility.getCatalog(
+        connection,
+        schemaRetrievalOptions,
+        newSchemaCrawlerOptions(),
+        newAdditionalConfig(loadColumnStatistics));
+  }
+
+  private Config newAdditionalConfig(final boolean loadColumnStatistics) {
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-column-statistics", loadColumnStatistics);
+    additionalConfig.put("column-statistics-sample-size", 3);
+    return additionalConfig;
+  }
+
+  private SchemaCrawlerOptions newSchemaCrawlerOptions() {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule(".*\\.BOOKS"));
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions());
+  }
+}
@@ -0,0 +1,183 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static schemacrawler.loader.identicalschemas.IdenticalSchemasUtility.getIdenticalSchemas;
+import static schemacrawler.loader.identicalschemas.IdenticalSchemasUtility.getIdenticalTo;
+import static schemacrawler.loader.identicalschemas.IdenticalSchemasUtility.isIdenticalToAnotherSchema;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.TestUtility;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class IdenticalSchemasTest {
+
+  private Connection connection;
+
+  @AfterAll
+  public void closeDatabase() throws Exception {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+    connection.close();
+  }
+
+  @Test
+  public void identicalSchemas() throws Exception {
+    final Catalog catalog = getCatalog(true);
+
+    final Schema tenantA = catalog.lookupSchema("PUBLIC.TENANT_A").get();
+    final Schema tenantB = catalog.lookupSchema("PUBLIC.TENANT_B").get();
+    final Schema tenantC = catalog.lookupSchema("PUBLIC.TENANT_C").get();
+    final Schema tenantD = catalog.lookupSchema("PUBLIC.TENANT_D").get();
+    final Schema tenantE = catalog.lookupSchema("PUBLIC.TENANT_E").get();
+    final Schema tenantF = catalog.lookupSchema("PUBLIC.TENANT_F").get();
+
+    assertThat(getIdenticalSchemas(tenantA), contains("PUBLIC.TENANT_B", "PUBLIC.TENANT_C"));
+    assertThat(isIdenticalToAnotherSchema(tenantA), is(false));
+
+    for (final Schema schema : new Schema[] {tenantB, tenantC}) {
+      assertThat(isIdenticalToAnotherSchema(schema), is(true));
+      assertThat(getIdenticalTo(schema), is("PUBLIC.TENANT_A"));
+      assertThat(getIdenticalSchemas(schema), is(empty()));
+    }
+
+    // Schemas that differ only in a view definition, or in a check
+    // constraint, are not identical
+    for (final Schema schema : new Schema[] {tenantD, tenantE, tenantF}) {
+      assertThat(isIdenticalToAnotherSchema(schema), is(false));
+      assertThat(getIdenticalSchemas(schema), is(empty()));
+    }
+    // Definitions are qualified with the schema name, which is ignored
+    assertThat(
+        catalog.lookupTable(tenantE, "ACTIVE_CUSTOMERS").get().getDefinition(),
+        containsString("FROM TENANT_E.CUSTOMERS"));
+    final Table customers = catalog.lookupTable(tenantF, "CUSTOMERS").get();
+    assertThat(
+        customers.getTableConstraints().stream()
+            .anyMatch(constraint -> constraint.getType() == TableConstraintType.check),
+        is(true));
+
+    // Tables in identical schemas are still available
+    assertThat(catalog.lookupTable(tenantC, "ORDERS").isPresent(), is(true));
+    assertThat(catalog.lookupTable(tenantC, "ORDERS").get().getImportedForeignKeys().size(), is(1));
+  }
+
+  @Test
+  public void identicalSchemasNotRequested() throws Exception {
+    final Catalog catalog = getCatalog(false);
+    for (final Schema schema : catalog.getSchemas()) {
+      assertThat(isIdenticalToAnotherSchema(schema), is(false));
+      assertThat(getIdenticalTo(schema), is(nullValue()));
+      assertThat(getIdenticalSchemas(schema), is(empty()));
+    }
+  }
+
+  @BeforeAll
+  public void loadDatabase() throws Exception {
+    connection = DriverManager.getConnection("jdbc:hsqldb:mem:identicalschemas", "SA", "");
+    try (final Statement statement = connection.createStatement()) {
+      for (final String tenant :
+          new String[] {"TENANT_A", "TENANT_B", "TENANT_C", "TENANT_D", "TENANT_E", "TENANT_F"}) {
+        statement.execute("CREATE SCHEMA " + tenant);
+        statement.execute(
+            "CREATE TABLE "
+                + tenant
+                + ".CUSTOMERS (ID INTEGER PRIMARY KEY, NAME VARCHAR(100) NOT NULL"
+                + (tenant.equals("TENANT_D") ? ", EMAIL VARCHAR(100)" : "")
+                + ", CHECK (ID > "
+                + (tenant.equals("TENANT_F") ? "1" : "0")
+                + "))");
+        statement.execute(
+            "CREATE VIEW "
+                + tenant
+                + ".ACTIVE_CUSTOMERS AS SELECT ID, NAME FROM "
+                + tenant
+                + ".CUSTOMERS WHERE ID > "
+                + (tenant.equals("TENANT_E") ? "1" : "0"));
+        statement.execute(
+            "CREATE TABLE "
+                + tenant
+                + ".ORDERS (ID INTEGER PRIMARY KEY, CUSTOMER_ID INTEGER, "
+                + "FOREIGN KEY (CUSTOMER_ID) REFERENCES "
+                + tenant
+                + ".CUSTOMERS (ID))");
+        statement.execute("CREATE INDEX " + tenant + ".IDX_ORDERS ON " + tenant + ".ORDERS (ID)");
+      }
+    }
+  }
+
+  private Catalog getCatalog(final boolean findIdenticalSchemas) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.TENANT_.*"))
+                    .toOptions())
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                    .toOptions());
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("find-identical-schemas", findIdenticalSchemas);
+
+    return SchemaCrawlerUtility.getCatalog(
+        connection,
+        TestUtility.newSchemaRetrievalOptions(),
+        schemaCrawlerOptions,
+        additionalConfig);
+  }
+}
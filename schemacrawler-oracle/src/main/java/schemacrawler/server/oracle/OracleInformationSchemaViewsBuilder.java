@@ -1,6 +1,7 @@
 package schemacrawler.server.oracle;
 
 import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
+import static us.fatehi.utility.PropertiesUtility.getSystemConfigurationProperty;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -14,13 +15,21 @@ import us.fatehi.utility.string.StringFormat;
 class OracleInformationSchemaViewsBuilder
   implements BiConsumer<InformationSchemaViewsBuilder, Connection>
 {
-  
 
   private static final Logger LOGGER =
     Logger.getLogger(OracleDatabaseConnector.class.getName());
 
+  private static final String SC_ORACLE_OPTIMIZER_HINTS =
+    "SC_ORACLE_OPTIMIZER_HINTS";
+  private static final String DEFAULT_PARALLEL_HINTS = "PARALLEL(AUTO)";
+
   private static String getCatalogScope(final Connection connection)
   {
+    if (hasCatalogRole(connection))
+    {
+      return logCatalogScope("DBA");
+    }
+
     String catalogScope = "ALL";
     try
     {
@@ -38,6 +47,84 @@ class OracleInformationSchemaViewsBuilder
       catalogScope = "ALL";
     }
 
+    return logCatalogScope(catalogScope);
+  }
+
+  /**
+   * Optimizer hints for the set-based data dictionary queries, such as
+   * "PARALLEL(AUTO) NO_MERGE", which can be overridden from the system
+   * property or environment variable SC_ORACLE_OPTIMIZER_HINTS. Use
+   * "NO_PARALLEL" to run all of the queries serially. If hints are not
+   * overridden, queries that were always run in parallel keep the
+   * PARALLEL(AUTO) hint, and the other queries are run without hints. The
+   * whole hint comment is substituted, so that the queries are unchanged when
+   * there are no hints.
+   */
+  private static void substituteOptimizerHints(
+    final InformationSchemaViewsBuilder informationSchemaViewsBuilder)
+  {
+    final String hints =
+      getSystemConfigurationProperty(SC_ORACLE_OPTIMIZER_HINTS, null);
+    if (hints == null)
+    {
+      LOGGER.log(Level.CONFIG,
+                 new StringFormat(
+                   "Using default Oracle data dictionary optimizer hints <%s>",
+                   DEFAULT_PARALLEL_HINTS));
+      informationSchemaViewsBuilder.substituteAll("parallelhints",
+                                                  hintComment(DEFAULT_PARALLEL_HINTS));
+      informationSchemaViewsBuilder.substituteAll("hints", "");
+    }
+    else
+    {
+      LOGGER.log(Level.CONFIG,
+                 new StringFormat(
+                   "Using Oracle data dictionary optimizer hints <%s>",
+                   hints.trim()));
+      informationSchemaViewsBuilder.substituteAll("parallelhints",
+                                                  hintComment(hints.trim()));
+      informationSchemaViewsBuilder.substituteAll("hints",
+                                                  hintComment(hints.trim()));
+    }
+  }
+
+  private static String hintComment(final String hints)
+  {
+    if (hints.isEmpty())
+    {
+      return "";
+    }
+    return String.format(" /*+ %s */", hints);
+  }
+
+  /**
+   * Users with SELECT_CATALOG_ROLE, or the SELECT ANY DICTIONARY privilege,
+   * can read the DBA_* views, which are cheaper to query than the ALL_* views,
+   * since the ALL_* views check object privileges row by row.
+   */
+  private static boolean hasCatalogRole(final Connection connection)
+  {
+    try
+    {
+      final Query query = new Query("Check for catalog role",
+                                    "SELECT "
+                                    + "(SELECT COUNT(*) FROM SESSION_ROLES "
+                                    + "WHERE ROLE = 'SELECT_CATALOG_ROLE') "
+                                    + "+ (SELECT COUNT(*) FROM SESSION_PRIVS "
+                                    + "WHERE PRIVILEGE = 'SELECT ANY DICTIONARY') "
+                                    + "AS CATALOG_GRANTS FROM DUAL");
+      final Object scalar = executeForScalar(query, connection);
+      return scalar instanceof Number && ((Number) scalar).intValue() > 0;
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.FINE, "Could not check for catalog role", e);
+      return false;
+    }
+  }
+
+  private static String logCatalogScope(final String catalogScope)
+  {
     LOGGER.log(Level.INFO,
                new StringFormat(
                  "Using Oracle data dictionary catalog scope <%s>",
@@ -82,6 +169,7 @@ class OracleInformationSchemaViewsBuilder
     // Check level of access
     final String catalogScope = getCatalogScope(connection);
     informationSchemaViewsBuilder.substituteAll("catalogscope", catalogScope);
+    substituteOptimizerHints(informationSchemaViewsBuilder);
   }
 
 }
\ No newline at end of file
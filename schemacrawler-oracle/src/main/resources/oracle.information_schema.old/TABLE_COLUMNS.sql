@@ -1,4 +1,4 @@
-SELECT  
+SELECT${hints}  
   NULL AS TABLE_CAT,
   COLUMNS.OWNER AS TABLE_SCHEM,
   COLUMNS.TABLE_NAME AS TABLE_NAME,
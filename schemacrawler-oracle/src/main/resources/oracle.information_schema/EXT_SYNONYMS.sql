@@ -1,4 +1,4 @@
-SELECT /*+ PARALLEL(AUTO) */
+SELECT${parallelhints}
   NULL AS SYNONYM_CATALOG,
   SYNONYMS.OWNER AS SYNONYM_SCHEMA,
   SYNONYMS.SYNONYM_NAME,
@@ -19,6 +19,7 @@ WHERE
   AND NOT REGEXP_LIKE(SYNONYMS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(SYNONYMS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(SYNONYMS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(SYNONYMS.OWNER || '.' || SYNONYMS.SYNONYM_NAME, '${synonyms}')
   AND SYNONYMS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(SYNONYMS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
 ORDER BY
@@ -1,4 +1,4 @@
-SELECT
+SELECT${hints}
   NULL AS PKTABLE_CAT,
   P.OWNER AS PKTABLE_SCHEM,
   P.TABLE_NAME AS PKTABLE_NAME,
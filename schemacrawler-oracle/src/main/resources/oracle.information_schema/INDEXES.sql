@@ -1,4 +1,4 @@
-SELECT /*+ PARALLEL(AUTO) */
+SELECT${parallelhints}
   NULL AS TABLE_CAT,
   INDEXES.OWNER AS TABLE_SCHEM,
   INDEXES.TABLE_NAME,
@@ -32,6 +32,7 @@ WHERE
   AND NOT REGEXP_LIKE(INDEXES.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(INDEXES.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(INDEXES.OWNER, '${schemas}')
+  AND REGEXP_LIKE(INDEXES.TABLE_OWNER || '.' || INDEXES.TABLE_NAME, '${tables}')
   AND INDEXES.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(INDEXES.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
 ORDER BY 
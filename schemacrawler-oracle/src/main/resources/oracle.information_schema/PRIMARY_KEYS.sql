@@ -1,4 +1,4 @@
-SELECT /*+ PARALLEL(AUTO) */
+SELECT${parallelhints}
   NULL AS TABLE_CAT,
   PRIMARY_KEYS.OWNER AS TABLE_SCHEM,
   PRIMARY_KEYS.TABLE_NAME,
@@ -25,6 +25,7 @@ WHERE
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(PRIMARY_KEYS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(PRIMARY_KEYS.OWNER || '.' || PRIMARY_KEYS.TABLE_NAME, '${tables}')
   AND PRIMARY_KEYS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
   AND PRIMARY_KEYS.CONSTRAINT_TYPE = 'P'
@@ -24,6 +24,7 @@ WHERE
   AND NOT REGEXP_LIKE(SEQUENCES.SEQUENCE_OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(SEQUENCES.SEQUENCE_OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(SEQUENCES.SEQUENCE_OWNER, '${schemas}')
+  AND REGEXP_LIKE(SEQUENCES.SEQUENCE_OWNER || '.' || SEQUENCES.SEQUENCE_NAME, '${sequences}')
 ORDER BY
   SEQUENCE_OWNER,
   SEQUENCE_NAME
@@ -1,4 +1,4 @@
-SELECT  
+SELECT${hints}  
   NULL AS TABLE_CAT,
   COLUMNS.OWNER AS TABLE_SCHEM,
   COLUMNS.TABLE_NAME AS TABLE_NAME,
@@ -90,6 +90,8 @@ WHERE
   AND NOT REGEXP_LIKE(COLUMNS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(COLUMNS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(COLUMNS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(COLUMNS.OWNER || '.' || COLUMNS.TABLE_NAME, '${tables}')
+  AND REGEXP_LIKE(COLUMNS.OWNER || '.' || COLUMNS.TABLE_NAME || '.' || COLUMNS.COLUMN_NAME, '${columns}')
   AND COLUMNS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(COLUMNS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
 ORDER BY 
@@ -29,14 +29,23 @@ package schemacrawler.integration.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
 
 import java.sql.Connection;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.test.utility.WithSystemProperty;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
 
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
 public class BundledDistributionTest {
 
   @Test
@@ -56,10 +65,49 @@ public class BundledDistributionTest {
         is(26));
   }
 
+  @Test
+  public void testInformationSchema_oracle_defaultHints(final Connection connection)
+      throws Exception {
+    final InformationSchemaViews informationSchemaViews = informationSchemaViews(connection);
+    // Queries are unchanged if optimizer hints are not overridden
+    assertThat(informationSchemaViews.getQuery(TABLES).getQuery(), startsWith("SELECT  \n"));
+    assertThat(informationSchemaViews.getQuery(FOREIGN_KEYS).getQuery(), startsWith("SELECT\n"));
+    assertThat(
+        informationSchemaViews.getQuery(INDEXES).getQuery(),
+        startsWith("SELECT /*+ PARALLEL(AUTO) */\n"));
+  }
+
+  @Test
+  @WithSystemProperty(key = "SC_ORACLE_OPTIMIZER_HINTS", value = "NO_PARALLEL")
+  public void testInformationSchema_oracle_optimizerHints(final Connection connection)
+      throws Exception {
+    final InformationSchemaViews informationSchemaViews = informationSchemaViews(connection);
+    assertThat(
+        informationSchemaViews.getQuery(TABLES).getQuery(),
+        startsWith("SELECT /*+ NO_PARALLEL */  \n"));
+    assertThat(
+        informationSchemaViews.getQuery(FOREIGN_KEYS).getQuery(),
+        startsWith("SELECT /*+ NO_PARALLEL */\n"));
+    assertThat(
+        informationSchemaViews.getQuery(INDEXES).getQuery(),
+        startsWith("SELECT /*+ NO_PARALLEL */\n"));
+  }
+
   @Test
   public void testPlugin_oracle() throws Exception {
     final DatabaseConnectorRegistry registry =
         DatabaseConnectorRegistry.getDatabaseConnectorRegistry();
     assertThat(registry.hasDatabaseSystemIdentifier("oracle"), is(true));
   }
+
+  private InformationSchemaViews informationSchemaViews(final Connection connection) {
+    final DatabaseConnectorRegistry registry =
+        DatabaseConnectorRegistry.getDatabaseConnectorRegistry();
+    final DatabaseConnector databaseSystemIdentifier =
+        registry.findDatabaseConnectorFromDatabaseSystemIdentifier("oracle");
+    return databaseSystemIdentifier
+        .getSchemaRetrievalOptionsBuilder(connection)
+        .toOptions()
+        .getInformationSchemaViews();
+  }
 }
@@ -28,11 +28,14 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.command.script;
 
 import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.ConcurrencyUtility.executeConcurrently;
+import static us.fatehi.utility.ConcurrencyUtility.throwOnFailures;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -45,10 +48,17 @@ import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.LanguageOptions;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
+import us.fatehi.utility.StopWatch;
 
 /**
  * Allows chaining multiple executables together, that produce different artifacts, such as an image
  * and a HTML file.
+ *
+ * <p>By default, commands are executed one after the other, in the order in which they were added.
+ * If the parallelism is set to more than one, commands that do not use the connection are executed
+ * concurrently on a bounded thread pool, since they only read the catalog. Commands that use the
+ * connection are executed one after the other, before any of the concurrent commands are started,
+ * since they may modify the catalog.
  */
 public final class CommandChain extends BaseSchemaCrawlerCommand<LanguageOptions> {
 
@@ -59,6 +69,7 @@ public final class CommandChain extends BaseSchemaCrawlerCommand<LanguageOptions
   private final CommandRegistry commandRegistry;
   private final List<SchemaCrawlerCommand<?>> scCommands;
   private final Config additionalConfig;
+  private int parallelism;
 
   /**
    * Copy configuration settings from another command.
@@ -72,6 +83,7 @@ public final class CommandChain extends BaseSchemaCrawlerCommand<LanguageOptions
 
     commandRegistry = CommandRegistry.getCommandRegistry();
     scCommands = new ArrayList<>();
+    parallelism = 1;
 
     // Copy all configuration
     additionalConfig = new Config(scCommand.getCommandOptions().getConfig());
@@ -115,6 +127,24 @@ public final class CommandChain extends BaseSchemaCrawlerCommand<LanguageOptions
     executeChain();
   }
 
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the maximum number of commands that can be executed at the same time. A value of one (the
+   * default) executes all commands one after the other.
+   *
+   * @param parallelism Maximum number of concurrently executing commands
+   */
+  public void setParallelism(final int parallelism) {
+    if (parallelism < 1) {
+      throw new ExecutionRuntimeException(
+          String.format("Parallelism needs to be at least 1, not <%d>", parallelism));
+    }
+    this.parallelism = parallelism;
+  }
+
   @Override
   public boolean usesConnection() {
     return false;
@@ -165,9 +195,63 @@ public final class CommandChain extends BaseSchemaCrawlerCommand<LanguageOptions
       return;
     }
 
+    if (parallelism == 1) {
+      for (final SchemaCrawlerCommand<?> scCommand : scCommands) {
+        executeTimed(scCommand);
+      }
+    } else {
+      executeChainInParallel();
+    }
+  }
+
+  private void executeChainInParallel() {
+    final List<SchemaCrawlerCommand<?>> serialCommands = new ArrayList<>();
+    final List<SchemaCrawlerCommand<?>> parallelCommands = new ArrayList<>();
     for (final SchemaCrawlerCommand<?> scCommand : scCommands) {
-      scCommand.execute();
+      if (scCommand.usesConnection()) {
+        serialCommands.add(scCommand);
+      } else {
+        parallelCommands.add(scCommand);
+      }
+    }
+
+    final List<Throwable> failures = new ArrayList<>();
+
+    // Commands that use the connection are run first, on the calling
+    // thread, since a connection cannot be shared between threads
+    for (final SchemaCrawlerCommand<?> scCommand : serialCommands) {
+      try {
+        executeTimed(scCommand);
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, String.format("Command <%s> failed", scCommand), e);
+        failures.add(e);
+      }
+    }
+
+    final List<Callable<Void>> tasks = new ArrayList<>();
+    for (final SchemaCrawlerCommand<?> scCommand : parallelCommands) {
+      tasks.add(
+          () -> {
+            executeTimed(scCommand);
+            return null;
+          });
+    }
+    failures.addAll(executeConcurrently("chained commands", tasks, parallelism));
+
+    throwOnFailures(
+        "chained commands", scCommands.size(), failures, ExecutionRuntimeException::new);
+  }
+
+  private void executeTimed(final SchemaCrawlerCommand<?> scCommand) {
+    final StopWatch stopWatch = new StopWatch(scCommand.getCommand());
+    try {
+      stopWatch.time(scCommand.toString(), scCommand::execute);
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException(e);
     }
+    LOGGER.log(Level.INFO, stopWatch.report());
   }
 
   private void initializeChain() {
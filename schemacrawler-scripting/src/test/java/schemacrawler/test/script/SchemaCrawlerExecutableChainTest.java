@@ -28,8 +28,12 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.test.script;
 
+import static java.nio.file.Files.exists;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
@@ -39,6 +43,7 @@ import static schemacrawler.test.utility.ScriptTestUtility.commandLineScriptExec
 import static schemacrawler.test.utility.TestUtility.compareOutput;
 import static schemacrawler.test.utility.TestUtility.deleteIfPossible;
 import static schemacrawler.test.utility.TestUtility.validateDiagram;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 import static us.fatehi.utility.IOUtility.readFully;
 
 import java.io.FileReader;
@@ -49,19 +54,27 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.ExecutableTestUtility;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.command.script.CommandChain;
+import schemacrawler.tools.command.script.ScriptCommand;
+import schemacrawler.tools.command.script.options.ScriptOptions;
 import schemacrawler.tools.command.text.schema.options.SchemaTextOptions;
 import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
 import schemacrawler.tools.command.text.schema.options.TextOutputFormat;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
 import schemacrawler.tools.options.Config;
 import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
 import us.fatehi.utility.IOUtility;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
@@ -88,6 +101,52 @@ public class SchemaCrawlerExecutableChainTest {
 
   @Test
   public void executableChain(final Connection connection) throws Exception {
+    executeChainScript(connection, "/chain.js");
+  }
+
+  @Test
+  public void executableChainInParallel(final Connection connection) throws Exception {
+    executeChainScript(connection, "/chain_parallel.js");
+  }
+
+  @Test
+  public void executableChainInParallelWithFailures(
+      final Connection connection, @TempDir final Path directory) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, new Config());
+
+    final ScriptCommand scriptCommand = new ScriptCommand();
+    scriptCommand.setCommandOptions(new ScriptOptions("javascript", "/chain.js", new Config()));
+    scriptCommand.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    scriptCommand.setOutputOptions(OutputOptionsBuilder.newOutputOptions());
+    scriptCommand.setCatalog(catalog);
+    scriptCommand.setConnection(connection);
+    scriptCommand.setIdentifiers(Identifiers.STANDARD);
+
+    // Output files in a missing directory cannot be written
+    final Path missingDirectory = directory.resolve("missing");
+    final Path listFile = directory.resolve("list.txt");
+    final CommandChain chain = new CommandChain(scriptCommand);
+    chain.addNext("brief", "text", missingDirectory.resolve("brief.txt").toString());
+    chain.addNext("list", "text", listFile.toString());
+    chain.addNext("schema", "text", missingDirectory.resolve("schema.txt").toString());
+    chain.setParallelism(3);
+
+    final ExecutionRuntimeException exception =
+        assertThrows(ExecutionRuntimeException.class, chain::execute);
+    assertThat(exception.getMessage(), startsWith("2 of 3 chained commands failed"));
+    assertThat(exception.getCause(), is(notNullValue()));
+    assertThat(exception.getSuppressed().length, is(1));
+
+    // Commands that did not fail still produce their output
+    assertThat(exists(listFile), is(true));
+    assertThat(exists(missingDirectory), is(false));
+  }
+
+  private void executeChainScript(final Connection connection, final String script)
+      throws Exception {
     final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("script");
     final Path testOutputFile = IOUtility.createTempFilePath("sc", "data");
 
@@ -102,7 +161,7 @@ public class SchemaCrawlerExecutableChainTest {
     final SchemaTextOptions textOptions = textOptionsBuilder.toOptions();
 
     final Config additionalConfig = SchemaTextOptionsBuilder.builder(textOptions).toConfig();
-    additionalConfig.put("script", "/chain.js");
+    additionalConfig.put("script", script);
 
     final OutputOptions outputOptions =
         ExecutableTestUtility.newOutputOptions("text", testOutputFile);
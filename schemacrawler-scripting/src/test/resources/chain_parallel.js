@@ -0,0 +1,12 @@
+var scCommands = function () {
+
+  chain.addNext("brief", "text", "schema.txt");
+  chain.addNext("schema", "png", "schema.png");
+
+  chain.setParallelism(2);
+  chain.execute();
+  
+  print('Created files "schema.txt" and "schema.png"');
+};
+
+scCommands();
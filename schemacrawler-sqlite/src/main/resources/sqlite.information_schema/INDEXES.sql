@@ -0,0 +1,27 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLES.name AS TABLE_NAME,
+  1 - INDEXES."unique" AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEXES.name AS INDEX_NAME,
+  3 AS TYPE,
+  INDEX_COLUMNS.seqno + 1 AS ORDINAL_POSITION,
+  INDEX_COLUMNS.name AS COLUMN_NAME,
+  NULL AS ASC_OR_DESC,
+  0 AS CARDINALITY,
+  0 AS PAGES,
+  NULL AS FILTER_CONDITION
+FROM
+  sqlite_master AS TABLES
+  INNER JOIN pragma_index_list(TABLES.name) AS INDEXES
+  INNER JOIN pragma_index_xinfo(INDEXES.name) AS INDEX_COLUMNS
+WHERE
+  TABLES.type = 'table'
+  AND TABLES.name NOT LIKE 'sqlite\_%' ESCAPE '\'
+  AND INDEX_COLUMNS."key" = 1
+ORDER BY
+  TABLE_NAME,
+  NON_UNIQUE,
+  INDEX_NAME,
+  ORDINAL_POSITION
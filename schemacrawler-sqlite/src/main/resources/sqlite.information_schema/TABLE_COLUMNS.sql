@@ -0,0 +1,96 @@
+WITH
+  TABLES AS
+  (
+    SELECT
+      name,
+      LOWER(sql) AS table_sql
+    FROM
+      sqlite_master
+    WHERE
+      type IN ('table', 'view')
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+  ),
+  VIRTUAL_TABLE_MODULES AS
+  (
+    SELECT
+      name,
+      LOWER(TRIM(
+        CASE
+          WHEN INSTR(module_sql, '(') > 0
+            THEN SUBSTR(module_sql, 1, INSTR(module_sql, '(') - 1)
+          ELSE module_sql
+        END
+      )) AS module
+    FROM
+      (
+        SELECT
+          name,
+          TRIM(SUBSTR(table_sql, INSTR(table_sql, ' using ') + 7)) AS module_sql
+        FROM
+          TABLES
+        WHERE
+          table_sql LIKE 'create virtual table%'
+      )
+  )
+SELECT
+  NULL AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLES.name AS TABLE_NAME,
+  COLUMNS.name AS COLUMN_NAME,
+  CASE
+    WHEN UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%INT%'
+      OR UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%BOOL%'
+      THEN 4
+    WHEN UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%CHAR%'
+      OR UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%CLOB%'
+      OR UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%TEXT%'
+      OR UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%BLOB%'
+      THEN 12
+    WHEN UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%REAL%'
+      OR UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%FLOA%'
+      OR UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%DOUB%'
+      OR UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%DEC%'
+      OR UPPER(IFNULL(COLUMNS.type, 'TEXT')) LIKE '%NUM%'
+      THEN 6
+    ELSE 12
+  END
+    AS DATA_TYPE,
+  UPPER(COLUMNS.type) AS TYPE_NAME,
+  2000000000 AS COLUMN_SIZE,
+  2000000000 AS BUFFER_LENGTH,
+  10 AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE COLUMNS."notnull" WHEN 0 THEN 1 ELSE 0 END AS NULLABLE,
+  NULL AS REMARKS,
+  COLUMNS.dflt_value AS COLUMN_DEF,
+  0 AS SQL_DATA_TYPE,
+  0 AS SQL_DATETIME_SUB,
+  2000000000 AS CHAR_OCTET_LENGTH,
+  COLUMNS.cid + 1 AS ORDINAL_POSITION,
+  CASE COLUMNS."notnull" WHEN 0 THEN 'YES' ELSE 'NO' END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE
+    WHEN COLUMNS.pk = 1 AND TABLES.table_sql LIKE '%autoincrement%' THEN 'YES'
+    ELSE 'NO'
+  END
+    AS IS_AUTOINCREMENT,
+  '' AS IS_GENERATEDCOLUMN
+FROM
+  TABLES
+  INNER JOIN pragma_table_info(TABLES.name) AS COLUMNS
+WHERE
+  TABLES.name NOT IN
+  (
+    SELECT
+      name
+    FROM
+      VIRTUAL_TABLE_MODULES
+    WHERE
+      module NOT IN (SELECT name FROM pragma_module_list)
+  )
+ORDER BY
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -86,7 +86,7 @@ public class VirtualTablesTest extends BaseSqliteTest {
     assertThat(
         exception.getMessage(),
         is(
-            "Could not retrieve table columns for table <demo>: [SQLITE_ERROR] SQL error or missing database (no such module: spellfix1)"));
+            "Could not retrieve primary keys for table <demo>: [SQLITE_ERROR] SQL error or missing database (no such module: spellfix1)"));
   }
 
   @Test
@@ -73,6 +73,15 @@ public final class SchemaTextCommandProvider extends BaseCommandProvider {
             "--no-remarks=<boolean>",
             "<boolean> can be true or false",
             "Optional, defaults to false")
+        .addOption(
+            "collapse-identical-schemas",
+            Boolean.class,
+            "Show only the first of a group of structurally identical schemas, "
+                + "such as tenant schemas",
+            "--collapse-identical-schemas=<boolean>",
+            "<boolean> can be true or false",
+            "Requires identical schemas to be found when loading the catalog",
+            "Optional, defaults to false")
         .addOption(
             "portable-names",
             Boolean.class,
@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.command.text.schema;
 
+import static schemacrawler.loader.identicalschemas.IdenticalSchemasUtility.isIdenticalToAnotherSchema;
+
 import schemacrawler.tools.command.text.schema.options.SchemaTextDetailType;
 import schemacrawler.tools.command.text.schema.options.SchemaTextOptions;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
@@ -66,6 +68,9 @@ public final class SchemaTextRenderer extends BaseSchemaCrawlerCommand<SchemaTex
         NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
     traverser.setRoutinesComparator(
         NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForRoutines()));
+    if (commandOptions.isCollapseIdenticalSchemas()) {
+      traverser.setSchemaFilter(schema -> !isIdenticalToAnotherSchema(schema));
+    }
 
     traverser.traverse();
   }
@@ -47,6 +47,9 @@ public abstract class BaseSchemaTextOptionsBuilder<
 
   private static final String HIDE_REMARKS = SCHEMACRAWLER_FORMAT_PREFIX + "hide_remarks";
 
+  private static final String COLLAPSE_IDENTICAL_SCHEMAS =
+      SCHEMACRAWLER_FORMAT_PREFIX + "collapse_identical_schemas";
+
   private static final String SC_SORT_ALPHABETICALLY_TABLE_INDEXES =
       SCHEMACRAWLER_FORMAT_PREFIX + "sort_alphabetically.table_indexes";
   private static final String SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS =
@@ -54,6 +57,7 @@ public abstract class BaseSchemaTextOptionsBuilder<
 
   protected boolean isAlphabeticalSortForForeignKeys;
   protected boolean isAlphabeticalSortForIndexes;
+  protected boolean isCollapseIdenticalSchemas;
   protected boolean isHideRemarks;
   protected boolean isShowOrdinalNumbers;
   protected boolean isShowStandardColumnTypeNames;
@@ -76,6 +80,7 @@ public abstract class BaseSchemaTextOptionsBuilder<
     isHideTableRowCounts = config.getBooleanValue(HIDE_TABLE_ROW_COUNTS);
 
     isHideRemarks = config.getBooleanValue(HIDE_REMARKS);
+    isCollapseIdenticalSchemas = config.getBooleanValue(COLLAPSE_IDENTICAL_SCHEMAS);
 
     isAlphabeticalSortForForeignKeys =
         config.getBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS);
@@ -104,6 +109,7 @@ public abstract class BaseSchemaTextOptionsBuilder<
     isHideTableRowCounts = options.isHideTableRowCounts();
 
     isHideRemarks = options.isHideRemarks();
+    isCollapseIdenticalSchemas = options.isCollapseIdenticalSchemas();
 
     isAlphabeticalSortForForeignKeys = options.isAlphabeticalSortForForeignKeys();
     isAlphabeticalSortForIndexes = options.isAlphabeticalSortForIndexes();
@@ -115,6 +121,15 @@ public abstract class BaseSchemaTextOptionsBuilder<
     return (B) this;
   }
 
+  public final B collapseIdenticalSchemas() {
+    return collapseIdenticalSchemas(true);
+  }
+
+  public final B collapseIdenticalSchemas(final boolean value) {
+    isCollapseIdenticalSchemas = value;
+    return (B) this;
+  }
+
   public final B hideRowCounts() {
     return hideRowCounts(true);
   }
@@ -268,6 +283,7 @@ public abstract class BaseSchemaTextOptionsBuilder<
     config.put(HIDE_TABLE_ROW_COUNTS, isHideTableRowCounts);
 
     config.put(HIDE_REMARKS, isHideRemarks);
+    config.put(COLLAPSE_IDENTICAL_SCHEMAS, isCollapseIdenticalSchemas);
 
     config.put(SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS, isAlphabeticalSortForForeignKeys);
     config.put(SC_SORT_ALPHABETICALLY_TABLE_INDEXES, isAlphabeticalSortForIndexes);
@@ -287,6 +303,11 @@ public abstract class BaseSchemaTextOptionsBuilder<
       noRemarks(config.getBooleanValue(noremarksKey));
     }
 
+    final String collapseIdenticalSchemasKey = "collapse-identical-schemas";
+    if (config.containsKey(collapseIdenticalSchemasKey)) {
+      collapseIdenticalSchemas(config.getBooleanValue(collapseIdenticalSchemasKey));
+    }
+
     final String portablenamesKey = "portable-names";
     if (config.containsKey(portablenamesKey)) {
       portableNames(config.getBooleanValue(portablenamesKey));
@@ -38,6 +38,7 @@ public class SchemaTextOptions extends BaseTextOptions {
 
   private final boolean isAlphabeticalSortForForeignKeys;
   private final boolean isAlphabeticalSortForIndexes;
+  private final boolean isCollapseIdenticalSchemas;
   private final boolean isHideRemarks;
   private final boolean isShowOrdinalNumbers;
   private final boolean isShowStandardColumnTypeNames;
@@ -50,6 +51,7 @@ public class SchemaTextOptions extends BaseTextOptions {
 
     isAlphabeticalSortForForeignKeys = builder.isAlphabeticalSortForForeignKeys;
     isAlphabeticalSortForIndexes = builder.isAlphabeticalSortForIndexes;
+    isCollapseIdenticalSchemas = builder.isCollapseIdenticalSchemas;
     isHideRemarks = builder.isHideRemarks;
     isShowOrdinalNumbers = builder.isShowOrdinalNumbers;
     isShowStandardColumnTypeNames = builder.isShowStandardColumnTypeNames;
@@ -74,6 +76,10 @@ public class SchemaTextOptions extends BaseTextOptions {
     return isAlphabeticalSortForIndexes;
   }
 
+  public boolean isCollapseIdenticalSchemas() {
+    return isCollapseIdenticalSchemas;
+  }
+
   public boolean isHideAlternateKeyNames() {
     return get(HideDatabaseObjectNamesType.hideAlternateKeyNames);
   }
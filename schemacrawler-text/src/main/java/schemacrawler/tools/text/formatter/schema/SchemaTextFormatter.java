@@ -31,6 +31,7 @@ package schemacrawler.tools.text.formatter.schema;
 import static java.util.Comparator.naturalOrder;
 import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.loader.identicalschemas.IdenticalSchemasUtility.getIdenticalSchemas;
 import static schemacrawler.schema.DataTypeType.user_defined;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
@@ -255,6 +256,7 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
 
       printTableRowCount(table);
     }
+    printIdenticalSchemas(table);
 
     formattingHelper.writeObjectEnd();
   }
@@ -846,6 +848,24 @@ public final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOp
     }
   }
 
+  private void printIdenticalSchemas(final Table table) {
+    if (!options.isCollapseIdenticalSchemas() || table == null) {
+      return;
+    }
+    final List<String> identicalSchemas = getIdenticalSchemas(table.getSchema());
+    if (identicalSchemas.isEmpty()) {
+      return;
+    }
+
+    formattingHelper.writeEmptyRow();
+    formattingHelper.writeWideRow("Identical Schemas", "section");
+
+    formattingHelper.writeEmptyRow();
+    for (final String identicalSchema : identicalSchemas) {
+      formattingHelper.writeNameRow(identicalSchema, "[schema]");
+    }
+  }
+
   private void printTableRowCount(final Table table) {
     if (options.isHideTableRowCounts() || table == null || !hasRowCount(table)) {
       return;
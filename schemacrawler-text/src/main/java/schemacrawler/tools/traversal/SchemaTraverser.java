@@ -33,11 +33,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.Routine;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
@@ -49,10 +52,12 @@ public class SchemaTraverser {
   private SchemaTraversalHandler handler;
   private Comparator<NamedObject> tablesComparator;
   private Comparator<NamedObject> routinesComparator;
+  private Predicate<Schema> schemaFilter;
 
   public SchemaTraverser() {
     tablesComparator = NamedObjectSort.natural;
     routinesComparator = NamedObjectSort.natural;
+    schemaFilter = schema -> true;
   }
 
   public Catalog getCatalog() {
@@ -67,6 +72,10 @@ public class SchemaTraverser {
     return routinesComparator;
   }
 
+  public Predicate<Schema> getSchemaFilter() {
+    return schemaFilter;
+  }
+
   public Comparator<NamedObject> getTablesComparator() {
     return tablesComparator;
   }
@@ -83,6 +92,15 @@ public class SchemaTraverser {
     this.routinesComparator = requireNonNull(routinesComparator, "No routines comparator provided");
   }
 
+  /**
+   * Only tables, routines, sequences and synonyms in schemas that pass the filter are traversed.
+   *
+   * @param schemaFilter Schema filter
+   */
+  public void setSchemaFilter(final Predicate<Schema> schemaFilter) {
+    this.schemaFilter = requireNonNull(schemaFilter, "No schema filter provided");
+  }
+
   public void setTablesComparator(final Comparator<NamedObject> tablesComparator) {
     this.tablesComparator = requireNonNull(tablesComparator, "No tables comparator provided");
   }
@@ -90,10 +108,10 @@ public class SchemaTraverser {
   public final void traverse() {
 
     final Collection<ColumnDataType> columnDataTypes = catalog.getColumnDataTypes();
-    final Collection<Table> tables = catalog.getTables();
-    final Collection<Routine> routines = catalog.getRoutines();
-    final Collection<Synonym> synonyms = catalog.getSynonyms();
-    final Collection<Sequence> sequences = catalog.getSequences();
+    final Collection<Table> tables = filterBySchema(catalog.getTables());
+    final Collection<Routine> routines = filterBySchema(catalog.getRoutines());
+    final Collection<Synonym> synonyms = filterBySchema(catalog.getSynonyms());
+    final Collection<Sequence> sequences = filterBySchema(catalog.getSequences());
 
     handler.begin();
 
@@ -157,4 +175,15 @@ public class SchemaTraverser {
 
     handler.end();
   }
+
+  private <D extends DatabaseObject> Collection<D> filterBySchema(
+      final Collection<D> databaseObjects) {
+    final List<D> filteredDatabaseObjects = new ArrayList<>(databaseObjects.size());
+    for (final D databaseObject : databaseObjects) {
+      if (schemaFilter.test(databaseObject.getSchema())) {
+        filteredDatabaseObjects.add(databaseObject);
+      }
+    }
+    return filteredDatabaseObjects;
+  }
 }
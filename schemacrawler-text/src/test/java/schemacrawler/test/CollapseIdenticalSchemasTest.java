@@ -0,0 +1,130 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.TestUtility;
+import schemacrawler.tools.command.text.schema.options.SchemaTextOptionsBuilder;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.Config;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CollapseIdenticalSchemasTest {
+
+  private Connection connection;
+
+  @AfterAll
+  public void closeDatabase() throws Exception {
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+    connection.close();
+  }
+
+  @Test
+  public void collapseIdenticalSchemas() throws Exception {
+    final String output = schemaText(true);
+    assertThat(output, containsString("TENANT_A.CUSTOMERS"));
+    assertThat(output, not(containsString("TENANT_B.CUSTOMERS")));
+    assertThat(output, not(containsString("TENANT_C.CUSTOMERS")));
+    assertThat(output, containsString("TENANT_D.CUSTOMERS"));
+    assertThat(output, containsString("Identical Schemas"));
+    assertThat(output, containsString("PUBLIC.TENANT_B"));
+    assertThat(output, containsString("PUBLIC.TENANT_C"));
+  }
+
+  @Test
+  public void doNotCollapseIdenticalSchemas() throws Exception {
+    final String output = schemaText(false);
+    for (final String tenant : new String[] {"TENANT_A", "TENANT_B", "TENANT_C", "TENANT_D"}) {
+      assertThat(output, containsString(tenant + ".CUSTOMERS"));
+    }
+    assertThat(output, not(containsString("Identical Schemas")));
+  }
+
+  @BeforeAll
+  public void loadDatabase() throws Exception {
+    connection = DriverManager.getConnection("jdbc:hsqldb:mem:collapseschemas", "SA", "");
+    try (final Statement statement = connection.createStatement()) {
+      for (final String tenant : new String[] {"TENANT_A", "TENANT_B", "TENANT_C", "TENANT_D"}) {
+        statement.execute("CREATE SCHEMA " + tenant);
+        statement.execute(
+            "CREATE TABLE "
+                + tenant
+                + ".CUSTOMERS (ID INTEGER PRIMARY KEY, NAME VARCHAR(100) NOT NULL"
+                + (tenant.equals("TENANT_D") ? ", EMAIL VARCHAR(100)" : "")
+                + ")");
+      }
+    }
+  }
+
+  private String schemaText(final boolean collapseIdenticalSchemas) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.TENANT_.*"))
+                    .toOptions());
+
+    final Config additionalConfig =
+        SchemaTextOptionsBuilder.builder()
+            .noInfo()
+            .collapseIdenticalSchemas(collapseIdenticalSchemas)
+            .toConfig();
+    additionalConfig.put("find-identical-schemas", true);
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("schema");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setSchemaRetrievalOptions(TestUtility.newSchemaRetrievalOptions());
+    executable.setAdditionalConfiguration(additionalConfig);
+
+    final Path output = executableExecution(connection, executable);
+    return new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+  }
+}
@@ -36,6 +36,41 @@ http://www.gnu.org/licenses/
 */
 public class BaseSchemaTextOptionsBuilderTest {
 
+  @Test
+  public void collapseIdenticalSchemas() {
+    final Config config = SchemaTextOptionsBuilder.builder().collapseIdenticalSchemas().toConfig();
+    final SchemaTextOptions options =
+        SchemaTextOptionsBuilder.builder().collapseIdenticalSchemas().toOptions();
+
+    SchemaTextOptionsBuilder builder;
+
+    // On and off
+    builder = SchemaTextOptionsBuilder.builder();
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(false));
+    builder.collapseIdenticalSchemas();
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(true));
+    builder.collapseIdenticalSchemas(false);
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(false));
+    builder.collapseIdenticalSchemas(true);
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(true));
+
+    // From config
+    builder = SchemaTextOptionsBuilder.builder();
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(false));
+    builder.fromConfig(config);
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(true));
+    builder.fromConfig(null);
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(true));
+
+    // From options
+    builder = SchemaTextOptionsBuilder.builder();
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(false));
+    builder.fromOptions(options);
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(true));
+    builder.fromOptions(null);
+    assertThat(builder.toOptions().isCollapseIdenticalSchemas(), is(true));
+  }
+
   @Test
   public void hideRowCounts() {
     final Config config = SchemaTextOptionsBuilder.builder().hideRowCounts().toConfig();
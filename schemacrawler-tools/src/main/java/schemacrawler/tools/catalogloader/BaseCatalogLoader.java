@@ -35,6 +35,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
 import java.util.Comparator;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -57,6 +58,7 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private Config additionalConfig;
   private Connection connection;
+  private Supplier<Connection> dataSource;
 
   private Catalog catalog;
 
@@ -90,6 +92,11 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
     return connection;
   }
 
+  @Override
+  public Supplier<Connection> getDataSource() {
+    return dataSource;
+  }
+
   @Override
   public int getPriority() {
     return priority;
@@ -129,6 +136,11 @@ public abstract class BaseCatalogLoader implements CatalogLoader {
     this.connection = connection;
   }
 
+  @Override
+  public void setDataSource(final Supplier<Connection> dataSource) {
+    this.dataSource = dataSource;
+  }
+
   @Override
   public void setSchemaCrawlerOptions(final SchemaCrawlerOptions schemaCrawlerOptions) {
     this.schemaCrawlerOptions = schemaCrawlerOptions;
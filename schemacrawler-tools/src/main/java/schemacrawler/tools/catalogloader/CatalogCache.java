@@ -0,0 +1,513 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.catalogloader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaInfoRetrieval;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * On-disk cache of loaded catalogs. Catalogs are keyed by a fingerprint of the connection, the
+ * options that were used to load the catalog, and an optional schema version probe query. Cache
+ * entries expire after a configured time to live, and the least recently used entries are evicted
+ * once the cache grows beyond the configured number of entries. Catalogs are written to a temporary
+ * file first, and then renamed, so that concurrent readers never see a partially written catalog.
+ *
+ * <p>Cached catalogs are deserialized, so the cache directory is created readable and writable by
+ * the owner only, and cache entries are only read if the directory and the entry are owned by the
+ * current user, the directory cannot be written by other users, and the entry was stored for the
+ * same key. Only SchemaCrawler classes, and JDK value and collection classes are deserialized.
+ *
+ * <p>Failures to read from or write to the cache are logged, and are never fatal, since the catalog
+ * can always be loaded from the database instead.
+ */
+public final class CatalogCache {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogCache.class.getName());
+
+  private static final String CACHE_FILE_EXTENSION = ".catalog";
+  private static final Set<PosixFilePermission> OWNER_ONLY =
+      PosixFilePermissions.fromString("rwx------");
+
+  private final CatalogCacheOptions options;
+
+  public CatalogCache(final CatalogCacheOptions options) {
+    this.options = requireNonNull(options, "No catalog cache options provided");
+  }
+
+  /**
+   * Computes the cache key for a catalog that would be loaded with the given connection and
+   * options.
+   *
+   * @param connection Live database connection
+   * @param schemaRetrievalOptions Schema retrieval options
+   * @param schemaCrawlerOptions SchemaCrawler options
+   * @param additionalConfig Additional configuration for the catalog loaders
+   * @return Fingerprint that can be used as a cache key
+   */
+  public String fingerprint(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig) {
+    requireNonNull(connection, "No connection provided");
+    requireNonNull(schemaRetrievalOptions, "No schema retrieval options provided");
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+
+    final StringBuilder buffer = new StringBuilder(4096);
+    try {
+      final DatabaseMetaData dbMetaData = connection.getMetaData();
+      appendProperty(buffer, "url", dbMetaData.getURL());
+      appendProperty(buffer, "user", dbMetaData.getUserName());
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException("Could not obtain connection details", e);
+    }
+
+    appendSchemaRetrievalOptions(buffer, schemaRetrievalOptions);
+    appendLimitOptions(buffer, schemaCrawlerOptions.getLimitOptions());
+    appendFilterOptions(buffer, schemaCrawlerOptions.getFilterOptions());
+    appendGrepOptions(buffer, schemaCrawlerOptions.getGrepOptions());
+    appendSchemaInfoLevel(buffer, schemaCrawlerOptions.getLoadOptions().getSchemaInfoLevel());
+    appendConfig(buffer, additionalConfig);
+    appendProbe(buffer, connection);
+
+    return sha256(buffer.toString());
+  }
+
+  public CatalogCacheOptions getCatalogCacheOptions() {
+    return options;
+  }
+
+  /**
+   * Removes a cached catalog, if it exists.
+   *
+   * @param fingerprint Cache key
+   */
+  public void invalidate(final String fingerprint) {
+    try {
+      Files.deleteIfExists(cacheFile(fingerprint));
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, e, new StringFormat("Could not invalidate <%s>", fingerprint));
+    }
+  }
+
+  /**
+   * Looks up a cached catalog. Expired or unreadable cache entries are removed.
+   *
+   * @param fingerprint Cache key
+   * @return Cached catalog, if it exists and has not expired
+   */
+  public Optional<Catalog> lookup(final String fingerprint) {
+    final Path cacheFile = cacheFile(fingerprint);
+    if (!Files.isRegularFile(cacheFile)) {
+      LOGGER.log(Level.INFO, new StringFormat("Catalog cache miss for <%s>", fingerprint));
+      return Optional.empty();
+    }
+    if (!isTrusted(options.getCacheDirectory()) || !isTrusted(cacheFile)) {
+      return Optional.empty();
+    }
+
+    try (final ObjectInputStream in =
+        new CatalogCacheInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+      final String storedFingerprint = in.readUTF();
+      if (!fingerprint.equals(storedFingerprint)) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat("Cached catalog <%s> was stored for another key", cacheFile));
+        return Optional.empty();
+      }
+      final Instant createdAt = Instant.ofEpochMilli(in.readLong());
+      if (isExpired(createdAt)) {
+        LOGGER.log(Level.INFO, new StringFormat("Cached catalog has expired <%s>", fingerprint));
+        in.close();
+        invalidate(fingerprint);
+        return Optional.empty();
+      }
+
+      final Catalog catalog = (Catalog) in.readObject();
+      // Record use, for least recently used eviction
+      Files.setLastModifiedTime(cacheFile, FileTime.from(Instant.now()));
+
+      LOGGER.log(Level.INFO, new StringFormat("Loaded catalog from cache <%s>", cacheFile));
+      return Optional.of(catalog);
+    } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not read cached catalog <%s>", cacheFile));
+      invalidate(fingerprint);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Stores a catalog in the cache, and evicts the least recently used catalogs if the cache is
+   * full.
+   *
+   * @param fingerprint Cache key
+   * @param catalog Catalog to cache
+   */
+  public void store(final String fingerprint, final Catalog catalog) {
+    requireNonNull(catalog, "No catalog provided");
+    final Path cacheFile = cacheFile(fingerprint);
+    Path tempFile = null;
+    try {
+      final Path cacheDirectory = createCacheDirectory();
+      if (!isTrusted(cacheDirectory)) {
+        return;
+      }
+      tempFile = Files.createTempFile(cacheDirectory, fingerprint, ".tmp");
+      try (final ObjectOutputStream out =
+          new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeUTF(fingerprint);
+        out.writeLong(Instant.now().toEpochMilli());
+        out.writeObject(catalog);
+      }
+      moveIntoPlace(tempFile, cacheFile);
+      LOGGER.log(Level.INFO, new StringFormat("Saved catalog to cache <%s>", cacheFile));
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not save catalog to cache <%s>", cacheFile));
+      if (tempFile != null) {
+        try {
+          Files.deleteIfExists(tempFile);
+        } catch (final IOException e1) {
+          LOGGER.log(Level.FINE, e1, new StringFormat("Could not delete <%s>", tempFile));
+        }
+      }
+      return;
+    }
+
+    evict();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return "CatalogCache [" + options.getCacheDirectory() + "]";
+  }
+
+  private void appendConfig(final StringBuilder buffer, final Config additionalConfig) {
+    if (additionalConfig == null) {
+      return;
+    }
+    // Sort for a stable fingerprint, and leave out the cache settings
+    // themselves, so that changing them does not invalidate the cache
+    final Map<String, Object> sortedConfig = new TreeMap<>(additionalConfig.getSubMap(null));
+    for (final Map.Entry<String, Object> configEntry : sortedConfig.entrySet()) {
+      final String key = configEntry.getKey();
+      if (CatalogCacheOptionsBuilder.isCatalogCacheProperty(key)) {
+        continue;
+      }
+      appendProperty(buffer, "config." + key, configEntry.getValue());
+    }
+  }
+
+  private void appendFilterOptions(final StringBuilder buffer, final FilterOptions filterOptions) {
+    appendProperty(buffer, "filter.parents", filterOptions.getParentTableFilterDepth());
+    appendProperty(buffer, "filter.children", filterOptions.getChildTableFilterDepth());
+  }
+
+  private void appendGrepOptions(final StringBuilder buffer, final GrepOptions grepOptions) {
+    appendProperty(
+        buffer, "grep.table", grepOptions.getGrepTableInclusionRule().map(this::describe));
+    appendProperty(
+        buffer, "grep.column", grepOptions.getGrepColumnInclusionRule().map(this::describe));
+    appendProperty(
+        buffer,
+        "grep.routine.inout",
+        grepOptions.getGrepRoutineParameterInclusionRule().map(this::describe));
+    appendProperty(
+        buffer,
+        "grep.definition",
+        grepOptions.getGrepDefinitionInclusionRule().map(this::describe));
+    appendProperty(buffer, "grep.invert", grepOptions.isGrepInvertMatch());
+  }
+
+  private void appendLimitOptions(final StringBuilder buffer, final LimitOptions limitOptions) {
+    for (final DatabaseObjectRuleForInclusion ruleForInclusion :
+        DatabaseObjectRuleForInclusion.values()) {
+      appendProperty(
+          buffer,
+          "limit." + ruleForInclusion.getKey(),
+          describe(limitOptions.get(ruleForInclusion)));
+    }
+    final String[] tableTypes = limitOptions.getTableTypes().toArray();
+    Arrays.sort(tableTypes);
+    appendProperty(
+        buffer,
+        "limit.table_types",
+        limitOptions.getTableTypes().isIncludeAll() ? "*" : Arrays.toString(tableTypes));
+    appendProperty(buffer, "limit.table_name_pattern", limitOptions.getTableNamePattern());
+    appendProperty(buffer, "limit.routine_types", limitOptions.getRoutineTypes());
+  }
+
+  private void appendProbe(final StringBuilder buffer, final Connection connection) {
+    final String probeQuery = options.getProbeQuery();
+    if (isBlank(probeQuery)) {
+      return;
+    }
+
+    appendProperty(buffer, "probe", probeQuery);
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = statement.executeQuery(probeQuery)) {
+      final ResultSetMetaData resultsMetaData = results.getMetaData();
+      final int columnCount = resultsMetaData.getColumnCount();
+      while (results.next()) {
+        for (int i = 1; i <= columnCount; i++) {
+          appendProperty(buffer, "probe." + i, results.getString(i));
+        }
+      }
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException(
+          String.format("Could not run catalog cache probe query <%s>", probeQuery), e);
+    }
+  }
+
+  private void appendProperty(final StringBuilder buffer, final String key, final Object value) {
+    buffer.append(key).append('=').append(value).append('\n');
+  }
+
+  private void appendSchemaInfoLevel(
+      final StringBuilder buffer, final SchemaInfoLevel schemaInfoLevel) {
+    for (final SchemaInfoRetrieval schemaInfoRetrieval : SchemaInfoRetrieval.values()) {
+      appendProperty(
+          buffer,
+          "infolevel." + schemaInfoRetrieval.name(),
+          schemaInfoLevel.is(schemaInfoRetrieval));
+    }
+  }
+
+  private void appendSchemaRetrievalOptions(
+      final StringBuilder buffer, final SchemaRetrievalOptions schemaRetrievalOptions) {
+    appendProperty(buffer, "server_type", schemaRetrievalOptions.getDatabaseServerType());
+    for (final SchemaInfoMetadataRetrievalStrategy retrievalStrategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      appendProperty(
+          buffer,
+          "retrieval." + retrievalStrategy.name(),
+          schemaRetrievalOptions.get(retrievalStrategy));
+    }
+    appendProperty(
+        buffer, "information_schema", schemaRetrievalOptions.getInformationSchemaViews());
+  }
+
+  private Path cacheFile(final String fingerprint) {
+    if (isBlank(fingerprint)) {
+      throw new IllegalArgumentException("No catalog cache key provided");
+    }
+    return options.getCacheDirectory().resolve(fingerprint + CACHE_FILE_EXTENSION);
+  }
+
+  private Path createCacheDirectory() throws IOException {
+    final Path cacheDirectory = options.getCacheDirectory();
+    if (Files.isDirectory(cacheDirectory)) {
+      return cacheDirectory;
+    }
+    if (isPosix(cacheDirectory)) {
+      Files.createDirectories(cacheDirectory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+      // The umask can remove permissions from the requested permissions,
+      // but never adds any
+      Files.setPosixFilePermissions(cacheDirectory, OWNER_ONLY);
+    } else {
+      Files.createDirectories(cacheDirectory);
+    }
+    return cacheDirectory;
+  }
+
+  private String describe(final InclusionRule inclusionRule) {
+    if (inclusionRule instanceof InclusionRuleWithRegularExpression) {
+      final InclusionRuleWithRegularExpression regularExpressionRule =
+          (InclusionRuleWithRegularExpression) inclusionRule;
+      return String.format(
+          "%s{+/%s/ -/%s/}",
+          inclusionRule.getClass().getName(),
+          regularExpressionRule.getInclusionPattern(),
+          regularExpressionRule.getExclusionPattern());
+    }
+    return inclusionRule.getClass().getName();
+  }
+
+  private void evict() {
+    final List<Path> cacheFiles = new ArrayList<>();
+    try (final DirectoryStream<Path> directoryStream =
+        Files.newDirectoryStream(options.getCacheDirectory(), "*" + CACHE_FILE_EXTENSION)) {
+      for (final Path cacheFile : directoryStream) {
+        cacheFiles.add(cacheFile);
+      }
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not list cached catalogs", e);
+      return;
+    }
+
+    final int maxEntries = options.getMaxEntries();
+    if (cacheFiles.size() <= maxEntries) {
+      return;
+    }
+
+    // Most recently used first
+    cacheFiles.sort(Comparator.comparing(this::lastModifiedTime).reversed());
+    for (final Path cacheFile : cacheFiles.subList(maxEntries, cacheFiles.size())) {
+      try {
+        LOGGER.log(Level.INFO, new StringFormat("Evicting cached catalog <%s>", cacheFile));
+        Files.deleteIfExists(cacheFile);
+      } catch (final IOException e) {
+        LOGGER.log(Level.WARNING, e, new StringFormat("Could not evict <%s>", cacheFile));
+      }
+    }
+  }
+
+  private boolean isExpired(final Instant createdAt) {
+    final Duration age = Duration.between(createdAt, Instant.now());
+    // A time to live of zero expires entries immediately
+    return age.compareTo(options.getTimeToLive()) >= 0;
+  }
+
+  private boolean isPosix(final Path path) {
+    return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+  }
+
+  /**
+   * Checks that a cache file or directory is owned by the current user, and cannot be written by
+   * other users, so that other users cannot plant a serialized catalog.
+   */
+  private boolean isTrusted(final Path path) {
+    try {
+      final UserPrincipal owner = Files.getOwner(path);
+      final UserPrincipal currentUser =
+          path.getFileSystem()
+              .getUserPrincipalLookupService()
+              .lookupPrincipalByName(System.getProperty("user.name"));
+      if (!owner.equals(currentUser)) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Not using catalog cache <%s>, since it is owned by <%s>", path, owner));
+        return false;
+      }
+      if (isPosix(path)
+          && !Collections.disjoint(
+              Files.getPosixFilePermissions(path),
+              EnumSet.of(PosixFilePermission.GROUP_WRITE, PosixFilePermission.OTHERS_WRITE))) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Not using catalog cache <%s>, since it can be written by other users", path));
+        return false;
+      }
+      return true;
+    } catch (final IOException | UnsupportedOperationException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not check owner of catalog cache <%s>", path));
+      return false;
+    }
+  }
+
+  private FileTime lastModifiedTime(final Path cacheFile) {
+    try {
+      return Files.getLastModifiedTime(cacheFile);
+    } catch (final IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private void moveIntoPlace(final Path tempFile, final Path cacheFile) throws IOException {
+    try {
+      Files.move(
+          tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException e) {
+      Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private String sha256(final String value) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final byte[] hash = digest.digest(value.getBytes(UTF_8));
+      final StringBuilder hex = new StringBuilder(hash.length * 2);
+      for (final byte b : hash) {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    } catch (final NoSuchAlgorithmException e) {
+      throw new InternalRuntimeException("Could not compute catalog cache key", e);
+    }
+  }
+}
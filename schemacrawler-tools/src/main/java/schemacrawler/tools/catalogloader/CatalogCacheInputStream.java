@@ -0,0 +1,83 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.catalogloader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/** Deserializes only the classes that a catalog is made up of. */
+final class CatalogCacheInputStream extends ObjectInputStream {
+
+  private static final Set<String> ALLOWED_JDK_PACKAGES =
+      new HashSet<>(Arrays.asList("java.lang", "java.math", "java.sql", "java.time", "java.util"));
+
+  private static boolean isAllowed(final String className) {
+    String name = className;
+    if (name.startsWith("[")) {
+      // Strip array dimensions, and allow arrays of primitives
+      name = name.substring(name.lastIndexOf('[') + 1);
+      if (name.length() == 1) {
+        return true;
+      }
+      name = name.substring(1, name.length() - 1);
+    }
+
+    if (name.startsWith("schemacrawler.") || name.startsWith("us.fatehi.")) {
+      return true;
+    }
+    final int lastDot = name.lastIndexOf('.');
+    return lastDot > 0 && ALLOWED_JDK_PACKAGES.contains(name.substring(0, lastDot));
+  }
+
+  CatalogCacheInputStream(final InputStream in) throws IOException {
+    super(in);
+  }
+
+  @Override
+  protected Class<?> resolveClass(final ObjectStreamClass classDescriptor)
+      throws IOException, ClassNotFoundException {
+    final String className = classDescriptor.getName();
+    if (!isAllowed(className)) {
+      throw new InvalidClassException(className, "Class is not allowed in a cached catalog");
+    }
+    return super.resolveClass(classDescriptor);
+  }
+
+  @Override
+  protected Class<?> resolveProxyClass(final String[] interfaces) throws IOException {
+    throw new InvalidClassException(
+        Arrays.toString(interfaces), "Proxies are not allowed in a cached catalog");
+  }
+}
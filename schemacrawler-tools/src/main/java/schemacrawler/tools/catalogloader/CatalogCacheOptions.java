@@ -0,0 +1,112 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.catalogloader;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import schemacrawler.schemacrawler.Options;
+import us.fatehi.utility.ObjectToString;
+
+/** Options for the on-disk cache of loaded catalogs. */
+public final class CatalogCacheOptions implements Options {
+
+  private final boolean enabled;
+  private final Path cacheDirectory;
+  private final Duration timeToLive;
+  private final int maxEntries;
+  private final String probeQuery;
+
+  CatalogCacheOptions(
+      final boolean enabled,
+      final Path cacheDirectory,
+      final Duration timeToLive,
+      final int maxEntries,
+      final String probeQuery) {
+    this.enabled = enabled;
+    this.cacheDirectory = requireNonNull(cacheDirectory, "No cache directory provided");
+    this.timeToLive = requireNonNull(timeToLive, "No time to live provided");
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("Invalid maximum number of cache entries, " + maxEntries);
+    }
+    this.maxEntries = maxEntries;
+    this.probeQuery = probeQuery;
+  }
+
+  /**
+   * Directory in which cached catalogs are stored.
+   *
+   * @return Cache directory
+   */
+  public Path getCacheDirectory() {
+    return cacheDirectory;
+  }
+
+  /**
+   * Maximum number of catalogs that are kept in the cache. The least recently used catalogs are
+   * evicted first.
+   *
+   * @return Maximum number of cache entries
+   */
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * Query that is run against the database to detect schema changes. All values returned by the
+   * query become part of the cache key, so for example, a query that returns the last DDL time or a
+   * schema version number from a migrations table will invalidate the cache when the schema
+   * changes. A blank query indicates that only the time to live is used to expire cached catalogs.
+   *
+   * @return Schema version probe query
+   */
+  public String getProbeQuery() {
+    return probeQuery;
+  }
+
+  /**
+   * Duration for which a cached catalog is considered to be fresh.
+   *
+   * @return Time to live for cache entries
+   */
+  public Duration getTimeToLive() {
+    return timeToLive;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return ObjectToString.toString(this);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.catalogloader;
+
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.Utility.trimToEmpty;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import schemacrawler.schemacrawler.OptionsBuilder;
+import schemacrawler.tools.options.Config;
+
+public final class CatalogCacheOptionsBuilder
+    implements OptionsBuilder<CatalogCacheOptionsBuilder, CatalogCacheOptions> {
+
+  private static final String SCHEMACRAWLER_CATALOG_CACHE_PREFIX = "schemacrawler.catalog.cache.";
+  static final String CATALOG_CACHE_ENABLED = SCHEMACRAWLER_CATALOG_CACHE_PREFIX + "enabled";
+  static final String CATALOG_CACHE_DIRECTORY = SCHEMACRAWLER_CATALOG_CACHE_PREFIX + "directory";
+  static final String CATALOG_CACHE_TTL = SCHEMACRAWLER_CATALOG_CACHE_PREFIX + "ttl";
+  static final String CATALOG_CACHE_MAX_ENTRIES =
+      SCHEMACRAWLER_CATALOG_CACHE_PREFIX + "max_entries";
+  static final String CATALOG_CACHE_PROBE_QUERY =
+      SCHEMACRAWLER_CATALOG_CACHE_PREFIX + "probe_query";
+
+  private static final int DEFAULT_TTL_SECONDS = 3600;
+  private static final int DEFAULT_MAX_ENTRIES = 16;
+
+  public static CatalogCacheOptionsBuilder builder() {
+    return new CatalogCacheOptionsBuilder();
+  }
+
+  public static CatalogCacheOptionsBuilder builder(final CatalogCacheOptions options) {
+    return new CatalogCacheOptionsBuilder().fromOptions(options);
+  }
+
+  public static CatalogCacheOptions newCatalogCacheOptions() {
+    return builder().toOptions();
+  }
+
+  static boolean isCatalogCacheProperty(final String propertyName) {
+    return propertyName != null && propertyName.startsWith(SCHEMACRAWLER_CATALOG_CACHE_PREFIX);
+  }
+
+  private boolean enabled;
+  private Path cacheDirectory;
+  private Duration timeToLive;
+  private int maxEntries;
+  private String probeQuery;
+
+  private CatalogCacheOptionsBuilder() {
+    enabled = false;
+    cacheDirectory = defaultCacheDirectory();
+    timeToLive = Duration.ofSeconds(DEFAULT_TTL_SECONDS);
+    maxEntries = DEFAULT_MAX_ENTRIES;
+    probeQuery = "";
+  }
+
+  public CatalogCacheOptionsBuilder fromConfig(final Config config) {
+    if (config == null) {
+      return this;
+    }
+
+    enabled = config.getBooleanValue(CATALOG_CACHE_ENABLED, enabled);
+    final String cacheDirectoryValue = config.getStringValue(CATALOG_CACHE_DIRECTORY, null);
+    if (!isBlank(cacheDirectoryValue)) {
+      cacheDirectory = Paths.get(cacheDirectoryValue);
+    }
+    withTimeToLive(
+        Duration.ofSeconds(
+            config.getIntegerValue(CATALOG_CACHE_TTL, (int) timeToLive.getSeconds())));
+    withMaxEntries(config.getIntegerValue(CATALOG_CACHE_MAX_ENTRIES, maxEntries));
+    probeQuery = trimToEmpty(config.getStringValue(CATALOG_CACHE_PROBE_QUERY, probeQuery));
+
+    return this;
+  }
+
+  @Override
+  public CatalogCacheOptionsBuilder fromOptions(final CatalogCacheOptions options) {
+    if (options == null) {
+      return this;
+    }
+
+    enabled = options.isEnabled();
+    cacheDirectory = options.getCacheDirectory();
+    timeToLive = options.getTimeToLive();
+    maxEntries = options.getMaxEntries();
+    probeQuery = options.getProbeQuery();
+
+    return this;
+  }
+
+  @Override
+  public CatalogCacheOptions toOptions() {
+    return new CatalogCacheOptions(enabled, cacheDirectory, timeToLive, maxEntries, probeQuery);
+  }
+
+  public CatalogCacheOptionsBuilder withCacheDirectory(final Path cacheDirectory) {
+    if (cacheDirectory == null) {
+      this.cacheDirectory = defaultCacheDirectory();
+    } else {
+      this.cacheDirectory = cacheDirectory;
+    }
+    return this;
+  }
+
+  public CatalogCacheOptionsBuilder withEnabled(final boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  public CatalogCacheOptionsBuilder withMaxEntries(final int maxEntries) {
+    this.maxEntries = Math.max(maxEntries, 1);
+    return this;
+  }
+
+  public CatalogCacheOptionsBuilder withProbeQuery(final String probeQuery) {
+    this.probeQuery = trimToEmpty(probeQuery);
+    return this;
+  }
+
+  public CatalogCacheOptionsBuilder withTimeToLive(final Duration timeToLive) {
+    if (timeToLive == null || timeToLive.isNegative()) {
+      this.timeToLive = Duration.ZERO;
+    } else {
+      this.timeToLive = timeToLive;
+    }
+    return this;
+  }
+
+  /** Cached catalogs are private to each user, so they are not kept in a shared directory. */
+  private Path defaultCacheDirectory() {
+    return Paths.get(System.getProperty("user.home"), ".schemacrawler", "catalog-cache");
+  }
+}
@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.catalogloader;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -47,6 +48,8 @@ public interface CatalogLoader extends Comparable<CatalogLoader> {
 
   Connection getConnection();
 
+  Supplier<Connection> getDataSource();
+
   default PluginCommand getHelpCommand() {
     return getCommandLineCommand();
   }
@@ -65,6 +68,14 @@ public interface CatalogLoader extends Comparable<CatalogLoader> {
 
   void setConnection(Connection connection);
 
+  /**
+   * Sets a source of additional connections to the same database, for loaders that can use more
+   * than one connection at a time. The data source is optional, and may not be set.
+   *
+   * @param dataSource Source of database connections
+   */
+  void setDataSource(Supplier<Connection> dataSource);
+
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
 
   void setSchemaRetrievalOptions(SchemaRetrievalOptions schemaRetrievalOptions);
@@ -28,22 +28,57 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.catalogloader;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.sql.Connection;
 
 import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.crawl.metrics.CrawlMetrics;
+import schemacrawler.crawl.metrics.JmxMetricsExporter;
+import schemacrawler.crawl.metrics.JsonLinesMetricsExporter;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.executable.commandline.PluginCommand;
+import schemacrawler.tools.options.Config;
 
 public class SchemaCrawlerCatalogLoader extends BaseCatalogLoader {
 
+  private static final String OPTION_CRAWL_METRICS_FILE = "crawl-metrics-file";
+  private static final String OPTION_CRAWL_METRICS_MXBEAN = "crawl-metrics-mxbean";
+
   public SchemaCrawlerCatalogLoader() {
     super(
         new CommandDescription("schemacrawlerloader", "Loader for SchemaCrawler metadata catalog"),
         0);
   }
 
+  @Override
+  public PluginCommand getCommandLineCommand() {
+    final CommandDescription commandDescription = getCommandDescription();
+    final PluginCommand pluginCommand =
+        PluginCommand.newCatalogLoaderCommand(
+            commandDescription.getName(), commandDescription.getDescription());
+    pluginCommand
+        .addOption(
+            OPTION_CRAWL_METRICS_FILE,
+            String.class,
+            "Path to a file to write crawl progress and throughput metrics to, as JSON lines",
+            "Optional, defaults to no metrics file")
+        .addOption(
+            OPTION_CRAWL_METRICS_MXBEAN,
+            String.class,
+            "Name of an MXBean to expose crawl metrics under, while the catalog is crawled",
+            "Optional, defaults to no MXBean");
+    return pluginCommand;
+  }
+
   @Override
   public void loadCatalog() {
     if (isLoaded()) {
@@ -55,7 +90,39 @@ public class SchemaCrawlerCatalogLoader extends BaseCatalogLoader {
 
     final SchemaCrawler schemaCrawler =
         new SchemaCrawler(connection, getSchemaRetrievalOptions(), getSchemaCrawlerOptions());
-    final Catalog catalog = schemaCrawler.crawl();
-    setCatalog(catalog);
+    schemaCrawler.setDataSource(getDataSource());
+
+    final Config config = getAdditionalConfiguration();
+    final String metricsFile =
+        config == null ? null : config.getStringValue(OPTION_CRAWL_METRICS_FILE, null);
+    final String metricsMXBean =
+        config == null ? null : config.getStringValue(OPTION_CRAWL_METRICS_MXBEAN, null);
+    if (isBlank(metricsFile) && isBlank(metricsMXBean)) {
+      setCatalog(schemaCrawler.crawl());
+      return;
+    }
+
+    final CrawlMetrics crawlMetrics = schemaCrawler.getCrawlMetrics();
+    try (final Writer writer =
+            isBlank(metricsFile) ? null : Files.newBufferedWriter(Paths.get(metricsFile), UTF_8);
+        final JmxMetricsExporter jmxExporter =
+            isBlank(metricsMXBean) ? null : new JmxMetricsExporter(metricsMXBean)) {
+      final JsonLinesMetricsExporter jsonLinesExporter =
+          writer == null ? null : new JsonLinesMetricsExporter(writer);
+      crawlMetrics.addListener(jsonLinesExporter);
+      crawlMetrics.addListener(jmxExporter);
+      try {
+        final Catalog catalog = schemaCrawler.crawl();
+        setCatalog(catalog);
+      } finally {
+        // Exporters are closed after the crawl, so lazily loaded table
+        // details are not reported to them
+        crawlMetrics.removeListener(jsonLinesExporter);
+        crawlMetrics.removeListener(jmxExporter);
+      }
+    } catch (final IOException e) {
+      throw new IORuntimeException(
+          String.format("Could not write crawl metrics to <%s>", metricsFile), e);
+    }
   }
 }
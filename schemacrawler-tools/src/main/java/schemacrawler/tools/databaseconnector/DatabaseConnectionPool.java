@@ -0,0 +1,535 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.databaseconnector;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * A lightweight pool of database connections, that are obtained from a connection source such as
+ * {@link DatabaseConnectionSource}. Connections handed out by the pool are returned to the pool
+ * when they are closed, and physical connections are only closed when the pool itself is closed, or
+ * when they have been idle for too long. Idle connections are validated before they are handed out
+ * again.
+ *
+ * <p>Physical connections are opened, validated, reset and closed without holding the pool lock, so
+ * that a slow database server does not hold up other borrowers. Statements and database metadata
+ * obtained from a pooled connection return the pooled connection, and not the physical connection,
+ * so the physical connection cannot be closed behind the pool.
+ */
+public final class DatabaseConnectionPool implements Supplier<Connection>, AutoCloseable {
+
+  private final class PooledConnectionHandler implements InvocationHandler {
+
+    private final PooledConnection pooledConnection;
+    private boolean closed;
+
+    PooledConnectionHandler(final PooledConnection pooledConnection) {
+      this.pooledConnection = pooledConnection;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      final String methodName = method.getName();
+      switch (methodName) {
+        case "close":
+          if (!closed) {
+            closed = true;
+            release(pooledConnection);
+          }
+          return null;
+        case "isClosed":
+          return closed || pooledConnection.connection.isClosed();
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return "Pooled " + pooledConnection.connection;
+        default:
+          if (closed) {
+            throw new SQLException("Connection has been returned to the pool");
+          }
+          if ("unwrap".equals(methodName) && ((Class<?>) args[0]).isInstance(proxy)) {
+            return proxy;
+          }
+          final Object result = invokeTarget(pooledConnection.connection, method, args);
+          if (result instanceof Statement || result instanceof DatabaseMetaData) {
+            return newProxy(
+                result, method.getReturnType(), new ConnectionChildHandler(result, proxy));
+          }
+          return result;
+      }
+    }
+  }
+
+  /** Returns the pooled connection for statements and database metadata. */
+  private static final class ConnectionChildHandler implements InvocationHandler {
+
+    private final Object target;
+    private final Object connectionProxy;
+
+    ConnectionChildHandler(final Object target, final Object connectionProxy) {
+      this.target = target;
+      this.connectionProxy = connectionProxy;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      final String methodName = method.getName();
+      switch (methodName) {
+        case "getConnection":
+          if (method.getParameterCount() == 0) {
+            return connectionProxy;
+          }
+          break;
+        case "unwrap":
+          if (((Class<?>) args[0]).isInstance(proxy)) {
+            return proxy;
+          }
+          break;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          break;
+      }
+      return invokeTarget(target, method, args);
+    }
+  }
+
+  private static final class PooledConnection {
+
+    private final Connection connection;
+    private final boolean transactional;
+    private final boolean autoCommit;
+    // Initial connection state, which is restored when the connection is
+    // returned, or null if the driver does not support it
+    private final Boolean readOnly;
+    private final String catalog;
+    private final String schema;
+    private final Integer transactionIsolation;
+    private Instant lastUsed;
+
+    PooledConnection(final Connection connection) throws SQLException {
+      this.connection = connection;
+      // Some connections, such as offline catalog snapshot connections, do
+      // not support transactions
+      boolean transactional;
+      boolean autoCommit;
+      try {
+        autoCommit = connection.getAutoCommit();
+        transactional = true;
+      } catch (final SQLFeatureNotSupportedException e) {
+        LOGGER.log(Level.FINE, "Connection does not support transactions", e);
+        autoCommit = true;
+        transactional = false;
+      }
+      this.transactional = transactional;
+      this.autoCommit = autoCommit;
+      if (transactional) {
+        readOnly = getState(connection::isReadOnly);
+        catalog = getState(connection::getCatalog);
+        schema = getState(connection::getSchema);
+        transactionIsolation = getState(connection::getTransactionIsolation);
+      } else {
+        readOnly = null;
+        catalog = null;
+        schema = null;
+        transactionIsolation = null;
+      }
+      lastUsed = Instant.now();
+    }
+  }
+
+  @FunctionalInterface
+  private interface ConnectionState<T> {
+    T get() throws SQLException;
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(DatabaseConnectionPool.class.getName());
+
+  private static final int DEFAULT_MAX_SIZE = 4;
+  private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+  private static final Duration DEFAULT_BORROW_TIMEOUT = Duration.ofSeconds(30);
+  private static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private static <T> T getState(final ConnectionState<T> connectionState) {
+    try {
+      return connectionState.get();
+    } catch (final SQLException | AbstractMethodError e) {
+      // Older drivers do not implement all of the JDBC 4.1 methods
+      LOGGER.log(Level.FINE, "Could not get connection state", e);
+      return null;
+    }
+  }
+
+  private static Object invokeTarget(final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Creates a proxy that implements all the public interfaces of the target, so that driver
+   * specific interfaces are still available on pooled connections, and their statements.
+   */
+  private static Object newProxy(
+      final Object target, final Class<?> primaryInterface, final InvocationHandler handler) {
+    final Class<?> targetClass = target.getClass();
+    final Set<Class<?>> interfaces = new LinkedHashSet<>();
+    interfaces.add(primaryInterface);
+    for (Class<?> type = targetClass; type != null; type = type.getSuperclass()) {
+      for (final Class<?> interfaceType : type.getInterfaces()) {
+        if (Modifier.isPublic(interfaceType.getModifiers())) {
+          interfaces.add(interfaceType);
+        }
+      }
+    }
+
+    try {
+      ClassLoader classLoader = targetClass.getClassLoader();
+      if (classLoader == null) {
+        classLoader = DatabaseConnectionPool.class.getClassLoader();
+      }
+      return Proxy.newProxyInstance(classLoader, interfaces.toArray(new Class<?>[0]), handler);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.log(Level.FINE, e, new StringFormat("Cannot proxy interfaces of <%s>", targetClass));
+      return Proxy.newProxyInstance(
+          DatabaseConnectionPool.class.getClassLoader(),
+          new Class<?>[] {primaryInterface},
+          handler);
+    }
+  }
+
+  private final Supplier<Connection> connectionSource;
+  private final int maxSize;
+  private final Duration idleTimeout;
+  private final Duration borrowTimeout;
+  private final int validationTimeoutSeconds;
+  private final Deque<PooledConnection> idleConnections;
+  // Connections that are in use, or being opened
+  private int activeCount;
+  private boolean closed;
+
+  public DatabaseConnectionPool(final Supplier<Connection> connectionSource) {
+    this(
+        connectionSource,
+        DEFAULT_MAX_SIZE,
+        DEFAULT_IDLE_TIMEOUT,
+        DEFAULT_BORROW_TIMEOUT,
+        DEFAULT_VALIDATION_TIMEOUT_SECONDS);
+  }
+
+  /**
+   * Creates a pool of database connections.
+   *
+   * @param connectionSource Source of new physical connections
+   * @param maxSize Maximum number of physical connections, both in use and idle
+   * @param idleTimeout Time after which an idle connection is closed
+   * @param borrowTimeout Time to wait for a connection to be returned, when all connections are in
+   *     use
+   * @param validationTimeoutSeconds Time to wait for an idle connection to be validated
+   */
+  public DatabaseConnectionPool(
+      final Supplier<Connection> connectionSource,
+      final int maxSize,
+      final Duration idleTimeout,
+      final Duration borrowTimeout,
+      final int validationTimeoutSeconds) {
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Invalid maximum pool size, " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.idleTimeout = requireNonNull(idleTimeout, "No idle timeout provided");
+    this.borrowTimeout = requireNonNull(borrowTimeout, "No borrow timeout provided");
+    this.validationTimeoutSeconds = Math.max(validationTimeoutSeconds, 0);
+
+    idleConnections = new ArrayDeque<>();
+  }
+
+  /** Closes all idle connections, and connections that are in use once they are returned. */
+  @Override
+  public void close() {
+    final List<PooledConnection> connectionsToClose;
+    synchronized (this) {
+      closed = true;
+      connectionsToClose = new ArrayList<>(idleConnections);
+      idleConnections.clear();
+      notifyAll();
+    }
+    closePhysicalConnections(connectionsToClose);
+  }
+
+  /**
+   * Borrows a connection from the pool. The connection needs to be closed to return it to the pool.
+   *
+   * @return Connection from the pool
+   */
+  @Override
+  public Connection get() {
+    final Instant deadline = Instant.now().plus(borrowTimeout);
+    while (true) {
+      final PooledConnection idleConnection;
+      final List<PooledConnection> expiredConnections;
+      // Reserve an idle connection, or a slot for a new connection, while
+      // holding the lock, and then validate or connect without it
+      synchronized (this) {
+        checkOpen();
+        expiredConnections = removeIdleConnections();
+        if (!idleConnections.isEmpty()) {
+          // Most recently used connections are most likely to be valid
+          idleConnection = idleConnections.pollFirst();
+          activeCount++;
+        } else if (activeCount < maxSize) {
+          idleConnection = null;
+          activeCount++;
+        } else {
+          waitForConnection(deadline);
+          continue;
+        }
+      }
+      closePhysicalConnections(expiredConnections);
+
+      if (idleConnection == null) {
+        try {
+          return newConnectionProxy(newPooledConnection());
+        } catch (final RuntimeException e) {
+          releaseSlot();
+          throw e;
+        }
+      } else if (isValid(idleConnection.connection)) {
+        return newConnectionProxy(idleConnection);
+      } else {
+        closePhysicalConnection(idleConnection);
+        releaseSlot();
+      }
+    }
+  }
+
+  public synchronized int getActiveCount() {
+    return activeCount;
+  }
+
+  public synchronized int getIdleCount() {
+    return idleConnections.size();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public synchronized boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "DatabaseConnectionPool [maxSize=%d, source=%s]", maxSize, connectionSource);
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new ExecutionRuntimeException("Database connection pool has been closed");
+    }
+  }
+
+  private void closePhysicalConnection(final PooledConnection pooledConnection) {
+    try {
+      LOGGER.log(
+          Level.INFO, new StringFormat("Closing connection <%s>", pooledConnection.connection));
+      pooledConnection.connection.close();
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Cannot close connection", e);
+    }
+  }
+
+  private void closePhysicalConnections(final List<PooledConnection> pooledConnections) {
+    for (final PooledConnection pooledConnection : pooledConnections) {
+      closePhysicalConnection(pooledConnection);
+    }
+  }
+
+  private boolean isValid(final Connection connection) {
+    try {
+      return !connection.isClosed() && connection.isValid(validationTimeoutSeconds);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Could not validate connection", e);
+      return false;
+    }
+  }
+
+  private Connection newConnectionProxy(final PooledConnection pooledConnection) {
+    return (Connection)
+        newProxy(
+            pooledConnection.connection,
+            Connection.class,
+            new PooledConnectionHandler(pooledConnection));
+  }
+
+  private PooledConnection newPooledConnection() {
+    final Connection connection = connectionSource.get();
+    requireNonNull(connection, "No connection obtained from connection source");
+    try {
+      return new PooledConnection(connection);
+    } catch (final SQLException e) {
+      try {
+        connection.close();
+      } catch (final SQLException e1) {
+        LOGGER.log(Level.FINE, "Cannot close connection", e1);
+      }
+      throw new DatabaseAccessException("Could not add connection to pool", e);
+    }
+  }
+
+  private void release(final PooledConnection pooledConnection) {
+    final boolean isReset = reset(pooledConnection);
+    synchronized (this) {
+      activeCount--;
+      notifyAll();
+      if (!closed && isReset) {
+        pooledConnection.lastUsed = Instant.now();
+        idleConnections.addFirst(pooledConnection);
+        return;
+      }
+    }
+    closePhysicalConnection(pooledConnection);
+  }
+
+  private synchronized void releaseSlot() {
+    activeCount--;
+    notifyAll();
+  }
+
+  private List<PooledConnection> removeIdleConnections() {
+    final List<PooledConnection> expiredConnections = new ArrayList<>();
+    final Instant idleSince = Instant.now().minus(idleTimeout);
+    for (final Iterator<PooledConnection> iterator = idleConnections.iterator();
+        iterator.hasNext(); ) {
+      final PooledConnection pooledConnection = iterator.next();
+      if (pooledConnection.lastUsed.isBefore(idleSince)) {
+        iterator.remove();
+        expiredConnections.add(pooledConnection);
+      }
+    }
+    return expiredConnections;
+  }
+
+  private boolean reset(final PooledConnection pooledConnection) {
+    final Connection connection = pooledConnection.connection;
+    try {
+      if (connection.isClosed()) {
+        return false;
+      }
+      if (!pooledConnection.transactional) {
+        return true;
+      }
+      // Do not leak transaction state to the next borrower
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+      }
+      if (connection.getAutoCommit() != pooledConnection.autoCommit) {
+        connection.setAutoCommit(pooledConnection.autoCommit);
+      }
+      // Restore connection state that the borrower may have changed
+      if (pooledConnection.readOnly != null
+          && connection.isReadOnly() != pooledConnection.readOnly) {
+        connection.setReadOnly(pooledConnection.readOnly);
+      }
+      if (pooledConnection.transactionIsolation != null
+          && connection.getTransactionIsolation() != pooledConnection.transactionIsolation) {
+        connection.setTransactionIsolation(pooledConnection.transactionIsolation);
+      }
+      if (pooledConnection.catalog != null
+          && !Objects.equals(connection.getCatalog(), pooledConnection.catalog)) {
+        connection.setCatalog(pooledConnection.catalog);
+      }
+      if (pooledConnection.schema != null
+          && !Objects.equals(connection.getSchema(), pooledConnection.schema)) {
+        connection.setSchema(pooledConnection.schema);
+      }
+      connection.clearWarnings();
+      return true;
+    } catch (final SQLException | AbstractMethodError e) {
+      LOGGER.log(Level.FINE, "Could not reset connection", e);
+      return false;
+    }
+  }
+
+  private void waitForConnection(final Instant deadline) {
+    final long waitMillis = Duration.between(Instant.now(), deadline).toMillis();
+    if (waitMillis <= 0) {
+      throw new ExecutionRuntimeException(
+          String.format(
+              "Timed out waiting for a database connection, all %d connections are in use",
+              maxSize));
+    }
+    try {
+      wait(waitMillis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InternalRuntimeException("Interrupted waiting for a database connection", e);
+    }
+  }
+}
@@ -64,6 +64,9 @@ public final class DatabaseConnectionSource implements Supplier<Connection> {
   private final Map<String, String> connectionProperties;
   private final String connectionUrl;
   private UserCredentials userCredentials;
+  // Resolved on first connection, and reused for every connection after that
+  private Driver jdbcDriver;
+  private Map<String, Boolean> jdbcDriverProperties;
 
   public DatabaseConnectionSource(final String connectionUrl) {
     this(connectionUrl, null);
@@ -90,7 +93,10 @@ public final class DatabaseConnectionSource implements Supplier<Connection> {
   }
 
   public Driver getJdbcDriver() throws SQLException {
-    return getJdbcDriver(connectionUrl);
+    if (jdbcDriver == null) {
+      jdbcDriver = getJdbcDriver(connectionUrl);
+    }
+    return jdbcDriver;
   }
 
   public UserCredentials getUserCredentials() {
@@ -119,21 +125,9 @@ public final class DatabaseConnectionSource implements Supplier<Connection> {
 
   private Properties createConnectionProperties(
       final String connectionUrl, final String user, final String password) {
-    final List<String> skipProperties =
-        Arrays.asList("server", "host", "port", "database", "urlx", "user", "password", "url");
     final Properties jdbcConnectionProperties;
     try {
-      final Driver jdbcDriver = getJdbcDriver(connectionUrl);
-      final DriverPropertyInfo[] propertyInfo =
-          jdbcDriver.getPropertyInfo(this.connectionUrl, new Properties());
-      final Map<String, Boolean> jdbcDriverProperties = new HashMap<>();
-      for (final DriverPropertyInfo driverPropertyInfo : propertyInfo) {
-        final String jdbcPropertyName = driverPropertyInfo.name.toLowerCase();
-        if (skipProperties.contains(jdbcPropertyName)) {
-          continue;
-        }
-        jdbcDriverProperties.put(jdbcPropertyName, driverPropertyInfo.required);
-      }
+      final Map<String, Boolean> jdbcDriverProperties = getJdbcDriverProperties();
 
       jdbcConnectionProperties = new Properties();
       if (user != null) {
@@ -180,7 +174,7 @@ public final class DatabaseConnectionSource implements Supplier<Connection> {
       // will accept the connection URL, and some non-compliant drivers
       // (MySQL Connector/J) may raise an exception other than a
       // SQLException in this case.)
-      final Driver driver = getJdbcDriver(connectionUrl);
+      final Driver driver = getJdbcDriver();
       final Connection connection = driver.connect(connectionUrl, jdbcConnectionProperties);
 
       LOGGER.log(Level.INFO, new StringFormat("Opened database connection <%s>", connection));
@@ -204,6 +198,28 @@ public final class DatabaseConnectionSource implements Supplier<Connection> {
     }
   }
 
+  private Map<String, Boolean> getJdbcDriverProperties() throws SQLException {
+    if (jdbcDriverProperties != null) {
+      return jdbcDriverProperties;
+    }
+
+    final List<String> skipProperties =
+        Arrays.asList("server", "host", "port", "database", "urlx", "user", "password", "url");
+    final DriverPropertyInfo[] propertyInfo =
+        getJdbcDriver().getPropertyInfo(connectionUrl, new Properties());
+    final Map<String, Boolean> driverProperties = new HashMap<>();
+    for (final DriverPropertyInfo driverPropertyInfo : propertyInfo) {
+      final String jdbcPropertyName = driverPropertyInfo.name.toLowerCase();
+      if (skipProperties.contains(jdbcPropertyName)) {
+        continue;
+      }
+      driverProperties.put(jdbcPropertyName, driverPropertyInfo.required);
+    }
+    jdbcDriverProperties = driverProperties;
+
+    return jdbcDriverProperties;
+  }
+
   private Driver getJdbcDriver(final String connectionUrl) throws SQLException {
     try {
       return DriverManager.getDriver(connectionUrl);
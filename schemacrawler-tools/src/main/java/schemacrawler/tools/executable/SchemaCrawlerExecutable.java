@@ -32,6 +32,7 @@ import static schemacrawler.tools.utility.SchemaCrawlerUtility.matchSchemaRetrie
 import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -62,6 +63,7 @@ public final class SchemaCrawlerExecutable {
   private Config additionalConfig;
   private Catalog catalog;
   private Connection connection;
+  private Supplier<Connection> dataSource;
   private OutputOptions outputOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private SchemaRetrievalOptions schemaRetrievalOptions;
@@ -138,6 +140,16 @@ public final class SchemaCrawlerExecutable {
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  /**
+   * Source of additional connections for catalog loaders, and for lazily loaded table details, so
+   * that the catalog can be used after the connection is closed.
+   *
+   * @param dataSource Source of database connections, or null if there is none
+   */
+  public void setDataSource(final Supplier<Connection> dataSource) {
+    this.dataSource = dataSource;
+  }
+
   public void setOutputOptions(final OutputOptions outputOptions) {
     if (outputOptions == null) {
       this.outputOptions = OutputOptionsBuilder.newOutputOptions();
@@ -167,7 +179,7 @@ public final class SchemaCrawlerExecutable {
   private void loadCatalog() {
     catalog =
         SchemaCrawlerUtility.getCatalog(
-            connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+            connection, dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
     requireNonNull(catalog, "Catalog could not be retrieved");
   }
 
@@ -29,12 +29,23 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.utility;
 
 import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.ConcurrencyUtility.executeConcurrently;
+import static us.fatehi.utility.ConcurrencyUtility.throwOnFailures;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -42,15 +53,25 @@ import java.util.regex.Pattern;
 
 import schemacrawler.crawl.ConnectionInfoBuilder;
 import schemacrawler.crawl.ResultsCrawler;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.inclusionrule.ExcludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ConnectionInfo;
 import schemacrawler.schema.ResultsColumns;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.DatabaseServerType;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
 import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.tools.catalogloader.CatalogCache;
+import schemacrawler.tools.catalogloader.CatalogCacheOptions;
+import schemacrawler.tools.catalogloader.CatalogCacheOptionsBuilder;
 import schemacrawler.tools.catalogloader.CatalogLoader;
 import schemacrawler.tools.catalogloader.CatalogLoaderRegistry;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
@@ -68,6 +89,103 @@ public final class SchemaCrawlerUtility {
 
   private static final Logger LOGGER = Logger.getLogger(SchemaCrawlerUtility.class.getName());
 
+  /**
+   * Crawls a database one shard of schemas at a time, and hands each catalog to a consumer. Only
+   * the catalog for the current shard is held in memory, so peak memory is proportional to the
+   * largest shard, rather than to the whole database. Tables in other shards that are referenced by
+   * foreign keys are present as partial tables.
+   *
+   * @param connection Live database connection.
+   * @param schemaCrawlerOptions Options.
+   * @param additionalConfig Additional configuration for catalog loaders.
+   * @param shardSize Maximum number of schemas in each shard.
+   * @param catalogConsumer Receives the catalog for each shard.
+   */
+  public static void crawlSchemaShards(
+      final Connection connection,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig,
+      final int shardSize,
+      final Consumer<Catalog> catalogConsumer) {
+    checkConnection(connection);
+    requireNonNull(additionalConfig, "No additional configuration provided");
+    requireNonNull(catalogConsumer, "No catalog consumer provided");
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = matchSchemaRetrievalOptions(connection);
+    final List<SchemaCrawlerOptions> shardsOptions =
+        shardSchemaCrawlerOptions(
+            connection, schemaRetrievalOptions, schemaCrawlerOptions, shardSize);
+
+    for (final SchemaCrawlerOptions shardOptions : shardsOptions) {
+      catalogConsumer.accept(
+          loadCatalog(connection, null, schemaRetrievalOptions, shardOptions, additionalConfig));
+    }
+  }
+
+  /**
+   * Crawls a database one shard of schemas at a time, with several shards crawled in parallel, and
+   * hands each catalog to a consumer. Each thread uses its own connection from the connection
+   * source for all of the shards that it crawls. The consumer is called from multiple threads, and
+   * needs to be thread-safe.
+   *
+   * @param connectionSource Source of database connections, such as a {@link
+   *     schemacrawler.tools.databaseconnector.DatabaseConnectionPool}.
+   * @param schemaCrawlerOptions Options.
+   * @param additionalConfig Additional configuration for catalog loaders.
+   * @param shardSize Maximum number of schemas in each shard.
+   * @param parallelism Maximum number of shards to crawl at the same time.
+   * @param catalogConsumer Receives the catalog for each shard.
+   */
+  public static void crawlSchemaShards(
+      final Supplier<Connection> connectionSource,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig,
+      final int shardSize,
+      final int parallelism,
+      final Consumer<Catalog> catalogConsumer) {
+    requireNonNull(connectionSource, "No connection source provided");
+    requireNonNull(additionalConfig, "No additional configuration provided");
+    requireNonNull(catalogConsumer, "No catalog consumer provided");
+
+    final SchemaRetrievalOptions schemaRetrievalOptions;
+    final List<SchemaCrawlerOptions> shardsOptions;
+    try (final Connection connection = connectionSource.get()) {
+      checkConnection(connection);
+      schemaRetrievalOptions = matchSchemaRetrievalOptions(connection);
+      shardsOptions =
+          shardSchemaCrawlerOptions(
+              connection, schemaRetrievalOptions, schemaCrawlerOptions, shardSize);
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException("Could not list schemas", e);
+    }
+
+    // Each task uses one connection for as many shards as it can take
+    // from the queue
+    final Queue<SchemaCrawlerOptions> shardsQueue = new ConcurrentLinkedQueue<>(shardsOptions);
+    final int taskCount = Math.max(1, Math.min(parallelism, shardsOptions.size()));
+    final List<Callable<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < taskCount; i++) {
+      tasks.add(
+          () -> {
+            try (final Connection connection = connectionSource.get()) {
+              SchemaCrawlerOptions shardOptions;
+              while ((shardOptions = shardsQueue.poll()) != null) {
+                catalogConsumer.accept(
+                    loadCatalog(
+                        connection,
+                        connectionSource,
+                        schemaRetrievalOptions,
+                        shardOptions,
+                        additionalConfig));
+              }
+            }
+            return null;
+          });
+    }
+    final List<Throwable> failures = executeConcurrently("schema shard threads", tasks, taskCount);
+    throwOnFailures("schema shard threads", taskCount, failures, ExecutionRuntimeException::new);
+  }
+
   /**
    * Crawls a database, and returns a catalog.
    *
@@ -90,21 +208,77 @@ public final class SchemaCrawlerUtility {
       final SchemaRetrievalOptions schemaRetrievalOptions,
       final SchemaCrawlerOptions schemaCrawlerOptions,
       final Config additionalConfig) {
+    return getCatalog(
+        connection, null, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+  }
 
-    final CatalogLoaderRegistry catalogLoaderRegistry = new CatalogLoaderRegistry();
-    final CatalogLoader catalogLoader = catalogLoaderRegistry.newChainedCatalogLoader();
+  /**
+   * Crawls a database, and returns a catalog. The catalog is crawled on one connection from the
+   * data source, and catalog loaders can use the data source for additional connections, for
+   * example to retrieve column statistics in parallel. The connection is closed when the catalog
+   * has been crawled, so lazily loaded table details are retrieved with connections from the data
+   * source.
+   *
+   * @param dataSource Source of database connections, such as a {@link
+   *     schemacrawler.tools.databaseconnector.DatabaseConnectionPool}.
+   * @param schemaRetrievalOptions Database specific options.
+   * @param schemaCrawlerOptions Options.
+   * @param additionalConfig Additional configuration for catalog loaders.
+   * @return Database catalog.
+   */
+  public static Catalog getCatalog(
+      final Supplier<Connection> dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig) {
+    requireNonNull(dataSource, "No data source provided");
+    try (final Connection connection = dataSource.get()) {
+      return getCatalog(
+          connection, dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException("Could not close database connection", e);
+    }
+  }
 
-    LOGGER.log(Level.CONFIG, new StringFormat("Catalog loader: %s", catalogLoader));
-    logConnection(connection);
+  /**
+   * Crawls a database on a live connection, and returns a catalog. Catalog loaders can use the data
+   * source for additional connections, and lazily loaded table details are retrieved with
+   * connections from it, so the catalog can be used after the connection is closed.
+   *
+   * @param connection Live database connection.
+   * @param dataSource Source of additional database connections, or null if there is none.
+   * @param schemaRetrievalOptions Database specific options.
+   * @param schemaCrawlerOptions Options.
+   * @param additionalConfig Additional configuration for catalog loaders.
+   * @return Database catalog.
+   */
+  public static Catalog getCatalog(
+      final Connection connection,
+      final Supplier<Connection> dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig) {
 
-    catalogLoader.setConnection(connection);
-    catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
-    catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
-    catalogLoader.setAdditionalConfiguration(additionalConfig);
+    final CatalogCacheOptions catalogCacheOptions =
+        CatalogCacheOptionsBuilder.builder().fromConfig(additionalConfig).toOptions();
+    if (!catalogCacheOptions.isEnabled()) {
+      return loadCatalog(
+          connection, dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+    }
 
-    catalogLoader.loadCatalog();
-    final Catalog catalog = catalogLoader.getCatalog();
-    requireNonNull(catalog, "Catalog could not be retrieved");
+    final CatalogCache catalogCache = new CatalogCache(catalogCacheOptions);
+    final String fingerprint =
+        catalogCache.fingerprint(
+            connection, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+    final Optional<Catalog> cachedCatalog = catalogCache.lookup(fingerprint);
+    if (cachedCatalog.isPresent()) {
+      return cachedCatalog.get();
+    }
+
+    final Catalog catalog =
+        loadCatalog(
+            connection, dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+    catalogCache.store(fingerprint, catalog);
     return catalog;
   }
 
@@ -222,6 +396,31 @@ public final class SchemaCrawlerUtility {
     return url;
   }
 
+  private static Catalog loadCatalog(
+      final Connection connection,
+      final Supplier<Connection> dataSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config additionalConfig) {
+
+    final CatalogLoaderRegistry catalogLoaderRegistry = new CatalogLoaderRegistry();
+    final CatalogLoader catalogLoader = catalogLoaderRegistry.newChainedCatalogLoader();
+
+    LOGGER.log(Level.CONFIG, new StringFormat("Catalog loader: %s", catalogLoader));
+    logConnection(connection);
+
+    catalogLoader.setConnection(connection);
+    catalogLoader.setDataSource(dataSource);
+    catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
+    catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    catalogLoader.setAdditionalConfiguration(additionalConfig);
+
+    catalogLoader.loadCatalog();
+    final Catalog catalog = catalogLoader.getCatalog();
+    requireNonNull(catalog, "Catalog could not be retrieved");
+    return catalog;
+  }
+
   private static void logConnection(final Connection connection) {
     if (connection == null || !LOGGER.isLoggable(Level.INFO)) {
       return;
@@ -235,6 +434,81 @@ public final class SchemaCrawlerUtility {
     }
   }
 
+  /**
+   * Escapes regular expression metacharacters with a backslash, rather than with a quoted section,
+   * so that the pattern can also be used in data dictionary queries.
+   */
+  private static String escapeRegularExpression(final String text) {
+    final StringBuilder buffer = new StringBuilder(text.length() + 8);
+    for (final char ch : text.toCharArray()) {
+      if ("\\.[]{}()<>*+-=!?^$|".indexOf(ch) >= 0) {
+        buffer.append('\\');
+      }
+      buffer.append(ch);
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Lists schemas, and splits them into shards, returning options to crawl each shard. Tables,
+   * routines, sequences and synonyms are not retrieved while listing schemas.
+   */
+  private static List<SchemaCrawlerOptions> shardSchemaCrawlerOptions(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final int shardSize) {
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+    if (shardSize <= 0) {
+      throw new IllegalArgumentException("Shard size needs to be positive");
+    }
+
+    final LimitOptions limitOptions = schemaCrawlerOptions.getLimitOptions();
+    final LimitOptions schemasOnlyLimitOptions =
+        LimitOptionsBuilder.builder()
+            .fromOptions(limitOptions)
+            .includeTables(new ExcludeAll())
+            .includeRoutines(new ExcludeAll())
+            .includeSequences(new ExcludeAll())
+            .includeSynonyms(new ExcludeAll())
+            .toOptions();
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            connection,
+            schemaRetrievalOptions,
+            schemaCrawlerOptions.withLimitOptions(schemasOnlyLimitOptions));
+    final List<String> schemaNames = new ArrayList<>();
+    for (final Schema schema : schemaCrawler.crawl().getSchemas()) {
+      schemaNames.add(schema.getFullName());
+    }
+
+    final List<SchemaCrawlerOptions> shardsOptions = new ArrayList<>();
+    if (schemaNames.size() <= shardSize) {
+      // A single shard does not need any additional limits, and this
+      // also works for databases that do not support schemas
+      shardsOptions.add(schemaCrawlerOptions);
+    } else {
+      for (int i = 0; i < schemaNames.size(); i += shardSize) {
+        final StringJoiner shardPattern = new StringJoiner("|");
+        for (final String schemaName :
+            schemaNames.subList(i, Math.min(i + shardSize, schemaNames.size()))) {
+          shardPattern.add(escapeRegularExpression(schemaName));
+        }
+        final LimitOptions shardLimitOptions =
+            LimitOptionsBuilder.builder()
+                .fromOptions(limitOptions)
+                .includeSchemas(new RegularExpressionInclusionRule(shardPattern.toString()))
+                .toOptions();
+        shardsOptions.add(schemaCrawlerOptions.withLimitOptions(shardLimitOptions));
+      }
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Split <%d> schemas into <%d> shards", schemaNames.size(), shardsOptions.size()));
+    return shardsOptions;
+  }
+
   private static boolean useMatchedDatabasePlugin(
       final Connection connection, final DatabaseServerType dbServerType) {
 
@@ -0,0 +1,264 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.io.File;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.catalogloader.CatalogCache;
+import schemacrawler.tools.catalogloader.CatalogCacheOptions;
+import schemacrawler.tools.catalogloader.CatalogCacheOptionsBuilder;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CatalogCacheTest {
+
+  private Path cacheDirectory;
+
+  @BeforeEach
+  public void createCacheDirectory() throws Exception {
+    cacheDirectory = Files.createTempDirectory("sc-catalog-cache");
+  }
+
+  @Test
+  public void cachedCatalog(final Connection connection) throws Exception {
+    final Config config = new Config();
+    config.put("schemacrawler.catalog.cache.enabled", "true");
+    config.put("schemacrawler.catalog.cache.directory", cacheDirectory.toString());
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = newSchemaCrawlerOptions();
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config);
+    assertThat(countCacheFiles(), is(1L));
+
+    final CatalogCache catalogCache =
+        new CatalogCache(CatalogCacheOptionsBuilder.builder().fromConfig(config).toOptions());
+    final String fingerprint =
+        catalogCache.fingerprint(
+            connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config);
+    final Optional<Catalog> cachedCatalog = catalogCache.lookup(fingerprint);
+    assertThat(cachedCatalog.isPresent(), is(true));
+    assertThat(cachedCatalog.get().getTables().size(), is(catalog.getTables().size()));
+
+    catalogCache.invalidate(fingerprint);
+    assertThat(countCacheFiles(), is(0L));
+    assertThat(catalogCache.lookup(fingerprint).isPresent(), is(false));
+  }
+
+  @Test
+  public void defaultCacheDirectory() {
+    assertThat(
+        CatalogCacheOptionsBuilder.newCatalogCacheOptions().getCacheDirectory(),
+        is(Paths.get(System.getProperty("user.home"), ".schemacrawler", "catalog-cache")));
+  }
+
+  @Test
+  public void disallowedClass() throws Exception {
+    final CatalogCache catalogCache =
+        new CatalogCache(
+            CatalogCacheOptionsBuilder.builder().withCacheDirectory(cacheDirectory).toOptions());
+
+    try (final ObjectOutputStream out =
+        new ObjectOutputStream(Files.newOutputStream(cacheDirectory.resolve("planted.catalog")))) {
+      out.writeUTF("planted");
+      out.writeLong(Instant.now().toEpochMilli());
+      out.writeObject(new File("planted"));
+    }
+
+    assertThat(catalogCache.lookup("planted").isPresent(), is(false));
+  }
+
+  @Test
+  public void directoryWritableByOtherUsers(final Connection connection) throws Exception {
+    assumeTrue(isPosix());
+    final CatalogCache catalogCache =
+        new CatalogCache(
+            CatalogCacheOptionsBuilder.builder().withCacheDirectory(cacheDirectory).toOptions());
+
+    catalogCache.store("shared", getCatalog(connection));
+    assertThat(catalogCache.lookup("shared").isPresent(), is(true));
+
+    Files.setPosixFilePermissions(cacheDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+    assertThat(catalogCache.lookup("shared").isPresent(), is(false));
+  }
+
+  @Test
+  public void eviction(final Connection connection) throws Exception {
+    final CatalogCacheOptions catalogCacheOptions =
+        CatalogCacheOptionsBuilder.builder()
+            .withCacheDirectory(cacheDirectory)
+            .withMaxEntries(1)
+            .toOptions();
+    final CatalogCache catalogCache = new CatalogCache(catalogCacheOptions);
+    final Catalog catalog = getCatalog(connection);
+
+    catalogCache.store("first", catalog);
+    // Make the first entry least recently used, without relying on file
+    // modification time resolution
+    Files.setLastModifiedTime(
+        cacheDirectory.resolve("first.catalog"),
+        FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+    catalogCache.store("second", catalog);
+
+    assertThat(countCacheFiles(), is(1L));
+    assertThat(catalogCache.lookup("first").isPresent(), is(false));
+    assertThat(catalogCache.lookup("second").isPresent(), is(true));
+  }
+
+  @Test
+  public void mismatchedKey(final Connection connection) throws Exception {
+    final CatalogCache catalogCache =
+        new CatalogCache(
+            CatalogCacheOptionsBuilder.builder().withCacheDirectory(cacheDirectory).toOptions());
+
+    catalogCache.store("first", getCatalog(connection));
+    Files.copy(cacheDirectory.resolve("first.catalog"), cacheDirectory.resolve("second.catalog"));
+
+    assertThat(catalogCache.lookup("first").isPresent(), is(true));
+    assertThat(catalogCache.lookup("second").isPresent(), is(false));
+  }
+
+  @Test
+  public void ownerOnlyCacheDirectory(final Connection connection) throws Exception {
+    assumeTrue(isPosix());
+    final Path newCacheDirectory = cacheDirectory.resolve("new");
+    final CatalogCache catalogCache =
+        new CatalogCache(
+            CatalogCacheOptionsBuilder.builder().withCacheDirectory(newCacheDirectory).toOptions());
+
+    catalogCache.store("new", getCatalog(connection));
+
+    assertThat(
+        PosixFilePermissions.toString(Files.getPosixFilePermissions(newCacheDirectory)),
+        is("rwx------"));
+    assertThat(catalogCache.lookup("new").isPresent(), is(true));
+  }
+
+  @Test
+  public void expiry(final Connection connection) throws Exception {
+    final CatalogCacheOptions catalogCacheOptions =
+        CatalogCacheOptionsBuilder.builder()
+            .withCacheDirectory(cacheDirectory)
+            .withTimeToLive(Duration.ZERO)
+            .toOptions();
+    final CatalogCache catalogCache = new CatalogCache(catalogCacheOptions);
+    final Catalog catalog = getCatalog(connection);
+
+    catalogCache.store("expired", catalog);
+
+    assertThat(catalogCache.lookup("expired").isPresent(), is(false));
+    assertThat(countCacheFiles(), is(0L));
+  }
+
+  @Test
+  public void fingerprint(final Connection connection) throws Exception {
+    final CatalogCache catalogCache =
+        new CatalogCache(
+            CatalogCacheOptionsBuilder.builder()
+                .withCacheDirectory(cacheDirectory)
+                .withProbeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES")
+                .toOptions());
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = newSchemaCrawlerOptions();
+    final String fingerprint =
+        catalogCache.fingerprint(
+            connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, new Config());
+    assertThat(
+        catalogCache.fingerprint(
+            connection, schemaRetrievalOptionsDefault, newSchemaCrawlerOptions(), new Config()),
+        is(fingerprint));
+
+    final SchemaCrawlerOptions otherSchemaCrawlerOptions =
+        schemaCrawlerOptions.withLoadOptions(
+            LoadOptionsBuilder.builder()
+                .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                .toOptions());
+    assertThat(
+        catalogCache.fingerprint(
+            connection, schemaRetrievalOptionsDefault, otherSchemaCrawlerOptions, new Config()),
+        is(not(fingerprint)));
+
+    final Config config = new Config();
+    config.put("load-row-counts", "true");
+    assertThat(
+        catalogCache.fingerprint(
+            connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config),
+        is(not(fingerprint)));
+
+    // Cache settings do not change the fingerprint
+    final Config cacheConfig = new Config();
+    cacheConfig.put("schemacrawler.catalog.cache.ttl", "10");
+    assertThat(
+        catalogCache.fingerprint(
+            connection, schemaRetrievalOptionsDefault, schemaCrawlerOptions, cacheConfig),
+        is(fingerprint));
+  }
+
+  private Catalog getCatalog(final Connection connection) {
+    return SchemaCrawlerUtility.getCatalog(
+        connection, schemaRetrievalOptionsDefault, newSchemaCrawlerOptions(), new Config());
+  }
+
+  private boolean isPosix() {
+    return cacheDirectory.getFileSystem().supportedFileAttributeViews().contains("posix");
+  }
+
+  private long countCacheFiles() throws Exception {
+    try (final Stream<Path> files = Files.list(cacheDirectory)) {
+      return files.filter(file -> file.toString().endsWith(".catalog")).count();
+    }
+  }
+}
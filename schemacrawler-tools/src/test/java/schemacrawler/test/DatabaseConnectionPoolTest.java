@@ -0,0 +1,327 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.databaseconnector.DatabaseConnectionPool;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class DatabaseConnectionPoolTest {
+
+  /** Driver specific connection, that does not support transactions. */
+  public interface SnapshotConnection extends Connection {
+
+    String getSnapshotName();
+  }
+
+  private static final class CountingConnectionSource implements Supplier<Connection> {
+
+    private final String connectionUrl;
+    private final List<Connection> connections = new ArrayList<>();
+
+    CountingConnectionSource(final DatabaseConnectionInfo connectionInfo) {
+      connectionUrl = connectionInfo.getConnectionUrl();
+    }
+
+    @Override
+    public Connection get() {
+      try {
+        final Connection connection = DriverManager.getConnection(connectionUrl, "sa", "");
+        connections.add(connection);
+        return connection;
+      } catch (final SQLException e) {
+        throw new DatabaseAccessException(e);
+      }
+    }
+  }
+
+  @Test
+  public void borrowTimeout(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final CountingConnectionSource connectionSource = new CountingConnectionSource(connectionInfo);
+    try (final DatabaseConnectionPool pool =
+        new DatabaseConnectionPool(
+            connectionSource, 1, Duration.ofMinutes(1), Duration.ofMillis(100), 1)) {
+      try (final Connection connection = pool.get()) {
+        assertThrows(ExecutionRuntimeException.class, () -> pool.get());
+      }
+      try (final Connection connection = pool.get()) {
+        assertThat(connection.isValid(1), is(true));
+      }
+    }
+    assertThat(connectionSource.connections.size(), is(1));
+  }
+
+  @Test
+  public void closePool(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final CountingConnectionSource connectionSource = new CountingConnectionSource(connectionInfo);
+    final DatabaseConnectionPool pool = new DatabaseConnectionPool(connectionSource);
+
+    final Connection connection1 = pool.get();
+    final Connection connection2 = pool.get();
+    connection1.close();
+    assertThat(pool.getIdleCount(), is(1));
+
+    pool.close();
+    assertThat(pool.isClosed(), is(true));
+    assertThat(connectionSource.connections.get(0).isClosed(), is(true));
+    // Connections in use are closed when they are returned
+    assertThat(connectionSource.connections.get(1).isClosed(), is(false));
+    connection2.close();
+    assertThat(connectionSource.connections.get(1).isClosed(), is(true));
+
+    assertThrows(ExecutionRuntimeException.class, () -> pool.get());
+  }
+
+  @Test
+  public void idleTimeout(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final CountingConnectionSource connectionSource = new CountingConnectionSource(connectionInfo);
+    try (final DatabaseConnectionPool pool =
+        new DatabaseConnectionPool(
+            connectionSource, 2, Duration.ofMillis(10), Duration.ofSeconds(1), 1)) {
+      pool.get().close();
+      Thread.sleep(50);
+      pool.get().close();
+    }
+    assertThat(connectionSource.connections.size(), is(2));
+    assertThat(connectionSource.connections.get(0).isClosed(), is(true));
+  }
+
+  @Test
+  public void nonTransactionalConnections() throws Exception {
+    final List<Connection> connections = new ArrayList<>();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          final Connection connection =
+              (Connection)
+                  Proxy.newProxyInstance(
+                      DatabaseConnectionPoolTest.class.getClassLoader(),
+                      new Class<?>[] {SnapshotConnection.class},
+                      (proxy, method, args) -> {
+                        switch (method.getName()) {
+                          case "getSnapshotName":
+                            return "snapshot";
+                          case "isClosed":
+                            return false;
+                          case "isValid":
+                            return true;
+                          case "close":
+                            return null;
+                          default:
+                            throw new SQLFeatureNotSupportedException(method.getName());
+                        }
+                      });
+          connections.add(connection);
+          return connection;
+        };
+
+    try (final DatabaseConnectionPool pool = new DatabaseConnectionPool(connectionSource)) {
+      for (int i = 0; i < 3; i++) {
+        try (final Connection connection = pool.get()) {
+          assertThat(connection, is(instanceOf(SnapshotConnection.class)));
+          assertThat(((SnapshotConnection) connection).getSnapshotName(), is("snapshot"));
+        }
+      }
+      assertThat(connections.size(), is(1));
+      assertThat(pool.getIdleCount(), is(1));
+    }
+  }
+
+  @Test
+  public void physicalConnectionIsNotHandedOut(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final CountingConnectionSource connectionSource = new CountingConnectionSource(connectionInfo);
+    try (final DatabaseConnectionPool pool = new DatabaseConnectionPool(connectionSource)) {
+      try (final Connection connection = pool.get()) {
+        assertThat(connection.unwrap(Connection.class), is(sameInstance(connection)));
+        try (final Statement statement = connection.createStatement()) {
+          assertThat(statement.getConnection(), is(sameInstance(connection)));
+        }
+        try (final PreparedStatement statement =
+            connection.prepareStatement("SELECT * FROM INFORMATION_SCHEMA.SYSTEM_USERS")) {
+          assertThat(statement.getConnection(), is(sameInstance(connection)));
+        }
+        assertThat(connection.getMetaData().getConnection(), is(sameInstance(connection)));
+        assertThat(connection.getMetaData().getURL(), is(connectionInfo.getConnectionUrl()));
+      }
+      assertThat(connectionSource.connections.get(0).isClosed(), is(false));
+    }
+  }
+
+  @Test
+  public void resetConnectionState(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final CountingConnectionSource connectionSource = new CountingConnectionSource(connectionInfo);
+    try (final DatabaseConnectionPool pool = new DatabaseConnectionPool(connectionSource)) {
+      final boolean readOnly;
+      final int transactionIsolation;
+      final String schema;
+      try (final Connection connection = pool.get()) {
+        readOnly = connection.isReadOnly();
+        transactionIsolation = connection.getTransactionIsolation();
+        schema = connection.getSchema();
+
+        connection.setReadOnly(!readOnly);
+        connection.setTransactionIsolation(
+            transactionIsolation == Connection.TRANSACTION_SERIALIZABLE
+                ? Connection.TRANSACTION_READ_COMMITTED
+                : Connection.TRANSACTION_SERIALIZABLE);
+        connection.setSchema("BOOKS");
+      }
+
+      try (final Connection connection = pool.get()) {
+        assertThat(connection.isReadOnly(), is(readOnly));
+        assertThat(connection.getTransactionIsolation(), is(transactionIsolation));
+        assertThat(connection.getSchema(), is(schema));
+      }
+      assertThat(connectionSource.connections.size(), is(1));
+    }
+  }
+
+  @Test
+  public void reuseConnections(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final CountingConnectionSource connectionSource = new CountingConnectionSource(connectionInfo);
+    try (final DatabaseConnectionPool pool = new DatabaseConnectionPool(connectionSource)) {
+      for (int i = 0; i < 5; i++) {
+        try (final Connection connection = pool.get()) {
+          assertThat(connection.getMetaData().getURL(), is(connectionInfo.getConnectionUrl()));
+        }
+      }
+      assertThat(connectionSource.connections.size(), is(1));
+      assertThat(pool.getActiveCount(), is(0));
+      assertThat(pool.getIdleCount(), is(1));
+
+      final Connection connection = pool.get();
+      connection.close();
+      assertThat(connection.isClosed(), is(true));
+      assertThrows(SQLException.class, () -> connection.getMetaData());
+      // Closing the borrowed connection does not close the physical connection
+      assertThat(connectionSource.connections.get(0).isClosed(), is(false));
+    }
+  }
+
+  @Test
+  public void slowConnectionDoesNotBlockPool(final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final CountingConnectionSource connectionSource = new CountingConnectionSource(connectionInfo);
+    final AtomicBoolean blockNextConnection = new AtomicBoolean();
+    final CountDownLatch connecting = new CountDownLatch(1);
+    final CountDownLatch connected = new CountDownLatch(1);
+    final Supplier<Connection> slowConnectionSource =
+        () -> {
+          if (blockNextConnection.getAndSet(false)) {
+            connecting.countDown();
+            try {
+              connected.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+          return connectionSource.get();
+        };
+
+    final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try (final DatabaseConnectionPool pool =
+        new DatabaseConnectionPool(
+            slowConnectionSource, 2, Duration.ofMinutes(1), Duration.ofSeconds(10), 1)) {
+      final Connection connection = pool.get();
+
+      blockNextConnection.set(true);
+      final Future<Connection> slowConnection = executorService.submit(pool::get);
+      assertThat(connecting.await(10, TimeUnit.SECONDS), is(true));
+
+      // Other borrowers are not held up while a connection is being opened
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(5),
+          () -> {
+            connection.close();
+            try (final Connection idleConnection = pool.get()) {
+              assertThat(idleConnection.isValid(1), is(true));
+              assertThat(pool.getActiveCount(), is(2));
+            }
+          });
+
+      connected.countDown();
+      slowConnection.get(10, TimeUnit.SECONDS).close();
+      assertThat(pool.getActiveCount(), is(0));
+      assertThat(pool.getIdleCount(), is(2));
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void validateOnBorrow(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final CountingConnectionSource connectionSource = new CountingConnectionSource(connectionInfo);
+    try (final DatabaseConnectionPool pool = new DatabaseConnectionPool(connectionSource)) {
+      final Connection connection = pool.get();
+      assertThat(connection.getAutoCommit(), is(true));
+      connection.setAutoCommit(false);
+      connection.close();
+
+      // Physical connection is broken while idle
+      connectionSource.connections.get(0).close();
+
+      try (final Connection newConnection = pool.get()) {
+        assertThat(newConnection, is(not(connection)));
+        assertThat(newConnection.getAutoCommit(), is(true));
+      }
+      assertThat(connectionSource.connections.size(), is(2));
+    }
+  }
+}
@@ -30,6 +30,8 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -37,23 +39,117 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Index;
 import schemacrawler.schema.ResultsColumns;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.schemacrawler.exceptions.InternalRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.WithSystemProperty;
+import schemacrawler.tools.options.Config;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
 public class SchemaCrawlerUtilityTest {
 
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void crawlSchemaShards(final Connection connection) throws Exception {
+    final Map<String, Integer> expectedTableCounts =
+        tableCounts(
+            Collections.singletonList(
+                SchemaCrawlerUtility.getCatalog(connection, newSchemaCrawlerOptions())));
+
+    final List<Catalog> catalogs = new ArrayList<>();
+    SchemaCrawlerUtility.crawlSchemaShards(
+        connection, newSchemaCrawlerOptions(), new Config(), 4, catalogs::add);
+    assertThat(catalogs, hasSize(2));
+    assertThat(tableCounts(catalogs), is(expectedTableCounts));
+
+    catalogs.clear();
+    SchemaCrawlerUtility.crawlSchemaShards(
+        connection, newSchemaCrawlerOptions(), new Config(), 100, catalogs::add);
+    assertThat(catalogs, hasSize(1));
+    assertThat(tableCounts(catalogs), is(expectedTableCounts));
+  }
+
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void crawlSchemaShardsParallel(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final Map<String, Integer> expectedTableCounts =
+        tableCounts(
+            Collections.singletonList(
+                SchemaCrawlerUtility.getCatalog(connection, newSchemaCrawlerOptions())));
+
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException(e);
+          }
+        };
+    final List<Catalog> catalogs = Collections.synchronizedList(new ArrayList<>());
+    SchemaCrawlerUtility.crawlSchemaShards(
+        connectionSource, newSchemaCrawlerOptions(), new Config(), 1, 3, catalogs::add);
+    assertThat(catalogs, hasSize(6));
+    assertThat(tableCounts(catalogs), is(expectedTableCounts));
+  }
+
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void crawlSchemaShardsWithLoaderOptions(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final Config additionalConfig = new Config();
+    additionalConfig.put("test-load-option", true);
+
+    final List<Catalog> catalogs = new ArrayList<>();
+    SchemaCrawlerUtility.crawlSchemaShards(
+        connection, newSchemaCrawlerOptions(), additionalConfig, 4, catalogs::add);
+
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException(e);
+          }
+        };
+    SchemaCrawlerUtility.crawlSchemaShards(
+        connectionSource,
+        newSchemaCrawlerOptions(),
+        additionalConfig,
+        4,
+        2,
+        Collections.synchronizedList(catalogs)::add);
+
+    assertThat(catalogs, hasSize(4));
+    for (final Catalog catalog : catalogs) {
+      assertThat(catalog.getAttribute("test-load-option"), is(true));
+    }
+  }
+
   @Test
   @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
   public void getCatalog(final Connection connection) throws Exception {
@@ -63,6 +159,39 @@ public class SchemaCrawlerUtilityTest {
     assertThat("Schema count does not match", schemas, arrayWithSize(6));
   }
 
+  @Test
+  @WithSystemProperty(key = "SC_WITHOUT_DATABASE_PLUGIN", value = "hsqldb")
+  public void getCatalogLazily(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final Map<String, List<String>> expectedIndexes =
+        indexes(SchemaCrawlerUtility.getCatalog(connection, lazySchemaCrawlerOptions(false)));
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            final Connection newConnection =
+                DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+            connectionCount.incrementAndGet();
+            return newConnection;
+          } catch (final SQLException e) {
+            throw new DatabaseAccessException(e);
+          }
+        };
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connectionSource,
+            SchemaCrawlerUtility.matchSchemaRetrievalOptions(connection),
+            lazySchemaCrawlerOptions(true),
+            new Config());
+    assertThat(connectionCount.get(), is(1));
+
+    // The crawl connection has been closed, so table details are retrieved
+    // with new connections from the data source
+    assertThat(indexes(catalog), is(expectedIndexes));
+    assertThat(connectionCount.get(), is(greaterThan(1)));
+  }
+
   @Test
   public void getCatalogClosedConnection(final Connection connection) throws Exception {
     connection.close();
@@ -91,4 +220,39 @@ public class SchemaCrawlerUtilityTest {
     assertThrows(
         DatabaseAccessException.class, () -> SchemaCrawlerUtility.getResultsColumns(results));
   }
+
+  private Map<String, List<String>> indexes(final Catalog catalog) {
+    final Map<String, List<String>> indexes = new TreeMap<>();
+    for (final Table table : catalog.getTables()) {
+      final List<String> indexNames = new ArrayList<>();
+      for (final Index index : table.getIndexes()) {
+        indexNames.add(index.getName());
+      }
+      Collections.sort(indexNames);
+      indexes.put(table.getFullName(), indexNames);
+    }
+    return indexes;
+  }
+
+  private SchemaCrawlerOptions lazySchemaCrawlerOptions(final boolean lazyLoadTableDetails) {
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder()
+            .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+            .lazyLoadTableDetails(lazyLoadTableDetails);
+    return newSchemaCrawlerOptions().withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  private Map<String, Integer> tableCounts(final List<Catalog> catalogs) {
+    final Map<String, Integer> tableCounts = new TreeMap<>();
+    for (final Catalog catalog : catalogs) {
+      for (final Schema schema : catalog.getSchemas()) {
+        assertThat(
+            "Schema crawled more than once " + schema,
+            tableCounts.containsKey(schema.getFullName()),
+            is(false));
+        tableCounts.put(schema.getFullName(), catalog.getTables(schema).size());
+      }
+    }
+    return tableCounts;
+  }
 }
@@ -31,6 +31,7 @@ package schemacrawler.test.utility;
 import schemacrawler.tools.catalogloader.BaseCatalogLoader;
 import schemacrawler.tools.executable.CommandDescription;
 import schemacrawler.tools.executable.commandline.PluginCommand;
+import schemacrawler.tools.options.Config;
 
 public class TestCatalogLoader extends BaseCatalogLoader {
 
@@ -55,6 +56,12 @@ public class TestCatalogLoader extends BaseCatalogLoader {
   @Override
   public void loadCatalog() {
     forceLoadFailureIfConfigured();
+
+    // Mark the catalog, so that tests can check that loader options were passed on
+    final Config config = getAdditionalConfiguration();
+    if (isLoaded() && config != null && config.getBooleanValue("test-load-option", false)) {
+      getCatalog().setAttribute("test-load-option", true);
+    }
   }
 
   private void forceInstantiationFailureIfConfigured() {
@@ -0,0 +1,119 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.catalogloader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.JDBCType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.NamedObjectKey;
+
+public class CatalogCacheInputStreamTest {
+
+  private static final class SerializableInvocationHandler
+      implements InvocationHandler, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+      return null;
+    }
+  }
+
+  @Test
+  public void allowedClasses() throws Exception {
+    final Map<String, Object> values = new HashMap<>();
+    values.put("list", new ArrayList<>(Arrays.asList(1, 2L, "three")));
+    values.put("bytes", new byte[] {1, 2});
+    values.put("strings", new String[][] {{"one"}});
+    values.put("key", new NamedObjectKey("SCHEMA", "TABLE"));
+    values.put("type", JDBCType.INTEGER);
+    values.put("time", Instant.ofEpochMilli(0));
+
+    final Map<?, ?> deserialized = (Map<?, ?>) deserialize(values);
+    assertThat(deserialized.get("list"), is(values.get("list")));
+    assertThat(deserialized.get("bytes"), is(values.get("bytes")));
+    assertThat(deserialized.get("strings"), is(values.get("strings")));
+    assertThat(deserialized.get("key"), is(values.get("key")));
+    assertThat(deserialized.get("type"), is(values.get("type")));
+    assertThat(deserialized.get("time"), is(values.get("time")));
+  }
+
+  @Test
+  public void disallowedClass() throws Exception {
+    assertThrows(InvalidClassException.class, () -> deserialize(new File("planted")));
+
+    final List<Object> nested = new ArrayList<>();
+    nested.add(new File[] {new File("planted")});
+    assertThrows(InvalidClassException.class, () -> deserialize(nested));
+  }
+
+  @Test
+  public void disallowedProxy() throws Exception {
+    final Object proxy =
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {Supplier.class, Serializable.class},
+            new SerializableInvocationHandler());
+    assertThrows(InvalidClassException.class, () -> deserialize(proxy));
+  }
+
+  private Object deserialize(final Object object) throws IOException, ClassNotFoundException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    try (final CatalogCacheInputStream in =
+        new CatalogCacheInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return in.readObject();
+    }
+  }
+}
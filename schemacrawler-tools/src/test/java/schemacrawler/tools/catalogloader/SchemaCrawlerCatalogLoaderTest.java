@@ -28,20 +28,32 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.catalogloader;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static us.fatehi.utility.IOUtility.createTempFilePath;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestDatabaseDriver;
+import schemacrawler.tools.options.Config;
 
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
 public class SchemaCrawlerCatalogLoaderTest {
 
   @Test
@@ -56,6 +68,27 @@ public class SchemaCrawlerCatalogLoaderTest {
     assertThat(catalogLoader.getConnection(), is(not(nullValue())));
   }
 
+  @Test
+  public void crawlMetricsFile(final Connection connection) throws Exception {
+    final Path metricsFile = createTempFilePath("sc", "jsonl");
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("crawl-metrics-file", metricsFile.toString());
+
+    final CatalogLoader catalogLoader = new SchemaCrawlerCatalogLoader();
+    catalogLoader.setConnection(connection);
+    catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptionsDefault);
+    catalogLoader.setAdditionalConfiguration(additionalConfig);
+    catalogLoader.loadCatalog();
+
+    assertThat(catalogLoader.getCatalog(), is(not(nullValue())));
+    final List<String> lines = Files.readAllLines(metricsFile, UTF_8);
+    assertThat(lines.size(), is(greaterThan(1)));
+    assertThat(lines.get(0), startsWith("{\"event\":\"retrievalCompleted\""));
+    assertThat(lines.get(lines.size() - 1), startsWith("{\"event\":\"crawlCompleted\""));
+    assertThat(lines.get(lines.size() - 1), endsWith("}"));
+  }
+
   @Test
   public void schemaCrawlerOptions() {
     final CatalogLoader catalogLoader = new SchemaCrawlerCatalogLoader();
@@ -0,0 +1,131 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import us.fatehi.utility.string.StringFormat;
+
+@UtilityMarker
+public final class ConcurrencyUtility {
+
+  private static final Logger LOGGER = Logger.getLogger(ConcurrencyUtility.class.getName());
+
+  /**
+   * Executes tasks on a bounded thread pool, and waits for all of them to complete. Failures are
+   * logged and collected, so that one failed task does not prevent the others from completing.
+   *
+   * @param tasksName Description of the tasks, for log messages
+   * @param tasks Tasks to execute
+   * @param parallelism Maximum number of tasks to execute at the same time
+   * @return Failures, in the order of the tasks, or an empty list if all tasks succeeded
+   */
+  public static List<Throwable> executeConcurrently(
+      final String tasksName, final List<? extends Callable<?>> tasks, final int parallelism) {
+    requireNonNull(tasksName, "No tasks name provided");
+    requireNonNull(tasks, "No tasks provided");
+
+    final List<Throwable> failures = new ArrayList<>();
+    if (tasks.isEmpty()) {
+      return failures;
+    }
+
+    final int poolSize = Math.max(1, Math.min(parallelism, tasks.size()));
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat("Executing <%d> %s on <%d> threads", tasks.size(), tasksName, poolSize));
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(poolSize);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final Callable<?> task : tasks) {
+        futures.add(executorService.submit(task));
+      }
+      for (final Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (final ExecutionException e) {
+          LOGGER.log(
+              Level.WARNING, e.getCause(), new StringFormat("One of the %s failed", tasksName));
+          failures.add(e.getCause());
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          failures.add(e);
+        }
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+    return failures;
+  }
+
+  /**
+   * Throws a single exception for all failures, with the first failure as the cause, and the rest
+   * of the failures as suppressed exceptions.
+   *
+   * @param tasksName Description of the tasks, for the exception message
+   * @param taskCount Total number of tasks, including the ones that succeeded
+   * @param failures Failures from the tasks
+   * @param exceptionFactory Creates an exception from a message and a cause
+   */
+  public static <E extends RuntimeException> void throwOnFailures(
+      final String tasksName,
+      final int taskCount,
+      final List<Throwable> failures,
+      final BiFunction<String, Throwable, E> exceptionFactory) {
+    requireNonNull(exceptionFactory, "No exception factory provided");
+    if (failures == null || failures.isEmpty()) {
+      return;
+    }
+
+    final E exception =
+        exceptionFactory.apply(
+            String.format("%d of %d %s failed", failures.size(), taskCount, tasksName),
+            failures.get(0));
+    for (final Throwable failure : failures.subList(1, failures.size())) {
+      exception.addSuppressed(failure);
+    }
+    throw exception;
+  }
+
+  private ConcurrencyUtility() {
+    // Prevent instantiation
+  }
+}
@@ -2,6 +2,9 @@ package us.fatehi.utility;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -10,16 +13,101 @@ import java.util.regex.Pattern;
  * Inflections</a> to handle singularization and pluralization of 'Rails strings'. Copied from <a
  * href='http://code.google.com/p/rogueweb/'>rogueweb</a>'s port of Rails to Java.
  *
+ * <p>Rules are compiled once, and only the rules that can match the last letter of a word are
+ * tried. Inflected words are memoized, since the same names are inflected over and over again when
+ * matching names in a large schema.
+ *
  * @author Anthony Eden
  */
 public class Inflection {
 
+  /** Ordered inflection rules, indexed by the last letter of the words that they can match. */
+  private static final class InflectionRules {
+
+    private final List<Inflection> rules;
+    private final List<Inflection> anySuffixRules;
+    private final List<List<Inflection>> suffixRules;
+    private final Map<String, String> inflections;
+
+    InflectionRules(final List<Inflection> rules) {
+      this.rules = rules;
+      anySuffixRules = new ArrayList<>();
+      for (final Inflection rule : rules) {
+        if (rule.suffix == ANY_SUFFIX) {
+          anySuffixRules.add(rule);
+        }
+      }
+      suffixRules = new ArrayList<>();
+      for (char letter = 'a'; letter <= 'z'; letter++) {
+        final List<Inflection> letterRules = new ArrayList<>();
+        for (final Inflection rule : rules) {
+          if (rule.suffix == ANY_SUFFIX || rule.suffix == letter) {
+            letterRules.add(rule);
+          }
+        }
+        suffixRules.add(letterRules);
+      }
+      inflections = new ConcurrentHashMap<>();
+    }
+
+    String inflect(final String word) {
+      final String inflection = inflections.get(word);
+      if (inflection != null) {
+        return inflection;
+      }
+
+      final String inflected = applyRules(word);
+      if (inflections.size() >= MAX_CACHED_INFLECTIONS) {
+        inflections.clear();
+      }
+      inflections.put(word, inflected);
+      return inflected;
+    }
+
+    private String applyRules(final String word) {
+      if (isUncountable(word)) {
+        return word;
+      }
+
+      for (final Inflection rule : candidateRules(word)) {
+        final Matcher matcher = rule.pattern.matcher(word);
+        if (matcher.find()) {
+          return matcher.replaceAll(rule.replacement);
+        }
+      }
+      return word;
+    }
+
+    private List<Inflection> candidateRules(final String word) {
+      if (word.isEmpty()) {
+        return anySuffixRules;
+      }
+      final char lastCharacter = Character.toLowerCase(word.charAt(word.length() - 1));
+      if (lastCharacter >= 'a' && lastCharacter <= 'z') {
+        return suffixRules.get(lastCharacter - 'a');
+      }
+      if (isLineTerminator(lastCharacter)) {
+        // "$" also matches before a line terminator at the end of the word
+        return rules;
+      }
+      return anySuffixRules;
+    }
+  }
+
+  private static final char ANY_SUFFIX = '\0';
+
+  private static final int MAX_CACHED_INFLECTIONS = 10_000;
+
   private static final List<Inflection> plural = new ArrayList<>();
 
   private static final List<Inflection> singular = new ArrayList<>();
 
   private static final List<String> uncountable = new ArrayList<>();
 
+  private static final InflectionRules pluralRules;
+
+  private static final InflectionRules singularRules;
+
   static {
     // plural is "singular to plural form"
     // singular is "plural to singular form"
@@ -86,6 +174,9 @@ public class Inflection {
 
     // Collections.reverse(singular);
     // Collections.reverse(plural);
+
+    pluralRules = new InflectionRules(plural);
+    singularRules = new InflectionRules(singular);
   }
 
   /**
@@ -110,16 +201,7 @@ public class Inflection {
    * @return The pluralized word
    */
   public static String pluralize(final String word) {
-    if (Inflection.isUncountable(word)) {
-      return word;
-    }
-
-    for (final Inflection inflection : plural) {
-      if (inflection.match(word)) {
-        return inflection.replace(word);
-      }
-    }
-    return word;
+    return pluralRules.inflect(word);
   }
 
   /**
@@ -129,19 +211,7 @@ public class Inflection {
    * @return The singularized word
    */
   public static String singularize(final String word) {
-    if (Inflection.isUncountable(word)) {
-      return word;
-    }
-
-    for (final Inflection inflection : singular) {
-      // System.out.println(word + " matches " + inflection.pattern +
-      // "? (ignore case: " + inflection.ignoreCase + ")");
-      if (inflection.match(word)) {
-        // System.out.println("match!");
-        return inflection.replace(word);
-      }
-    }
-    return word;
+    return singularRules.inflect(word);
   }
 
   private static void irregular(final String s, final String p) {
@@ -149,6 +219,10 @@ public class Inflection {
     singular("(" + p.substring(0, 1) + ")" + p.substring(1) + "$", "$1" + s.substring(1));
   }
 
+  private static boolean isLineTerminator(final char ch) {
+    return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+  }
+
   private static void plural(final String pattern, final String replacement) {
     plural.add(0, new Inflection(pattern, replacement));
   }
@@ -157,15 +231,53 @@ public class Inflection {
     singular.add(0, new Inflection(pattern, replacement));
   }
 
+  /**
+   * Finds the letter that a word has to end with for the pattern to match, if the pattern ends with
+   * a literal letter anchored to the end of the word, and has no top-level alternatives.
+   *
+   * @param pattern Regular expression pattern
+   * @return Lower case letter, or {@link #ANY_SUFFIX} if the pattern can match any word
+   */
+  private static char suffix(final String pattern) {
+    final int length = pattern.length();
+    if (length < 2 || pattern.charAt(length - 1) != '$') {
+      return ANY_SUFFIX;
+    }
+    final char letter = Character.toLowerCase(pattern.charAt(length - 2));
+    if (letter < 'a' || letter > 'z' || length > 2 && pattern.charAt(length - 3) == '\\') {
+      return ANY_SUFFIX;
+    }
+
+    int depth = 0;
+    boolean inCharacterClass = false;
+    for (int i = 0; i < length; i++) {
+      final char ch = pattern.charAt(i);
+      if (ch == '\\') {
+        i++;
+      } else if (inCharacterClass) {
+        inCharacterClass = ch != ']';
+      } else if (ch == '[') {
+        inCharacterClass = true;
+      } else if (ch == '(') {
+        depth++;
+      } else if (ch == ')') {
+        depth--;
+      } else if (ch == '|' && depth == 0) {
+        return ANY_SUFFIX;
+      }
+    }
+    return letter;
+  }
+
   private static void uncountable(final String word) {
     uncountable.add(word);
   }
 
-  private final String pattern;
-
   private final String replacement;
 
-  private final boolean ignoreCase;
+  private final Pattern pattern;
+
+  private final char suffix;
 
   public Inflection(final String pattern) {
     this(pattern, null, true);
@@ -176,9 +288,14 @@ public class Inflection {
   }
 
   public Inflection(final String pattern, final String replacement, final boolean ignoreCase) {
-    this.pattern = pattern;
     this.replacement = replacement;
-    this.ignoreCase = ignoreCase;
+
+    int flags = 0;
+    if (ignoreCase) {
+      flags = flags | Pattern.CASE_INSENSITIVE;
+    }
+    this.pattern = Pattern.compile(pattern, flags);
+    suffix = suffix(pattern);
   }
 
   /**
@@ -188,11 +305,7 @@ public class Inflection {
    * @return True if it matches the inflection pattern
    */
   public boolean match(final String word) {
-    int flags = 0;
-    if (ignoreCase) {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).find();
+    return pattern.matcher(word).find();
   }
 
   /**
@@ -202,10 +315,6 @@ public class Inflection {
    * @return The result
    */
   public String replace(final String word) {
-    int flags = 0;
-    if (ignoreCase) {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).replaceAll(replacement);
+    return pattern.matcher(word).replaceAll(replacement);
   }
 }
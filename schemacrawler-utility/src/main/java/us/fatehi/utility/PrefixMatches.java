@@ -28,13 +28,14 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility;
 
 import static java.util.Objects.requireNonNull;
-import static us.fatehi.utility.Utility.commonPrefix;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -47,6 +48,73 @@ import us.fatehi.utility.string.StringFormat;
 
 public final class PrefixMatches {
 
+  /**
+   * Node of a trie of keys, segmented by the key separator. Each node stands for a prefix that ends
+   * with the separator, and counts the keys that start with that prefix.
+   */
+  private static final class PrefixNode {
+
+    private static final int END_OF_KEY = -1;
+
+    private final String prefix;
+    private final Map<String, PrefixNode> children;
+    private final Map<Integer, Integer> nextCharacterCounts;
+    private long keyCount;
+    private long duplicateKeyPairs;
+
+    PrefixNode(final String prefix) {
+      this.prefix = prefix;
+      children = new HashMap<>();
+      nextCharacterCounts = new HashMap<>();
+    }
+
+    PrefixNode child(final String segment, final String childPrefix) {
+      return children.computeIfAbsent(segment, s -> new PrefixNode(childPrefix));
+    }
+
+    /**
+     * Counts a key that starts with the prefix of this node.
+     *
+     * @param key Key
+     * @param duplicates Number of times the same key was counted before
+     */
+    void count(final String key, final int duplicates) {
+      keyCount++;
+      duplicateKeyPairs += duplicates;
+
+      final int nextCharacter;
+      if (key.length() > prefix.length()) {
+        nextCharacter = key.charAt(prefix.length());
+      } else {
+        nextCharacter = END_OF_KEY;
+      }
+      nextCharacterCounts.merge(nextCharacter, 1, Integer::sum);
+    }
+
+    /**
+     * Number of pairs of distinct keys that start with the prefix of this node.
+     *
+     * @return Number of key pairs
+     */
+    long keyPairs() {
+      return keyCount * (keyCount - 1) / 2 - duplicateKeyPairs;
+    }
+
+    /**
+     * Number of pairs of distinct keys for which the common prefix is exactly the prefix of this
+     * node.
+     *
+     * @return Number of key pairs
+     */
+    long divergingKeyPairs() {
+      long pairs = keyCount * (keyCount - 1) / 2;
+      for (final int nextCharacterCount : nextCharacterCounts.values()) {
+        pairs = pairs - (long) nextCharacterCount * (nextCharacterCount - 1) / 2;
+      }
+      return pairs;
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(PrefixMatches.class.getName());
 
   private final String keySeparator;
@@ -54,6 +122,9 @@ public final class PrefixMatches {
 
   public PrefixMatches(final List<String> keys, final String keySeparator) {
     this.keySeparator = requireNonNull(keySeparator, "No key separator provided");
+    if (keySeparator.isEmpty()) {
+      throw new IllegalArgumentException("No key separator provided");
+    }
     keyPrefixes = new Multimap<>();
 
     analyze(keys);
@@ -77,7 +148,7 @@ public final class PrefixMatches {
       return;
     }
 
-    final Collection<String> prefixes = findPrefixes(keys);
+    final List<String> prefixes = findPrefixes(keys);
     mapPrefixes(keys, prefixes);
 
     LOGGER.log(Level.FINE, new StringFormat("Key prefixes=%s", prefixes));
@@ -86,53 +157,70 @@ public final class PrefixMatches {
   }
 
   /**
-   * Finds key prefixes. Prefixes are separated by a separator character.
+   * Builds a trie of keys, segmented by the key separator.
+   *
+   * @param keys Keys
+   * @return Root of the trie
+   */
+  private PrefixNode buildPrefixTrie(final List<String> keys) {
+    final PrefixNode root = new PrefixNode("");
+    final Map<String, Integer> keyOccurrences = new HashMap<>();
+    final int separatorLength = keySeparator.length();
+    for (final String key : keys) {
+      if (key == null) {
+        continue;
+      }
+      final int duplicates = keyOccurrences.getOrDefault(key, 0);
+      keyOccurrences.put(key, duplicates + 1);
+
+      PrefixNode node = root;
+      int segmentStart = 0;
+      int separatorIndex;
+      while ((separatorIndex = key.indexOf(keySeparator, segmentStart)) >= 0) {
+        final int segmentEnd = separatorIndex + separatorLength;
+        node =
+            node.child(key.substring(segmentStart, separatorIndex), key.substring(0, segmentEnd));
+        node.count(key, duplicates);
+        segmentStart = segmentEnd;
+      }
+    }
+    return root;
+  }
+
+  /**
+   * Finds key prefixes. Prefixes are separated by a separator character. A prefix is counted once
+   * for every pair of keys that have it in common, when it is followed by more than just separators
+   * in the common prefix of the pair of keys. The keys are segmented into a trie, so the pairs of
+   * keys are counted without comparing every key with every other key.
    *
    * @param keys Keys
    * @return Key name prefixes
    */
-  private Collection<String> findPrefixes(final List<String> keys) {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < keys.size(); i++) {
-      for (int j = i + 1; j < keys.size(); j++) {
-        final String key1 = keys.get(i);
-        final String key2 = keys.get(j);
-        final String commonPrefix = commonPrefix(key1, key2);
-        if (isBlank(commonPrefix)) {
-          continue;
-        }
+  private List<String> findPrefixes(final List<String> keys) {
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
 
-        final List<String> splitCommonPrefixes = new ArrayList<>();
-        final String[] splitPrefix = commonPrefix.split(keySeparator);
-        if (splitPrefix != null && splitPrefix.length > 0) {
-          for (int k = 0; k < splitPrefix.length; k++) {
-            final StringBuilder buffer = new StringBuilder(1024);
-            for (int l = 0; l < k; l++) {
-              buffer.append(splitPrefix[l]).append(keySeparator);
-            }
-            if (buffer.length() > 0) {
-              splitCommonPrefixes.add(buffer.toString());
-            }
-          }
-        }
-        if (commonPrefix.endsWith(keySeparator)) {
-          splitCommonPrefixes.add(commonPrefix);
-        }
+    final PrefixNode root = buildPrefixTrie(keys);
+    final Deque<PrefixNode> nodes = new ArrayDeque<>(root.children.values());
+    while (!nodes.isEmpty()) {
+      final PrefixNode node = nodes.pop();
+      nodes.addAll(node.children.values());
 
-        for (final String splitCommonPrefix : splitCommonPrefixes) {
-          final int prevCount;
-          if (prefixesMap.containsKey(splitCommonPrefix)) {
-            prevCount = prefixesMap.get(splitCommonPrefix);
-          } else {
-            prevCount = 0;
-          }
-          prefixesMap.put(splitCommonPrefix, prevCount + 1);
-        }
+      // Pairs of keys for which the common prefix is followed only by separators
+      long separatorOnlyPairs = 0;
+      PrefixNode separatorNode = node.children.get("");
+      while (separatorNode != null) {
+        separatorOnlyPairs = separatorOnlyPairs + separatorNode.divergingKeyPairs();
+        separatorNode = separatorNode.children.get("");
+      }
+
+      final long count = node.keyPairs() - separatorOnlyPairs;
+      if (count > 0) {
+        prefixesMap.merge(node.prefix.toLowerCase(), count, Long::sum);
       }
     }
 
     // Sort prefixes by the number of keys using them, in descending order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
     Collections.sort(
         prefixesList, (entry1, entry2) -> entry1.getValue().compareTo(entry2.getValue()));
 
@@ -150,16 +238,42 @@ public final class PrefixMatches {
     return prefixes;
   }
 
-  private void mapPrefixes(final List<String> keys, final Collection<String> prefixes) {
+  /**
+   * Maps keys to the key names without each of the prefixes that they start with, in the order of
+   * the prefixes. Only the prefixes of the key that end with the separator are looked up, so every
+   * key is not checked against every prefix.
+   *
+   * @param keys Keys
+   * @param prefixes Key name prefixes
+   */
+  private void mapPrefixes(final List<String> keys, final List<String> prefixes) {
+    final Map<String, Integer> prefixIndexes = new HashMap<>();
+    for (int i = 0; i < prefixes.size(); i++) {
+      prefixIndexes.putIfAbsent(prefixes.get(i), i);
+    }
+    final int separatorLength = keySeparator.length();
+
+    final List<Integer> matchedPrefixIndexes = new ArrayList<>();
     for (final String key : keys) {
-      for (final String prefix : prefixes) {
-        String matchKeyName = key.toLowerCase();
-        if (matchKeyName.startsWith(prefix)) {
-          matchKeyName = matchKeyName.substring(prefix.length());
-          matchKeyName = Inflection.singularize(matchKeyName);
-          if (!isBlank(matchKeyName)) {
-            keyPrefixes.add(key, matchKeyName);
-          }
+      final String keyName = key.toLowerCase();
+
+      matchedPrefixIndexes.clear();
+      matchedPrefixIndexes.add(prefixIndexes.get(""));
+      int separatorIndex = 0;
+      while ((separatorIndex = keyName.indexOf(keySeparator, separatorIndex)) >= 0) {
+        separatorIndex = separatorIndex + separatorLength;
+        final Integer prefixIndex = prefixIndexes.get(keyName.substring(0, separatorIndex));
+        if (prefixIndex != null) {
+          matchedPrefixIndexes.add(prefixIndex);
+        }
+      }
+      Collections.sort(matchedPrefixIndexes);
+
+      for (final int prefixIndex : matchedPrefixIndexes) {
+        final String prefix = prefixes.get(prefixIndex);
+        final String matchKeyName = Inflection.singularize(keyName.substring(prefix.length()));
+        if (!isBlank(matchKeyName)) {
+          keyPrefixes.add(key, matchKeyName);
         }
       }
     }
@@ -27,59 +27,146 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility;
 
+import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Maps names to colors, using regular expressions or literal names. Rules are matched in the order
+ * in that they were added, and the first matching rule provides the color. Rules for literal names
+ * are looked up directly, rules for a literal prefix are matched without running a regular
+ * expression, and the result of matching a name is cached until the rules change.
+ */
 public class RegularExpressionColorMap {
 
+  private static final class ColorRule {
+
+    private final int order;
+    private final String source;
+    private final Color color;
+    private final String literal;
+    private final String prefix;
+    private final Pattern pattern;
+
+    ColorRule(
+        final int order,
+        final String source,
+        final Color color,
+        final String literal,
+        final String prefix,
+        final Pattern pattern) {
+      this.order = order;
+      this.source = source;
+      this.color = color;
+      this.literal = literal;
+      this.prefix = prefix;
+      this.pattern = pattern;
+    }
+
+    boolean matches(final String value) {
+      if (prefix != null) {
+        // ".*" does not match line terminators
+        return value.startsWith(prefix) && !hasLineTerminator(value, prefix.length());
+      }
+      return pattern.matcher(value).matches();
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(RegularExpressionColorMap.class.getName());
 
-  private final Map<Pattern, Color> colorMap;
+  private static final String REGULAR_EXPRESSION_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+  private static final int MAX_CACHED_MATCHES = 10_000;
+
+  private static boolean hasLineTerminator(final String value, final int beginIndex) {
+    for (int i = beginIndex; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      if (ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isLiteral(final String regExpPattern) {
+    for (int i = 0; i < regExpPattern.length(); i++) {
+      if (REGULAR_EXPRESSION_METACHARACTERS.indexOf(regExpPattern.charAt(i)) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private final Map<String, ColorRule> colorMap;
+  private final Map<String, ColorRule> literalRules;
+  private final List<ColorRule> patternRules;
+  private final Map<String, Optional<Color>> matches;
 
   public RegularExpressionColorMap() {
-    colorMap = new HashMap<>();
+    colorMap = new LinkedHashMap<>();
+    literalRules = new HashMap<>();
+    patternRules = new ArrayList<>();
+    matches = new HashMap<>();
   }
 
+  /**
+   * Color map with provided properties, keyed by the HTML color without #, and with the regular
+   * expression as the value. Rules are added in the order of the colors, so that matches do not
+   * depend on the order of the properties.
+   *
+   * @param properties Color map
+   */
   public RegularExpressionColorMap(final Map<String, String> properties) {
     this();
     if (properties == null || properties.isEmpty()) {
       return;
     }
+    final Map<String, String> sortedProperties = new TreeMap<>();
     for (final Entry<String, String> map : properties.entrySet()) {
-      if (map != null) {
-        final String htmlColor = map.getKey();
-        final String regExpPattern = map.getValue();
-        if (!isBlank(regExpPattern) && !isBlank(htmlColor) && htmlColor.length() == 6) {
-          put(regExpPattern, "#" + htmlColor);
-        } else {
-          LOGGER.log(
-              Level.CONFIG,
-              new StringFormat(
-                  "Could not add color mapping for %s = %s", regExpPattern, htmlColor));
-        }
+      if (map != null && map.getKey() != null) {
+        sortedProperties.put(map.getKey(), map.getValue());
+      }
+    }
+    for (final Entry<String, String> map : sortedProperties.entrySet()) {
+      final String htmlColor = map.getKey();
+      final String regExpPattern = map.getValue();
+      if (!isBlank(regExpPattern) && !isBlank(htmlColor) && htmlColor.length() == 6) {
+        put(regExpPattern, "#" + htmlColor);
+      } else {
+        LOGGER.log(
+            Level.CONFIG,
+            new StringFormat("Could not add color mapping for %s = %s", regExpPattern, htmlColor));
       }
     }
   }
 
   public Optional<Color> match(final String value) {
-    for (final Entry<Pattern, Color> regualarExpressColor : colorMap.entrySet()) {
-      final Pattern pattern = regualarExpressColor.getKey();
-      if (pattern.matcher(value).matches()) {
-        return Optional.of(regualarExpressColor.getValue());
-      }
+    final Optional<Color> cachedMatch = matches.get(value);
+    if (cachedMatch != null) {
+      return cachedMatch;
     }
-    return Optional.empty();
+
+    final Optional<Color> match = findMatch(value);
+    if (matches.size() >= MAX_CACHED_MATCHES) {
+      matches.clear();
+    }
+    matches.put(value, match);
+    return match;
   }
 
   public void put(final String regExpPattern, final String htmlColor) {
@@ -88,7 +175,16 @@ public class RegularExpressionColorMap {
 
       final Pattern pattern = Pattern.compile(regExpPattern, 0);
       final Color color = Color.fromHexTriplet(htmlColor);
-      colorMap.put(pattern, color);
+
+      final int prefixLength = regExpPattern.length() - 2;
+      if (isLiteral(regExpPattern)) {
+        addRule(regExpPattern, color, regExpPattern, null, null);
+      } else if (regExpPattern.endsWith(".*")
+          && isLiteral(regExpPattern.substring(0, prefixLength))) {
+        addRule(regExpPattern, color, null, regExpPattern.substring(0, prefixLength), null);
+      } else {
+        addRule(regExpPattern, color, null, null, pattern);
+      }
     } catch (final Exception e) {
       LOGGER.log(
           Level.CONFIG,
@@ -100,9 +196,9 @@ public class RegularExpressionColorMap {
   public void putLiteral(final String literal, final Color color) {
     try {
       requireNotBlank(literal, "No literal key provided");
+      requireNonNull(color, "No color provided");
 
-      final Pattern pattern = Pattern.compile(literal, Pattern.LITERAL);
-      colorMap.put(pattern, color);
+      addRule(Pattern.quote(literal), color, literal, null, null);
     } catch (final IllegalArgumentException e) {
       LOGGER.log(Level.FINE, e.getMessage());
     } catch (final Exception e) {
@@ -119,6 +215,69 @@ public class RegularExpressionColorMap {
 
   @Override
   public String toString() {
-    return Objects.toString(colorMap);
+    final Map<String, Color> colors = new LinkedHashMap<>();
+    for (final ColorRule rule : colorMap.values()) {
+      colors.put(rule.source, rule.color);
+    }
+    return Objects.toString(colors);
+  }
+
+  /**
+   * Adds a rule at the end, or replaces the color of a rule for the same pattern, keeping its place
+   * in the order of rules.
+   *
+   * @param key Regular expression for the rule
+   * @param color Color
+   * @param literal Literal value to match exactly, or null
+   * @param prefix Literal prefix to match, or null
+   * @param pattern Regular expression to match, or null
+   */
+  private void addRule(
+      final String key,
+      final Color color,
+      final String literal,
+      final String prefix,
+      final Pattern pattern) {
+    final String source = literal != null ? literal : key;
+    final ColorRule previousRule = colorMap.get(key);
+    final int order = previousRule != null ? previousRule.order : colorMap.size();
+    final ColorRule colorRule = new ColorRule(order, source, color, literal, prefix, pattern);
+    colorMap.put(key, colorRule);
+
+    if (previousRule == null) {
+      indexRule(colorRule);
+    } else {
+      literalRules.clear();
+      patternRules.clear();
+      for (final ColorRule rule : colorMap.values()) {
+        indexRule(rule);
+      }
+    }
+    matches.clear();
+  }
+
+  private void indexRule(final ColorRule rule) {
+    if (rule.literal != null) {
+      literalRules.putIfAbsent(rule.literal, rule);
+    } else {
+      patternRules.add(rule);
+    }
+  }
+
+  private Optional<Color> findMatch(final String value) {
+    final ColorRule literalRule = literalRules.get(value);
+    final int literalRuleOrder = literalRule != null ? literalRule.order : Integer.MAX_VALUE;
+    for (final ColorRule rule : patternRules) {
+      if (rule.order > literalRuleOrder) {
+        break;
+      }
+      if (rule.matches(value)) {
+        return Optional.of(rule.color);
+      }
+    }
+    if (literalRule != null) {
+      return Optional.of(literalRule.color);
+    }
+    return Optional.empty();
   }
 }
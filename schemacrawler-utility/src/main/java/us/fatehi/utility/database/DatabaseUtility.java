@@ -40,6 +40,10 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.sql.RowSetMetaData;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+
 import us.fatehi.utility.UtilityMarker;
 import us.fatehi.utility.string.StringFormat;
 
@@ -48,6 +52,33 @@ public final class DatabaseUtility {
 
   private static final Logger LOGGER = Logger.getLogger(DatabaseUtility.class.getName());
 
+  /**
+   * Reads all rows of the results into a disconnected row set. Cached row sets look up columns by
+   * column name rather than by label, so column names are replaced with column labels, to allow
+   * columns with aliases to be looked up in the same way as in the original results.
+   *
+   * @param resultSet Results to read, which are not closed
+   * @return Disconnected row set
+   * @throws SQLException On an exception reading the results
+   */
+  public static CachedRowSet cacheResults(final ResultSet resultSet) throws SQLException {
+    requireNonNull(resultSet, "No result set provided");
+
+    final CachedRowSet cachedRowSet = RowSetProvider.newFactory().createCachedRowSet();
+    cachedRowSet.populate(resultSet);
+
+    final RowSetMetaData metaData = (RowSetMetaData) cachedRowSet.getMetaData();
+    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+      final String columnLabel = metaData.getColumnLabel(i);
+      if (!isBlank(columnLabel)) {
+        metaData.setColumnName(i, columnLabel);
+      }
+    }
+    cachedRowSet.setMetaData(metaData);
+
+    return cachedRowSet;
+  }
+
   public static Connection checkConnection(final Connection connection) throws SQLException {
     try {
       requireNonNull(connection, "No database connection provided");
@@ -121,6 +152,68 @@ public final class DatabaseUtility {
     return ((Number) longValue).longValue();
   }
 
+  /**
+   * Executes a number of queries in a single round trip to the database, for drivers that can
+   * return multiple result sets from one execution. Since moving to the next result closes the
+   * current result set, each result set is read into memory, and can be used after the statement is
+   * closed.
+   *
+   * @param statement Statement to execute the queries with
+   * @param sqls Queries to execute, in order
+   * @return Results for each of the queries, in the same order as the queries
+   * @throws SQLException On an exception executing the queries, or if the number of result sets
+   *     does not match the number of queries
+   */
+  public static List<ResultSet> executeSqlForResultSets(
+      final Statement statement, final List<String> sqls) throws SQLException {
+    requireNonNull(statement, "No statement provided");
+    requireNonNull(sqls, "No SQL provided");
+
+    final StringBuilder buffer = new StringBuilder();
+    for (final String sql : sqls) {
+      if (isBlank(sql)) {
+        throw new SQLException("No SQL provided");
+      }
+      String trimmedSql = sql.trim();
+      if (trimmedSql.endsWith(";")) {
+        trimmedSql = trimmedSql.substring(0, trimmedSql.length() - 1);
+      }
+      if (buffer.length() > 0) {
+        buffer.append(";").append(System.lineSeparator());
+      }
+      buffer.append(trimmedSql);
+    }
+    final String sql = buffer.toString();
+
+    final List<ResultSet> results = new ArrayList<>();
+    try {
+      statement.clearWarnings();
+
+      boolean hasResults = statement.execute(sql);
+      while (true) {
+        logSQLWarnings(statement);
+        if (hasResults) {
+          try (final ResultSet resultSet = statement.getResultSet()) {
+            results.add(cacheResults(resultSet));
+          }
+        } else if (statement.getUpdateCount() == -1) {
+          break;
+        }
+        hasResults = statement.getMoreResults();
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, e, new StringFormat("Error executing SQL <%s>", sql));
+      throw e;
+    }
+
+    if (results.size() != sqls.size()) {
+      throw new SQLException(
+          String.format(
+              "Expected %d result sets, but received %d result sets", sqls.size(), results.size()));
+    }
+    return results;
+  }
+
   public static Object executeSqlForScalar(final Connection connection, final String sql)
       throws SQLException {
     try (final Statement statement = createStatement(connection);
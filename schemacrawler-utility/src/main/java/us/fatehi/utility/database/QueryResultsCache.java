@@ -0,0 +1,193 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.database;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.database.DatabaseUtility.cacheResults;
+import static us.fatehi.utility.database.DatabaseUtility.executeSql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.rowset.CachedRowSet;
+
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Caches the results of data dictionary queries, keyed by the SQL that was executed, so that
+ * queries that are run more than once against the same database are answered from memory. Results
+ * are held as disconnected row sets, in which columns are named by their labels, and each query
+ * gets its own copy of the rows. The least recently used results are evicted when the total number
+ * of cached rows goes over the limit. Results can be invalidated when the database metadata may
+ * have changed.
+ */
+public final class QueryResultsCache {
+
+  private static final Logger LOGGER = Logger.getLogger(QueryResultsCache.class.getName());
+
+  /** Query results cache that does not cache anything, and executes every query. */
+  public static final QueryResultsCache NO_QUERY_RESULTS_CACHE = new QueryResultsCache(0);
+
+  private final int maxRows;
+  private final Map<String, CachedRowSet> cachedResults;
+  private int cachedRows;
+
+  /**
+   * Creates a cache that holds up to the given number of rows across all cached results. Results
+   * that have more rows than that are not cached.
+   *
+   * @param maxRows Maximum number of rows to cache, or zero to not cache results
+   */
+  public QueryResultsCache(final int maxRows) {
+    if (maxRows < 0) {
+      throw new IllegalArgumentException("Maximum number of rows cannot be negative");
+    }
+    this.maxRows = maxRows;
+    cachedResults = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Executes a query, or gets a copy of the results from the last time the query was executed.
+   *
+   * @param statement Statement to execute the query with
+   * @param sql Query to execute
+   * @return Results of the query, or null if the query did not return results
+   * @throws SQLException On an exception executing the query
+   */
+  public ResultSet executeQuery(final Statement statement, final String sql) throws SQLException {
+    if (!isEnabled() || statement == null || sql == null) {
+      return executeSql(statement, sql);
+    }
+
+    synchronized (cachedResults) {
+      final CachedRowSet cachedRowSet = cachedResults.get(sql);
+      if (cachedRowSet != null) {
+        LOGGER.log(Level.FINE, new StringFormat("Using cached results for query: %s", sql));
+        return cachedRowSet.createCopy();
+      }
+    }
+
+    final ResultSet results = executeSql(statement, sql);
+    if (results == null) {
+      return null;
+    }
+    final CachedRowSet cachedRowSet;
+    try (final ResultSet resultsToCache = results) {
+      cachedRowSet = cacheResults(resultsToCache);
+    }
+    // Callers close the results, which would discard cached rows
+    final ResultSet resultsCopy = cachedRowSet.createCopy();
+    cache(sql, cachedRowSet);
+    return resultsCopy;
+  }
+
+  /** Discards all cached results. */
+  public void invalidate() {
+    synchronized (cachedResults) {
+      cachedResults.clear();
+      cachedRows = 0;
+    }
+  }
+
+  /**
+   * Discards cached results for a query.
+   *
+   * @param sql Query
+   */
+  public void invalidate(final String sql) {
+    requireNonNull(sql, "No query provided");
+    synchronized (cachedResults) {
+      final CachedRowSet cachedRowSet = cachedResults.remove(sql);
+      if (cachedRowSet != null) {
+        cachedRows = cachedRows - cachedRowSet.size();
+      }
+    }
+  }
+
+  /**
+   * Whether results are cached.
+   *
+   * @return True if query results are cached
+   */
+  public boolean isEnabled() {
+    return maxRows > 0;
+  }
+
+  /**
+   * Number of queries with cached results.
+   *
+   * @return Number of cached queries
+   */
+  public int size() {
+    synchronized (cachedResults) {
+      return cachedResults.size();
+    }
+  }
+
+  @Override
+  public String toString() {
+    synchronized (cachedResults) {
+      return String.format(
+          "QueryResultsCache[queries=%d, rows=%d, maxRows=%d]",
+          cachedResults.size(), cachedRows, maxRows);
+    }
+  }
+
+  private void cache(final String sql, final CachedRowSet cachedRowSet) {
+    final int rows = cachedRowSet.size();
+    if (rows > maxRows) {
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat("Not caching %d rows, which is more than %d rows", rows, maxRows));
+      return;
+    }
+
+    synchronized (cachedResults) {
+      final CachedRowSet previousRowSet = cachedResults.put(sql, cachedRowSet);
+      if (previousRowSet != null) {
+        cachedRows = cachedRows - previousRowSet.size();
+      }
+      cachedRows = cachedRows + rows;
+
+      // Evict the least recently used results
+      final Iterator<CachedRowSet> iterator = cachedResults.values().iterator();
+      while (cachedRows > maxRows && iterator.hasNext()) {
+        final CachedRowSet evictedRowSet = iterator.next();
+        iterator.remove();
+        cachedRows = cachedRows - evictedRowSet.size();
+      }
+    }
+  }
+}
@@ -33,11 +33,12 @@ import static java.util.Objects.requireNonNull;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -47,6 +48,8 @@ public class SqlScript implements Runnable {
 
   private static final Logger LOGGER = Logger.getLogger(SqlScript.class.getName());
 
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
   private static final boolean debug =
       Boolean.valueOf(System.getProperty(SqlScript.class.getCanonicalName() + ".debug", "false"));
 
@@ -57,6 +60,7 @@ public class SqlScript implements Runnable {
 
   private final String scriptResource;
   private final String delimiter;
+  private final int batchSize;
 
   private final Connection connection;
 
@@ -78,6 +82,8 @@ public class SqlScript implements Runnable {
     }
 
     this.connection = requireNonNull(connection, "No database connection provided");
+    batchSize =
+        Math.max(1, Integer.getInteger(SqlScript.class.getCanonicalName() + ".batchSize", 500));
   }
 
   @Override
@@ -97,52 +103,54 @@ public class SqlScript implements Runnable {
       return;
     }
 
-    String sql = null;
+    // Last statement that was read, which is reported if the script fails after it
+    String lastSql = null;
+    final List<String> batch = new ArrayList<>();
     try (final BufferedReader lineReader =
             new BufferedReader(
                 new InputStreamReader(this.getClass().getResourceAsStream(scriptResource), UTF_8));
         final Statement statement = connection.createStatement();
         // NOTE: Do not close connection, since we did not open it
         ) {
-      final List<String> sqlList = readSql(lineReader);
-      for (final Iterator<String> iterator = sqlList.iterator(); iterator.hasNext(); ) {
-        sql = iterator.next();
-        statement.clearWarnings();
-        try {
-          if (Pattern.matches("\\s+", sql)) {
-            continue;
-          }
-          if (debug) {
-            LOGGER.log(Level.INFO, "\n" + sql);
-          }
-
-          final boolean hasResults = statement.execute(sql);
-          if (hasResults) {
-            throw new SQLWarning(String.format("Results not expected from SQL%n%s%n", sql));
-          }
+      final boolean supportsBatchUpdates = connection.getMetaData().supportsBatchUpdates();
+      // Read one statement at a time, so that the script is not held in memory
+      String sql;
+      while ((sql = readSql(lineReader)) != null) {
+        if (WHITESPACE.matcher(sql).matches()) {
+          continue;
+        }
+        lastSql = sql;
+        if (debug) {
+          LOGGER.log(Level.INFO, "\n" + sql);
+        }
 
-          final SQLWarning warnings = statement.getWarnings();
-          if (warnings != null) {
-            if (!warnings.getMessage().startsWith("Can't drop database")) {
-              throw warnings;
-            }
+        if (supportsBatchUpdates) {
+          statement.addBatch(sql);
+          batch.add(sql);
+          if (batch.size() >= batchSize) {
+            executeBatch(statement, batch);
           }
+        } else {
+          execute(statement, sql);
+        }
+      }
+      if (!batch.isEmpty()) {
+        executeBatch(statement, batch);
+      }
 
-          if (!connection.getAutoCommit()) {
-            connection.commit();
-          }
+      if (!connection.getAutoCommit()) {
+        connection.commit();
+      }
 
-        } catch (final SQLWarning e) {
-          final int errorCode = e.getErrorCode();
-          if (errorCode == 5701 || errorCode == 5703) {
-            // SQL Server information message
-            continue;
-          }
-          final Throwable throwable = getCause(e);
-          throw new RuntimeException(throwable);
+    } catch (final Exception e) {
+      String sql = lastSql;
+      if (e instanceof BatchUpdateException) {
+        final int failedIndex =
+            getFailedStatementIndex(((BatchUpdateException) e).getUpdateCounts(), batch.size());
+        if (failedIndex >= 0) {
+          sql = batch.get(failedIndex);
         }
       }
-    } catch (final Exception e) {
       final Throwable throwable = getCause(e);
       final String message =
           String.format("Script: %s -- %s", scriptResource, throwable.getMessage());
@@ -153,6 +161,82 @@ public class SqlScript implements Runnable {
     }
   }
 
+  /**
+   * Checks warnings after a statement, or a batch of statements, is executed. When statements are
+   * batched, warnings are only checked once for each batch, so a warning cannot be attributed to a
+   * single statement in the batch. Warnings fail the script, except for warnings that are expected
+   * when scripts are run on some databases.
+   *
+   * @param statement Statement that was executed
+   * @throws SQLException First warning that is not expected
+   */
+  private void checkWarnings(final Statement statement) throws SQLException {
+    SQLWarning warning = statement.getWarnings();
+    while (warning != null) {
+      final int errorCode = warning.getErrorCode();
+      final String warningMessage = warning.getMessage();
+      final boolean isExpected =
+          // SQL Server information message
+          errorCode == 5701
+              || errorCode == 5703
+              || warningMessage != null && warningMessage.startsWith("Can't drop database");
+      if (!isExpected) {
+        throw warning;
+      }
+      warning = warning.getNextWarning();
+    }
+    statement.clearWarnings();
+  }
+
+  private void execute(final Statement statement, final String sql) throws SQLException {
+    final boolean hasResults = statement.execute(sql);
+    if (hasResults) {
+      throw new SQLWarning(String.format("Results not expected from SQL%n%s%n", sql));
+    }
+    checkWarnings(statement);
+  }
+
+  /**
+   * Executes statements that were added to the batch, in the order that they appear in the script.
+   * Statements that return results fail the batch. Warnings are checked once, after the whole batch
+   * is executed.
+   *
+   * @param statement Statement with the batch
+   * @param batch Statements in the batch, to report the statement that fails
+   */
+  private void executeBatch(final Statement statement, final List<String> batch)
+      throws SQLException {
+    statement.executeBatch();
+    checkWarnings(statement);
+    batch.clear();
+  }
+
+  /**
+   * Finds the statement in the batch that failed. Most drivers stop at the first error, and only
+   * return update counts for the statements that were executed before it. Some drivers can continue
+   * after an error, such as MySQL with continueBatchOnError, or SQL Server, and mark each failed
+   * statement with {@link Statement#EXECUTE_FAILED}. In that case, statements after the failed one
+   * may also have been executed, and they are not rolled back, even though the script fails.
+   *
+   * @param updateCounts Update counts from the batch update exception
+   * @param batchSize Number of statements in the batch
+   * @return Index of the first failed statement, or -1 if it cannot be found
+   */
+  private int getFailedStatementIndex(final int[] updateCounts, final int batchSize) {
+    if (updateCounts == null) {
+      return -1;
+    }
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+        return i;
+      }
+    }
+    if (updateCounts.length < batchSize) {
+      return updateCounts.length;
+    }
+    return -1;
+  }
+
   private Throwable getCause(final Throwable e) {
     Throwable cause = null;
     Throwable result = e;
@@ -163,17 +247,21 @@ public class SqlScript implements Runnable {
     return result;
   }
 
-  private List<String> readSql(final BufferedReader lineReader) throws IOException {
-    final List<String> list = new ArrayList<>();
+  /**
+   * Reads the next statement from the script.
+   *
+   * @param lineReader Reader for the script
+   * @return Next statement, or null at the end of the script
+   */
+  private String readSql(final BufferedReader lineReader) throws IOException {
     String line;
-    StringBuilder sql = new StringBuilder();
+    final StringBuilder sql = new StringBuilder();
     while ((line = lineReader.readLine()) != null) {
       final String trimmedLine = line.trim();
       final boolean isComment = trimmedLine.startsWith("--") || trimmedLine.startsWith("//");
       if (!isComment && trimmedLine.endsWith(delimiter)) {
         sql.append(line.substring(0, line.lastIndexOf(delimiter)));
-        list.add(sql.toString());
-        sql = new StringBuilder();
+        return sql.toString();
       } else {
         sql.append(line);
         sql.append("\n");
@@ -181,9 +269,8 @@ public class SqlScript implements Runnable {
     }
     // Check if the last line is not delimited
     if (sql.length() > 0) {
-      list.add(sql.toString());
+      return sql.toString();
     }
-
-    return list;
+    return null;
   }
 }
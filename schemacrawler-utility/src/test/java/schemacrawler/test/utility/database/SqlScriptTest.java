@@ -1,13 +1,17 @@
 package schemacrawler.test.utility.database;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -96,6 +100,48 @@ public class SqlScriptTest {
     assertThat(doesTableExist(tableName), is(false));
   }
 
+  @Test
+  public void executeScriptReportsFailedStatement() {
+    final PrintStream err = System.err;
+    final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    System.setErr(new PrintStream(errors, true));
+    try {
+      assertThrows(
+          RuntimeException.class,
+          () -> SqlScript.executeScriptFromResource("/bad-resource-1.sql", connection));
+    } finally {
+      System.setErr(err);
+    }
+    // The script fails when the last batch is executed, after all statements are read
+    assertThat(errors.toString(), containsString("SOME BAD SQL"));
+  }
+
+  @Test
+  public void executeScriptWithoutAutoCommit() throws SQLException {
+
+    final String tableName = "TABLE3";
+
+    // Pre-condition - table does not exist
+    assertThat(doesTableExist(tableName), is(false));
+    // Test - more statements than are executed in a single batch
+    System.setProperty(SqlScript.class.getCanonicalName() + ".batchSize", "5");
+    connection.setAutoCommit(false);
+    try {
+      SqlScript.executeScriptFromResource("/sql-resource-2.sql", connection);
+      connection.rollback();
+    } finally {
+      connection.setAutoCommit(true);
+      System.clearProperty(SqlScript.class.getCanonicalName() + ".batchSize");
+    }
+    // Post-condition - table exists, and all rows were committed
+    assertThat(doesTableExist(tableName), is(true));
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = statement.executeQuery("SELECT COUNT(*) FROM TABLE3")) {
+      results.next();
+      assertThat(results.getInt(1), is(12));
+    }
+  }
+
   private boolean doesTableExist(final String tableName) throws SQLException {
     final String catalog = connection.getCatalog();
     final DatabaseMetaData dbMetaData = connection.getMetaData();
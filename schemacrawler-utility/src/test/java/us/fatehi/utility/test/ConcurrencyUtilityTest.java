@@ -0,0 +1,76 @@
+package us.fatehi.utility.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.fatehi.utility.ConcurrencyUtility.executeConcurrently;
+import static us.fatehi.utility.ConcurrencyUtility.throwOnFailures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyUtilityTest {
+
+  @Test
+  public void executeConcurrentlyWithFailures() {
+    final AtomicInteger completed = new AtomicInteger();
+    final IllegalStateException failure1 = new IllegalStateException("failure 1");
+    final IllegalStateException failure2 = new IllegalStateException("failure 2");
+    final List<Callable<Void>> tasks =
+        Arrays.asList(
+            () -> {
+              throw failure1;
+            },
+            () -> {
+              completed.incrementAndGet();
+              return null;
+            },
+            () -> {
+              throw failure2;
+            });
+
+    final List<Throwable> failures = executeConcurrently("test tasks", tasks, 2);
+    assertThat(completed.get(), is(1));
+    assertThat(failures.size(), is(2));
+    assertThat(failures.get(0), is(sameInstance(failure1)));
+    assertThat(failures.get(1), is(sameInstance(failure2)));
+
+    final RuntimeException exception =
+        assertThrows(
+            RuntimeException.class,
+            () -> throwOnFailures("test tasks", tasks.size(), failures, RuntimeException::new));
+    assertThat(exception.getMessage(), is("2 of 3 test tasks failed"));
+    assertThat(exception.getCause(), is(sameInstance(failure1)));
+    assertThat(exception.getSuppressed(), arrayWithSize(1));
+    assertThat(exception.getSuppressed()[0], is(sameInstance(failure2)));
+  }
+
+  @Test
+  public void executeConcurrentlyWithoutFailures() {
+    final AtomicInteger completed = new AtomicInteger();
+    final List<Callable<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      tasks.add(
+          () -> {
+            completed.incrementAndGet();
+            return null;
+          });
+    }
+
+    final List<Throwable> failures = executeConcurrently("test tasks", tasks, 3);
+    assertThat(completed.get(), is(10));
+    assertThat(failures, is(empty()));
+    // Does not throw an exception
+    throwOnFailures("test tasks", tasks.size(), failures, RuntimeException::new);
+
+    assertThat(executeConcurrently("test tasks", new ArrayList<>(), 3), is(empty()));
+  }
+}
@@ -28,12 +28,15 @@ http://www.gnu.org/licenses/
 
 package us.fatehi.utility.test;
 
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.emptyCollectionOf;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -47,6 +50,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -186,6 +191,54 @@ public class DatabaseUtilityTest {
     assertThat(exception.getMessage(), startsWith("Cannot get a long value"));
   }
 
+  @Test
+  public void executeSqlForResultSets() throws SQLException {
+
+    final String sql1 = "SELECT COL2 FROM TABLE1 ORDER BY ENTITY_ID";
+    final String sql2 = "SELECT COL2, COL3 FROM TABLE1 WHERE ENTITY_ID = 1;";
+
+    // Single query
+    try (final Statement statement = connection.createStatement()) {
+      final List<ResultSet> results =
+          DatabaseUtility.executeSqlForResultSets(statement, singletonList(sql1));
+      assertThat(results, hasSize(1));
+      assertThat(DatabaseUtility.readResultsVector(results.get(0)), contains("DEF", "PQR"));
+    }
+
+    // Multiple result sets from one execution, read into memory
+    final Statement statement = mock(Statement.class);
+    try (final Statement statement1 = connection.createStatement();
+        final Statement statement2 = connection.createStatement()) {
+      final ResultSet resultSet1 = statement1.executeQuery(sql1);
+      final ResultSet resultSet2 = statement2.executeQuery(sql2);
+      when(statement.execute(any())).thenReturn(true);
+      when(statement.getResultSet()).thenReturn(resultSet1, resultSet2);
+      when(statement.getMoreResults()).thenReturn(true, false);
+      when(statement.getUpdateCount()).thenReturn(-1);
+
+      final List<ResultSet> results =
+          DatabaseUtility.executeSqlForResultSets(statement, Arrays.asList(sql1, sql2));
+      assertThat(results, hasSize(2));
+      assertThat(resultSet1.isClosed(), is(true));
+      assertThat(DatabaseUtility.readResultsVector(results.get(0)), contains("DEF", "PQR"));
+      assertThat(results.get(1).getMetaData().getColumnCount(), is(2));
+      assertThat(DatabaseUtility.readResultsVector(results.get(1)), contains("DEF"));
+    }
+
+    // HSQLDB returns only the last result set, so the results do not match the queries
+    try (final Statement statement3 = connection.createStatement()) {
+      final SQLException exception =
+          assertThrows(
+              SQLException.class,
+              () -> DatabaseUtility.executeSqlForResultSets(statement3, Arrays.asList(sql1, sql2)));
+      assertThat(exception.getMessage(), is("Expected 2 result sets, but received 1 result sets"));
+    }
+
+    assertThrows(
+        SQLException.class,
+        () -> DatabaseUtility.executeSqlForResultSets(statement, Arrays.asList(sql1, " ")));
+  }
+
   @Test
   public void executeSqlForScalar() throws SQLException {
 
@@ -0,0 +1,92 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.Inflection;
+
+public class InflectionTest {
+
+  @Test
+  public void inflectionCorpus() throws IOException {
+    final List<String[]> inflections = readInflections();
+    assertThat(inflections.size() > 10_000, is(true));
+
+    // Inflect twice, so that memoized inflections are checked too
+    for (int i = 0; i < 2; i++) {
+      for (final String[] inflection : inflections) {
+        final String word = inflection[0];
+        assertThat(word, Inflection.singularize(word), is(inflection[1]));
+        assertThat(word, Inflection.pluralize(word), is(inflection[2]));
+      }
+    }
+  }
+
+  @Test
+  public void inflectionRules() {
+    assertThat(new Inflection("(bus)es$", "$1").match("BUSES"), is(true));
+    assertThat(new Inflection("(bus)es$", "$1").replace("BUSES"), is("BUS"));
+    assertThat(new Inflection("(bus)es$", "$1", false).match("BUSES"), is(false));
+
+    assertThat(Inflection.isUncountable("Sheep"), is(true));
+    assertThat(Inflection.isUncountable("goat"), is(false));
+
+    assertThat(Inflection.singularize(""), is(""));
+    assertThat(Inflection.singularize("cats\n"), is("cat\n"));
+    assertThat(Inflection.pluralize("matrixes"), is("matriceses"));
+  }
+
+  /**
+   * Reads the inflections corpus, with the word, and its singular and plural forms on each line.
+   */
+  private List<String[]> readInflections() throws IOException {
+    final List<String[]> inflections = new ArrayList<>();
+    try (final BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                InflectionTest.class.getResourceAsStream("/inflections.csv"), UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        inflections.add(line.split(",", -1));
+      }
+    }
+    return inflections;
+  }
+}
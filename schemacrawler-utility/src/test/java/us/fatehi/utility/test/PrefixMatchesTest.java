@@ -50,6 +50,8 @@ public class PrefixMatchesTest {
 
     // 1.
     assertThrows(NullPointerException.class, () -> new PrefixMatches(null, "_"));
+    assertThrows(NullPointerException.class, () -> new PrefixMatches(keys("key1"), null));
+    assertThrows(IllegalArgumentException.class, () -> new PrefixMatches(keys("key1"), ""));
 
     // 2.
     matchkeys = new PrefixMatches(Collections.emptyList(), "_");
@@ -69,6 +71,31 @@ public class PrefixMatchesTest {
     assertThat(withoutPrefix, containsInAnyOrder("key1"));
   }
 
+  @Test
+  public void prefixMatches_mixed_case_and_separators() {
+    List<String> withoutPrefix;
+
+    final PrefixMatches matchkeys =
+        new PrefixMatches(
+            keys("PFX_Orders", "pfx_order_items", "Pfx__notes", "pfx__notes", "pfx_", "other"),
+            "_");
+
+    withoutPrefix = matchkeys.get("PFX_Orders");
+    assertThat(withoutPrefix, containsInAnyOrder("order", "pfx_order"));
+
+    withoutPrefix = matchkeys.get("pfx_order_items");
+    assertThat(withoutPrefix, containsInAnyOrder("order_item", "pfx_order_item"));
+
+    withoutPrefix = matchkeys.get("Pfx__notes");
+    assertThat(withoutPrefix, containsInAnyOrder("_note", "pfx__note"));
+
+    withoutPrefix = matchkeys.get("pfx_");
+    assertThat(withoutPrefix, containsInAnyOrder("pfx_"));
+
+    withoutPrefix = matchkeys.get("other");
+    assertThat(withoutPrefix, containsInAnyOrder("other"));
+  }
+
   @Test
   public void prefixMatches_mixed_prefixes() {
     List<String> withoutPrefix;
@@ -0,0 +1,162 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2022, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+
+import us.fatehi.utility.database.QueryResultsCache;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class QueryResultsCacheTest {
+
+  private static final String SELECT_ALL = "SELECT COL1 FROM TABLE1 ORDER BY ENTITY_ID";
+  private static final String SELECT_ONE = "SELECT COL1 FROM TABLE1 WHERE ENTITY_ID = 1";
+
+  private Connection connection;
+
+  @Test
+  public void cachedResults() throws SQLException {
+
+    final QueryResultsCache cache = new QueryResultsCache(100);
+    assertThat(cache.isEnabled(), is(true));
+
+    try (final Statement statement = connection.createStatement()) {
+      final int rows = countRows(cache.executeQuery(statement, SELECT_ALL));
+      assertThat(cache.size(), is(1));
+
+      // Closing cached results does not discard the cached rows
+      assertThat(countRows(cache.executeQuery(statement, SELECT_ALL)), is(rows));
+
+      cache.invalidate(SELECT_ALL);
+      assertThat(cache.size(), is(0));
+
+      countRows(cache.executeQuery(statement, SELECT_ALL));
+      countRows(cache.executeQuery(statement, SELECT_ONE));
+      assertThat(cache.size(), is(2));
+
+      cache.invalidate();
+      assertThat(cache.size(), is(0));
+    }
+  }
+
+  @Test
+  public void columnLabels() throws SQLException {
+
+    final String sql = "SELECT ENTITY_ID AS ID, COL1 AS NAME FROM TABLE1 WHERE ENTITY_ID = 1";
+    final QueryResultsCache cache = new QueryResultsCache(100);
+
+    try (final Statement statement = connection.createStatement()) {
+      // Columns are looked up by label, both when results are cached, and from the cache
+      for (int i = 0; i < 2; i++) {
+        try (final ResultSet results = cache.executeQuery(statement, sql)) {
+          assertThat(results.next(), is(true));
+          assertThat(results.getInt("ID"), is(1));
+          assertThat(results.getString("NAME"), is(results.getString(2)));
+          assertThat(results.getMetaData().getColumnLabel(1), is("ID"));
+        }
+      }
+      assertThat(cache.size(), is(1));
+    }
+  }
+
+  @BeforeAll
+  public void createDatabase() throws Exception {
+
+    final EmbeddedDatabase db =
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setScriptEncoding("UTF-8")
+            .ignoreFailedDrops(true)
+            .addScript("testdb.sql")
+            .build();
+
+    connection = db.getConnection();
+  }
+
+  @Test
+  public void evictLeastRecentlyUsed() throws SQLException {
+
+    final QueryResultsCache cache = new QueryResultsCache(1);
+
+    try (final Statement statement = connection.createStatement()) {
+      assertThat(countRows(cache.executeQuery(statement, SELECT_ONE)), is(1));
+      assertThat(cache.size(), is(1));
+
+      // Results with too many rows are not cached, and do not evict other results
+      final int rows = countRows(cache.executeQuery(statement, SELECT_ALL));
+      assertThat(rows > 1, is(true));
+      assertThat(cache.size(), is(1));
+
+      cache.invalidate(SELECT_ALL);
+      assertThat(cache.size(), is(1));
+    }
+  }
+
+  @Test
+  public void noQueryResultsCache() throws SQLException {
+
+    final QueryResultsCache cache = QueryResultsCache.NO_QUERY_RESULTS_CACHE;
+    assertThat(cache.isEnabled(), is(false));
+
+    try (final Statement statement = connection.createStatement()) {
+      assertThat(countRows(cache.executeQuery(statement, SELECT_ONE)), is(1));
+      assertThat(cache.size(), is(0));
+
+      assertThat(cache.executeQuery(statement, null), is(nullValue()));
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> new QueryResultsCache(-1));
+    assertThrows(NullPointerException.class, () -> cache.invalidate(null));
+  }
+
+  private int countRows(final ResultSet results) throws SQLException {
+    int rows = 0;
+    try (final ResultSet resultSet = results) {
+      while (resultSet.next()) {
+        rows++;
+      }
+    }
+    return rows;
+  }
+}
@@ -93,6 +93,31 @@ public class RegularExpressionColorMapTest {
     MatcherAssert.assertThat(colorMap.match("SHC"), isEmpty());
   }
 
+  @Test
+  public void firstMatchingRule() {
+    final Color other_color = Color.fromRGB(0, 0, 0);
+    final RegularExpressionColorMap colorMap = new RegularExpressionColorMap();
+
+    colorMap.put("SC.*", test_color.toString());
+    colorMap.put("S.H", other_color.toString());
+    colorMap.putLiteral("SCHEMA", other_color);
+    colorMap.put(".*", other_color.toString());
+
+    assertThat(colorMap.size(), is(4));
+    assertThat(colorMap.match("SCH").get(), is(test_color));
+    assertThat(colorMap.match("SCHEMA").get(), is(test_color));
+    assertThat(colorMap.match("SAH").get(), is(other_color));
+    assertThat(colorMap.match("QW").get(), is(other_color));
+    // Regular expressions do not match line terminators with "."
+    MatcherAssert.assertThat(colorMap.match("SC\nH"), isEmpty());
+
+    // Changing the color of a rule keeps its place in the order of rules
+    colorMap.put("SC.*", other_color.toString());
+    assertThat(colorMap.size(), is(4));
+    assertThat(colorMap.match("SCH").get(), is(other_color));
+    assertThat(colorMap.toString(), is("{SC.*=#000000, S.H=#000000, SCHEMA=#000000, .*=#000000}"));
+  }
+
   @Test
   public void literals() {
     final RegularExpressionColorMap colorMap = new RegularExpressionColorMap();
@@ -100,5 +125,9 @@ public class RegularExpressionColorMapTest {
     colorMap.putLiteral("SC.*", test_color);
     MatcherAssert.assertThat(colorMap.match("SCH"), isEmpty());
     MatcherAssert.assertThat(colorMap.match("SC.*"), is(not(isEmpty())));
+
+    // Matches are not cached across changes to the rules
+    colorMap.putLiteral("SCH", test_color);
+    MatcherAssert.assertThat(colorMap.match("SCH"), is(not(isEmpty())));
   }
 }
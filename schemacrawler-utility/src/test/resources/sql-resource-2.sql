@@ -0,0 +1,19 @@
+CREATE TABLE TABLE3
+(
+  ENTITY_ID INTEGER NOT NULL,
+  COL1 VARCHAR(25),
+  PRIMARY KEY (ENTITY_ID)
+);
+
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (1, 'ROW 1');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (2, 'ROW 2');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (3, 'ROW 3');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (4, 'ROW 4');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (5, 'ROW 5');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (6, 'ROW 6');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (7, 'ROW 7');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (8, 'ROW 8');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (9, 'ROW 9');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (10, 'ROW 10');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (11, 'ROW 11');
+INSERT INTO TABLE3 (ENTITY_ID, COL1) VALUES (12, 'ROW 12');